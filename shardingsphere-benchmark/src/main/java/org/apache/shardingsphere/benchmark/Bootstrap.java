@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark bootstrap.
+ * 
+ * <p>Accepts the standard JMH command line options, always attaches the GC profiler to report allocation rate,
+ * and writes results as JSON to {@code shardingsphere-benchmark-result.json} unless another result file is given.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class Bootstrap {
+    
+    private static final String DEFAULT_INCLUDE = "org\\.apache\\.shardingsphere\\.benchmark\\..*Benchmark.*";
+    
+    private static final String DEFAULT_RESULT_FILE = "shardingsphere-benchmark-result.json";
+    
+    /**
+     * Main entrance.
+     * 
+     * @param args JMH command line options
+     * @throws CommandLineOptionException command line option exception
+     * @throws RunnerException runner exception
+     */
+    public static void main(final String[] args) throws CommandLineOptionException, RunnerException {
+        CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        ChainedOptionsBuilder optionsBuilder = new OptionsBuilder().parent(commandLineOptions).addProfiler(GCProfiler.class);
+        if (commandLineOptions.getIncludes().isEmpty()) {
+            optionsBuilder.include(DEFAULT_INCLUDE);
+        }
+        if (!commandLineOptions.getResult().hasValue()) {
+            optionsBuilder.resultFormat(ResultFormatType.JSON).result(DEFAULT_RESULT_FILE);
+        }
+        new Runner(optionsBuilder.build()).run();
+    }
+}
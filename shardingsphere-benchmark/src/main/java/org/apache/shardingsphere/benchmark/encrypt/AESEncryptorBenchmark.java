@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.encrypt;
+
+import org.apache.commons.codec.binary.Base64;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.shardingsphere.encrypt.strategy.impl.AESEncryptor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for decryption of {@code AESEncryptor}.
+ * 
+ * <p>Baseline derives secret key and creates cipher on every call, which is how {@code AESEncryptor} worked before ciphers were cached per thread.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(4)
+@Fork(1)
+public class AESEncryptorBenchmark {
+    
+    private static final String AES_KEY = "benchmark";
+    
+    private AESEncryptor encryptor;
+    
+    private String ciphertext;
+    
+    /**
+     * Set up benchmark environment.
+     */
+    @Setup
+    public void setUp() {
+        encryptor = new AESEncryptor();
+        Properties properties = new Properties();
+        properties.setProperty("aes.key.value", AES_KEY);
+        encryptor.setProperties(properties);
+        encryptor.init();
+        ciphertext = encryptor.encrypt("benchmark_plaintext_0123456789");
+    }
+    
+    /**
+     * Decrypt with cached cipher.
+     *
+     * @return plaintext
+     */
+    @Benchmark
+    public Object decrypt() {
+        return encryptor.decrypt(ciphertext);
+    }
+    
+    /**
+     * Decrypt with cipher created per call.
+     *
+     * @return plaintext
+     * @throws GeneralSecurityException general security exception
+     */
+    @Benchmark
+    public Object decryptWithoutCache() throws GeneralSecurityException {
+        Cipher cipher = Cipher.getInstance("AES");
+        cipher.init(Cipher.DECRYPT_MODE, new SecretKeySpec(Arrays.copyOf(DigestUtils.sha1(AES_KEY), 16), "AES"));
+        return new String(cipher.doFinal(Base64.decodeBase64(ciphertext)), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.encrypt;
+
+import org.apache.shardingsphere.benchmark.merge.BenchmarkQueryResult;
+import org.apache.shardingsphere.encrypt.api.config.EncryptColumnRuleConfiguration;
+import org.apache.shardingsphere.encrypt.api.config.EncryptRuleConfiguration;
+import org.apache.shardingsphere.encrypt.api.config.EncryptTableRuleConfiguration;
+import org.apache.shardingsphere.encrypt.api.config.EncryptorRuleConfiguration;
+import org.apache.shardingsphere.encrypt.merge.dql.EncryptDQLResultDecorator;
+import org.apache.shardingsphere.encrypt.merge.dql.EncryptorMetaData;
+import org.apache.shardingsphere.encrypt.rule.EncryptRule;
+import org.apache.shardingsphere.encrypt.strategy.spi.Encryptor;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.sql.parser.SQLParserEngineFactory;
+import org.apache.shardingsphere.sql.parser.binder.SQLStatementContextFactory;
+import org.apache.shardingsphere.sql.parser.binder.metadata.schema.SchemaMetaData;
+import org.apache.shardingsphere.sql.parser.binder.statement.dml.SelectStatementContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for iteration of encrypt merged result, which compares decrypting cell by cell with decrypting a batch of rows together.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class EncryptMergedResultBenchmark {
+    
+    private static final String SQL = "SELECT order_id, user_id, status, remark FROM t_order";
+    
+    @Param({"0", "64", "512"})
+    private int decryptBatchSize;
+    
+    @Param("1000")
+    private int rowCount;
+    
+    private final List<String> columnLabels = Arrays.asList("order_id", "user_id", "status", "remark");
+    
+    private SchemaMetaData schemaMetaData;
+    
+    private SelectStatementContext selectStatementContext;
+    
+    private EncryptRule encryptRule;
+    
+    private Object[][] rows;
+    
+    /**
+     * Set up benchmark environment.
+     */
+    @Setup
+    public void setUp() {
+        schemaMetaData = new SchemaMetaData(Collections.emptyMap());
+        selectStatementContext = (SelectStatementContext) SQLStatementContextFactory.newInstance(
+                schemaMetaData, SQL, Collections.emptyList(), SQLParserEngineFactory.getSQLParserEngine("MySQL").parse(SQL, false));
+        encryptRule = new EncryptRule(createEncryptRuleConfiguration());
+        Encryptor encryptor = encryptRule.findEncryptor("t_order", "status").orElseThrow(IllegalStateException::new);
+        rows = new Object[rowCount][];
+        for (int i = 0; i < rowCount; i++) {
+            rows[i] = new Object[]{(long) i, i, encryptor.encrypt("status_" + i), encryptor.encrypt("remark_" + i)};
+        }
+    }
+    
+    private EncryptRuleConfiguration createEncryptRuleConfiguration() {
+        Properties properties = new Properties();
+        properties.setProperty("aes.key.value", "benchmark");
+        Map<String, EncryptColumnRuleConfiguration> columns = new LinkedHashMap<>(2, 1);
+        columns.put("status", new EncryptColumnRuleConfiguration(null, "status_cipher", null, "aes_encryptor"));
+        columns.put("remark", new EncryptColumnRuleConfiguration(null, "remark_cipher", null, "aes_encryptor"));
+        return new EncryptRuleConfiguration(Collections.singletonMap("aes_encryptor", new EncryptorRuleConfiguration("AES", properties)),
+                Collections.singletonMap("t_order", new EncryptTableRuleConfiguration(columns)));
+    }
+    
+    /**
+     * Iterate encrypt merged result.
+     *
+     * @param blackhole blackhole
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public void iterate(final Blackhole blackhole) throws SQLException {
+        EncryptDQLResultDecorator decorator = new EncryptDQLResultDecorator(new EncryptorMetaData(schemaMetaData, encryptRule, selectStatementContext), true, decryptBatchSize);
+        MergedResult mergedResult = decorator.decorate(new BenchmarkQueryResult(columnLabels, rows), selectStatementContext, schemaMetaData);
+        int columnCount = columnLabels.size();
+        while (mergedResult.next()) {
+            for (int i = 1; i <= columnCount; i++) {
+                blackhole.consume(mergedResult.getValue(i, Object.class));
+            }
+        }
+    }
+}
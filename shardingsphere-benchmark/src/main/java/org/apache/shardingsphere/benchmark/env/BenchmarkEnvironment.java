@@ -0,0 +1,186 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.env;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.Getter;
+import org.apache.shardingsphere.driver.api.ShardingSphereDataSourceFactory;
+import org.apache.shardingsphere.driver.jdbc.core.datasource.ShardingSphereDataSource;
+import org.apache.shardingsphere.encrypt.api.config.EncryptColumnRuleConfiguration;
+import org.apache.shardingsphere.encrypt.api.config.EncryptRuleConfiguration;
+import org.apache.shardingsphere.encrypt.api.config.EncryptTableRuleConfiguration;
+import org.apache.shardingsphere.encrypt.api.config.EncryptorRuleConfiguration;
+import org.apache.shardingsphere.infra.config.RuleConfiguration;
+import org.apache.shardingsphere.kernal.context.SchemaContext;
+import org.apache.shardingsphere.kernal.context.SchemaContexts;
+import org.apache.shardingsphere.sharding.api.config.KeyGeneratorConfiguration;
+import org.apache.shardingsphere.sharding.api.config.ShardingRuleConfiguration;
+import org.apache.shardingsphere.sharding.api.config.TableRuleConfiguration;
+import org.apache.shardingsphere.sharding.api.config.strategy.StandardShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.strategy.algorithm.keygen.SnowflakeKeyGenerateAlgorithm;
+import org.apache.shardingsphere.sharding.strategy.algorithm.sharding.inline.InlineShardingAlgorithm;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Benchmark environment.
+ * 
+ * <p>Builds {@code t_order} sharded by {@code user_id} across embedded H2 data sources and by {@code order_id} across tables in each data source.
+ * {@code order_id} is generated by snowflake when absent, and {@code status} can optionally be encrypted in place.</p>
+ */
+@Getter
+public final class BenchmarkEnvironment implements AutoCloseable {
+    
+    public static final String LOGIC_TABLE = "t_order";
+    
+    private final int dataSourceCount;
+    
+    private final int tableCountPerDataSource;
+    
+    private final boolean encrypt;
+    
+    private final ShardingSphereDataSource dataSource;
+    
+    public BenchmarkEnvironment(final int dataSourceCount, final int tableCountPerDataSource) throws SQLException {
+        this(dataSourceCount, tableCountPerDataSource, false);
+    }
+    
+    public BenchmarkEnvironment(final int dataSourceCount, final int tableCountPerDataSource, final boolean encrypt) throws SQLException {
+        this.dataSourceCount = dataSourceCount;
+        this.tableCountPerDataSource = tableCountPerDataSource;
+        this.encrypt = encrypt;
+        Map<String, DataSource> dataSourceMap = createDataSourceMap();
+        createTables(dataSourceMap);
+        dataSource = (ShardingSphereDataSource) ShardingSphereDataSourceFactory.createDataSource(dataSourceMap, createRuleConfigurations(), new Properties());
+    }
+    
+    private Map<String, DataSource> createDataSourceMap() {
+        Map<String, DataSource> result = new LinkedHashMap<>(dataSourceCount, 1);
+        for (int i = 0; i < dataSourceCount; i++) {
+            result.put("ds_" + i, createDataSource("ds_" + i));
+        }
+        return result;
+    }
+    
+    private DataSource createDataSource(final String dataSourceName) {
+        HikariDataSource result = new HikariDataSource();
+        result.setDriverClassName("org.h2.Driver");
+        result.setJdbcUrl(String.format("jdbc:h2:mem:benchmark_%s;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=MySQL", dataSourceName));
+        result.setUsername("sa");
+        result.setPassword("");
+        result.setMaximumPoolSize(16);
+        return result;
+    }
+    
+    private void createTables(final Map<String, DataSource> dataSourceMap) throws SQLException {
+        for (DataSource each : dataSourceMap.values()) {
+            try (Connection connection = each.getConnection();
+                 Statement statement = connection.createStatement()) {
+                for (int i = 0; i < tableCountPerDataSource; i++) {
+                    statement.execute(String.format("DROP TABLE IF EXISTS %s_%d", LOGIC_TABLE, i));
+                    statement.execute(String.format("CREATE TABLE %s_%d (order_id BIGINT NOT NULL, user_id INT NOT NULL, status VARCHAR(50), PRIMARY KEY (order_id))", LOGIC_TABLE, i));
+                }
+            }
+        }
+    }
+    
+    private Collection<RuleConfiguration> createRuleConfigurations() {
+        Collection<RuleConfiguration> result = new LinkedList<>();
+        result.add(createShardingRuleConfiguration());
+        if (encrypt) {
+            result.add(createEncryptRuleConfiguration());
+        }
+        return result;
+    }
+    
+    private ShardingRuleConfiguration createShardingRuleConfiguration() {
+        TableRuleConfiguration tableRuleConfig = new TableRuleConfiguration(LOGIC_TABLE, String.format("ds_${0..%d}.%s_${0..%d}", dataSourceCount - 1, LOGIC_TABLE, tableCountPerDataSource - 1));
+        tableRuleConfig.setDatabaseShardingStrategyConfig(new StandardShardingStrategyConfiguration("user_id", createInlineShardingAlgorithm(String.format("ds_${user_id %% %d}", dataSourceCount))));
+        tableRuleConfig.setTableShardingStrategyConfig(new StandardShardingStrategyConfiguration(
+                "order_id", createInlineShardingAlgorithm(String.format("%s_${order_id %% %d}", LOGIC_TABLE, tableCountPerDataSource))));
+        tableRuleConfig.setKeyGeneratorConfig(new KeyGeneratorConfiguration("order_id", new SnowflakeKeyGenerateAlgorithm()));
+        ShardingRuleConfiguration result = new ShardingRuleConfiguration();
+        result.getTableRuleConfigs().add(tableRuleConfig);
+        return result;
+    }
+    
+    private InlineShardingAlgorithm createInlineShardingAlgorithm(final String algorithmExpression) {
+        InlineShardingAlgorithm result = new InlineShardingAlgorithm();
+        result.getProperties().setProperty("algorithm.expression", algorithmExpression);
+        result.getProperties().setProperty("allow.range.query.with.inline.sharding", Boolean.TRUE.toString());
+        return result;
+    }
+    
+    private EncryptRuleConfiguration createEncryptRuleConfiguration() {
+        Properties properties = new Properties();
+        properties.setProperty("aes.key.value", "benchmark");
+        return new EncryptRuleConfiguration(Collections.singletonMap("aes_encryptor", new EncryptorRuleConfiguration("AES", properties)), Collections.singletonMap(
+                LOGIC_TABLE, new EncryptTableRuleConfiguration(Collections.singletonMap("status", new EncryptColumnRuleConfiguration(null, "status", null, "aes_encryptor")))));
+    }
+    
+    /**
+     * Insert orders through ShardingSphere.
+     * 
+     * @param orderCount count of orders to be inserted
+     * @throws SQLException SQL exception
+     */
+    public void insertOrders(final int orderCount) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement preparedStatement = connection.prepareStatement("INSERT INTO t_order (order_id, user_id, status) VALUES (?, ?, ?)")) {
+            for (int i = 0; i < orderCount; i++) {
+                preparedStatement.setLong(1, i);
+                preparedStatement.setInt(2, i);
+                preparedStatement.setString(3, "INIT");
+                preparedStatement.executeUpdate();
+            }
+        }
+    }
+    
+    /**
+     * Get schema contexts.
+     * 
+     * @return schema contexts
+     */
+    public SchemaContexts getSchemaContexts() {
+        return dataSource.getSchemaContexts();
+    }
+    
+    /**
+     * Get default schema context.
+     * 
+     * @return default schema context
+     */
+    public SchemaContext getSchemaContext() {
+        return dataSource.getSchemaContexts().getDefaultSchemaContext();
+    }
+    
+    @Override
+    public void close() throws Exception {
+        dataSource.close();
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.jdbc;
+
+import org.apache.shardingsphere.benchmark.env.BenchmarkEnvironment;
+import org.apache.shardingsphere.driver.jdbc.core.connection.ShardingSphereConnection;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end benchmark for {@code ShardingSpherePreparedStatement}, covering parse, route, rewrite, execute and merge.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ShardingSpherePreparedStatementBenchmark {
+    
+    @Param({"2", "8"})
+    private int dataSourceCount;
+    
+    @Param("4")
+    private int tableCountPerDataSource;
+    
+    @Param("10000")
+    private int orderCount;
+    
+    private BenchmarkEnvironment environment;
+    
+    private ShardingSphereConnection connection;
+    
+    private PreparedStatement selectByShardingKeyStatement;
+    
+    private PreparedStatement selectPageStatement;
+    
+    private PreparedStatement updateByShardingKeyStatement;
+    
+    private int sequence;
+    
+    /**
+     * Set up benchmark environment.
+     *
+     * @throws Exception exception
+     */
+    @Setup
+    public void setUp() throws Exception {
+        environment = new BenchmarkEnvironment(dataSourceCount, tableCountPerDataSource);
+        environment.insertOrders(orderCount);
+        connection = environment.getDataSource().getConnection();
+        selectByShardingKeyStatement = connection.prepareStatement("SELECT order_id, user_id, status FROM t_order WHERE user_id = ? AND order_id = ?");
+        selectPageStatement = connection.prepareStatement("SELECT order_id, user_id, status FROM t_order WHERE order_id >= ? ORDER BY order_id LIMIT ?");
+        updateByShardingKeyStatement = connection.prepareStatement("UPDATE t_order SET status = ? WHERE user_id = ? AND order_id = ?");
+    }
+    
+    /**
+     * Tear down benchmark environment.
+     *
+     * @throws Exception exception
+     */
+    @TearDown
+    public void tearDown() throws Exception {
+        selectByShardingKeyStatement.close();
+        selectPageStatement.close();
+        updateByShardingKeyStatement.close();
+        connection.close();
+        environment.close();
+    }
+    
+    /**
+     * Select by sharding key.
+     *
+     * @param blackhole blackhole
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public void selectByShardingKey(final Blackhole blackhole) throws SQLException {
+        int orderId = nextOrderId();
+        selectByShardingKeyStatement.setInt(1, orderId);
+        selectByShardingKeyStatement.setLong(2, orderId);
+        try (ResultSet resultSet = selectByShardingKeyStatement.executeQuery()) {
+            consume(resultSet, blackhole);
+        }
+    }
+    
+    /**
+     * Select page across shards.
+     *
+     * @param blackhole blackhole
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public void selectPageAcrossShards(final Blackhole blackhole) throws SQLException {
+        selectPageStatement.setLong(1, nextOrderId());
+        selectPageStatement.setInt(2, 20);
+        try (ResultSet resultSet = selectPageStatement.executeQuery()) {
+            consume(resultSet, blackhole);
+        }
+    }
+    
+    /**
+     * Update by sharding key.
+     *
+     * @return update count
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public int updateByShardingKey() throws SQLException {
+        int orderId = nextOrderId();
+        updateByShardingKeyStatement.setString(1, "PAID");
+        updateByShardingKeyStatement.setInt(2, orderId);
+        updateByShardingKeyStatement.setLong(3, orderId);
+        return updateByShardingKeyStatement.executeUpdate();
+    }
+    
+    private int nextOrderId() {
+        sequence = (sequence + 1) % orderCount;
+        return sequence;
+    }
+    
+    private void consume(final ResultSet resultSet, final Blackhole blackhole) throws SQLException {
+        while (resultSet.next()) {
+            blackhole.consume(resultSet.getLong(1));
+            blackhole.consume(resultSet.getInt(2));
+            blackhole.consume(resultSet.getString(3));
+        }
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.merge;
+
+import org.apache.shardingsphere.benchmark.env.BenchmarkEnvironment;
+import org.apache.shardingsphere.infra.executor.sql.QueryResult;
+import org.apache.shardingsphere.infra.merge.MergeEngine;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.route.DataNodeRouter;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.kernal.context.SchemaContext;
+import org.apache.shardingsphere.sql.parser.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for {@code MergeEngine.merge} and iteration of merged result.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class MergeEngineBenchmark {
+    
+    private static final String ORDER_BY_SQL = "SELECT order_id, user_id, status FROM t_order ORDER BY order_id";
+    
+    private static final String GROUP_BY_SQL = "SELECT user_id, COUNT(order_id) AS order_count FROM t_order GROUP BY user_id";
+    
+    private static final String PAGINATION_SQL = "SELECT order_id, user_id, status FROM t_order ORDER BY order_id LIMIT 1000, 20";
+    
+    @Param({"ORDER_BY", "GROUP_BY", "PAGINATION"})
+    private String scenario;
+    
+    @Param({"2", "8"})
+    private int dataSourceCount;
+    
+    @Param("4")
+    private int tableCountPerDataSource;
+    
+    @Param("1000")
+    private int rowCountPerShard;
+    
+    private BenchmarkEnvironment environment;
+    
+    private SQLStatementContext sqlStatementContext;
+    
+    private List<String> columnLabels;
+    
+    private Object[][][] shardRows;
+    
+    /**
+     * Set up benchmark environment.
+     *
+     * @throws Exception exception
+     */
+    @Setup
+    public void setUp() throws Exception {
+        environment = new BenchmarkEnvironment(dataSourceCount, tableCountPerDataSource);
+        String sql = getSQL();
+        RouteContext routeContext = route(sql);
+        sqlStatementContext = routeContext.getSqlStatementContext();
+        int shardCount = routeContext.getRouteResult().getRouteUnits().size();
+        boolean groupBy = "GROUP_BY".equals(scenario);
+        columnLabels = groupBy ? Arrays.asList("user_id", "order_count") : Arrays.asList("order_id", "user_id", "status");
+        shardRows = new Object[shardCount][][];
+        for (int i = 0; i < shardCount; i++) {
+            shardRows[i] = groupBy ? createGroupByRows() : createOrderRows(i, shardCount);
+        }
+    }
+    
+    private String getSQL() {
+        switch (scenario) {
+            case "ORDER_BY":
+                return ORDER_BY_SQL;
+            case "GROUP_BY":
+                return GROUP_BY_SQL;
+            case "PAGINATION":
+                return PAGINATION_SQL;
+            default:
+                throw new UnsupportedOperationException(scenario);
+        }
+    }
+    
+    private RouteContext route(final String sql) {
+        SchemaContext schemaContext = environment.getSchemaContext();
+        SQLStatement sqlStatement = schemaContext.getRuntimeContext().getSqlParserEngine().parse(sql, true);
+        return new DataNodeRouter(schemaContext.getSchema().getMetaData(), environment.getSchemaContexts().getProperties(), schemaContext.getSchema().getRules())
+                .route(sqlStatement, sql, Collections.emptyList());
+    }
+    
+    private Object[][] createOrderRows(final int shardIndex, final int shardCount) {
+        Object[][] result = new Object[rowCountPerShard][];
+        for (int i = 0; i < rowCountPerShard; i++) {
+            long orderId = (long) i * shardCount + shardIndex;
+            result[i] = new Object[]{orderId, (int) orderId, "INIT"};
+        }
+        return result;
+    }
+    
+    private Object[][] createGroupByRows() {
+        Object[][] result = new Object[rowCountPerShard][];
+        for (int i = 0; i < rowCountPerShard; i++) {
+            result[i] = new Object[]{i, 1L};
+        }
+        return result;
+    }
+    
+    /**
+     * Tear down benchmark environment.
+     *
+     * @throws Exception exception
+     */
+    @TearDown
+    public void tearDown() throws Exception {
+        environment.close();
+    }
+    
+    /**
+     * Merge query results and iterate merged result.
+     *
+     * @param blackhole blackhole
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public void merge(final Blackhole blackhole) throws SQLException {
+        SchemaContext schemaContext = environment.getSchemaContext();
+        MergeEngine mergeEngine = new MergeEngine(schemaContext.getSchema().getDatabaseType(),
+                schemaContext.getSchema().getMetaData().getSchema().getConfiguredSchemaMetaData(), environment.getSchemaContexts().getProperties(), schemaContext.getSchema().getRules());
+        MergedResult mergedResult = mergeEngine.merge(createQueryResults(), sqlStatementContext);
+        int columnCount = columnLabels.size();
+        while (mergedResult.next()) {
+            for (int i = 1; i <= columnCount; i++) {
+                blackhole.consume(mergedResult.getValue(i, Object.class));
+            }
+        }
+    }
+    
+    private List<QueryResult> createQueryResults() {
+        List<QueryResult> result = new ArrayList<>(shardRows.length);
+        for (Object[][] each : shardRows) {
+            result.add(new BenchmarkQueryResult(columnLabels, each));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.parser;
+
+import org.apache.shardingsphere.sql.parser.SQLParserEngine;
+import org.apache.shardingsphere.sql.parser.SQLParserEngineFactory;
+import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for {@code SQLParserEngine.parse}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class SQLParserEngineBenchmark {
+    
+    @Param({
+        "SELECT order_id, user_id, status FROM t_order WHERE user_id = ? AND order_id = ?",
+        "SELECT order_id, user_id, status FROM t_order WHERE order_id IN (?, ?, ?) ORDER BY order_id",
+        "INSERT INTO t_order (order_id, user_id, status) VALUES (?, ?, ?)",
+        "UPDATE t_order SET status = ? WHERE user_id = ? AND order_id = ?"})
+    private String sql;
+    
+    private SQLParserEngine sqlParserEngine;
+    
+    /**
+     * Set up benchmark environment.
+     */
+    @Setup
+    public void setUp() {
+        sqlParserEngine = SQLParserEngineFactory.getSQLParserEngine("MySQL");
+        sqlParserEngine.parse(sql, true);
+    }
+    
+    /**
+     * Parse SQL without parse result cache.
+     *
+     * @return SQL statement
+     */
+    @Benchmark
+    public SQLStatement parseWithoutCache() {
+        return sqlParserEngine.parse(sql, false);
+    }
+    
+    /**
+     * Parse SQL with parse result cache.
+     *
+     * @return SQL statement
+     */
+    @Benchmark
+    public SQLStatement parseWithCache() {
+        return sqlParserEngine.parse(sql, true);
+    }
+}
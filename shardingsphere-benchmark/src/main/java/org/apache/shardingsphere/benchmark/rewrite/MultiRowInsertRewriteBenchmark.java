@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.rewrite;
+
+import org.apache.shardingsphere.benchmark.env.BenchmarkEnvironment;
+import org.apache.shardingsphere.infra.rewrite.SQLRewriteEntry;
+import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteResult;
+import org.apache.shardingsphere.infra.route.DataNodeRouter;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.kernal.context.SchemaContext;
+import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for routing and rewriting multi-row {@code INSERT} statements.
+ * 
+ * <p>Token count grows with row count, and per row when {@code order_id} is generated or {@code status} is encrypted.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class MultiRowInsertRewriteBenchmark {
+    
+    @Param({"100", "1000", "5000"})
+    private int rowCount;
+    
+    @Param({"false", "true"})
+    private boolean generateKey;
+    
+    @Param({"false", "true"})
+    private boolean encrypt;
+    
+    @Param("4")
+    private int dataSourceCount;
+    
+    @Param("4")
+    private int tableCountPerDataSource;
+    
+    private BenchmarkEnvironment environment;
+    
+    private String sql;
+    
+    private SQLStatement sqlStatement;
+    
+    private List<Object> parameters;
+    
+    /**
+     * Set up benchmark environment.
+     *
+     * @throws Exception exception
+     */
+    @Setup
+    public void setUp() throws Exception {
+        environment = new BenchmarkEnvironment(dataSourceCount, tableCountPerDataSource, encrypt);
+        sql = createSQL();
+        sqlStatement = environment.getSchemaContext().getRuntimeContext().getSqlParserEngine().parse(sql, false);
+        parameters = createParameters();
+    }
+    
+    private String createSQL() {
+        StringBuilder result = new StringBuilder(generateKey ? "INSERT INTO t_order (user_id, status) VALUES " : "INSERT INTO t_order (order_id, user_id, status) VALUES ");
+        for (int i = 0; i < rowCount; i++) {
+            result.append(0 == i ? "" : ", ").append(generateKey ? "(?, ?)" : "(?, ?, ?)");
+        }
+        return result.toString();
+    }
+    
+    private List<Object> createParameters() {
+        List<Object> result = new ArrayList<>(rowCount * 3);
+        for (int i = 0; i < rowCount; i++) {
+            if (!generateKey) {
+                result.add((long) i);
+            }
+            result.add(i);
+            result.add("INIT");
+        }
+        return result;
+    }
+    
+    /**
+     * Tear down benchmark environment.
+     *
+     * @throws Exception exception
+     */
+    @TearDown
+    public void tearDown() throws Exception {
+        environment.close();
+    }
+    
+    /**
+     * Route and rewrite multi-row insert SQL.
+     *
+     * @return SQL rewrite result
+     */
+    @Benchmark
+    public SQLRewriteResult routeAndRewrite() {
+        SchemaContext schemaContext = environment.getSchemaContext();
+        RouteContext routeContext = new DataNodeRouter(schemaContext.getSchema().getMetaData(), environment.getSchemaContexts().getProperties(), schemaContext.getSchema().getRules())
+                .route(sqlStatement, sql, parameters);
+        return new SQLRewriteEntry(schemaContext.getSchema().getMetaData().getSchema().getConfiguredSchemaMetaData(), environment.getSchemaContexts().getProperties(),
+                schemaContext.getSchema().getRules()).rewrite(sql, new ArrayList<>(parameters), routeContext);
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.route;
+
+import org.apache.shardingsphere.benchmark.env.BenchmarkEnvironment;
+import org.apache.shardingsphere.infra.route.DataNodeRouter;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.kernal.context.SchemaContext;
+import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for {@code DataNodeRouter.route}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class DataNodeRouterBenchmark {
+    
+    private static final String SELECT_SQL = "SELECT order_id, user_id, status FROM t_order WHERE user_id = ? AND order_id = ?";
+    
+    private static final String SELECT_ALL_SQL = "SELECT order_id, user_id, status FROM t_order ORDER BY order_id";
+    
+    private static final String INSERT_SQL = "INSERT INTO t_order (order_id, user_id, status) VALUES (?, ?, ?)";
+    
+    @Param({"2", "8"})
+    private int dataSourceCount;
+    
+    @Param("4")
+    private int tableCountPerDataSource;
+    
+    private BenchmarkEnvironment environment;
+    
+    private SQLStatement selectStatement;
+    
+    private SQLStatement selectAllStatement;
+    
+    private SQLStatement insertStatement;
+    
+    private final List<Object> selectParameters = Arrays.<Object>asList(10, 10L);
+    
+    private final List<Object> insertParameters = Arrays.<Object>asList(10L, 10, "INIT");
+    
+    /**
+     * Set up benchmark environment.
+     *
+     * @throws Exception exception
+     */
+    @Setup
+    public void setUp() throws Exception {
+        environment = new BenchmarkEnvironment(dataSourceCount, tableCountPerDataSource);
+        selectStatement = parse(SELECT_SQL);
+        selectAllStatement = parse(SELECT_ALL_SQL);
+        insertStatement = parse(INSERT_SQL);
+    }
+    
+    private SQLStatement parse(final String sql) {
+        return environment.getSchemaContext().getRuntimeContext().getSqlParserEngine().parse(sql, true);
+    }
+    
+    /**
+     * Tear down benchmark environment.
+     *
+     * @throws Exception exception
+     */
+    @TearDown
+    public void tearDown() throws Exception {
+        environment.close();
+    }
+    
+    /**
+     * Route SQL to single data node.
+     *
+     * @return route context
+     */
+    @Benchmark
+    public RouteContext routeSingleDataNode() {
+        return createDataNodeRouter().route(selectStatement, SELECT_SQL, selectParameters);
+    }
+    
+    /**
+     * Route SQL to all data nodes.
+     *
+     * @return route context
+     */
+    @Benchmark
+    public RouteContext routeAllDataNodes() {
+        return createDataNodeRouter().route(selectAllStatement, SELECT_ALL_SQL, Collections.emptyList());
+    }
+    
+    /**
+     * Route insert SQL.
+     *
+     * @return route context
+     */
+    @Benchmark
+    public RouteContext routeInsert() {
+        return createDataNodeRouter().route(insertStatement, INSERT_SQL, insertParameters);
+    }
+    
+    private DataNodeRouter createDataNodeRouter() {
+        SchemaContext schemaContext = environment.getSchemaContext();
+        return new DataNodeRouter(schemaContext.getSchema().getMetaData(), environment.getSchemaContexts().getProperties(), schemaContext.getSchema().getRules());
+    }
+}
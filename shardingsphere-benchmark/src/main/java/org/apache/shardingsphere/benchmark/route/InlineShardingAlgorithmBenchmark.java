@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.route;
+
+import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
+import org.apache.shardingsphere.sharding.strategy.algorithm.sharding.inline.InlineShardingAlgorithm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for precise sharding of {@code InlineShardingAlgorithm}.
+ * 
+ * <p>Expression with {@code intdiv} can not be compiled and is evaluated by Groovy, which is the baseline for compiled expressions.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class InlineShardingAlgorithmBenchmark {
+    
+    @Param({"t_order_${order_id % 16}", "t_order_${Math.abs(order_id.hashCode()) % 16}", "t_order_${order_id.intdiv(1) % 16}"})
+    private String algorithmExpression;
+    
+    private InlineShardingAlgorithm shardingAlgorithm;
+    
+    private final Collection<String> availableTargetNames = new ArrayList<>(16);
+    
+    private long orderId;
+    
+    /**
+     * Set up benchmark environment.
+     */
+    @Setup
+    public void setUp() {
+        shardingAlgorithm = new InlineShardingAlgorithm();
+        shardingAlgorithm.getProperties().setProperty("algorithm.expression", algorithmExpression);
+        for (int i = 0; i < 16; i++) {
+            availableTargetNames.add("t_order_" + i);
+        }
+    }
+    
+    /**
+     * Do precise sharding.
+     *
+     * @return target name
+     */
+    @Benchmark
+    public String doSharding() {
+        return shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<>("t_order", "order_id", orderId++));
+    }
+}
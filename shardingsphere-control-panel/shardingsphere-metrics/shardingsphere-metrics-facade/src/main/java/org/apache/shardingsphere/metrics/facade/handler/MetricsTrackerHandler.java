@@ -59,6 +59,8 @@ public final class MetricsTrackerHandler {
     
     private volatile boolean async;
     
+    private volatile boolean nonBlocking;
+    
     /**
      * Get metrics tracker handler of lazy load singleton.
      *
@@ -78,6 +80,7 @@ public final class MetricsTrackerHandler {
     public void init(final boolean async, final int threadCount, final MetricsTrackerManager metricsTrackerManager) {
         this.async = async;
         this.metricsTrackerManager = metricsTrackerManager;
+        nonBlocking = metricsTrackerManager.isNonBlocking();
         if (async) {
             executorService = new MetricsThreadPoolExecutor(NAME_FORMAT, threadCount, QUEUE_SIZE);
         }
@@ -90,7 +93,7 @@ public final class MetricsTrackerHandler {
      * @param labelValues  label values
      */
     public void counterInc(final String metricsLabel, final String... labelValues) {
-        if (async) {
+        if (isHandOff()) {
             executorService.execute(() -> handlerCounter(metricsLabel, labelValues));
         } else {
             handlerCounter(metricsLabel, labelValues);
@@ -104,7 +107,7 @@ public final class MetricsTrackerHandler {
      * @param labelValues  label values
      */
     public void gaugeInc(final String metricsLabel, final String... labelValues) {
-        if (async) {
+        if (isHandOff()) {
             executorService.execute(() -> handlerGaugeInc(metricsLabel, labelValues));
         } else {
             handlerGaugeInc(metricsLabel, labelValues);
@@ -118,7 +121,7 @@ public final class MetricsTrackerHandler {
      * @param labelValues  label values
      */
     public void gaugeDec(final String metricsLabel, final String... labelValues) {
-        if (async) {
+        if (isHandOff()) {
             executorService.execute(() -> handlerGaugeDec(metricsLabel, labelValues));
         } else {
             handlerGaugeDec(metricsLabel, labelValues);
@@ -133,7 +136,7 @@ public final class MetricsTrackerHandler {
      * @return histogram metrics tracker delegate
      */
     public Optional<HistogramMetricsTrackerDelegate> histogramStartTimer(final String metricsLabel, final String... labelValues) {
-        if (async) {
+        if (isHandOff()) {
             try {
                 return executorService.submit(() -> handlerHistogramStartTimer(metricsLabel, labelValues)).get(FUTURE_GET_TIME_OUT_MILLISECONDS, TimeUnit.MILLISECONDS);
             } catch (InterruptedException | ExecutionException | TimeoutException e) {
@@ -150,7 +153,7 @@ public final class MetricsTrackerHandler {
      * @param delegate histogram metrics tracker delegate
      */
     public void histogramObserveDuration(final HistogramMetricsTrackerDelegate delegate) {
-        if (async) {
+        if (isHandOff()) {
             executorService.execute(delegate::observeDuration);
         } else {
             delegate.observeDuration();
@@ -165,9 +168,9 @@ public final class MetricsTrackerHandler {
      * @return summary metrics tracker delegate
      */
     public Optional<SummaryMetricsTrackerDelegate> summaryStartTimer(final String metricsLabel, final String... labelValues) {
-        if (async) {
+        if (isHandOff()) {
             try {
-                return executorService.submit(() -> handlerSummaryStartTimer(metricsLabel, labelValues)).get(FUTURE_GET_TIME_OUT_MILLISECONDS, TimeUnit.SECONDS);
+                return executorService.submit(() -> handlerSummaryStartTimer(metricsLabel, labelValues)).get(FUTURE_GET_TIME_OUT_MILLISECONDS, TimeUnit.MILLISECONDS);
             } catch (InterruptedException | ExecutionException | TimeoutException e) {
                 throw new IllegalStateException(String.format("Error while fetching summary metric with metricsLabel= %s and labelValues=%s", metricsLabel, Arrays.toString(labelValues)), e);
             }
@@ -182,7 +185,7 @@ public final class MetricsTrackerHandler {
      * @param delegate summary metrics tracker delegate
      */
     public void summaryObserveDuration(final SummaryMetricsTrackerDelegate delegate) {
-        if (async) {
+        if (isHandOff()) {
             executorService.execute(delegate::observeDuration);
         } else {
             delegate.observeDuration();
@@ -198,6 +201,10 @@ public final class MetricsTrackerHandler {
         }
     }
     
+    private boolean isHandOff() {
+        return async && !nonBlocking;
+    }
+    
     private void handlerCounter(final String metricsLabel, final String... labelValues) {
         metricsTrackerManager.getMetricsTrackerFactory().create(MetricsTypeEnum.COUNTER.name(), metricsLabel)
                 .ifPresent(metricsTracker -> ((CounterMetricsTracker) metricsTracker).inc(1.0, labelValues));
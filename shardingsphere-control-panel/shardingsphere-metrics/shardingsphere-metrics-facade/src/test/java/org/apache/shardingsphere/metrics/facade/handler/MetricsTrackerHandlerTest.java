@@ -17,12 +17,16 @@
 
 package org.apache.shardingsphere.metrics.facade.handler;
 
+import org.apache.shardingsphere.metrics.api.HistogramMetricsTracker;
 import org.apache.shardingsphere.metrics.api.HistogramMetricsTrackerDelegate;
+import org.apache.shardingsphere.metrics.api.MetricsTrackerFactory;
 import org.apache.shardingsphere.metrics.api.NoneHistogramMetricsTrackerDelegate;
 import org.apache.shardingsphere.metrics.api.NoneSummaryMetricsTrackerDelegate;
 import org.apache.shardingsphere.metrics.api.SummaryMetricsTrackerDelegate;
+import org.apache.shardingsphere.metrics.enums.MetricsTypeEnum;
 import org.apache.shardingsphere.metrics.facade.fixture.SecondMetricsTrackerManagerFixture;
 import org.apache.shardingsphere.metrics.facade.util.FieldUtil;
+import org.apache.shardingsphere.metrics.spi.MetricsTrackerManager;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -31,6 +35,9 @@ import java.util.Optional;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 public final class MetricsTrackerHandlerTest {
     
@@ -101,6 +108,26 @@ public final class MetricsTrackerHandlerTest {
         });
     }
     
+    @Test
+    public void assertHistogramWithNonBlockingMetricsTrackerManager() {
+        HistogramMetricsTrackerDelegate delegate = mock(HistogramMetricsTrackerDelegate.class);
+        HistogramMetricsTracker histogramMetricsTracker = mock(HistogramMetricsTracker.class);
+        when(histogramMetricsTracker.startTimer()).thenReturn(delegate);
+        MetricsTrackerFactory metricsTrackerFactory = mock(MetricsTrackerFactory.class);
+        when(metricsTrackerFactory.create(MetricsTypeEnum.HISTOGRAM.name(), METRICS_LABEL)).thenReturn(Optional.of(histogramMetricsTracker));
+        MetricsTrackerManager metricsTrackerManager = mock(MetricsTrackerManager.class);
+        when(metricsTrackerManager.isNonBlocking()).thenReturn(true);
+        when(metricsTrackerManager.getMetricsTrackerFactory()).thenReturn(metricsTrackerFactory);
+        handler.close();
+        handler.init(true, 1, metricsTrackerManager);
+        handler.getExecutorService().shutdownNow();
+        Optional<HistogramMetricsTrackerDelegate> actual = handler.histogramStartTimer(METRICS_LABEL);
+        assertThat(actual.isPresent(), is(true));
+        assertThat(actual.get(), is(delegate));
+        handler.histogramObserveDuration(actual.get());
+        verify(delegate).observeDuration();
+    }
+    
     @After
     public void assertClose() {
         handler.close();
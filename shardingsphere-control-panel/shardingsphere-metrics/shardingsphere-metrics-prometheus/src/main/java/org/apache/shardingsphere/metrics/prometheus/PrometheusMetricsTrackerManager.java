@@ -64,6 +64,11 @@ public final class PrometheusMetricsTrackerManager implements MetricsTrackerMana
         log.info("you start prometheus metrics http server  host is :{}, port is :{} ", inetSocketAddress.getHostString(), inetSocketAddress.getPort());
     }
     
+    @Override
+    public boolean isNonBlocking() {
+        return true;
+    }
+    
     @Override
     public void stop() {
         server.stop();
@@ -26,6 +26,7 @@ import org.mockito.junit.MockitoJUnitRunner;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 @RunWith(MockitoJUnitRunner.class)
 public final class PrometheusMetricsTrackerManagerTest {
@@ -38,6 +39,7 @@ public final class PrometheusMetricsTrackerManagerTest {
         HTTPServer server = manager.getServer();
         assertNotNull(server);
         assertThat(manager.getType(), is("prometheus"));
+        assertTrue(manager.isNonBlocking());
         manager.stop();
     }
     
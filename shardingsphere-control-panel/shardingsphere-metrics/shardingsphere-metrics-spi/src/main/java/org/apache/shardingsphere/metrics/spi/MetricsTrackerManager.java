@@ -40,6 +40,20 @@ public interface MetricsTrackerManager extends TypedSPI {
      */
     MetricsTrackerFactory getMetricsTrackerFactory();
     
+    /**
+     * Judge whether metrics trackers record without blocking caller thread.
+     * 
+     * <p>
+     * Metrics trackers which record without blocking are called on caller thread even if metrics is async,
+     * because handing off to metrics thread costs more than recording itself.
+     * </p>
+     *
+     * @return record without blocking caller thread or not
+     */
+    default boolean isNonBlocking() {
+        return false;
+    }
+    
     /**
      * Stop metrics tracker.
      */
@@ -19,8 +19,8 @@ package org.apache.shardingsphere.orchestration.core.metadatacenter;
 
 import com.google.common.base.Strings;
 import org.apache.shardingsphere.orchestration.center.CenterRepository;
-import org.apache.shardingsphere.orchestration.core.metadatacenter.yaml.RuleSchemaMetaDataYamlSwapper;
-import org.apache.shardingsphere.orchestration.core.metadatacenter.yaml.YamlRuleSchemaMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.yaml.RuleSchemaMetaDataYamlSwapper;
+import org.apache.shardingsphere.infra.metadata.schema.yaml.YamlRuleSchemaMetaData;
 import org.apache.shardingsphere.infra.metadata.schema.RuleSchemaMetaData;
 import org.apache.shardingsphere.infra.yaml.engine.YamlEngine;
 
@@ -23,8 +23,8 @@ import org.apache.shardingsphere.orchestration.core.common.event.ShardingOrchest
 import org.apache.shardingsphere.orchestration.core.common.listener.PostShardingCenterRepositoryEventListener;
 import org.apache.shardingsphere.orchestration.core.metadatacenter.MetaDataCenterNode;
 import org.apache.shardingsphere.orchestration.core.metadatacenter.event.MetaDataChangedEvent;
-import org.apache.shardingsphere.orchestration.core.metadatacenter.yaml.RuleSchemaMetaDataYamlSwapper;
-import org.apache.shardingsphere.orchestration.core.metadatacenter.yaml.YamlRuleSchemaMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.yaml.RuleSchemaMetaDataYamlSwapper;
+import org.apache.shardingsphere.infra.metadata.schema.yaml.YamlRuleSchemaMetaData;
 import org.apache.shardingsphere.infra.metadata.schema.RuleSchemaMetaData;
 import org.apache.shardingsphere.infra.yaml.engine.YamlEngine;
 
@@ -18,8 +18,8 @@
 package org.apache.shardingsphere.orchestration.core.metadatacenter;
 
 import org.apache.shardingsphere.orchestration.center.CenterRepository;
-import org.apache.shardingsphere.orchestration.core.metadatacenter.yaml.RuleSchemaMetaDataYamlSwapper;
-import org.apache.shardingsphere.orchestration.core.metadatacenter.yaml.YamlRuleSchemaMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.yaml.RuleSchemaMetaDataYamlSwapper;
+import org.apache.shardingsphere.infra.metadata.schema.yaml.YamlRuleSchemaMetaData;
 import org.apache.shardingsphere.infra.metadata.schema.RuleSchemaMetaData;
 import org.apache.shardingsphere.infra.yaml.engine.YamlEngine;
 import org.junit.Before;
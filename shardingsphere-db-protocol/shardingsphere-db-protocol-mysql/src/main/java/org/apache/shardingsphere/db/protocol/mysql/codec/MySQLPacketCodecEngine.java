@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.db.protocol.mysql.codec;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
 import io.netty.channel.ChannelHandlerContext;
 import org.apache.shardingsphere.db.protocol.codec.DatabasePacketCodecEngine;
 import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
@@ -27,33 +28,89 @@ import java.util.List;
 
 /**
  * Database packet codec for MySQL.
+ * 
+ * <p>
+ * Payloads are written in place behind a reserved header, whose length is filled after the payload is written.
+ * Payloads not shorter than {@code 0xFFFFFF} are split into continuation packets on encode and merged on decode,
+ * sequence IDs of the following packets in the same command phase are shifted by the count of continuation packets.
+ * </p>
  */
 public final class MySQLPacketCodecEngine implements DatabasePacketCodecEngine<MySQLPacket> {
     
+    private static final int HEADER_LENGTH = MySQLPacket.PAYLOAD_LENGTH + MySQLPacket.SEQUENCE_LENGTH;
+    
+    private static final int MAX_PAYLOAD_LENGTH = 0xFFFFFF;
+    
+    private CompositeByteBuf pendingMessage;
+    
+    private int sequenceIdOffset;
+    
     @Override
     public boolean isValidHeader(final int readableBytes) {
-        return readableBytes > MySQLPacket.PAYLOAD_LENGTH + MySQLPacket.SEQUENCE_LENGTH;
+        return readableBytes >= HEADER_LENGTH;
     }
     
     @Override
     public void decode(final ChannelHandlerContext context, final ByteBuf in, final List<Object> out, final int readableBytes) {
-        int payloadLength = in.markReaderIndex().readMediumLE();
-        int realPacketLength = payloadLength + MySQLPacket.PAYLOAD_LENGTH + MySQLPacket.SEQUENCE_LENGTH;
-        if (readableBytes < realPacketLength) {
+        int payloadLength = in.markReaderIndex().readUnsignedMediumLE();
+        if (readableBytes < payloadLength + HEADER_LENGTH) {
             in.resetReaderIndex();
             return;
         }
-        out.add(in.readRetainedSlice(payloadLength + MySQLPacket.SEQUENCE_LENGTH));
+        if (null == pendingMessage) {
+            sequenceIdOffset = 0;
+            if (payloadLength < MAX_PAYLOAD_LENGTH) {
+                out.add(in.readRetainedSlice(payloadLength + MySQLPacket.SEQUENCE_LENGTH));
+                return;
+            }
+            pendingMessage = context.alloc().compositeBuffer(Integer.MAX_VALUE);
+            pendingMessage.addComponent(true, in.readRetainedSlice(payloadLength + MySQLPacket.SEQUENCE_LENGTH));
+            return;
+        }
+        in.skipBytes(MySQLPacket.SEQUENCE_LENGTH);
+        pendingMessage.addComponent(true, in.readRetainedSlice(payloadLength));
+        sequenceIdOffset++;
+        if (payloadLength < MAX_PAYLOAD_LENGTH) {
+            out.add(pendingMessage);
+            pendingMessage = null;
+        }
     }
     
     @Override
     public void encode(final ChannelHandlerContext context, final MySQLPacket message, final ByteBuf out) {
-        try (MySQLPacketPayload payload = new MySQLPacketPayload(context.alloc().buffer())) {
-            message.write(payload);
-            out.writeMediumLE(payload.getByteBuf().readableBytes());
-            out.writeByte(message.getSequenceId());
-            out.writeBytes(payload.getByteBuf());
+        if (0 == message.getSequenceId()) {
+            sequenceIdOffset = 0;
+        }
+        int sequenceId = message.getSequenceId() + sequenceIdOffset;
+        int headerIndex = out.writerIndex();
+        out.writeZero(HEADER_LENGTH);
+        message.write(new MySQLPacketPayload(out));
+        int payloadLength = out.writerIndex() - headerIndex - HEADER_LENGTH;
+        if (payloadLength < MAX_PAYLOAD_LENGTH) {
+            out.setMediumLE(headerIndex, payloadLength);
+            out.setByte(headerIndex + MySQLPacket.PAYLOAD_LENGTH, sequenceId);
+            return;
         }
+        ByteBuf payload = context.alloc().buffer(payloadLength);
+        try {
+            out.getBytes(headerIndex + HEADER_LENGTH, payload, payloadLength);
+            out.writerIndex(headerIndex);
+            sequenceIdOffset += writeSplitPackets(payload, sequenceId, out);
+        } finally {
+            payload.release();
+        }
+    }
+    
+    private int writeSplitPackets(final ByteBuf payload, final int sequenceId, final ByteBuf out) {
+        int result = -1;
+        int length;
+        do {
+            length = Math.min(payload.readableBytes(), MAX_PAYLOAD_LENGTH);
+            out.writeMediumLE(length);
+            out.writeByte(sequenceId + ++result);
+            out.writeBytes(payload, length);
+        } while (MAX_PAYLOAD_LENGTH == length);
+        return result;
     }
     
     @Override
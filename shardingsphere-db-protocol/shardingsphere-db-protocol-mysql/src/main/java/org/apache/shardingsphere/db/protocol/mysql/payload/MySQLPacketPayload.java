@@ -188,10 +188,10 @@ public final class MySQLPacketPayload implements PacketPayload {
             return 0;
         }
         if (0xfc == firstByte) {
-            return byteBuf.readShortLE();
+            return byteBuf.readShortLE() & 0xffff;
         }
         if (0xfd == firstByte) {
-            return byteBuf.readMediumLE();
+            return byteBuf.readMediumLE() & 0xffffff;
         }
         return byteBuf.readLongLE();
     }
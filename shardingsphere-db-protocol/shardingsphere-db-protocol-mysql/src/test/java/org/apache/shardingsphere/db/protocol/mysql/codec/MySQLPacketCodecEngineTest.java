@@ -18,12 +18,13 @@
 package org.apache.shardingsphere.db.protocol.mysql.codec;
 
 import io.netty.buffer.ByteBuf;
-import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import io.netty.buffer.UnpooledByteBufAllocator;
 import io.netty.channel.ChannelHandlerContext;
 import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 import org.junit.Test;
 import org.junit.runner.RunWith;
-import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
@@ -34,13 +35,16 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
 public final class MySQLPacketCodecEngineTest {
     
+    private static final int MAX_PAYLOAD_LENGTH = 0xFFFFFF;
+    
     @Mock
     private ChannelHandlerContext context;
     
@@ -60,7 +64,7 @@ public final class MySQLPacketCodecEngineTest {
     @Test
     public void assertDecode() {
         when(byteBuf.markReaderIndex()).thenReturn(byteBuf);
-        when(byteBuf.readMediumLE()).thenReturn(50);
+        when(byteBuf.readUnsignedMediumLE()).thenReturn(50);
         when(byteBuf.readRetainedSlice(51)).thenReturn(byteBuf);
         List<Object> out = new LinkedList<>();
         new MySQLPacketCodecEngine().decode(context, byteBuf, out, 54);
@@ -70,26 +74,90 @@ public final class MySQLPacketCodecEngineTest {
     @Test
     public void assertDecodeWithStickyPacket() {
         when(byteBuf.markReaderIndex()).thenReturn(byteBuf);
-        when(byteBuf.readMediumLE()).thenReturn(50);
+        when(byteBuf.readUnsignedMediumLE()).thenReturn(50);
         List<Object> out = new LinkedList<>();
         new MySQLPacketCodecEngine().decode(context, byteBuf, out, 40);
         assertTrue(out.isEmpty());
     }
     
+    @Test
+    public void assertIsValidHeaderWithEmptyPayload() {
+        assertTrue(new MySQLPacketCodecEngine().isValidHeader(4));
+    }
+    
+    @Test
+    public void assertDecodeSplitPackets() {
+        when(context.alloc()).thenReturn(UnpooledByteBufAllocator.DEFAULT);
+        MySQLPacketCodecEngine engine = new MySQLPacketCodecEngine();
+        ByteBuf in = Unpooled.buffer();
+        in.writeMediumLE(MAX_PAYLOAD_LENGTH).writeByte(0).writeZero(MAX_PAYLOAD_LENGTH - 1).writeByte(1);
+        in.writeMediumLE(2).writeByte(1).writeByte(2).writeByte(3);
+        List<Object> out = new LinkedList<>();
+        engine.decode(context, in, out, in.readableBytes());
+        assertTrue(out.isEmpty());
+        engine.decode(context, in, out, in.readableBytes());
+        assertThat(out.size(), is(1));
+        ByteBuf actual = (ByteBuf) out.get(0);
+        assertThat(actual.readableBytes(), is(MAX_PAYLOAD_LENGTH + 3));
+        assertThat(actual.getByte(0), is((byte) 0));
+        assertThat(actual.getByte(MAX_PAYLOAD_LENGTH), is((byte) 1));
+        assertThat(actual.getByte(MAX_PAYLOAD_LENGTH + 2), is((byte) 3));
+        assertFalse(in.isReadable());
+        actual.release();
+    }
+    
     @Test
     public void assertEncode() {
-        ByteBufAllocator byteBufAllocator = mock(ByteBufAllocator.class);
-        when(context.alloc()).thenReturn(byteBufAllocator);
-        ByteBuf payloadByteBuf = mock(ByteBuf.class);
-        when(byteBufAllocator.buffer()).thenReturn(payloadByteBuf);
-        when(payloadByteBuf.readableBytes()).thenReturn(50);
-        MySQLPacket actualMessage = mock(MySQLPacket.class);
-        when(actualMessage.getSequenceId()).thenReturn(1);
-        new MySQLPacketCodecEngine().encode(context, actualMessage, byteBuf);
-        verify(actualMessage).write(ArgumentMatchers.any());
-        verify(byteBuf).writeMediumLE(50);
-        verify(byteBuf).writeByte(1);
-        verify(byteBuf).writeBytes(payloadByteBuf);
+        ByteBuf out = Unpooled.buffer();
+        out.writeByte(0xFF);
+        new MySQLPacketCodecEngine().encode(context, createMessage(1, 50), out);
+        assertThat(out.readableBytes(), is(55));
+        assertThat(out.getMediumLE(1), is(50));
+        assertThat(out.getByte(4), is((byte) 1));
+        assertThat(out.getByte(54), is((byte) 49));
+    }
+    
+    @Test
+    public void assertEncodeSplitPackets() {
+        when(context.alloc()).thenReturn(UnpooledByteBufAllocator.DEFAULT);
+        MySQLPacketCodecEngine engine = new MySQLPacketCodecEngine();
+        ByteBuf out = Unpooled.buffer();
+        engine.encode(context, createMessage(1, MAX_PAYLOAD_LENGTH + 10), out);
+        assertThat(out.readableBytes(), is(MAX_PAYLOAD_LENGTH + 18));
+        assertThat(out.getUnsignedMediumLE(0), is(MAX_PAYLOAD_LENGTH));
+        assertThat(out.getByte(3), is((byte) 1));
+        assertThat(out.getMediumLE(MAX_PAYLOAD_LENGTH + 4), is(10));
+        assertThat(out.getByte(MAX_PAYLOAD_LENGTH + 7), is((byte) 2));
+        assertThat(out.getByte(MAX_PAYLOAD_LENGTH + 17), is((byte) ((MAX_PAYLOAD_LENGTH + 9) % 256)));
+        out.clear();
+        engine.encode(context, createMessage(2, 1), out);
+        assertThat(out.getByte(3), is((byte) 3));
+        out.clear();
+        engine.encode(context, createMessage(0, 1), out);
+        assertThat(out.getByte(3), is((byte) 0));
+    }
+    
+    @Test
+    public void assertEncodeSplitPacketsWithMaxPayloadLength() {
+        when(context.alloc()).thenReturn(UnpooledByteBufAllocator.DEFAULT);
+        ByteBuf out = Unpooled.buffer();
+        new MySQLPacketCodecEngine().encode(context, createMessage(1, MAX_PAYLOAD_LENGTH), out);
+        assertThat(out.readableBytes(), is(MAX_PAYLOAD_LENGTH + 8));
+        assertThat(out.getMediumLE(MAX_PAYLOAD_LENGTH + 4), is(0));
+        assertThat(out.getByte(MAX_PAYLOAD_LENGTH + 7), is((byte) 2));
+    }
+    
+    private MySQLPacket createMessage(final int sequenceId, final int payloadLength) {
+        MySQLPacket result = mock(MySQLPacket.class);
+        when(result.getSequenceId()).thenReturn(sequenceId);
+        doAnswer(invocation -> {
+            ByteBuf byteBuf = ((MySQLPacketPayload) invocation.getArgument(0)).getByteBuf();
+            for (int i = 0; i < payloadLength; i++) {
+                byteBuf.writeByte(i);
+            }
+            return null;
+        }).when(result).write(any(MySQLPacketPayload.class));
+        return result;
     }
     
     @Test
@@ -18,8 +18,8 @@
 package org.apache.shardingsphere.encrypt.strategy.impl;
 
 import com.google.common.base.Preconditions;
+import lombok.AccessLevel;
 import lombok.Getter;
-import lombok.Setter;
 import lombok.SneakyThrows;
 import org.apache.commons.codec.binary.Base64;
 import org.apache.commons.codec.binary.StringUtils;
@@ -27,63 +27,110 @@ import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.shardingsphere.encrypt.strategy.spi.Encryptor;
 
 import javax.crypto.Cipher;
-import javax.crypto.NoSuchPaddingException;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
-import java.security.InvalidKeyException;
-import java.security.NoSuchAlgorithmException;
+import java.security.GeneralSecurityException;
 import java.util.Arrays;
 import java.util.Properties;
 
 /**
  * AES encryptor.
+ * 
+ * <p>
+ * Secret key is derived once, and ciphers are cached per thread because {@code Cipher} is not thread safe but reusable after {@code doFinal}.
+ * </p>
  */
 @Getter
-@Setter
 public final class AESEncryptor implements Encryptor {
     
     private static final String AES_KEY = "aes.key.value";
     
     private Properties properties = new Properties();
     
+    @Getter(AccessLevel.NONE)
+    private volatile CipherCache cipherCache;
+    
     @Override
     public String getType() {
         return "AES";
     }
     
+    @Override
+    public void setProperties(final Properties properties) {
+        this.properties = properties;
+        cipherCache = null;
+    }
+    
     @Override
     public void init() {
+        if (null != properties.get(AES_KEY)) {
+            cipherCache = new CipherCache(createSecretKey());
+        }
     }
     
-    @SneakyThrows
     @Override
     public String encrypt(final Object plaintext) {
         if (null == plaintext) {
             return null;
         }
-        byte[] result = getCipher(Cipher.ENCRYPT_MODE).doFinal(StringUtils.getBytesUtf8(String.valueOf(plaintext)));
+        byte[] result = getCipherCache().doFinal(Cipher.ENCRYPT_MODE, StringUtils.getBytesUtf8(String.valueOf(plaintext)));
         return Base64.encodeBase64String(result);
     }
     
-    @SneakyThrows
     @Override
     public Object decrypt(final String ciphertext) {
         if (null == ciphertext) {
             return null;
         }
-        byte[] result = getCipher(Cipher.DECRYPT_MODE).doFinal(Base64.decodeBase64(ciphertext));
+        byte[] result = getCipherCache().doFinal(Cipher.DECRYPT_MODE, Base64.decodeBase64(ciphertext));
         return new String(result, StandardCharsets.UTF_8);
     }
     
-    private Cipher getCipher(final int decryptMode) throws NoSuchPaddingException, NoSuchAlgorithmException, InvalidKeyException {
-        Preconditions.checkArgument(properties.containsKey(AES_KEY), "No available secret key for `%s`.", AESEncryptor.class.getName());
-        Cipher result = Cipher.getInstance(getType());
-        result.init(decryptMode, new SecretKeySpec(createSecretKey(), getType()));
+    private CipherCache getCipherCache() {
+        CipherCache result = cipherCache;
+        if (null == result) {
+            Preconditions.checkArgument(properties.containsKey(AES_KEY), "No available secret key for `%s`.", AESEncryptor.class.getName());
+            result = new CipherCache(createSecretKey());
+            cipherCache = result;
+        }
         return result;
     }
     
-    private byte[] createSecretKey() {
+    private SecretKeySpec createSecretKey() {
         Preconditions.checkArgument(null != properties.get(AES_KEY), String.format("%s can not be null.", AES_KEY));
-        return Arrays.copyOf(DigestUtils.sha1(properties.get(AES_KEY).toString()), 16);
+        return new SecretKeySpec(Arrays.copyOf(DigestUtils.sha1(properties.get(AES_KEY).toString()), 16), getType());
+    }
+    
+    private final class CipherCache {
+        
+        private final SecretKeySpec secretKey;
+        
+        private final ThreadLocal<Cipher> encryptCipher;
+        
+        private final ThreadLocal<Cipher> decryptCipher;
+        
+        private CipherCache(final SecretKeySpec secretKey) {
+            this.secretKey = secretKey;
+            encryptCipher = ThreadLocal.withInitial(() -> createCipher(Cipher.ENCRYPT_MODE));
+            decryptCipher = ThreadLocal.withInitial(() -> createCipher(Cipher.DECRYPT_MODE));
+        }
+        
+        @SneakyThrows(GeneralSecurityException.class)
+        private Cipher createCipher(final int mode) {
+            Cipher result = Cipher.getInstance(getType());
+            result.init(mode, secretKey);
+            return result;
+        }
+        
+        @SneakyThrows(GeneralSecurityException.class)
+        private byte[] doFinal(final int mode, final byte[] input) {
+            ThreadLocal<Cipher> cipher = Cipher.ENCRYPT_MODE == mode ? encryptCipher : decryptCipher;
+            try {
+                return cipher.get().doFinal(input);
+            } catch (final GeneralSecurityException ex) {
+                cipher.remove();
+                throw ex;
+            }
+        }
     }
 }
@@ -23,6 +23,7 @@ import org.junit.Test;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 
@@ -59,6 +60,35 @@ public final class AESEncryptorTest {
         assertThat(encryptor.decrypt("dSpPiyENQGDUXMKFMJPGWA==").toString(), is("test"));
     }
     
+    @Test
+    public void assertDecodeAfterInit() {
+        encryptor.init();
+        assertThat(encryptor.decrypt(encryptor.encrypt("test")).toString(), is("test"));
+        assertThat(encryptor.decrypt("dSpPiyENQGDUXMKFMJPGWA==").toString(), is("test"));
+    }
+    
+    @Test
+    public void assertEncodeAfterPropertiesChanged() {
+        assertThat(encryptor.encrypt("test"), is("dSpPiyENQGDUXMKFMJPGWA=="));
+        Properties properties = new Properties();
+        properties.setProperty("aes.key.value", "other");
+        encryptor.setProperties(properties);
+        assertThat(encryptor.decrypt(encryptor.encrypt("test")).toString(), is("test"));
+        assertThat(encryptor.encrypt("test"), not("dSpPiyENQGDUXMKFMJPGWA=="));
+    }
+    
+    @Test
+    public void assertDecodeAfterInvalidCiphertext() {
+        try {
+            encryptor.decrypt("dGVzdA==");
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            assertThat(ex.getClass().getName(), is("javax.crypto.IllegalBlockSizeException"));
+        }
+        assertThat(encryptor.decrypt("dSpPiyENQGDUXMKFMJPGWA==").toString(), is("test"));
+    }
+    
     @Test
     public void assertDecodeWithNull() {
         assertNull(encryptor.decrypt(null));
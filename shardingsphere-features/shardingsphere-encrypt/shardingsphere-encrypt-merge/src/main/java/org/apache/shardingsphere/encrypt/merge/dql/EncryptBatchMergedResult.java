@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.encrypt.merge.dql;
+
+import org.apache.shardingsphere.encrypt.strategy.spi.Encryptor;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.merge.result.util.CalendarValueUtil;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLXML;
+import java.util.Calendar;
+
+/**
+ * Merged result for encrypt which decrypts cipher columns for a batch of rows together.
+ * 
+ * <p>
+ * Every column of a batch of rows is fetched ahead, every cipher column of the batch is then decrypted in one pass,
+ * which keeps the encryptor of one column hot instead of switching encryptors cell by cell.
+ * Like other merged results kept in memory, values of plain columns are fetched as objects,
+ * calendar is applied to fetched date values, and large objects and streams are not supported.
+ * </p>
+ */
+public final class EncryptBatchMergedResult implements MergedResult {
+    
+    private final MergedResult mergedResult;
+    
+    private final Encryptor[] encryptors;
+    
+    private final Object[][] rows;
+    
+    private int rowCount;
+    
+    private int rowIndex;
+    
+    private boolean exhausted;
+    
+    private boolean wasNull;
+    
+    public EncryptBatchMergedResult(final EncryptorMetaData metaData, final MergedResult mergedResult, final int batchSize) {
+        this.mergedResult = mergedResult;
+        int columnCount = metaData.getColumnCount();
+        encryptors = new Encryptor[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            encryptors[i] = metaData.findEncryptor(i + 1).orElse(null);
+        }
+        rows = new Object[batchSize][columnCount];
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        if (++rowIndex < rowCount) {
+            return true;
+        }
+        if (exhausted) {
+            return false;
+        }
+        fetch();
+        rowIndex = 0;
+        return rowIndex < rowCount;
+    }
+    
+    private void fetch() throws SQLException {
+        rowCount = 0;
+        while (rowCount < rows.length && mergedResult.next()) {
+            for (int i = 0; i < encryptors.length; i++) {
+                rows[rowCount][i] = mergedResult.getValue(i + 1, null == encryptors[i] ? Object.class : String.class);
+            }
+            rowCount++;
+        }
+        exhausted = rowCount < rows.length;
+        for (int i = 0; i < encryptors.length; i++) {
+            if (null != encryptors[i]) {
+                decrypt(encryptors[i], i);
+            }
+        }
+    }
+    
+    private void decrypt(final Encryptor encryptor, final int columnIndex) {
+        for (int i = 0; i < rowCount; i++) {
+            String ciphertext = (String) rows[i][columnIndex];
+            rows[i][columnIndex] = null == ciphertext ? null : encryptor.decrypt(ciphertext);
+        }
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        if (Blob.class == type || Clob.class == type || Reader.class == type || InputStream.class == type || SQLXML.class == type) {
+            throw new SQLFeatureNotSupportedException(String.format("Get value of column `%d` with type `%s` from batch decrypted result", columnIndex, type.getName()));
+        }
+        return getCell(columnIndex);
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) throws SQLException {
+        return CalendarValueUtil.convert(getCell(columnIndex), calendar);
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        throw new SQLFeatureNotSupportedException(String.format("Get input stream of column `%d` with type `%s` from batch decrypted result", columnIndex, type));
+    }
+    
+    private Object getCell(final int columnIndex) throws SQLException {
+        if (columnIndex < 1 || columnIndex > encryptors.length) {
+            throw new SQLException(String.format("Column index `%d` out of range, column count is `%d`.", columnIndex, encryptors.length));
+        }
+        Object result = rows[rowIndex][columnIndex - 1];
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return wasNull;
+    }
+}
@@ -35,13 +35,22 @@ public final class EncryptDQLResultDecorator implements ResultDecorator {
     
     private final boolean queryWithCipherColumn;
     
+    private final int decryptBatchSize;
+    
     @Override
     public MergedResult decorate(final QueryResult queryResult, final SQLStatementContext sqlStatementContext, final SchemaMetaData schemaMetaData) {
-        return new EncryptMergedResult(encryptorMetaData, new TransparentMergedResult(queryResult), queryWithCipherColumn);
+        return decorate(new TransparentMergedResult(queryResult));
     }
     
     @Override
     public MergedResult decorate(final MergedResult mergedResult, final SQLStatementContext sqlStatementContext, final SchemaMetaData schemaMetaData) {
+        return decorate(mergedResult);
+    }
+    
+    private MergedResult decorate(final MergedResult mergedResult) {
+        if (queryWithCipherColumn && decryptBatchSize > 0 && encryptorMetaData.containsEncryptor()) {
+            return new EncryptBatchMergedResult(encryptorMetaData, mergedResult, decryptBatchSize);
+        }
         return new EncryptMergedResult(encryptorMetaData, mergedResult, queryWithCipherColumn);
     }
 }
@@ -39,6 +39,30 @@ public final class EncryptorMetaData {
     
     private final SelectStatementContext selectStatementContext;
     
+    /**
+     * Get column count.
+     *
+     * @return column count
+     */
+    public int getColumnCount() {
+        return selectStatementContext.getProjectionsContext().getExpandProjections().size();
+    }
+    
+    /**
+     * Judge whether any column has encryptor.
+     *
+     * @return contains encryptor or not
+     */
+    public boolean containsEncryptor() {
+        int columnCount = getColumnCount();
+        for (int i = 1; i <= columnCount; i++) {
+            if (findEncryptor(i).isPresent()) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
     /**
      * Find encryptor.
      *
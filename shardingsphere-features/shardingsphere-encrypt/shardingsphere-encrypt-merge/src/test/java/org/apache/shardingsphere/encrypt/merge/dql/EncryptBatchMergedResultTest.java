@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.encrypt.merge.dql;
+
+import org.apache.shardingsphere.encrypt.strategy.spi.Encryptor;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.Blob;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Timestamp;
+import java.util.Calendar;
+import java.util.Optional;
+import java.util.TimeZone;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class EncryptBatchMergedResultTest {
+    
+    private final EncryptorMetaData metaData = mock(EncryptorMetaData.class);
+    
+    private final MergedResult mergedResult = mock(MergedResult.class);
+    
+    private final Encryptor encryptor = mock(Encryptor.class);
+    
+    @Before
+    public void setUp() throws SQLException {
+        when(metaData.getColumnCount()).thenReturn(2);
+        when(metaData.findEncryptor(1)).thenReturn(Optional.empty());
+        when(metaData.findEncryptor(2)).thenReturn(Optional.of(encryptor));
+        when(encryptor.decrypt(anyString())).thenAnswer(invocation -> "plain_" + invocation.getArgument(0));
+        when(mergedResult.next()).thenReturn(true, true, true, false);
+        when(mergedResult.getValue(1, Object.class)).thenReturn(1, 2, 3);
+        when(mergedResult.getValue(2, String.class)).thenReturn("cipher_1", null, "cipher_3");
+    }
+    
+    @Test
+    public void assertNextAndGetValue() throws SQLException {
+        EncryptBatchMergedResult actual = new EncryptBatchMergedResult(metaData, mergedResult, 2);
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(1));
+        assertThat(actual.getValue(2, Object.class), is("plain_cipher_1"));
+        assertFalse(actual.wasNull());
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(2));
+        assertNull(actual.getValue(2, Object.class));
+        assertTrue(actual.wasNull());
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(3));
+        assertThat(actual.getValue(2, Object.class), is("plain_cipher_3"));
+        assertFalse(actual.next());
+        assertFalse(actual.next());
+        verify(mergedResult, times(4)).next();
+        verify(encryptor, times(2)).decrypt(anyString());
+    }
+    
+    @Test
+    public void assertFetchAheadWithPlainColumn() throws SQLException {
+        EncryptBatchMergedResult actual = new EncryptBatchMergedResult(metaData, mergedResult, 2);
+        assertTrue(actual.next());
+        verify(mergedResult, times(2)).next();
+        verify(encryptor).decrypt("cipher_1");
+        assertThat(actual.getValue(1, Object.class), is(1));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(2));
+        verify(mergedResult, times(2)).next();
+    }
+    
+    @Test
+    public void assertFetchAheadWithOnlyCipherColumns() throws SQLException {
+        when(metaData.findEncryptor(1)).thenReturn(Optional.of(encryptor));
+        when(mergedResult.getValue(1, String.class)).thenReturn("cipher_a", "cipher_b", "cipher_c");
+        EncryptBatchMergedResult actual = new EncryptBatchMergedResult(metaData, mergedResult, 2);
+        assertTrue(actual.next());
+        verify(mergedResult, times(2)).next();
+        verify(encryptor).decrypt("cipher_a");
+        verify(encryptor).decrypt("cipher_b");
+        assertThat(actual.getValue(1, Object.class), is("plain_cipher_a"));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is("plain_cipher_b"));
+        assertNull(actual.getValue(2, Object.class));
+        assertTrue(actual.wasNull());
+    }
+    
+    @Test(expected = SQLFeatureNotSupportedException.class)
+    public void assertGetValueWithLargeObjectType() throws SQLException {
+        EncryptBatchMergedResult actual = new EncryptBatchMergedResult(metaData, mergedResult, 2);
+        assertTrue(actual.next());
+        actual.getValue(1, Blob.class);
+    }
+    
+    @Test
+    public void assertGetCalendarValue() throws SQLException {
+        when(mergedResult.getValue(1, Object.class)).thenReturn(Timestamp.valueOf("2020-01-01 00:00:00"));
+        EncryptBatchMergedResult actual = new EncryptBatchMergedResult(metaData, mergedResult, 2);
+        assertTrue(actual.next());
+        Calendar calendar = Calendar.getInstance(TimeZone.getTimeZone("GMT+08:00"));
+        assertThat(((Timestamp) actual.getCalendarValue(1, Timestamp.class, calendar)).getTime(), is(1577808000000L));
+        assertThat(actual.getCalendarValue(2, Object.class, calendar), is("plain_cipher_1"));
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertGetValueWithColumnIndexOutOfRange() throws SQLException {
+        EncryptBatchMergedResult actual = new EncryptBatchMergedResult(metaData, mergedResult, 2);
+        assertTrue(actual.next());
+        actual.getValue(3, Object.class);
+    }
+    
+    @Test(expected = SQLFeatureNotSupportedException.class)
+    public void assertGetInputStreamFromPlainColumn() throws SQLException {
+        EncryptBatchMergedResult actual = new EncryptBatchMergedResult(metaData, mergedResult, 2);
+        assertTrue(actual.next());
+        actual.getInputStream(1, "Ascii");
+    }
+    
+    @Test(expected = SQLFeatureNotSupportedException.class)
+    public void assertGetInputStreamFromCipherColumn() throws SQLException {
+        EncryptBatchMergedResult actual = new EncryptBatchMergedResult(metaData, mergedResult, 2);
+        assertTrue(actual.next());
+        actual.getInputStream(2, "Ascii");
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.encrypt.merge.dql;
+
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.sql.parser.binder.metadata.schema.SchemaMetaData;
+import org.apache.shardingsphere.sql.parser.binder.statement.SQLStatementContext;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class EncryptDQLResultDecoratorTest {
+    
+    private final EncryptorMetaData metaData = mock(EncryptorMetaData.class);
+    
+    @Test
+    public void assertDecorateWithoutDecryptBatchSize() {
+        when(metaData.containsEncryptor()).thenReturn(true);
+        EncryptDQLResultDecorator decorator = new EncryptDQLResultDecorator(metaData, true, 0);
+        assertThat(decorator.decorate(mock(MergedResult.class), mock(SQLStatementContext.class), mock(SchemaMetaData.class)), instanceOf(EncryptMergedResult.class));
+    }
+    
+    @Test
+    public void assertDecorateWithDecryptBatchSize() {
+        when(metaData.containsEncryptor()).thenReturn(true);
+        when(metaData.getColumnCount()).thenReturn(1);
+        EncryptDQLResultDecorator decorator = new EncryptDQLResultDecorator(metaData, true, 16);
+        assertThat(decorator.decorate(mock(MergedResult.class), mock(SQLStatementContext.class), mock(SchemaMetaData.class)), instanceOf(EncryptBatchMergedResult.class));
+    }
+    
+    @Test
+    public void assertDecorateWithDecryptBatchSizeWithoutEncryptor() {
+        EncryptDQLResultDecorator decorator = new EncryptDQLResultDecorator(metaData, true, 16);
+        assertThat(decorator.decorate(mock(MergedResult.class), mock(SQLStatementContext.class), mock(SchemaMetaData.class)), instanceOf(EncryptMergedResult.class));
+    }
+    
+    @Test
+    public void assertDecorateWithDecryptBatchSizeWithoutQueryWithCipherColumn() {
+        when(metaData.containsEncryptor()).thenReturn(true);
+        EncryptDQLResultDecorator decorator = new EncryptDQLResultDecorator(metaData, false, 16);
+        assertThat(decorator.decorate(mock(MergedResult.class), mock(SQLStatementContext.class), mock(SchemaMetaData.class)), instanceOf(EncryptMergedResult.class));
+    }
+}
@@ -17,6 +17,8 @@
 
 package org.apache.shardingsphere.sharding.metadata;
 
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
@@ -34,16 +36,21 @@ import org.apache.shardingsphere.infra.datanode.DataNodes;
 
 import javax.sql.DataSource;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
@@ -57,16 +64,22 @@ public final class ShardingMetaDataLoader implements RuleMetaDataLoader<Sharding
     
     private static final int FUTURE_GET_TIME_OUT_SECOND = 5;
     
+    private static final int MAX_TABLE_COUNT_PER_BATCH = 100;
+    
+    private static final ExecutorService EXECUTOR_SERVICE = createExecutorService();
+    
+    private static ExecutorService createExecutorService() {
+        ThreadPoolExecutor result = new ThreadPoolExecutor(CPU_CORES * 2, CPU_CORES * 2, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                new ThreadFactoryBuilder().setDaemon(true).setNameFormat("ShardingSphere-MetaDataLoader-%d").build());
+        result.allowCoreThreadTimeOut(true);
+        return result;
+    }
+    
     @Override
     public SchemaMetaData load(final DatabaseType databaseType, final Map<String, DataSource> dataSourceMap, final DataNodes dataNodes, 
                                final ShardingRule shardingRule, final ConfigurationProperties properties, final Collection<String> excludedTableNames) throws SQLException {
-        SchemaMetaData result = new SchemaMetaData(new HashMap<>(shardingRule.getTableRules().size(), 1));
-        for (TableRule each : shardingRule.getTableRules()) {
-            if (!excludedTableNames.contains(each.getLogicTable())) {
-                load(databaseType, dataSourceMap, dataNodes, each.getLogicTable(), shardingRule, properties).ifPresent(tableMetaData -> result.put(each.getLogicTable(), tableMetaData));
-            }
-        }
-        return result;
+        Collection<String> logicTables = shardingRule.getTableRules().stream().map(TableRule::getLogicTable).filter(each -> !excludedTableNames.contains(each)).collect(Collectors.toList());
+        return new SchemaMetaData(load(databaseType, dataSourceMap, dataNodes, logicTables, shardingRule, properties));
     }
     
     @Override
@@ -75,54 +88,91 @@ public final class ShardingMetaDataLoader implements RuleMetaDataLoader<Sharding
         if (!shardingRule.findTableRule(tableName).isPresent()) {
             return Optional.empty();
         }
-        boolean isCheckingMetaData = properties.getValue(ConfigurationPropertyKey.CHECK_TABLE_METADATA_ENABLED);
-        int maxConnectionsSizePerQuery = properties.getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY);
         TableRule tableRule = shardingRule.getTableRule(tableName);
-        if (!isCheckingMetaData) {
-            DataNode dataNode = dataNodes.getDataNodes(tableName).iterator().next();
-            return TableMetaDataLoader.load(dataSourceMap.get(dataNode.getDataSourceName()), dataNode.getTableName(), databaseType.getName());
-        }
-        Map<String, TableMetaData> actualTableMetaDataMap = parallelLoadTables(databaseType, dataSourceMap, dataNodes, tableName, maxConnectionsSizePerQuery);
-        if (actualTableMetaDataMap.isEmpty()) {
-            return Optional.empty();
-        }
-        checkUniformed(tableRule.getLogicTable(), actualTableMetaDataMap, shardingRule);
-        return Optional.of(actualTableMetaDataMap.values().iterator().next());
+        return Optional.ofNullable(load(databaseType, dataSourceMap, dataNodes, Collections.singletonList(tableRule.getLogicTable()), shardingRule, properties).get(tableRule.getLogicTable()));
     }
     
-    private Map<String, TableMetaData> parallelLoadTables(final DatabaseType databaseType, final Map<String, DataSource> dataSourceMap, final DataNodes dataNodes, 
-                                                          final String tableName, final int maxConnectionsSizePerQuery) {
-        Map<String, List<DataNode>> dataNodeGroups = dataNodes.getDataNodeGroups(tableName);
-        Map<String, TableMetaData> result = new HashMap<>(dataNodeGroups.size(), 1);
-        Map<String, Future<Optional<TableMetaData>>> tableFutureMap = new HashMap<>(dataNodeGroups.size(), 1);
-        ExecutorService executorService = Executors.newFixedThreadPool(Math.min(CPU_CORES * 2, dataNodeGroups.size() * maxConnectionsSizePerQuery));
-        for (Entry<String, List<DataNode>> entry : dataNodeGroups.entrySet()) {
-            for (DataNode each : entry.getValue()) {
-                Future<Optional<TableMetaData>> futures = executorService.submit(() -> loadTableByDataNode(each, databaseType, dataSourceMap));
-                tableFutureMap.put(each.getTableName(), futures);
+    private Map<String, TableMetaData> load(final DatabaseType databaseType, final Map<String, DataSource> dataSourceMap, final DataNodes dataNodes,
+                                            final Collection<String> logicTables, final ShardingRule shardingRule, final ConfigurationProperties properties) {
+        boolean isCheckingMetaData = properties.getValue(ConfigurationPropertyKey.CHECK_TABLE_METADATA_ENABLED);
+        int maxConnectionsSizePerQuery = properties.getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY);
+        Map<String, Collection<DataNode>> logicTableDataNodes = new LinkedHashMap<>(logicTables.size(), 1);
+        for (String each : logicTables) {
+            Collection<DataNode> actualDataNodes = dataNodes.getDataNodes(each);
+            if (!actualDataNodes.isEmpty()) {
+                logicTableDataNodes.put(each, isCheckingMetaData ? actualDataNodes : Collections.singletonList(actualDataNodes.iterator().next()));
             }
         }
-        tableFutureMap.forEach((key, value) -> {
-            try {
-                getTableMetaData(value).ifPresent(tableMetaData -> result.put(key, tableMetaData));
-            } catch (final InterruptedException | ExecutionException | TimeoutException ex) {
-                throw new IllegalStateException(String.format("Error while fetching tableMetaData with key= %s and Value=%s", key, value), ex);
+        Map<DataNode, TableMetaData> actualTableMetaDataMap = parallelLoadTables(databaseType, dataSourceMap, logicTableDataNodes.values(), maxConnectionsSizePerQuery);
+        Map<String, TableMetaData> result = new HashMap<>(logicTableDataNodes.size(), 1);
+        for (Entry<String, Collection<DataNode>> entry : logicTableDataNodes.entrySet()) {
+            Map<String, TableMetaData> tableMetaDataMap = new LinkedHashMap<>(entry.getValue().size(), 1);
+            for (DataNode each : entry.getValue()) {
+                TableMetaData tableMetaData = actualTableMetaDataMap.get(each);
+                if (null != tableMetaData) {
+                    tableMetaDataMap.put(String.join(".", each.getDataSourceName(), each.getTableName()), tableMetaData);
+                }
+            }
+            if (tableMetaDataMap.isEmpty()) {
+                continue;
             }
-        });
-        executorService.shutdownNow();
+            if (isCheckingMetaData) {
+                checkUniformed(entry.getKey(), tableMetaDataMap, shardingRule);
+            }
+            result.put(entry.getKey(), tableMetaDataMap.values().iterator().next());
+        }
         return result;
     }
     
-    private Optional<TableMetaData> getTableMetaData(final Future<Optional<TableMetaData>> value) throws InterruptedException, ExecutionException, TimeoutException {
-        return value.get(FUTURE_GET_TIME_OUT_SECOND, TimeUnit.SECONDS);
+    private Map<DataNode, TableMetaData> parallelLoadTables(final DatabaseType databaseType, final Map<String, DataSource> dataSourceMap,
+                                                            final Collection<Collection<DataNode>> dataNodes, final int maxConnectionsSizePerQuery) {
+        Map<String, Collection<String>> actualTableGroups = new LinkedHashMap<>();
+        for (Collection<DataNode> each : dataNodes) {
+            for (DataNode dataNode : each) {
+                actualTableGroups.computeIfAbsent(dataNode.getDataSourceName(), key -> new LinkedHashSet<>()).add(dataNode.getTableName());
+            }
+        }
+        Map<String, Collection<List<String>>> actualTableBatches = new LinkedHashMap<>(actualTableGroups.size(), 1);
+        int batchCount = 0;
+        for (Entry<String, Collection<String>> entry : actualTableGroups.entrySet()) {
+            int batchSize = Math.min((entry.getValue().size() + maxConnectionsSizePerQuery - 1) / maxConnectionsSizePerQuery, MAX_TABLE_COUNT_PER_BATCH);
+            List<List<String>> batches = Lists.partition(new ArrayList<>(entry.getValue()), batchSize);
+            actualTableBatches.put(entry.getKey(), batches);
+            batchCount += batches.size();
+        }
+        if (0 == batchCount) {
+            return Collections.emptyMap();
+        }
+        Map<Future<Map<DataNode, TableMetaData>>, Integer> futures = new LinkedHashMap<>(batchCount, 1);
+        try {
+            for (Entry<String, Collection<List<String>>> entry : actualTableBatches.entrySet()) {
+                for (List<String> each : entry.getValue()) {
+                    futures.put(EXECUTOR_SERVICE.submit(() -> loadTablesByDataSource(entry.getKey(), each, databaseType, dataSourceMap)), each.size());
+                }
+            }
+            Map<DataNode, TableMetaData> result = new HashMap<>();
+            for (Entry<Future<Map<DataNode, TableMetaData>>, Integer> entry : futures.entrySet()) {
+                try {
+                    result.putAll(entry.getKey().get((long) FUTURE_GET_TIME_OUT_SECOND * entry.getValue(), TimeUnit.SECONDS));
+                } catch (final InterruptedException | ExecutionException | TimeoutException ex) {
+                    throw new IllegalStateException(String.format("Error while fetching tableMetaData with future=%s", entry.getKey()), ex);
+                }
+            }
+            return result;
+        } finally {
+            futures.keySet().forEach(each -> each.cancel(true));
+        }
     }
     
-    private Optional<TableMetaData> loadTableByDataNode(final DataNode dataNode, final DatabaseType databaseType, final Map<String, DataSource> dataSourceMap) {
+    private Map<DataNode, TableMetaData> loadTablesByDataSource(final String dataSourceName, final Collection<String> tables,
+                                                                final DatabaseType databaseType, final Map<String, DataSource> dataSourceMap) {
         try {
-            return TableMetaDataLoader.load(
-                    dataSourceMap.get(dataNode.getDataSourceName()), dataNode.getTableName(), databaseType.getName());
-        } catch (SQLException e) {
-            throw new IllegalStateException(String.format("SQLException for DataNode=%s and databaseType=%s", dataNode, databaseType.getName()), e);
+            Map<String, TableMetaData> tableMetaDataMap = TableMetaDataLoader.load(dataSourceMap.get(dataSourceName), tables, databaseType.getName());
+            Map<DataNode, TableMetaData> result = new HashMap<>(tableMetaDataMap.size(), 1);
+            tableMetaDataMap.forEach((key, value) -> result.put(new DataNode(dataSourceName, key), value));
+            return result;
+        } catch (final SQLException ex) {
+            throw new IllegalStateException(String.format("SQLException for data source=%s and databaseType=%s", dataSourceName, databaseType.getName()), ex);
         }
     }
     
@@ -28,7 +28,6 @@ import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.Collection;
-import java.util.LinkedHashSet;
 import java.util.Properties;
 
 /**
@@ -55,31 +54,15 @@ public final class DatetimeShardingAlgorithm implements StandardShardingAlgorith
     @Override
     public String doSharding(final Collection<String> availableTargetNames, final PreciseShardingValue<Comparable<?>> shardingValue) {
         checkProperties();
-        for (String each : availableTargetNames) {
-            if (each.endsWith(doSharding(parseDate(shardingValue.getValue())) + "")) {
-                return each;
-            }
-        }
-        throw new UnsupportedOperationException();
+        return PartitionTargetNameIndex.of(availableTargetNames).find(doSharding(parseDate(shardingValue.getValue()))).orElseThrow(UnsupportedOperationException::new);
     }
     
     @Override
     public Collection<String> doSharding(final Collection<String> availableTargetNames, final RangeShardingValue<Comparable<?>> shardingValue) {
         checkProperties();
-        Collection<String> result = new LinkedHashSet<>(availableTargetNames.size());
         int firstPartition = doSharding(parseDate(shardingValue.getValueRange().lowerEndpoint()));
         int lastPartition = doSharding(parseDate(shardingValue.getValueRange().upperEndpoint()));
-        for (int i = firstPartition; i <= lastPartition; i++) {
-            for (String each : availableTargetNames) {
-                if (each.endsWith(i + "")) {
-                    result.add(each);
-                }
-                if (result.size() == availableTargetNames.size()) {
-                    return result;
-                }
-            }
-        }
-        return result;
+        return PartitionTargetNameIndex.of(availableTargetNames).find(firstPartition, lastPartition);
     }
     
     private int doSharding(final long shardingValue) {
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.strategy.algorithm.sharding;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.primitives.Ints;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Partition target name index, which maps partition to available target names whose numeric suffix equals to the partition.
+ */
+public final class PartitionTargetNameIndex {
+    
+    private static final LoadingCache<Collection<String>, PartitionTargetNameIndex> INDEXES = CacheBuilder.newBuilder().weakKeys().build(CacheLoader.from(PartitionTargetNameIndex::new));
+    
+    private final int targetNameCount;
+    
+    private final NavigableMap<Integer, Collection<String>> partitionTargetNames = new TreeMap<>();
+    
+    private PartitionTargetNameIndex(final Collection<String> availableTargetNames) {
+        targetNameCount = availableTargetNames.size();
+        for (String each : availableTargetNames) {
+            Integer partition = getNumericSuffix(each);
+            if (null != partition) {
+                partitionTargetNames.computeIfAbsent(partition, key -> new LinkedList<>()).add(each);
+            }
+        }
+    }
+    
+    private Integer getNumericSuffix(final String targetName) {
+        int index = targetName.length();
+        while (index > 0 && Character.isDigit(targetName.charAt(index - 1))) {
+            index--;
+        }
+        return index == targetName.length() ? null : Ints.tryParse(targetName.substring(index));
+    }
+    
+    /**
+     * Get partition target name index of available target names.
+     * 
+     * @param availableTargetNames available data sources or tables's names
+     * @return partition target name index
+     */
+    public static PartitionTargetNameIndex of(final Collection<String> availableTargetNames) {
+        PartitionTargetNameIndex result = INDEXES.getUnchecked(availableTargetNames);
+        if (result.targetNameCount != availableTargetNames.size()) {
+            result = new PartitionTargetNameIndex(availableTargetNames);
+            INDEXES.put(availableTargetNames, result);
+        }
+        return result;
+    }
+    
+    /**
+     * Find target name of partition.
+     * 
+     * @param partition partition
+     * @return target name
+     */
+    public Optional<String> find(final int partition) {
+        Collection<String> targetNames = partitionTargetNames.get(partition);
+        return null == targetNames ? Optional.empty() : Optional.of(targetNames.iterator().next());
+    }
+    
+    /**
+     * Find target names of partitions.
+     * 
+     * @param firstPartition first partition, inclusive
+     * @param lastPartition last partition, inclusive
+     * @return target names
+     */
+    public Collection<String> find(final int firstPartition, final int lastPartition) {
+        if (firstPartition > lastPartition) {
+            return Collections.emptyList();
+        }
+        Collection<String> result = new LinkedHashSet<>();
+        partitionTargetNames.subMap(firstPartition, true, lastPartition, true).values().forEach(result::addAll);
+        return result;
+    }
+}
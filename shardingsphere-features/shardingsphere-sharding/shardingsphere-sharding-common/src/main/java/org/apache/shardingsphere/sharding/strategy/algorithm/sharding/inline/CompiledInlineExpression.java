@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.strategy.algorithm.sharding.inline;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Inline expression compiled into plain Java operations.
+ * 
+ * <p>Evaluation follows the semantics of Groovy for integer arithmetic and string concatenation.
+ * Values which can not be evaluated without Groovy make evaluation return empty, caller should fallback to Groovy then.</p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public final class CompiledInlineExpression {
+    
+    private final List<Object> segments;
+    
+    @Getter
+    private final String variableName;
+    
+    /**
+     * Evaluate inline expression.
+     * 
+     * @param columnName column name
+     * @param value value of column
+     * @return evaluated result, empty if value can not be evaluated without Groovy
+     */
+    public Optional<String> evaluate(final String columnName, final Comparable<?> value) {
+        if (null != variableName && (!variableName.equals(columnName) || !isSupportedValue(value))) {
+            return Optional.empty();
+        }
+        StringBuilder result = new StringBuilder();
+        for (Object each : segments) {
+            if (each instanceof Operand) {
+                Object operandValue = ((Operand) each).apply(value);
+                if (null == operandValue) {
+                    return Optional.empty();
+                }
+                result.append(operandValue);
+            } else {
+                result.append(each);
+            }
+        }
+        return Optional.of(result.toString());
+    }
+    
+    private boolean isSupportedValue(final Object value) {
+        return value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte || value instanceof String;
+    }
+    
+    /**
+     * Operand of compiled inline expression.
+     */
+    interface Operand {
+        
+        /**
+         * Apply operand with variable value.
+         * 
+         * @param value variable value
+         * @return result, which is {@code Integer}, {@code Long} or {@code String}, or null if can not be evaluated
+         */
+        Object apply(Object value);
+    }
+}
@@ -0,0 +1,323 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.strategy.algorithm.sharding.inline;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.sharding.strategy.algorithm.sharding.inline.CompiledInlineExpression.Operand;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Inline expression compiler.
+ * 
+ * <p>Compiles inline expressions such as {@code t_order_${order_id % 16}} or {@code t_user_${Math.abs(name.hashCode()) % 4}} without Groovy.
+ * Supported placeholder contents are integer and string literals, one variable, {@code + - * %}, parentheses, {@code hashCode()} and {@code Math.abs()}.
+ * Other expressions, such as division which results in decimal in Groovy, are not compiled.</p>
+ */
+@RequiredArgsConstructor
+public final class InlineExpressionCompiler {
+    
+    private static final String PLACEHOLDER_START = "${";
+    
+    private static final String HASH_CODE = ".hashCode()";
+    
+    private static final String MATH_ABS = "Math.abs(";
+    
+    private final String inlineExpression;
+    
+    private String placeholder;
+    
+    private int position;
+    
+    private String variableName;
+    
+    /**
+     * Compile inline expression.
+     * 
+     * @return compiled inline expression, empty if inline expression can not be compiled
+     */
+    public Optional<CompiledInlineExpression> compile() {
+        String expression = InlineExpressionParser.handlePlaceHolder(inlineExpression);
+        List<Object> segments = new LinkedList<>();
+        int index = 0;
+        while (index < expression.length()) {
+            int placeholderStart = expression.indexOf(PLACEHOLDER_START, index);
+            int literalEnd = -1 == placeholderStart ? expression.length() : placeholderStart;
+            String literal = expression.substring(index, literalEnd);
+            if (!isPlainLiteral(literal)) {
+                return Optional.empty();
+            }
+            if (!literal.isEmpty()) {
+                segments.add(literal);
+            }
+            if (-1 == placeholderStart) {
+                break;
+            }
+            int placeholderEnd = expression.indexOf('}', placeholderStart);
+            if (-1 == placeholderEnd) {
+                return Optional.empty();
+            }
+            Optional<Operand> operand = compilePlaceholder(expression.substring(placeholderStart + PLACEHOLDER_START.length(), placeholderEnd));
+            if (!operand.isPresent()) {
+                return Optional.empty();
+            }
+            segments.add(operand.get());
+            index = placeholderEnd + 1;
+        }
+        return Optional.of(new CompiledInlineExpression(segments, variableName));
+    }
+    
+    private boolean isPlainLiteral(final String literal) {
+        for (int i = 0; i < literal.length(); i++) {
+            char each = literal.charAt(i);
+            if ('$' == each || '"' == each || '\\' == each || '{' == each || '}' == each) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private Optional<Operand> compilePlaceholder(final String placeholder) {
+        if (placeholder.contains("{")) {
+            return Optional.empty();
+        }
+        this.placeholder = placeholder;
+        position = 0;
+        Operand result = parseAdditive();
+        skipWhitespace();
+        return null == result || position < placeholder.length() ? Optional.empty() : Optional.of(result);
+    }
+    
+    private Operand parseAdditive() {
+        Operand result = parseMultiplicative();
+        while (null != result) {
+            skipWhitespace();
+            if (consume("+")) {
+                result = combine(result, parseMultiplicative(), '+');
+            } else if (consume("-")) {
+                result = combine(result, parseMultiplicative(), '-');
+            } else {
+                break;
+            }
+        }
+        return result;
+    }
+    
+    private Operand parseMultiplicative() {
+        Operand result = parseUnary();
+        while (null != result) {
+            skipWhitespace();
+            if (consume("*")) {
+                result = combine(result, parseUnary(), '*');
+            } else if (consume("%")) {
+                result = combine(result, parseUnary(), '%');
+            } else {
+                break;
+            }
+        }
+        return result;
+    }
+    
+    private Operand parseUnary() {
+        skipWhitespace();
+        if (consume("-")) {
+            Operand operand = parseUnary();
+            return null == operand ? null : value -> negate(operand.apply(value));
+        }
+        return parsePostfix();
+    }
+    
+    private Operand parsePostfix() {
+        Operand result = parsePrimary();
+        while (null != result && consume(HASH_CODE)) {
+            Operand operand = result;
+            result = value -> {
+                Object operandValue = operand.apply(value);
+                return null == operandValue ? null : operandValue.hashCode();
+            };
+        }
+        return result;
+    }
+    
+    private Operand parsePrimary() {
+        skipWhitespace();
+        if (position >= placeholder.length()) {
+            return null;
+        }
+        if (consume("(")) {
+            Operand result = parseAdditive();
+            skipWhitespace();
+            return consume(")") ? result : null;
+        }
+        if (consume(MATH_ABS)) {
+            Operand operand = parseAdditive();
+            skipWhitespace();
+            return null != operand && consume(")") ? value -> abs(operand.apply(value)) : null;
+        }
+        char current = placeholder.charAt(position);
+        if (Character.isDigit(current)) {
+            return parseNumber();
+        }
+        if ('\'' == current) {
+            return parseString();
+        }
+        if (Character.isJavaIdentifierStart(current)) {
+            return parseVariable();
+        }
+        return null;
+    }
+    
+    private Operand parseNumber() {
+        int start = position;
+        while (position < placeholder.length() && Character.isDigit(placeholder.charAt(position))) {
+            position++;
+        }
+        if (position < placeholder.length() && (Character.isLetter(placeholder.charAt(position)) || '.' == placeholder.charAt(position))) {
+            return null;
+        }
+        if ('0' == placeholder.charAt(start) && position - start > 1) {
+            return null;
+        }
+        long number;
+        try {
+            number = Long.parseLong(placeholder.substring(start, position));
+        } catch (final NumberFormatException ex) {
+            return null;
+        }
+        Object literal = number <= Integer.MAX_VALUE ? (Object) (int) number : (Object) number;
+        return value -> literal;
+    }
+    
+    private Operand parseString() {
+        int end = placeholder.indexOf('\'', position + 1);
+        if (-1 == end) {
+            return null;
+        }
+        String literal = placeholder.substring(position + 1, end);
+        if (literal.contains("\\") || literal.contains("$")) {
+            return null;
+        }
+        position = end + 1;
+        return value -> literal;
+    }
+    
+    private Operand parseVariable() {
+        int start = position;
+        while (position < placeholder.length() && Character.isJavaIdentifierPart(placeholder.charAt(position))) {
+            position++;
+        }
+        String name = placeholder.substring(start, position);
+        if ("it".equals(name) || "Math".equals(name) || isFollowedByInvocation() || null != variableName && !variableName.equals(name)) {
+            return null;
+        }
+        variableName = name;
+        return value -> value;
+    }
+    
+    private boolean isFollowedByInvocation() {
+        skipWhitespace();
+        if (position >= placeholder.length() || placeholder.startsWith(HASH_CODE, position)) {
+            return false;
+        }
+        char next = placeholder.charAt(position);
+        return '(' == next || '.' == next || '[' == next;
+    }
+    
+    private boolean consume(final String token) {
+        if (placeholder.startsWith(token, position)) {
+            position += token.length();
+            return true;
+        }
+        return false;
+    }
+    
+    private void skipWhitespace() {
+        while (position < placeholder.length() && Character.isWhitespace(placeholder.charAt(position))) {
+            position++;
+        }
+    }
+    
+    private static Operand combine(final Operand left, final Operand right, final char operator) {
+        if (null == right) {
+            return null;
+        }
+        return value -> calculate(left.apply(value), right.apply(value), operator);
+    }
+    
+    private static Object calculate(final Object left, final Object right, final char operator) {
+        if (null == left || null == right) {
+            return null;
+        }
+        if ('+' == operator && (left instanceof String || right instanceof String)) {
+            return left.toString() + right;
+        }
+        if (!isIntegral(left) || !isIntegral(right)) {
+            return null;
+        }
+        if (left instanceof Long || right instanceof Long) {
+            return calculate(((Number) left).longValue(), ((Number) right).longValue(), operator);
+        }
+        return calculate(((Number) left).intValue(), ((Number) right).intValue(), operator);
+    }
+    
+    private static long calculate(final long left, final long right, final char operator) {
+        switch (operator) {
+            case '+':
+                return left + right;
+            case '-':
+                return left - right;
+            case '*':
+                return left * right;
+            default:
+                return left % right;
+        }
+    }
+    
+    private static int calculate(final int left, final int right, final char operator) {
+        switch (operator) {
+            case '+':
+                return left + right;
+            case '-':
+                return left - right;
+            case '*':
+                return left * right;
+            default:
+                return left % right;
+        }
+    }
+    
+    private static Object negate(final Object value) {
+        if (value instanceof Integer) {
+            return -(Integer) value;
+        }
+        return value instanceof Long ? -(Long) value : null;
+    }
+    
+    private static Object abs(final Object value) {
+        if (!isIntegral(value)) {
+            return null;
+        }
+        return value instanceof Long ? (Object) Math.abs((Long) value) : (Object) Math.abs(((Number) value).intValue());
+    }
+    
+    private static boolean isIntegral(final Object value) {
+        return value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte;
+    }
+}
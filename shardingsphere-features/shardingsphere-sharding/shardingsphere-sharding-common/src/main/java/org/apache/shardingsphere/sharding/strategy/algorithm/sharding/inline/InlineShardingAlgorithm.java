@@ -25,6 +25,7 @@ import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingVal
 import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
 
 import java.util.Collection;
+import java.util.Optional;
 import java.util.Properties;
 
 /**
@@ -38,12 +39,22 @@ public final class InlineShardingAlgorithm implements StandardShardingAlgorithm<
     
     private Properties properties = new Properties();
     
+    private volatile boolean init;
+    
+    private CompiledInlineExpression compiledExpression;
+    
+    private volatile Closure<?> closure;
+    
     @Override
     public String doSharding(final Collection<String> availableTargetNames, final PreciseShardingValue<Comparable<?>> shardingValue) {
-        Preconditions.checkNotNull(properties.get(ALGORITHM_EXPRESSION), "Inline sharding algorithm expression cannot be null.");
-        String algorithmExpression = InlineExpressionParser.handlePlaceHolder(properties.get(ALGORITHM_EXPRESSION).toString().trim());
-        Closure<?> closure = new InlineExpressionParser(algorithmExpression).evaluateClosure();
-        Closure<?> result = closure.rehydrate(new Expando(), null, null);
+        checkInit();
+        if (null != compiledExpression) {
+            Optional<String> result = compiledExpression.evaluate(shardingValue.getColumnName(), shardingValue.getValue());
+            if (result.isPresent()) {
+                return result.get();
+            }
+        }
+        Closure<?> result = getClosure().rehydrate(new Expando(), null, null);
         result.setResolveStrategy(Closure.DELEGATE_ONLY);
         result.setProperty(shardingValue.getColumnName(), shardingValue.getValue());
         return result.call().toString();
@@ -61,6 +72,33 @@ public final class InlineShardingAlgorithm implements StandardShardingAlgorithm<
         return null != properties.get(ALLOW_RANGE_QUERY) && Boolean.parseBoolean(properties.get(ALLOW_RANGE_QUERY).toString());
     }
     
+    private void checkInit() {
+        if (!init) {
+            synchronized (this) {
+                if (!init) {
+                    Preconditions.checkNotNull(properties.get(ALGORITHM_EXPRESSION), "Inline sharding algorithm expression cannot be null.");
+                    compiledExpression = new InlineExpressionCompiler(getAlgorithmExpression()).compile().orElse(null);
+                    init = true;
+                }
+            }
+        }
+    }
+    
+    private Closure<?> getClosure() {
+        if (null == closure) {
+            synchronized (this) {
+                if (null == closure) {
+                    closure = new InlineExpressionParser(getAlgorithmExpression()).evaluateClosure();
+                }
+            }
+        }
+        return closure;
+    }
+    
+    private String getAlgorithmExpression() {
+        return InlineExpressionParser.handlePlaceHolder(properties.get(ALGORITHM_EXPRESSION).toString().trim());
+    }
+    
     @Override
     public String getType() {
         return "INLINE";
@@ -72,7 +110,10 @@ public final class InlineShardingAlgorithm implements StandardShardingAlgorithm<
     }
     
     @Override
-    public void setProperties(final Properties properties) {
+    public synchronized void setProperties(final Properties properties) {
         this.properties = properties;
+        compiledExpression = null;
+        closure = null;
+        init = false;
     }
 }
@@ -21,65 +21,44 @@ import com.google.common.collect.Range;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
+import org.apache.shardingsphere.sharding.strategy.algorithm.sharding.PartitionTargetNameIndex;
 
 import java.util.Collection;
-import java.util.LinkedHashSet;
-import java.util.Map;
 
 /**
  * Abstract range sharding algorithm.
+ * 
+ * <p>
+ * Partitions are split by sorted boundaries, partition 0 holds values less than the first boundary,
+ * and partition i holds values in [boundaries[i - 1], boundaries[i]), so partition of a value is found by binary search.
+ * </p>
  */
 public abstract class AbstractRangeShardingAlgorithm implements StandardShardingAlgorithm<Long> {
 
     private volatile boolean init;
 
-    /**
-     * getTargetNameByPreciseShardingValue.
-     *
-     * @param availableTargetNames available data sources or tables's names
-     * @param shardingValue        sharding value
-     * @param partitionRangeMap    the mapping of partition and range
-     * @return sharding result for data source or table's name
-     */
-    protected String getTargetNameByPreciseShardingValue(final Collection<String> availableTargetNames,
-                                                         final PreciseShardingValue<Long> shardingValue,
-                                                         final Map<Integer, Range<Long>> partitionRangeMap) {
-        return availableTargetNames.stream().filter(each -> each.endsWith(getPartition(partitionRangeMap, shardingValue.getValue()) + ""))
-                .findFirst().orElseThrow(UnsupportedOperationException::new);
+    private long[] partitionBoundaries;
+
+    @Override
+    public final String doSharding(final Collection<String> availableTargetNames, final PreciseShardingValue<Long> shardingValue) {
+        checkInit();
+        return PartitionTargetNameIndex.of(availableTargetNames).find(getPartition(shardingValue.getValue())).orElseThrow(UnsupportedOperationException::new);
     }
 
-    /**
-     * getTargetNameByRangeShardingValue.
-     *
-     * @param availableTargetNames available data sources or tables's names
-     * @param shardingValue        sharding value
-     * @param partitionRangeMap    the mapping of partition and range
-     * @return sharding results for data sources or tables's names
-     */
-    protected Collection<String> getTargetNameByRangeShardingValue(final Collection<String> availableTargetNames,
-                                                                   final RangeShardingValue<Long> shardingValue,
-                                                                   final Map<Integer, Range<Long>> partitionRangeMap) {
-        Collection<String> result = new LinkedHashSet<>(availableTargetNames.size());
-        int lowerEndpointPartition = getPartition(partitionRangeMap, shardingValue.getValueRange().lowerEndpoint());
-        int upperEndpointPartition = getPartition(partitionRangeMap, shardingValue.getValueRange().upperEndpoint());
-        for (int partition = lowerEndpointPartition; partition <= upperEndpointPartition; partition++) {
-            for (String each : availableTargetNames) {
-                if (each.endsWith(partition + "")) {
-                    result.add(each);
-                }
-            }
-        }
-        return result;
+    @Override
+    public final Collection<String> doSharding(final Collection<String> availableTargetNames, final RangeShardingValue<Long> shardingValue) {
+        checkInit();
+        Range<Long> valueRange = shardingValue.getValueRange();
+        int firstPartition = valueRange.hasLowerBound() ? getPartition(valueRange.lowerEndpoint()) : 0;
+        int lastPartition = valueRange.hasUpperBound() ? getPartition(valueRange.upperEndpoint()) : partitionBoundaries.length;
+        return PartitionTargetNameIndex.of(availableTargetNames).find(firstPartition, lastPartition);
     }
 
-    /**
-     * check properties whether init.
-     */
-    protected void checkInit() {
+    private void checkInit() {
         if (!init) {
             synchronized (this) {
                 if (!init) {
-                    initProperties();
+                    partitionBoundaries = calculatePartitionBoundaries();
                     init = true;
                 }
             }
@@ -87,16 +66,23 @@ public abstract class AbstractRangeShardingAlgorithm implements StandardSharding
     }
 
     /**
-     * init properties.
+     * Calculate partition boundaries.
+     *
+     * @return partition boundaries in ascending order
      */
-    protected abstract void initProperties();
+    protected abstract long[] calculatePartitionBoundaries();
 
-    private Integer getPartition(final Map<Integer, Range<Long>> partitionRangeMap, final Long value) {
-        for (Map.Entry<Integer, Range<Long>> entry : partitionRangeMap.entrySet()) {
-            if (entry.getValue().contains(value)) {
-                return entry.getKey();
+    private int getPartition(final long value) {
+        int low = 0;
+        int high = partitionBoundaries.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (partitionBoundaries[middle] <= value) {
+                low = middle + 1;
+            } else {
+                high = middle;
             }
         }
-        throw new UnsupportedOperationException();
+        return low;
     }
 }
@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.strategy.algorithm.sharding;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class PartitionTargetNameIndexTest {
+    
+    @Test
+    public void assertFindPartition() {
+        PartitionTargetNameIndex actual = PartitionTargetNameIndex.of(Arrays.asList("t_order_11", "t_order_1", "t_order", "t_order_2"));
+        Optional<String> targetName = actual.find(1);
+        assertTrue(targetName.isPresent());
+        assertThat(targetName.get(), is("t_order_1"));
+        assertThat(actual.find(11).orElse(null), is("t_order_11"));
+        assertFalse(actual.find(3).isPresent());
+    }
+    
+    @Test
+    public void assertFindPartitions() {
+        PartitionTargetNameIndex actual = PartitionTargetNameIndex.of(Arrays.asList("t_order_0", "t_order_1", "t_order_2", "t_order_10", "t_order_11"));
+        Collection<String> targetNames = actual.find(1, 10);
+        assertThat(targetNames.size(), is(3));
+        assertThat(targetNames.toArray(), is(new Object[]{"t_order_1", "t_order_2", "t_order_10"}));
+        assertTrue(actual.find(3, 2).isEmpty());
+    }
+    
+    @Test
+    public void assertIndexIsCachedForSameTargetNames() {
+        List<String> availableTargetNames = Arrays.asList("t_order_0", "t_order_1");
+        assertThat(PartitionTargetNameIndex.of(availableTargetNames), sameInstance(PartitionTargetNameIndex.of(availableTargetNames)));
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.strategy.algorithm.sharding.inline;
+
+import groovy.lang.Closure;
+import groovy.util.Expando;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class InlineExpressionCompilerTest {
+    
+    @Test
+    public void assertCompileForModulo() {
+        assertSameAsGroovy("t_order_${order_id % 16}", "order_id", 1L, 15, 16, 33L, -7, Long.MAX_VALUE, (short) 5, (byte) 9);
+    }
+    
+    @Test
+    public void assertCompileForPlaceHolder() {
+        assertSameAsGroovy("t_order_$->{order_id % 4}", "order_id", 1L, 2, 7);
+    }
+    
+    @Test
+    public void assertCompileForArithmetic() {
+        assertSameAsGroovy("ds_${(user_id + 1) * 3 - -2 % 5}", "user_id", 0, 10L, Integer.MAX_VALUE, -100);
+    }
+    
+    @Test
+    public void assertCompileForHashModulo() {
+        assertSameAsGroovy("t_user_${Math.abs(name.hashCode()) % 8}", "name", "foo", "bar", "", 12345L, 42);
+    }
+    
+    @Test
+    public void assertCompileForStringConcat() {
+        assertSameAsGroovy("t_${'order' + '_' + order_id % 2}", "order_id", 3, 4L);
+        assertSameAsGroovy("t_${order_id + '_x'}", "order_id", 3, "abc");
+    }
+    
+    @Test
+    public void assertCompileForPlainVariable() {
+        assertSameAsGroovy("t_order_${order_id}", "order_id", 1, 2L, "x");
+    }
+    
+    @Test
+    public void assertCompileForLiteralOnly() {
+        assertSameAsGroovy("t_order", "order_id", 1);
+        assertSameAsGroovy("t_order_${1 + 2}", "order_id", 1);
+    }
+    
+    @Test
+    public void assertEvaluateWithUnsupportedValue() {
+        Optional<CompiledInlineExpression> actual = new InlineExpressionCompiler("t_order_${order_id % 2}").compile();
+        assertTrue(actual.isPresent());
+        assertFalse(actual.get().evaluate("order_id", 1.5D).isPresent());
+        assertFalse(actual.get().evaluate("order_id", "a").isPresent());
+        assertFalse(actual.get().evaluate("user_id", 1).isPresent());
+    }
+    
+    @Test
+    public void assertCompileForUnsupportedExpression() {
+        for (String each : Arrays.asList("t_order_${order_id / 2}", "t_order_${order_id.intdiv(2)}", "t_order_${[0, 1][order_id]}", "t_order_${0..1}", "t_order_${order_id % 2L}",
+                "t_order_${order_id % 010}", "t_order_${order_id + user_id}", "t_order_${it}", "t_order_${\"x\"}", "t_order_${order_id % 2", "t_${order_id}_${'$x'}", "t\\_${order_id}")) {
+            assertFalse(each, new InlineExpressionCompiler(each).compile().isPresent());
+        }
+    }
+    
+    private void assertSameAsGroovy(final String expression, final String columnName, final Comparable<?>... values) {
+        Optional<CompiledInlineExpression> compiledExpression = new InlineExpressionCompiler(expression).compile();
+        assertTrue(expression, compiledExpression.isPresent());
+        Closure<?> closure = new InlineExpressionParser(InlineExpressionParser.handlePlaceHolder(expression)).evaluateClosure();
+        for (Comparable<?> each : values) {
+            Closure<?> groovyClosure = closure.rehydrate(new Expando(), null, null);
+            groovyClosure.setResolveStrategy(Closure.DELEGATE_ONLY);
+            groovyClosure.setProperty(columnName, each);
+            assertThat(expression + " with " + each, compiledExpression.get().evaluate(columnName, each).orElse(null), is(groovyClosure.call().toString()));
+        }
+    }
+}
@@ -69,4 +69,23 @@ public final class CustomRangeShardingAlgorithmTest {
         assertTrue(actual.contains("t_order_2"));
         assertTrue(actual.contains("t_order_3"));
     }
+
+    @Test
+    public void assertPreciseDoShardingWithSameSuffix() {
+        List<String> availableTargetNames = Lists.newArrayList("t_order_11", "t_order_0", "t_order_1", "t_order_2", "t_order_3");
+        List<RouteValue> shardingValues = Lists.newArrayList(new ListRouteValue<>("order_id", "t_order", Lists.newArrayList(2L)));
+        Collection<String> actual = shardingStrategy.doSharding(availableTargetNames, shardingValues, new ConfigurationProperties(new Properties()));
+        assertThat(actual.size(), is(1));
+        assertTrue(actual.contains("t_order_1"));
+    }
+
+    @Test
+    public void assertRangeDoShardingWithoutUpperBound() {
+        List<String> availableTargetNames = Lists.newArrayList("t_order_0", "t_order_1", "t_order_2", "t_order_3");
+        List<RouteValue> shardingValues = Lists.newArrayList(new RangeRouteValue<>("order_id", "t_order", Range.atLeast(7L)));
+        Collection<String> actual = shardingStrategy.doSharding(availableTargetNames, shardingValues, new ConfigurationProperties(new Properties()));
+        assertThat(actual.size(), is(2));
+        assertTrue(actual.contains("t_order_2"));
+        assertTrue(actual.contains("t_order_3"));
+    }
 }
@@ -0,0 +1,223 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.executor.sql.QueryResult;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.Calendar;
+
+/**
+ * Local temporary file which group by merge spills rows to.
+ * 
+ * <p>
+ * Rows are written with java serialization, so only rows whose values are all {@link Serializable} can be spilled.
+ * </p>
+ */
+public final class GroupBySpillFile {
+    
+    private static final int RESET_INTERVAL = 1024;
+    
+    private final File file;
+    
+    private ObjectOutputStream output;
+    
+    private boolean deleted;
+    
+    @Getter
+    private int rowCount;
+    
+    public GroupBySpillFile() throws SQLException {
+        try {
+            file = File.createTempFile("shardingsphere-group-by-", ".spill");
+            output = new ObjectOutputStream(new BufferedOutputStream(new FileOutputStream(file)));
+        } catch (final IOException ex) {
+            throw new SQLException(ex);
+        }
+    }
+    
+    /**
+     * Write current row of query result.
+     * 
+     * @param queryResult query result
+     * @throws SQLException SQL exception
+     */
+    public void write(final QueryResult queryResult) throws SQLException {
+        Object[] row = new Object[queryResult.getColumnCount()];
+        for (int i = 0; i < row.length; i++) {
+            row[i] = queryResult.getValue(i + 1, Object.class);
+        }
+        write(row);
+    }
+    
+    /**
+     * Write row.
+     * 
+     * @param row row
+     * @throws SQLException SQL exception
+     */
+    public void write(final Object[] row) throws SQLException {
+        for (Object each : row) {
+            if (null != each && !(each instanceof Serializable)) {
+                throw new SQLFeatureNotSupportedException(String.format("Can not spill value of type `%s` which is not serializable", each.getClass().getName()));
+            }
+        }
+        try {
+            output.writeObject(row);
+            if (0 == ++rowCount % RESET_INTERVAL) {
+                output.reset();
+            }
+        } catch (final IOException ex) {
+            throw new SQLException(ex);
+        }
+    }
+    
+    /**
+     * Finish writing and open written rows as query result.
+     * 
+     * <p>
+     * The file is removed once opened, and the query result closes itself after its last row.
+     * </p>
+     * 
+     * @param metaData query result to get column names and labels from
+     * @return query result of written rows
+     * @throws SQLException SQL exception
+     */
+    public QueryResult read(final QueryResult metaData) throws SQLException {
+        try {
+            output.close();
+            output = null;
+            ObjectInputStream input = new ObjectInputStream(new BufferedInputStream(new FileInputStream(file)));
+            delete();
+            return new SpilledQueryResult(metaData, input, rowCount);
+        } catch (final IOException ex) {
+            delete();
+            throw new SQLException(ex);
+        }
+    }
+    
+    /**
+     * Delete file, do nothing if it is deleted already.
+     */
+    public void delete() {
+        if (deleted) {
+            return;
+        }
+        deleted = true;
+        try {
+            if (null != output) {
+                output.close();
+                output = null;
+            }
+        } catch (final IOException ignored) {
+        }
+        if (!file.delete()) {
+            file.deleteOnExit();
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class SpilledQueryResult implements QueryResult {
+        
+        private final QueryResult metaData;
+        
+        private final ObjectInputStream input;
+        
+        private final int rowCount;
+        
+        private int readCount;
+        
+        private Object[] currentRow;
+        
+        private boolean wasNull;
+        
+        @Override
+        public boolean next() throws SQLException {
+            if (readCount == rowCount) {
+                close();
+                return false;
+            }
+            try {
+                currentRow = (Object[]) input.readObject();
+                readCount++;
+                return true;
+            } catch (final IOException | ClassNotFoundException ex) {
+                close();
+                throw new SQLException(ex);
+            }
+        }
+        
+        private void close() {
+            currentRow = null;
+            try {
+                input.close();
+            } catch (final IOException ignored) {
+            }
+        }
+        
+        @Override
+        public Object getValue(final int columnIndex, final Class<?> type) {
+            Object result = currentRow[columnIndex - 1];
+            wasNull = null == result;
+            return result;
+        }
+        
+        @Override
+        public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+            return getValue(columnIndex, type);
+        }
+        
+        @Override
+        public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+            throw new SQLFeatureNotSupportedException();
+        }
+        
+        @Override
+        public boolean wasNull() {
+            return wasNull;
+        }
+        
+        @Override
+        public int getColumnCount() throws SQLException {
+            return metaData.getColumnCount();
+        }
+        
+        @Override
+        public String getColumnName(final int columnIndex) throws SQLException {
+            return metaData.getColumnName(columnIndex);
+        }
+        
+        @Override
+        public String getColumnLabel(final int columnIndex) throws SQLException {
+            return metaData.getColumnLabel(columnIndex);
+        }
+    }
+}
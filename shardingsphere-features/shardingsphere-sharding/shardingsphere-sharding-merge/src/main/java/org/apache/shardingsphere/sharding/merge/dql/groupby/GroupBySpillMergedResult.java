@@ -0,0 +1,251 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import com.google.common.hash.Hashing;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.executor.sql.QueryResult;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.infra.merge.result.util.CalendarValueUtil;
+import org.apache.shardingsphere.sql.parser.binder.metadata.schema.SchemaMetaData;
+import org.apache.shardingsphere.sql.parser.binder.statement.dml.SelectStatementContext;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLXML;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Memory merged result for group by with bounded memory.
+ * 
+ * <p>
+ * At most max memory groups are aggregated in memory. Rows of other groups are hash partitioned into temporary files,
+ * every partition is aggregated the same way afterwards, and the sorted groups of each pass are spilled as runs which are merged on read.
+ * When all groups fit into memory, no file is written.
+ * Values of spilled rows must be {@link java.io.Serializable}, otherwise merging fails once spilling is needed.
+ * </p>
+ */
+public final class GroupBySpillMergedResult implements MergedResult {
+    
+    private static final int PARTITION_COUNT = 16;
+    
+    private static final int MAX_PARTITION_DEPTH = 4;
+    
+    private final SelectStatementContext selectStatementContext;
+    
+    private final int maxMemoryGroups;
+    
+    private final QueryResult metaData;
+    
+    private final List<Boolean> valueCaseSensitive;
+    
+    private final Iterator<MemoryQueryResultRow> memoryRows;
+    
+    private final PriorityQueue<RunCursor> runCursors;
+    
+    private final Collection<GroupBySpillFile> spillFiles = new LinkedList<>();
+    
+    private MemoryQueryResultRow currentRow;
+    
+    private boolean wasNull;
+    
+    public GroupBySpillMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
+                                    final SchemaMetaData schemaMetaData, final int maxMemoryGroups) throws SQLException {
+        this.selectStatementContext = selectStatementContext;
+        this.maxMemoryGroups = maxMemoryGroups;
+        metaData = queryResults.isEmpty() ? null : queryResults.get(0);
+        GroupByAggregator aggregator = new GroupByAggregator(selectStatementContext);
+        valueCaseSensitive = null == metaData ? Collections.emptyList() : aggregator.getValueCaseSensitive(metaData, schemaMetaData);
+        try {
+            GroupBySpillFile[] partitions = aggregate(queryResults, aggregator, 0);
+            if (null == partitions) {
+                memoryRows = aggregator.getSortedRows(valueCaseSensitive).iterator();
+                runCursors = null;
+                return;
+            }
+            memoryRows = null;
+            List<GroupBySpillFile> runs = new LinkedList<>();
+            runs.add(createRun(aggregator));
+            aggregatePartitions(partitions, 1, runs);
+            runCursors = createRunCursors(runs);
+        } finally {
+            spillFiles.forEach(GroupBySpillFile::delete);
+            spillFiles.clear();
+        }
+    }
+    
+    private GroupBySpillFile[] aggregate(final Collection<QueryResult> queryResults, final GroupByAggregator aggregator, final int depth) throws SQLException {
+        GroupBySpillFile[] result = null;
+        for (QueryResult each : queryResults) {
+            while (each.next()) {
+                GroupByValue groupByValue = new GroupByValue(each, selectStatementContext.getGroupByContext().getItems());
+                if (aggregator.contains(groupByValue) || aggregator.size() < maxMemoryGroups || depth >= MAX_PARTITION_DEPTH) {
+                    aggregator.aggregate(each, groupByValue);
+                    continue;
+                }
+                if (null == result) {
+                    result = createPartitions();
+                }
+                result[getPartitionIndex(groupByValue, depth)].write(each);
+            }
+        }
+        return result;
+    }
+    
+    private GroupBySpillFile[] createPartitions() throws SQLException {
+        GroupBySpillFile[] result = new GroupBySpillFile[PARTITION_COUNT];
+        for (int i = 0; i < PARTITION_COUNT; i++) {
+            result[i] = createSpillFile();
+        }
+        return result;
+    }
+    
+    private int getPartitionIndex(final GroupByValue groupByValue, final int depth) {
+        return Math.floorMod(Hashing.murmur3_32(depth).hashInt(groupByValue.hashCode()).asInt(), PARTITION_COUNT);
+    }
+    
+    private void aggregatePartitions(final GroupBySpillFile[] partitions, final int depth, final List<GroupBySpillFile> runs) throws SQLException {
+        for (GroupBySpillFile each : partitions) {
+            if (0 == each.getRowCount()) {
+                each.delete();
+                continue;
+            }
+            GroupByAggregator aggregator = new GroupByAggregator(selectStatementContext);
+            GroupBySpillFile[] subPartitions = aggregate(Collections.singletonList(each.read(metaData)), aggregator, depth);
+            runs.add(createRun(aggregator));
+            if (null != subPartitions) {
+                aggregatePartitions(subPartitions, depth + 1, runs);
+            }
+        }
+    }
+    
+    private GroupBySpillFile createSpillFile() throws SQLException {
+        GroupBySpillFile result = new GroupBySpillFile();
+        spillFiles.add(result);
+        return result;
+    }
+    
+    private GroupBySpillFile createRun(final GroupByAggregator aggregator) throws SQLException {
+        GroupBySpillFile result = createSpillFile();
+        int columnCount = metaData.getColumnCount();
+        for (MemoryQueryResultRow each : aggregator.getSortedRows(valueCaseSensitive)) {
+            Object[] row = new Object[columnCount];
+            for (int i = 0; i < columnCount; i++) {
+                row[i] = each.getCell(i + 1);
+            }
+            result.write(row);
+        }
+        return result;
+    }
+    
+    private PriorityQueue<RunCursor> createRunCursors(final List<GroupBySpillFile> runs) throws SQLException {
+        Comparator<MemoryQueryResultRow> rowComparator = new GroupByRowComparator(selectStatementContext, valueCaseSensitive);
+        Comparator<RunCursor> cursorComparator = (o1, o2) -> {
+            int result = rowComparator.compare(o1.getCurrentRow(), o2.getCurrentRow());
+            return 0 == result ? Integer.compare(o1.getRunIndex(), o2.getRunIndex()) : result;
+        };
+        PriorityQueue<RunCursor> result = new PriorityQueue<>(runs.size(), cursorComparator);
+        int runIndex = 0;
+        for (GroupBySpillFile each : runs) {
+            RunCursor runCursor = new RunCursor(runIndex++, each.read(metaData));
+            if (runCursor.next()) {
+                result.offer(runCursor);
+            }
+        }
+        return result;
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        if (null != memoryRows) {
+            if (memoryRows.hasNext()) {
+                currentRow = memoryRows.next();
+                return true;
+            }
+            return false;
+        }
+        RunCursor runCursor = runCursors.poll();
+        if (null == runCursor) {
+            return false;
+        }
+        currentRow = runCursor.getCurrentRow();
+        if (runCursor.next()) {
+            runCursors.offer(runCursor);
+        }
+        return true;
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        if (Blob.class == type || Clob.class == type || Reader.class == type || InputStream.class == type || SQLXML.class == type) {
+            throw new SQLFeatureNotSupportedException();
+        }
+        Object result = currentRow.getCell(columnIndex);
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+        Object result = currentRow.getCell(columnIndex);
+        wasNull = null == result;
+        return CalendarValueUtil.convert(result, calendar);
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        throw new SQLFeatureNotSupportedException();
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return wasNull;
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class RunCursor {
+        
+        private final int runIndex;
+        
+        private final QueryResult queryResult;
+        
+        private MemoryQueryResultRow currentRow;
+        
+        boolean next() throws SQLException {
+            if (queryResult.next()) {
+                currentRow = new MemoryQueryResultRow(queryResult);
+                return true;
+            }
+            return false;
+        }
+    }
+}
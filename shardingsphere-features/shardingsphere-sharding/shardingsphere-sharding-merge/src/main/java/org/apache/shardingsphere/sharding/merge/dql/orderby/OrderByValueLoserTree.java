@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Loser tree of order by values.
+ * 
+ * <p>
+ * Every inner node keeps the loser of its match and the root keeps the winner, 
+ * so only the matches on the path from the winner's leaf to the root are replayed after the winner moves to its next row.
+ * Exhausted order by values always lose, ties are won by the order by value added earlier, so equal rows keep the order of query results.
+ * </p>
+ */
+public final class OrderByValueLoserTree {
+    
+    private static final int VIRTUAL_WINNER = -1;
+    
+    private final OrderByValue[] orderByValues;
+    
+    private final int[] nodes;
+    
+    private int size;
+    
+    public OrderByValueLoserTree(final List<OrderByValue> orderByValues) {
+        this.orderByValues = orderByValues.toArray(new OrderByValue[0]);
+        nodes = new int[Math.max(this.orderByValues.length, 1)];
+        size = this.orderByValues.length;
+        build();
+    }
+    
+    private void build() {
+        if (0 == size) {
+            return;
+        }
+        for (int i = 0; i < nodes.length; i++) {
+            nodes[i] = VIRTUAL_WINNER;
+        }
+        for (int i = orderByValues.length - 1; i >= 0; i--) {
+            replay(i);
+        }
+    }
+    
+    /**
+     * Judge whether all order by values are exhausted.
+     * 
+     * @return all order by values are exhausted or not
+     */
+    public boolean isEmpty() {
+        return 0 == size;
+    }
+    
+    /**
+     * Get winner.
+     * 
+     * @return order by value with minimum order values, null if all order by values are exhausted
+     */
+    public OrderByValue peek() {
+        return isEmpty() ? null : orderByValues[nodes[0]];
+    }
+    
+    /**
+     * Move winner to its next row and replay matches.
+     * 
+     * @return has next winner or not
+     * @throws SQLException SQL exception
+     */
+    public boolean next() throws SQLException {
+        if (isEmpty()) {
+            return false;
+        }
+        int winner = nodes[0];
+        if (!orderByValues[winner].next()) {
+            orderByValues[winner] = null;
+            size--;
+        }
+        replay(winner);
+        return !isEmpty();
+    }
+    
+    private void replay(final int leaf) {
+        int winner = leaf;
+        for (int parent = (leaf + orderByValues.length) >> 1; parent > 0; parent >>= 1) {
+            if (isWinner(nodes[parent], winner)) {
+                int loser = winner;
+                winner = nodes[parent];
+                nodes[parent] = loser;
+            }
+        }
+        nodes[0] = winner;
+    }
+    
+    private boolean isWinner(final int challenger, final int defender) {
+        if (VIRTUAL_WINNER == challenger) {
+            return true;
+        }
+        if (VIRTUAL_WINNER == defender) {
+            return false;
+        }
+        OrderByValue challengerValue = orderByValues[challenger];
+        OrderByValue defenderValue = orderByValues[defender];
+        if (null == challengerValue) {
+            return false;
+        }
+        if (null == defenderValue) {
+            return true;
+        }
+        int result = challengerValue.compareTo(defenderValue);
+        return result < 0 || 0 == result && challenger < defender;
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.apache.shardingsphere.infra.database.type.DatabaseTypes;
+import org.apache.shardingsphere.infra.executor.sql.QueryResult;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.sharding.merge.dql.ShardingDQLResultMerger;
+import org.apache.shardingsphere.sql.parser.binder.segment.select.groupby.GroupByContext;
+import org.apache.shardingsphere.sql.parser.binder.segment.select.orderby.OrderByContext;
+import org.apache.shardingsphere.sql.parser.binder.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.sql.parser.binder.segment.select.pagination.PaginationContext;
+import org.apache.shardingsphere.sql.parser.binder.segment.select.projection.ProjectionsContext;
+import org.apache.shardingsphere.sql.parser.binder.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.sql.parser.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.sql.parser.sql.constant.AggregationType;
+import org.apache.shardingsphere.sql.parser.sql.constant.OrderDirection;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.item.ProjectionsSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.order.item.IndexOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.SelectStatement;
+import org.junit.Test;
+
+import java.io.File;
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.TimeZone;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class GroupBySpillMergedResultTest {
+    
+    @Test
+    public void assertNextForResultSetsAllEmpty() throws SQLException {
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypes.getActualDatabaseType("MySQL"), 4);
+        MergedResult actual = resultMerger.merge(Arrays.asList(createQueryResult(0), createQueryResult(0), createQueryResult(0)), createSelectStatementContext(), null);
+        assertThat(actual, instanceOf(GroupBySpillMergedResult.class));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertNextWithinMemoryBudget() throws SQLException {
+        assertNext(3, 100);
+    }
+    
+    @Test
+    public void assertNextWithSpilledGroups() throws SQLException {
+        assertNext(50, 4);
+    }
+    
+    @Test
+    public void assertNextWithRecursivelySpilledGroups() throws SQLException {
+        assertNext(300, 2);
+    }
+    
+    @Test
+    public void assertGetCalendarValue() throws SQLException {
+        QueryResult queryResult1 = createQueryResult(2);
+        when(queryResult1.getValue(3, Object.class)).thenReturn(Timestamp.valueOf("2020-01-01 00:00:00"));
+        QueryResult queryResult2 = createQueryResult(2);
+        when(queryResult2.getValue(3, Object.class)).thenReturn(Timestamp.valueOf("2020-01-01 00:00:00"));
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypes.getActualDatabaseType("MySQL"), 4);
+        MergedResult actual = resultMerger.merge(Arrays.asList(queryResult1, queryResult2), createSelectStatementContext(), null);
+        assertThat(actual, instanceOf(GroupBySpillMergedResult.class));
+        assertTrue(actual.next());
+        Calendar calendar = Calendar.getInstance(TimeZone.getTimeZone("GMT+08:00"));
+        assertThat(actual.getCalendarValue(3, Timestamp.class, calendar), is(new Timestamp(1577808000000L)));
+        assertThat(actual.getCalendarValue(3, Timestamp.class, null), is(Timestamp.valueOf("2020-01-01 00:00:00")));
+    }
+    
+    @Test
+    public void assertSpillNotSerializableValue() throws SQLException {
+        QueryResult queryResult1 = createQueryResult(3);
+        when(queryResult1.getValue(3, Object.class)).thenAnswer(invocation -> new Object());
+        QueryResult queryResult2 = createQueryResult(3);
+        when(queryResult2.getValue(3, Object.class)).thenAnswer(invocation -> new Object());
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypes.getActualDatabaseType("MySQL"), 1);
+        int spillFileCount = countSpillFiles();
+        try {
+            resultMerger.merge(Arrays.asList(queryResult1, queryResult2), createSelectStatementContext(), null);
+            fail("Expected SQLFeatureNotSupportedException.");
+        } catch (final SQLFeatureNotSupportedException ignored) {
+        }
+        assertThat(countSpillFiles(), is(spillFileCount));
+    }
+    
+    private int countSpillFiles() {
+        String[] result = new File(System.getProperty("java.io.tmpdir")).list((dir, name) -> name.startsWith("shardingsphere-group-by-"));
+        return null == result ? 0 : result.length;
+    }
+    
+    private void assertNext(final int groupCount, final int maxMemoryGroups) throws SQLException {
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypes.getActualDatabaseType("MySQL"), maxMemoryGroups);
+        MergedResult actual = resultMerger.merge(Arrays.asList(createQueryResult(groupCount), createQueryResult(groupCount), createQueryResult(groupCount)), createSelectStatementContext(), null);
+        for (int id = groupCount; id > 0; id--) {
+            assertTrue(actual.next());
+            assertThat(actual.getValue(1, Object.class), is(new BigDecimal(3)));
+            assertThat(actual.getValue(2, Object.class), is(new BigDecimal(id * 3)));
+            assertThat(actual.getValue(3, Object.class), is(id));
+        }
+        assertFalse(actual.next());
+    }
+    
+    private SelectStatementContext createSelectStatementContext() {
+        AggregationProjection aggregationProjection1 = new AggregationProjection(AggregationType.COUNT, "(*)", null);
+        aggregationProjection1.setIndex(1);
+        AggregationProjection aggregationProjection2 = new AggregationProjection(AggregationType.SUM, "(num)", null);
+        aggregationProjection2.setIndex(2);
+        ProjectionsContext projectionsContext = new ProjectionsContext(0, 0, false, Arrays.asList(aggregationProjection1, aggregationProjection2));
+        SelectStatement selectStatement = new SelectStatement();
+        selectStatement.setProjections(new ProjectionsSegment(0, 0));
+        return new SelectStatementContext(selectStatement,
+                new GroupByContext(Collections.singletonList(createOrderByItem(new IndexOrderByItemSegment(0, 0, 3, OrderDirection.ASC, OrderDirection.ASC))), 0),
+                new OrderByContext(Collections.singletonList(createOrderByItem(new IndexOrderByItemSegment(0, 0, 2, OrderDirection.DESC, OrderDirection.ASC))), false),
+                projectionsContext, new PaginationContext(null, null, Collections.emptyList()));
+    }
+    
+    private OrderByItem createOrderByItem(final IndexOrderByItemSegment indexOrderByItemSegment) {
+        OrderByItem result = new OrderByItem(indexOrderByItemSegment);
+        result.setIndex(indexOrderByItemSegment.getColumnIndex());
+        return result;
+    }
+    
+    private QueryResult createQueryResult(final int rowCount) throws SQLException {
+        QueryResult result = mock(QueryResult.class);
+        AtomicInteger id = new AtomicInteger();
+        when(result.next()).thenAnswer(invocation -> id.incrementAndGet() <= rowCount);
+        when(result.getValue(1, Object.class)).thenReturn(1);
+        when(result.getValue(2, Object.class)).thenAnswer(invocation -> id.get());
+        when(result.getValue(3, Object.class)).thenAnswer(invocation -> id.get());
+        when(result.getColumnCount()).thenReturn(3);
+        when(result.getColumnLabel(1)).thenReturn("COUNT(*)");
+        when(result.getColumnLabel(2)).thenReturn("SUM(num)");
+        when(result.getColumnLabel(3)).thenReturn("id");
+        return result;
+    }
+}
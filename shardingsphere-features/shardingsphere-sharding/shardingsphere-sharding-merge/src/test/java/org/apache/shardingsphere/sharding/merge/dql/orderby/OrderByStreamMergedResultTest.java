@@ -136,6 +136,30 @@ public final class OrderByStreamMergedResultTest {
         assertFalse(actual.next());
     }
     
+    @Test
+    public void assertNextForManyResultSets() throws SQLException {
+        List<QueryResult> queryResults = Arrays.asList(mock(QueryResult.class), mock(QueryResult.class), mock(QueryResult.class), mock(QueryResult.class), mock(QueryResult.class));
+        for (QueryResult each : queryResults) {
+            when(each.getColumnName(1)).thenReturn("col1");
+            when(each.getColumnName(2)).thenReturn("col2");
+        }
+        when(queryResults.get(0).next()).thenReturn(true, true, false);
+        when(queryResults.get(0).getValue(1, Object.class)).thenReturn(3, 3, 8, 8);
+        when(queryResults.get(1).next()).thenReturn(true, false);
+        when(queryResults.get(1).getValue(1, Object.class)).thenReturn(1, 1);
+        when(queryResults.get(3).next()).thenReturn(true, true, true, false);
+        when(queryResults.get(3).getValue(1, Object.class)).thenReturn(2, 2, 5, 5, 9, 9);
+        when(queryResults.get(4).next()).thenReturn(true, true, false);
+        when(queryResults.get(4).getValue(1, Object.class)).thenReturn(4, 4, 6, 6);
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypes.getActualDatabaseType("MySQL"));
+        MergedResult actual = resultMerger.merge(queryResults, selectStatementContext, createSchemaMetaData());
+        for (int each : new int[]{1, 2, 3, 4, 5, 6, 8, 9}) {
+            assertTrue(actual.next());
+            assertThat(actual.getValue(1, Object.class), is((Object) each));
+        }
+        assertFalse(actual.next());
+    }
+    
     @Test
     public void assertNextForCaseSensitive() throws SQLException {
         List<QueryResult> queryResults = Arrays.asList(mock(QueryResult.class), mock(QueryResult.class), mock(QueryResult.class));
@@ -182,9 +206,9 @@ public final class OrderByStreamMergedResultTest {
         assertTrue(actual.next());
         assertThat(actual.getValue(2, Object.class).toString(), is("A"));
         assertTrue(actual.next());
-        assertThat(actual.getValue(2, Object.class).toString(), is("B"));
-        assertTrue(actual.next());
         assertThat(actual.getValue(2, Object.class).toString(), is("b"));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(2, Object.class).toString(), is("B"));
         assertFalse(actual.next());
     }
     
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.rewrite.condition;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sharding in values condition.
+ * 
+ * <p>
+ * Values of IN predicate on sharding column, and indexes of values which do not route to each route unit.
+ * </p>
+ */
+@RequiredArgsConstructor
+@Getter
+public final class ShardingInValuesCondition {
+    
+    private final int startIndex;
+    
+    private final int stopIndex;
+    
+    private final List<ExpressionSegment> values;
+    
+    private final Map<RouteUnit, Collection<Integer>> prunedValueIndexes;
+    
+    /**
+     * Get parameter marker indexes of values which do not route to route unit.
+     * 
+     * @param routeUnit route unit
+     * @return pruned parameter marker indexes
+     */
+    public Collection<Integer> getPrunedParameterMarkerIndexes(final RouteUnit routeUnit) {
+        Collection<Integer> prunedValueIndexes = this.prunedValueIndexes.getOrDefault(routeUnit, Collections.emptyList());
+        Collection<Integer> result = new LinkedList<>();
+        for (int each : prunedValueIndexes) {
+            if (values.get(each) instanceof ParameterMarkerExpressionSegment) {
+                result.add(((ParameterMarkerExpressionSegment) values.get(each)).getParameterMarkerIndex());
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.rewrite.condition;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.sharding.route.engine.condition.generator.ConditionValue;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sharding.rule.TableRule;
+import org.apache.shardingsphere.sharding.strategy.route.ShardingStrategy;
+import org.apache.shardingsphere.sharding.strategy.route.value.ListRouteValue;
+import org.apache.shardingsphere.sharding.strategy.route.value.RouteValue;
+import org.apache.shardingsphere.sql.parser.binder.metadata.schema.SchemaMetaData;
+import org.apache.shardingsphere.sql.parser.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.sql.parser.binder.type.WhereAvailable;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.AndPredicate;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.PredicateSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.WhereSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.value.PredicateInRightValue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+
+/**
+ * Sharding in values condition engine.
+ * 
+ * <p>
+ * A row which sharding column value does not route to a data node can not be stored in it,
+ * so values of IN predicate on sharding column can be pruned for each route unit without changing the result.
+ * Only IN predicates of parameter markers or number literals on single column sharding strategy are pruned.
+ * </p>
+ */
+@RequiredArgsConstructor
+public final class ShardingInValuesConditionEngine {
+    
+    private final ShardingRule shardingRule;
+    
+    private final SchemaMetaData schemaMetaData;
+    
+    private final ConfigurationProperties properties;
+    
+    /**
+     * Judge whether SQL statement contains IN predicate of parameter markers or number literals.
+     * 
+     * @param sqlStatementContext SQL statement context
+     * @return contains IN predicate of parameter markers or number literals or not
+     */
+    public boolean containsInPredicate(final SQLStatementContext sqlStatementContext) {
+        return !getInPredicates(sqlStatementContext).isEmpty();
+    }
+    
+    /**
+     * Create sharding in values conditions.
+     * 
+     * @param sqlStatementContext SQL statement context
+     * @param parameters SQL parameters
+     * @param routeContext route context
+     * @return sharding in values conditions
+     */
+    public Collection<ShardingInValuesCondition> createConditions(final SQLStatementContext sqlStatementContext, final List<Object> parameters, final RouteContext routeContext) {
+        if (routeContext.getRouteResult().getRouteUnits().size() < 2) {
+            return Collections.emptyList();
+        }
+        Collection<ShardingInValuesCondition> result = new LinkedList<>();
+        for (PredicateSegment each : getInPredicates(sqlStatementContext)) {
+            Optional<TableRule> tableRule = findTableRule(sqlStatementContext, each);
+            if (tableRule.isPresent()) {
+                createCondition(each, tableRule.get(), parameters, routeContext.getRouteResult().getRouteUnits()).ifPresent(result::add);
+            }
+        }
+        return result;
+    }
+    
+    private Collection<PredicateSegment> getInPredicates(final SQLStatementContext sqlStatementContext) {
+        if (!(sqlStatementContext instanceof WhereAvailable)) {
+            return Collections.emptyList();
+        }
+        Optional<WhereSegment> whereSegment = ((WhereAvailable) sqlStatementContext).getWhere();
+        if (!whereSegment.isPresent()) {
+            return Collections.emptyList();
+        }
+        Collection<PredicateSegment> result = new LinkedList<>();
+        for (AndPredicate each : whereSegment.get().getAndPredicates()) {
+            for (PredicateSegment predicate : each.getPredicates()) {
+                if (predicate.getRightValue() instanceof PredicateInRightValue && isPrunableValues(((PredicateInRightValue) predicate.getRightValue()).getSqlExpressions())) {
+                    result.add(predicate);
+                }
+            }
+        }
+        return result;
+    }
+    
+    private boolean isPrunableValues(final Collection<ExpressionSegment> values) {
+        if (values.size() < 2) {
+            return false;
+        }
+        for (ExpressionSegment each : values) {
+            if (!(each instanceof ParameterMarkerExpressionSegment) && !(each instanceof LiteralExpressionSegment && ((LiteralExpressionSegment) each).getLiterals() instanceof Number)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private Optional<TableRule> findTableRule(final SQLStatementContext sqlStatementContext, final PredicateSegment predicateSegment) {
+        Optional<String> tableName = sqlStatementContext.getTablesContext().findTableName(predicateSegment.getColumn(), schemaMetaData);
+        if (!tableName.isPresent()) {
+            return Optional.empty();
+        }
+        Optional<TableRule> result = shardingRule.findTableRule(tableName.get());
+        String columnName = predicateSegment.getColumn().getIdentifier().getValue();
+        return result.filter(each -> isPrunableStrategy(shardingRule.getDatabaseShardingStrategy(each), columnName) || isPrunableStrategy(shardingRule.getTableShardingStrategy(each), columnName));
+    }
+    
+    private boolean isPrunableStrategy(final ShardingStrategy shardingStrategy, final String columnName) {
+        Collection<String> shardingColumns = shardingStrategy.getShardingColumns();
+        return 1 == shardingColumns.size() && shardingColumns.iterator().next().equalsIgnoreCase(columnName);
+    }
+    
+    private Optional<ShardingInValuesCondition> createCondition(final PredicateSegment predicateSegment, final TableRule tableRule, 
+                                                                final List<Object> parameters, final Collection<RouteUnit> routeUnits) {
+        PredicateInRightValue rightValue = (PredicateInRightValue) predicateSegment.getRightValue();
+        String columnName = predicateSegment.getColumn().getIdentifier().getValue();
+        List<ExpressionSegment> values = new ArrayList<>(rightValue.getSqlExpressions());
+        Collection<String> dataSourceNames = getDataSourceNames(routeUnits);
+        Collection<String> actualTableNames = getActualTableNames(routeUnits, tableRule.getLogicTable());
+        Map<RouteUnit, Collection<Integer>> prunedValueIndexes = new HashMap<>(routeUnits.size(), 1);
+        for (int i = 0; i < values.size(); i++) {
+            Optional<Comparable> value = new ConditionValue(values.get(i), parameters).getValue();
+            if (!value.isPresent()) {
+                continue;
+            }
+            Collection<RouteValue> routeValues = Collections.singletonList(new ListRouteValue<>(columnName, tableRule.getLogicTable(), Collections.singletonList(value.get())));
+            Collection<String> targetDataSourceNames = doSharding(shardingRule.getDatabaseShardingStrategy(tableRule), columnName, dataSourceNames, routeValues);
+            Collection<String> targetTableNames = doSharding(shardingRule.getTableShardingStrategy(tableRule), columnName, actualTableNames, routeValues);
+            for (RouteUnit each : routeUnits) {
+                if (!isRouted(each, tableRule.getLogicTable(), targetDataSourceNames, targetTableNames)) {
+                    prunedValueIndexes.computeIfAbsent(each, key -> new HashSet<>()).add(i);
+                }
+            }
+        }
+        return prunedValueIndexes.isEmpty() ? Optional.empty()
+                : Optional.of(new ShardingInValuesCondition(rightValue.getPredicateBracketValue().getPredicateLeftBracketValue().getStartIndex(),
+                rightValue.getPredicateBracketValue().getPredicateRightBracketValue().getStopIndex(), values, prunedValueIndexes));
+    }
+    
+    private Collection<String> getDataSourceNames(final Collection<RouteUnit> routeUnits) {
+        Collection<String> result = new LinkedHashSet<>();
+        for (RouteUnit each : routeUnits) {
+            result.add(each.getDataSourceMapper().getLogicName());
+        }
+        return result;
+    }
+    
+    private Collection<String> getActualTableNames(final Collection<RouteUnit> routeUnits, final String logicTableName) {
+        Collection<String> result = new LinkedHashSet<>();
+        for (RouteUnit each : routeUnits) {
+            result.addAll(each.getActualTableNames(logicTableName));
+        }
+        return result;
+    }
+    
+    private Collection<String> doSharding(final ShardingStrategy shardingStrategy, final String columnName, final Collection<String> availableTargetNames, final Collection<RouteValue> routeValues) {
+        if (!isPrunableStrategy(shardingStrategy, columnName)) {
+            return availableTargetNames;
+        }
+        Collection<String> result = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        result.addAll(shardingStrategy.doSharding(availableTargetNames, routeValues, properties));
+        return result;
+    }
+    
+    private boolean isRouted(final RouteUnit routeUnit, final String logicTableName, final Collection<String> targetDataSourceNames, final Collection<String> targetTableNames) {
+        if (!targetDataSourceNames.contains(routeUnit.getDataSourceMapper().getLogicName())) {
+            return false;
+        }
+        Collection<String> actualTableNames = routeUnit.getActualTableNames(logicTableName);
+        return actualTableNames.isEmpty() || actualTableNames.stream().anyMatch(targetTableNames::contains);
+    }
+}
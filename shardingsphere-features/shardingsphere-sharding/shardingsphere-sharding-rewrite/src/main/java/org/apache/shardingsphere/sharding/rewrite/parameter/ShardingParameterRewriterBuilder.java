@@ -22,11 +22,14 @@ import org.apache.shardingsphere.sharding.rule.ShardingRule;
 import org.apache.shardingsphere.sharding.rule.aware.ShardingRuleAware;
 import org.apache.shardingsphere.infra.rewrite.sql.token.generator.aware.RouteContextAware;
 import org.apache.shardingsphere.sharding.rewrite.parameter.impl.ShardingGeneratedKeyInsertValueParameterRewriter;
+import org.apache.shardingsphere.sharding.rewrite.parameter.impl.ShardingInValuesParameterRewriter;
 import org.apache.shardingsphere.sharding.rewrite.parameter.impl.ShardingPaginationParameterRewriter;
 import org.apache.shardingsphere.sql.parser.binder.metadata.schema.SchemaMetaData;
 import org.apache.shardingsphere.infra.rewrite.parameter.rewriter.ParameterRewriter;
 import org.apache.shardingsphere.infra.rewrite.parameter.rewriter.ParameterRewriterBuilder;
 import org.apache.shardingsphere.infra.rewrite.sql.token.generator.aware.SchemaMetaDataAware;
+import org.apache.shardingsphere.infra.rewrite.sql.token.generator.aware.ConfigurationPropertiesAware;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 
 import java.util.Collection;
@@ -42,6 +45,8 @@ public final class ShardingParameterRewriterBuilder implements ParameterRewriter
     
     private final RouteContext routeContext;
     
+    private final ConfigurationProperties properties;
+    
     @Override
     public Collection<ParameterRewriter> getParameterRewriters(final SchemaMetaData schemaMetaData) {
         Collection<ParameterRewriter> result = getParameterRewriters();
@@ -55,6 +60,7 @@ public final class ShardingParameterRewriterBuilder implements ParameterRewriter
         Collection<ParameterRewriter> result = new LinkedList<>();
         result.add(new ShardingGeneratedKeyInsertValueParameterRewriter());
         result.add(new ShardingPaginationParameterRewriter());
+        result.add(new ShardingInValuesParameterRewriter());
         return result;
     }
     
@@ -68,5 +74,8 @@ public final class ShardingParameterRewriterBuilder implements ParameterRewriter
         if (parameterRewriter instanceof RouteContextAware) {
             ((RouteContextAware) parameterRewriter).setRouteContext(routeContext);
         }
+        if (parameterRewriter instanceof ConfigurationPropertiesAware) {
+            ((ConfigurationPropertiesAware) parameterRewriter).setProperties(properties);
+        }
     }
 }
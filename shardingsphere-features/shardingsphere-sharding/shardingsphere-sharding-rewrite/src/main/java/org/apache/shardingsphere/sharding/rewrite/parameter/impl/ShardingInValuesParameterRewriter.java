@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.rewrite.parameter.impl;
+
+import lombok.Setter;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.rewrite.parameter.builder.ParameterBuilder;
+import org.apache.shardingsphere.infra.rewrite.parameter.builder.impl.StandardParameterBuilder;
+import org.apache.shardingsphere.infra.rewrite.parameter.rewriter.ParameterRewriter;
+import org.apache.shardingsphere.infra.rewrite.sql.token.generator.aware.ConfigurationPropertiesAware;
+import org.apache.shardingsphere.infra.rewrite.sql.token.generator.aware.RouteContextAware;
+import org.apache.shardingsphere.infra.rewrite.sql.token.generator.aware.SchemaMetaDataAware;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.sharding.rewrite.condition.ShardingInValuesCondition;
+import org.apache.shardingsphere.sharding.rewrite.condition.ShardingInValuesConditionEngine;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sharding.rule.aware.ShardingRuleAware;
+import org.apache.shardingsphere.sql.parser.binder.metadata.schema.SchemaMetaData;
+import org.apache.shardingsphere.sql.parser.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.sql.parser.binder.type.WhereAvailable;
+
+import java.util.List;
+
+/**
+ * Sharding in values parameter rewriter.
+ */
+@Setter
+public final class ShardingInValuesParameterRewriter implements ParameterRewriter<SQLStatementContext>, ShardingRuleAware, SchemaMetaDataAware, RouteContextAware, ConfigurationPropertiesAware {
+    
+    private ShardingRule shardingRule;
+    
+    private SchemaMetaData schemaMetaData;
+    
+    private RouteContext routeContext;
+    
+    private ConfigurationProperties properties;
+    
+    @Override
+    public boolean isNeedRewrite(final SQLStatementContext sqlStatementContext) {
+        return sqlStatementContext instanceof WhereAvailable && !routeContext.getRouteResult().isSingleRouting();
+    }
+    
+    @Override
+    public void rewrite(final ParameterBuilder parameterBuilder, final SQLStatementContext sqlStatementContext, final List<Object> parameters) {
+        for (ShardingInValuesCondition each : new ShardingInValuesConditionEngine(shardingRule, schemaMetaData, properties).createConditions(sqlStatementContext, parameters, routeContext)) {
+            for (RouteUnit routeUnit : each.getPrunedValueIndexes().keySet()) {
+                for (int parameterIndex : each.getPrunedParameterMarkerIndexes(routeUnit)) {
+                    ((StandardParameterBuilder) parameterBuilder).addRemovedParameters(routeUnit, parameterIndex);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.rewrite.token.generator.impl;
+
+import lombok.Setter;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.rewrite.sql.token.generator.CollectionSQLTokenGenerator;
+import org.apache.shardingsphere.infra.rewrite.sql.token.generator.aware.ConfigurationPropertiesAware;
+import org.apache.shardingsphere.infra.rewrite.sql.token.generator.aware.ParametersAware;
+import org.apache.shardingsphere.infra.rewrite.sql.token.generator.aware.RouteContextAware;
+import org.apache.shardingsphere.infra.rewrite.sql.token.generator.aware.SchemaMetaDataAware;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.sharding.rewrite.condition.ShardingInValuesCondition;
+import org.apache.shardingsphere.sharding.rewrite.condition.ShardingInValuesConditionEngine;
+import org.apache.shardingsphere.sharding.rewrite.token.generator.IgnoreForSingleRoute;
+import org.apache.shardingsphere.sharding.rewrite.token.pojo.ShardingInValuesToken;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sharding.rule.aware.ShardingRuleAware;
+import org.apache.shardingsphere.sql.parser.binder.metadata.schema.SchemaMetaData;
+import org.apache.shardingsphere.sql.parser.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.expr.simple.LiteralExpressionSegment;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Sharding in values token generator.
+ */
+@Setter
+public final class ShardingInValuesTokenGenerator implements CollectionSQLTokenGenerator, ShardingRuleAware, SchemaMetaDataAware, RouteContextAware, ParametersAware, 
+        ConfigurationPropertiesAware, IgnoreForSingleRoute {
+    
+    private ShardingRule shardingRule;
+    
+    private SchemaMetaData schemaMetaData;
+    
+    private RouteContext routeContext;
+    
+    private List<Object> parameters;
+    
+    private ConfigurationProperties properties;
+    
+    @Override
+    public boolean isGenerateSQLToken(final SQLStatementContext sqlStatementContext) {
+        return new ShardingInValuesConditionEngine(shardingRule, schemaMetaData, properties).containsInPredicate(sqlStatementContext);
+    }
+    
+    @Override
+    public Collection<ShardingInValuesToken> generateSQLTokens(final SQLStatementContext sqlStatementContext) {
+        Collection<ShardingInValuesToken> result = new LinkedList<>();
+        for (ShardingInValuesCondition each : new ShardingInValuesConditionEngine(shardingRule, schemaMetaData, properties).createConditions(sqlStatementContext, parameters, routeContext)) {
+            result.add(new ShardingInValuesToken(each.getStartIndex(), each.getStopIndex(), getValues(each.getValues()), each.getPrunedValueIndexes()));
+        }
+        return result;
+    }
+    
+    private List<String> getValues(final List<ExpressionSegment> values) {
+        List<String> result = new ArrayList<>(values.size());
+        for (ExpressionSegment each : values) {
+            result.add(each instanceof LiteralExpressionSegment ? ((LiteralExpressionSegment) each).getLiterals().toString() : "?");
+        }
+        return result;
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.rewrite.token.pojo;
+
+import lombok.Getter;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.RouteUnitAware;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.SQLToken;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.Substitutable;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sharding in values token.
+ */
+public final class ShardingInValuesToken extends SQLToken implements Substitutable, RouteUnitAware {
+    
+    @Getter
+    private final int stopIndex;
+    
+    private final List<String> values;
+    
+    private final Map<RouteUnit, Collection<Integer>> prunedValueIndexes;
+    
+    public ShardingInValuesToken(final int startIndex, final int stopIndex, final List<String> values, final Map<RouteUnit, Collection<Integer>> prunedValueIndexes) {
+        super(startIndex);
+        this.stopIndex = stopIndex;
+        this.values = values;
+        this.prunedValueIndexes = prunedValueIndexes;
+    }
+    
+    @Override
+    public String toString(final RouteUnit routeUnit) {
+        return toString(prunedValueIndexes.getOrDefault(routeUnit, Collections.emptyList()));
+    }
+    
+    @Override
+    public String toString() {
+        return toString(Collections.emptyList());
+    }
+    
+    private String toString(final Collection<Integer> prunedValueIndexes) {
+        if (prunedValueIndexes.size() == values.size()) {
+            return "(NULL)";
+        }
+        StringBuilder result = new StringBuilder(values.size() * 3);
+        result.append("(");
+        for (int i = 0; i < values.size(); i++) {
+            if (!prunedValueIndexes.contains(i)) {
+                result.append(values.get(i)).append(", ");
+            }
+        }
+        result.delete(result.length() - 2, result.length()).append(")");
+        return result.toString();
+    }
+}
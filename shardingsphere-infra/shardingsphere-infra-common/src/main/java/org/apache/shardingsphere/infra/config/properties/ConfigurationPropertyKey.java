@@ -77,12 +77,69 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     MAX_CONNECTIONS_SIZE_PER_QUERY("max.connections.size.per.query", String.valueOf(1), int.class),
     
+    /**
+     * Enable or Disable to commit and rollback cached connections in parallel.
+     *
+     * <p>
+     * If it is enabled, local transactions spanning multiple connections are committed or rolled back concurrently by executor thread pool,
+     * failures of all connections are still collected and thrown together.
+     * Default: false
+     * </p>
+     */
+    PARALLEL_COMMIT_ENABLED("parallel.commit.enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Max idle physical prepared statements cached by each connection.
+     *
+     * <p>
+     * Cached statements are reused when the same logical prepared statement is executed again with same rewritten SQL.
+     * Set to 0 to disable the cache.
+     * Default: 0
+     * </p>
+     */
+    PREPARED_STATEMENT_CACHE_SIZE("prepared.statement.cache.size", String.valueOf(0), int.class),
+    
+    /**
+     * Max groups held in memory by group by memory merge.
+     *
+     * <p>
+     * Groups beyond this budget are hash partitioned and spilled to local temporary files, which are merged again on read.
+     * Set to 0 to keep all groups in memory.
+     * Default: 0
+     * </p>
+     */
+    GROUP_BY_MEMORY_MERGE_MAX_GROUPS("group.by.memory.merge.max.groups", String.valueOf(0), int.class),
+    
+    /**
+     * Min offset of paginated queries to apply seek pagination.
+     *
+     * <p>
+     * Seek pagination probes the order by value of every shard at offset divided by shard count, counts rows before the smallest probed value,
+     * and fetches from that value with the narrowed offset, so transferred and merged rows scale with page size rather than offset.
+     * It applies to prepared queries which order by a single column without group by, aggregation or distinct.
+     * Set to 0 to disable seek pagination.
+     * Default: 0
+     * </p>
+     */
+    SEEK_PAGINATION_MIN_OFFSET("seek.pagination.min.offset", String.valueOf(0), int.class),
+    
     /**
      * When encrypt data, query with cipher column or not.
      * 
      */
     QUERY_WITH_CIPHER_COLUMN("query.with.cipher.column", String.valueOf(Boolean.TRUE), boolean.class),
     
+    /**
+     * Rows to decrypt together when query with cipher column.
+     *
+     * <p>
+     * Encrypt merged result fetches this many rows ahead and decrypts every cipher column of them in one pass, large objects and streams can not be read from fetched rows.
+     * Set to 0 to decrypt cell by cell.
+     * Default: 0
+     * </p>
+     */
+    DECRYPT_BATCH_SIZE("decrypt.batch.size", String.valueOf(0), int.class),
+    
     /**
      * ShardingSphere-Proxy's flush threshold for every records from databases.
      */
@@ -127,7 +184,45 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
     
     PROXY_BACKEND_CONNECTION_TIMEOUT_SECONDS("proxy.backend.connection.timeout.seconds", String.valueOf(60), int.class),
     
-    CHECK_TABLE_METADATA_ENABLED("check.table.metadata.enabled", String.valueOf(Boolean.FALSE), boolean.class);
+    /**
+     * Driver type of ShardingSphere-Proxy's backend.
+     *
+     * <p>
+     * JDBC:
+     * ShardingSphere-Proxy will access databases by JDBC drivers and connection pools.
+     * </p>
+     *
+     * <p>
+     * NATIVE:
+     * ShardingSphere-Proxy will access MySQL databases by native asynchronous protocol client,
+     * statements in transaction and binary protocol statements will still be executed by JDBC.
+     * Session variables changed by SET statements are replayed on native connections before execution,
+     * and values are read as MySQL JDBC driver does by default.
+     * </p>
+     */
+    PROXY_BACKEND_DRIVER_TYPE("proxy.backend.driver.type", "JDBC", String.class),
+    
+    /**
+     * Max time in seconds to wait for a response or a row from MySQL by native protocol client.
+     *
+     * <p>
+     * Native connection will be closed and the command fails when it times out.
+     * Default: 60
+     * </p>
+     */
+    PROXY_BACKEND_NATIVE_COMMAND_TIMEOUT_SECONDS("proxy.backend.native.command.timeout.seconds", String.valueOf(60), int.class),
+    
+    CHECK_TABLE_METADATA_ENABLED("check.table.metadata.enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Local directory to persist schema meta data snapshots.
+     *
+     * <p>
+     * If it is configured, schema meta data will be loaded from the snapshot at startup when rules and data sources are unchanged,
+     * and verified against databases in background. Empty value means snapshot is disabled.
+     * </p>
+     */
+    METADATA_SNAPSHOT_PATH("metadata.snapshot.path", "", String.class);
     
     private final String key;
     
@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.schema.snapshot;
+
+import com.google.common.hash.Hashing;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.config.DatabaseAccessConfiguration;
+import org.apache.shardingsphere.infra.config.RuleConfiguration;
+import org.apache.shardingsphere.infra.metadata.schema.RuleSchemaMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.yaml.RuleSchemaMetaDataYamlSwapper;
+import org.apache.shardingsphere.infra.metadata.schema.yaml.YamlRuleSchemaMetaDataSnapshot;
+import org.apache.shardingsphere.infra.yaml.config.YamlRootRuleConfigurations;
+import org.apache.shardingsphere.infra.yaml.engine.YamlEngine;
+import org.apache.shardingsphere.infra.yaml.swapper.YamlRuleConfigurationSwapperEngine;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Rule schema meta data snapshot, which persists meta data of a schema to local disk.
+ */
+@Slf4j
+public final class RuleSchemaMetaDataSnapshot {
+    
+    private static final int VERSION = 1;
+    
+    private final Path file;
+    
+    private final String fingerprint;
+    
+    public RuleSchemaMetaDataSnapshot(final String directory, final String schemaName, final String fingerprint) {
+        file = Paths.get(directory, schemaName + ".yaml");
+        this.fingerprint = fingerprint;
+    }
+    
+    /**
+     * Load rule schema meta data from snapshot.
+     *
+     * @return rule schema meta data, empty if snapshot is absent, unreadable or outdated
+     */
+    public Optional<RuleSchemaMetaData> load() {
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        YamlRuleSchemaMetaDataSnapshot snapshot;
+        try {
+            snapshot = YamlEngine.unmarshal(new String(Files.readAllBytes(file), StandardCharsets.UTF_8), YamlRuleSchemaMetaDataSnapshot.class);
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            log.warn("Can not read meta data snapshot `{}`, ignore it.", file, ex);
+            return Optional.empty();
+        }
+        if (null == snapshot || VERSION != snapshot.getVersion() || !fingerprint.equals(snapshot.getFingerprint()) || null == snapshot.getMetaData()) {
+            return Optional.empty();
+        }
+        return Optional.of(new RuleSchemaMetaDataYamlSwapper().swap(snapshot.getMetaData()));
+    }
+    
+    /**
+     * Persist rule schema meta data to snapshot.
+     *
+     * @param ruleSchemaMetaData rule schema meta data
+     */
+    public void persist(final RuleSchemaMetaData ruleSchemaMetaData) {
+        YamlRuleSchemaMetaDataSnapshot snapshot = new YamlRuleSchemaMetaDataSnapshot();
+        snapshot.setVersion(VERSION);
+        snapshot.setFingerprint(fingerprint);
+        snapshot.setMetaData(new RuleSchemaMetaDataYamlSwapper().swap(ruleSchemaMetaData));
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            Path tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+            Files.write(tempFile, YamlEngine.marshal(snapshot).getBytes(StandardCharsets.UTF_8));
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final IOException ex) {
+            log.warn("Can not write meta data snapshot `{}`.", file, ex);
+        }
+    }
+    
+    /**
+     * Calculate fingerprint of rule configurations and data sources, snapshot is only valid for the same fingerprint.
+     *
+     * @param ruleConfigurations rule configurations
+     * @param databaseAccessConfigurations database access configurations
+     * @return fingerprint
+     */
+    public static String fingerprint(final Collection<RuleConfiguration> ruleConfigurations, final Map<String, DatabaseAccessConfiguration> databaseAccessConfigurations) {
+        YamlRootRuleConfigurations yamlRuleConfigurations = new YamlRootRuleConfigurations();
+        yamlRuleConfigurations.setRules(new YamlRuleConfigurationSwapperEngine().swapToYamlConfigurations(ruleConfigurations));
+        StringBuilder content = new StringBuilder(YamlEngine.marshal(yamlRuleConfigurations));
+        for (Entry<String, DatabaseAccessConfiguration> entry : new TreeMap<>(databaseAccessConfigurations).entrySet()) {
+            content.append(entry.getKey()).append('=').append(entry.getValue().getUrl()).append(',').append(entry.getValue().getUsername()).append(System.lineSeparator());
+        }
+        return Hashing.sha256().hashString(content, StandardCharsets.UTF_8).toString();
+    }
+}
@@ -15,7 +15,7 @@
  * limitations under the License.
  */
 
-package org.apache.shardingsphere.orchestration.core.metadatacenter.yaml;
+package org.apache.shardingsphere.infra.metadata.schema.yaml;
 
 import org.apache.shardingsphere.sql.parser.binder.metadata.column.ColumnMetaData;
 import org.apache.shardingsphere.sql.parser.binder.metadata.index.IndexMetaData;
@@ -111,8 +111,8 @@ public final class RuleSchemaMetaDataYamlSwapper implements YamlSwapper<YamlRule
         result.setCaseSensitive(column.isCaseSensitive());
         result.setGenerated(column.isGenerated());
         result.setPrimaryKey(column.isPrimaryKey());
-        result.setDataType(result.getDataType());
-        result.setDataTypeName(result.getDataTypeName());
+        result.setDataType(column.getDataType());
+        result.setDataTypeName(column.getDataTypeName());
         return result;
     }
 }
@@ -15,7 +15,7 @@
  * limitations under the License.
  */
 
-package org.apache.shardingsphere.orchestration.core.metadatacenter.yaml;
+package org.apache.shardingsphere.infra.metadata.schema.yaml;
 
 import lombok.Getter;
 import lombok.Setter;
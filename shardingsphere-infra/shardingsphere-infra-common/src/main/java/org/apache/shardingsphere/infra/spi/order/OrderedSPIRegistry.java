@@ -17,18 +17,23 @@
 
 package org.apache.shardingsphere.infra.spi.order;
 
+import com.google.common.cache.CacheBuilder;
 import org.apache.shardingsphere.infra.spi.ShardingSphereServiceLoader;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Ordered SPI registry.
  */
 public final class OrderedSPIRegistry {
     
+    private static final Map<Collection<?>, Map<Class<?>, Map<?, ?>>> CACHED_SERVICES = CacheBuilder.newBuilder().weakKeys().<Collection<?>, Map<Class<?>, Map<?, ?>>>build().asMap();
+    
     /**
      * Get registered services by class type.
      *
@@ -70,6 +75,35 @@ public final class OrderedSPIRegistry {
         return result.values();
     }
     
+    /**
+     * Get registered services from cache.
+     * 
+     * <p>
+     * Services are resolved once for each types instance and reused until it is invalidated,
+     * types should not be changed without calling {@link #invalidateCachedServices(Collection)}.
+     * </p>
+     *
+     * @param orderedSPIClass class of ordered SPI
+     * @param types types
+     * @param <K> type of key
+     * @param <V> type of ordered SPI class
+     * @return registered services
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, V extends OrderedSPI> Map<K, V> getCachedRegisteredServices(final Collection<K> types, final Class<V> orderedSPIClass) {
+        Map<Class<?>, Map<?, ?>> services = CACHED_SERVICES.computeIfAbsent(types, unused -> new ConcurrentHashMap<>());
+        return (Map<K, V>) services.computeIfAbsent(orderedSPIClass, unused -> Collections.unmodifiableMap(getRegisteredServices(types, orderedSPIClass)));
+    }
+    
+    /**
+     * Invalidate cached services.
+     *
+     * @param types types
+     */
+    public static void invalidateCachedServices(final Collection<?> types) {
+        CACHED_SERVICES.remove(types);
+    }
+    
     private static boolean isSameTypeClass(final OrderedSPI orderedSPI, final Class typeClass) {
         // FIXME orderedSPI.getType() == ((Class) type).getSuperclass(), should decouple extend between orchestration rule and sharding rule
         return orderedSPI.getTypeClass() == typeClass || orderedSPI.getTypeClass() == typeClass.getSuperclass();
@@ -36,28 +36,44 @@ public final class ConfigurationPropertiesTest {
         props.setProperty(ConfigurationPropertyKey.ACCEPTOR_SIZE.getKey(), "20");
         props.setProperty(ConfigurationPropertyKey.EXECUTOR_SIZE.getKey(), "20");
         props.setProperty(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY.getKey(), "20");
+        props.setProperty(ConfigurationPropertyKey.PREPARED_STATEMENT_CACHE_SIZE.getKey(), "20");
+        props.setProperty(ConfigurationPropertyKey.GROUP_BY_MEMORY_MERGE_MAX_GROUPS.getKey(), "20");
+        props.setProperty(ConfigurationPropertyKey.SEEK_PAGINATION_MIN_OFFSET.getKey(), "20");
         props.setProperty(ConfigurationPropertyKey.QUERY_WITH_CIPHER_COLUMN.getKey(), Boolean.FALSE.toString());
+        props.setProperty(ConfigurationPropertyKey.DECRYPT_BATCH_SIZE.getKey(), "20");
         props.setProperty(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD.getKey(), "20");
         props.setProperty(ConfigurationPropertyKey.PROXY_TRANSACTION_TYPE.getKey(), "XA");
         props.setProperty(ConfigurationPropertyKey.PROXY_OPENTRACING_ENABLED.getKey(), Boolean.TRUE.toString());
         props.setProperty(ConfigurationPropertyKey.PROXY_HINT_ENABLED.getKey(), Boolean.TRUE.toString());
         props.setProperty(ConfigurationPropertyKey.PROXY_BACKEND_MAX_CONNECTIONS.getKey(), "20");
         props.setProperty(ConfigurationPropertyKey.PROXY_BACKEND_CONNECTION_TIMEOUT_SECONDS.getKey(), "20");
+        props.setProperty(ConfigurationPropertyKey.PROXY_BACKEND_DRIVER_TYPE.getKey(), "NATIVE");
+        props.setProperty(ConfigurationPropertyKey.PROXY_BACKEND_NATIVE_COMMAND_TIMEOUT_SECONDS.getKey(), "30");
         props.setProperty(ConfigurationPropertyKey.CHECK_TABLE_METADATA_ENABLED.getKey(), Boolean.TRUE.toString());
+        props.setProperty(ConfigurationPropertyKey.METADATA_SNAPSHOT_PATH.getKey(), "/tmp/shardingsphere/metadata");
+        props.setProperty(ConfigurationPropertyKey.PARALLEL_COMMIT_ENABLED.getKey(), Boolean.TRUE.toString());
         ConfigurationProperties actual = new ConfigurationProperties(props);
         assertTrue(actual.getValue(ConfigurationPropertyKey.SQL_SHOW));
         assertTrue(actual.getValue(ConfigurationPropertyKey.SQL_SIMPLE));
         assertThat(actual.getValue(ConfigurationPropertyKey.ACCEPTOR_SIZE), is(20));
         assertThat(actual.getValue(ConfigurationPropertyKey.EXECUTOR_SIZE), is(20));
         assertThat(actual.getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY), is(20));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PREPARED_STATEMENT_CACHE_SIZE), is(20));
+        assertThat(actual.getValue(ConfigurationPropertyKey.GROUP_BY_MEMORY_MERGE_MAX_GROUPS), is(20));
+        assertThat(actual.getValue(ConfigurationPropertyKey.SEEK_PAGINATION_MIN_OFFSET), is(20));
         assertFalse(actual.getValue(ConfigurationPropertyKey.QUERY_WITH_CIPHER_COLUMN));
+        assertThat(actual.getValue(ConfigurationPropertyKey.DECRYPT_BATCH_SIZE), is(20));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD), is(20));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_TRANSACTION_TYPE), is("XA"));
         assertTrue(actual.getValue(ConfigurationPropertyKey.PROXY_OPENTRACING_ENABLED));
         assertTrue(actual.getValue(ConfigurationPropertyKey.PROXY_HINT_ENABLED));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_BACKEND_MAX_CONNECTIONS), is(20));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_BACKEND_CONNECTION_TIMEOUT_SECONDS), is(20));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_BACKEND_DRIVER_TYPE), is("NATIVE"));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_BACKEND_NATIVE_COMMAND_TIMEOUT_SECONDS), is(30));
         assertTrue(actual.getValue(ConfigurationPropertyKey.CHECK_TABLE_METADATA_ENABLED));
+        assertThat(actual.getValue(ConfigurationPropertyKey.METADATA_SNAPSHOT_PATH), is("/tmp/shardingsphere/metadata"));
+        assertTrue(actual.getValue(ConfigurationPropertyKey.PARALLEL_COMMIT_ENABLED));
     }
     
     @Test
@@ -68,13 +84,21 @@ public final class ConfigurationPropertiesTest {
         assertThat(actual.getValue(ConfigurationPropertyKey.ACCEPTOR_SIZE), is(Runtime.getRuntime().availableProcessors() * 2));
         assertThat(actual.getValue(ConfigurationPropertyKey.EXECUTOR_SIZE), is(0));
         assertThat(actual.getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY), is(1));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PREPARED_STATEMENT_CACHE_SIZE), is(0));
+        assertThat(actual.getValue(ConfigurationPropertyKey.GROUP_BY_MEMORY_MERGE_MAX_GROUPS), is(0));
+        assertThat(actual.getValue(ConfigurationPropertyKey.SEEK_PAGINATION_MIN_OFFSET), is(0));
         assertTrue(actual.getValue(ConfigurationPropertyKey.QUERY_WITH_CIPHER_COLUMN));
+        assertThat(actual.getValue(ConfigurationPropertyKey.DECRYPT_BATCH_SIZE), is(0));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD), is(128));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_TRANSACTION_TYPE), is("LOCAL"));
         assertFalse(actual.getValue(ConfigurationPropertyKey.PROXY_OPENTRACING_ENABLED));
         assertFalse(actual.getValue(ConfigurationPropertyKey.PROXY_HINT_ENABLED));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_BACKEND_MAX_CONNECTIONS), is(8));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_BACKEND_CONNECTION_TIMEOUT_SECONDS), is(60));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_BACKEND_DRIVER_TYPE), is("JDBC"));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_BACKEND_NATIVE_COMMAND_TIMEOUT_SECONDS), is(60));
         assertFalse(actual.getValue(ConfigurationPropertyKey.CHECK_TABLE_METADATA_ENABLED));
+        assertThat(actual.getValue(ConfigurationPropertyKey.METADATA_SNAPSHOT_PATH), is(""));
+        assertFalse(actual.getValue(ConfigurationPropertyKey.PARALLEL_COMMIT_ENABLED));
     }
 }
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.schema.snapshot;
+
+import org.apache.shardingsphere.infra.config.DatabaseAccessConfiguration;
+import org.apache.shardingsphere.infra.metadata.schema.RuleSchemaMetaData;
+import org.apache.shardingsphere.sql.parser.binder.metadata.column.ColumnMetaData;
+import org.apache.shardingsphere.sql.parser.binder.metadata.index.IndexMetaData;
+import org.apache.shardingsphere.sql.parser.binder.metadata.schema.SchemaMetaData;
+import org.apache.shardingsphere.sql.parser.binder.metadata.table.TableMetaData;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.sql.Types;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class RuleSchemaMetaDataSnapshotTest {
+    
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+    
+    @Test
+    public void assertLoadWithoutSnapshot() {
+        assertFalse(new RuleSchemaMetaDataSnapshot(temporaryFolder.getRoot().getPath(), "logic_db", "fingerprint").load().isPresent());
+    }
+    
+    @Test
+    public void assertPersistAndLoad() {
+        String directory = temporaryFolder.getRoot().getPath() + "/metadata";
+        new RuleSchemaMetaDataSnapshot(directory, "logic_db", "fingerprint").persist(createRuleSchemaMetaData());
+        Optional<RuleSchemaMetaData> actual = new RuleSchemaMetaDataSnapshot(directory, "logic_db", "fingerprint").load();
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getConfiguredSchemaMetaData().get("t_order"), is(createTableMetaData()));
+        assertThat(actual.get().getUnconfiguredSchemaMetaDataMap().get("ds_0").get("t_user"), is(createTableMetaData()));
+    }
+    
+    @Test
+    public void assertLoadWithDifferentFingerprint() {
+        String directory = temporaryFolder.getRoot().getPath();
+        new RuleSchemaMetaDataSnapshot(directory, "logic_db", "fingerprint").persist(createRuleSchemaMetaData());
+        assertFalse(new RuleSchemaMetaDataSnapshot(directory, "logic_db", "other_fingerprint").load().isPresent());
+    }
+    
+    @Test
+    public void assertFingerprint() {
+        Map<String, DatabaseAccessConfiguration> dataSources = Collections.singletonMap("ds_0", new DatabaseAccessConfiguration("jdbc:mysql://127.0.0.1:3306/ds_0", "root", null));
+        Map<String, DatabaseAccessConfiguration> otherDataSources = Collections.singletonMap("ds_0", new DatabaseAccessConfiguration("jdbc:mysql://127.0.0.1:3306/ds_1", "root", null));
+        assertThat(RuleSchemaMetaDataSnapshot.fingerprint(Collections.emptyList(), dataSources), is(RuleSchemaMetaDataSnapshot.fingerprint(Collections.emptyList(), dataSources)));
+        assertThat(RuleSchemaMetaDataSnapshot.fingerprint(Collections.emptyList(), dataSources), not(RuleSchemaMetaDataSnapshot.fingerprint(Collections.emptyList(), otherDataSources)));
+    }
+    
+    private RuleSchemaMetaData createRuleSchemaMetaData() {
+        SchemaMetaData configured = new SchemaMetaData(Collections.singletonMap("t_order", createTableMetaData()));
+        SchemaMetaData unconfigured = new SchemaMetaData(Collections.singletonMap("t_user", createTableMetaData()));
+        return new RuleSchemaMetaData(configured, Collections.singletonMap("ds_0", unconfigured));
+    }
+    
+    private TableMetaData createTableMetaData() {
+        return new TableMetaData(Collections.singletonList(new ColumnMetaData("id", Types.INTEGER, "INT", true, false, false)), Collections.singletonList(new IndexMetaData("PRIMARY")));
+    }
+}
@@ -15,9 +15,8 @@
  * limitations under the License.
  */
 
-package org.apache.shardingsphere.orchestration.core.metadatacenter.yaml;
+package org.apache.shardingsphere.infra.metadata.schema.yaml;
 
-import org.apache.shardingsphere.orchestration.core.metadatacenter.MetaDataTest;
 import org.apache.shardingsphere.infra.metadata.schema.RuleSchemaMetaData;
 import org.apache.shardingsphere.infra.yaml.engine.YamlEngine;
 import org.junit.Test;
@@ -30,9 +29,38 @@ import static org.junit.Assert.assertThat;
 
 public final class RuleSchemaMetaDataYamlSwapperTest {
     
+    private static final String META_DATA = "configuredSchemaMetaData:\n"
+            + "  tables:\n"
+            + "    t_order:\n"
+            + "      columns:\n"
+            + "        id:\n"
+            + "          caseSensitive: false\n"
+            + "          dataType: 4\n"
+            + "          dataTypeName: INT\n"
+            + "          generated: false\n"
+            + "          name: id\n"
+            + "          primaryKey: true\n"
+            + "      indexes:\n"
+            + "         primary:\n"
+            + "           name: PRIMARY\n"
+            + "unconfiguredSchemaMetaDataMap:\n"
+            + "  ds_0:\n"
+            + "    tables:\n"
+            + "      t_user:\n"
+            + "        columns:\n"
+            + "          id:\n"
+            + "            caseSensitive: false\n"
+            + "            dataType: 0\n"
+            + "            generated: false\n"
+            + "            name: id\n"
+            + "            primaryKey: true\n"
+            + "        indexes:\n"
+            + "          primary:\n"
+            + "            name: PRIMARY";
+    
     @Test
     public void assertSwapToYamlRuleSchemaMetaData() {
-        RuleSchemaMetaData ruleSchemaMetaData = new RuleSchemaMetaDataYamlSwapper().swap(YamlEngine.unmarshal(MetaDataTest.META_DATA, YamlRuleSchemaMetaData.class));
+        RuleSchemaMetaData ruleSchemaMetaData = new RuleSchemaMetaDataYamlSwapper().swap(YamlEngine.unmarshal(META_DATA, YamlRuleSchemaMetaData.class));
         YamlRuleSchemaMetaData yamlRuleSchemaMetaData = new RuleSchemaMetaDataYamlSwapper().swap(ruleSchemaMetaData);
         assertNotNull(yamlRuleSchemaMetaData);
         assertNotNull(yamlRuleSchemaMetaData.getConfiguredSchemaMetaData());
@@ -40,6 +68,8 @@ public final class RuleSchemaMetaDataYamlSwapperTest {
         assertThat(yamlRuleSchemaMetaData.getConfiguredSchemaMetaData().getTables().keySet(), is(Collections.singleton("t_order")));
         assertThat(yamlRuleSchemaMetaData.getConfiguredSchemaMetaData().getTables().get("t_order").getIndexes().keySet(), is(Collections.singleton("primary")));
         assertThat(yamlRuleSchemaMetaData.getConfiguredSchemaMetaData().getTables().get("t_order").getColumns().keySet(), is(Collections.singleton("id")));
+        assertThat(yamlRuleSchemaMetaData.getConfiguredSchemaMetaData().getTables().get("t_order").getColumns().get("id").getDataType(), is(4));
+        assertThat(yamlRuleSchemaMetaData.getConfiguredSchemaMetaData().getTables().get("t_order").getColumns().get("id").getDataTypeName(), is("INT"));
         assertThat(yamlRuleSchemaMetaData.getUnconfiguredSchemaMetaDataMap().keySet(), is(Collections.singleton("ds_0")));
         assertThat(yamlRuleSchemaMetaData.getUnconfiguredSchemaMetaDataMap().get("ds_0").getTables().keySet(), is(Collections.singleton("t_user")));
         assertThat(yamlRuleSchemaMetaData.getUnconfiguredSchemaMetaDataMap().get("ds_0").getTables().get("t_user").getIndexes().keySet(), is(Collections.singleton("primary")));
@@ -48,7 +78,7 @@ public final class RuleSchemaMetaDataYamlSwapperTest {
     
     @Test
     public void assertSwapToRuleSchemaMetaData() {
-        YamlRuleSchemaMetaData yamlRuleSchemaMetaData = YamlEngine.unmarshal(MetaDataTest.META_DATA, YamlRuleSchemaMetaData.class);
+        YamlRuleSchemaMetaData yamlRuleSchemaMetaData = YamlEngine.unmarshal(META_DATA, YamlRuleSchemaMetaData.class);
         RuleSchemaMetaData ruleSchemaMetaData = new RuleSchemaMetaDataYamlSwapper().swap(yamlRuleSchemaMetaData);
         assertNotNull(ruleSchemaMetaData);
         assertNotNull(ruleSchemaMetaData.getConfiguredSchemaMetaData());
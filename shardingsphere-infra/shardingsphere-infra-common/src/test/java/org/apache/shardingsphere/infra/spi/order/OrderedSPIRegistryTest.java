@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.spi.order;
+
+import org.apache.shardingsphere.infra.spi.ShardingSphereServiceLoader;
+import org.apache.shardingsphere.infra.spi.order.fixture.OrderedInterfaceFixture;
+import org.apache.shardingsphere.infra.spi.order.fixture.OrderedInterfaceFixtureImpl;
+import org.apache.shardingsphere.infra.spi.order.fixture.OrderedSPIFixture;
+import org.apache.shardingsphere.infra.spi.order.fixture.OrderedSPIFixtureImpl;
+import org.junit.Test;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public final class OrderedSPIRegistryTest {
+    
+    static {
+        ShardingSphereServiceLoader.register(OrderedSPIFixture.class);
+    }
+    
+    @Test
+    public void assertGetRegisteredServices() {
+        OrderedInterfaceFixture key = new OrderedInterfaceFixtureImpl();
+        Map<OrderedInterfaceFixture, OrderedSPIFixture> actual = OrderedSPIRegistry.getRegisteredServices(Collections.singletonList(key), OrderedSPIFixture.class);
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get(key), instanceOf(OrderedSPIFixtureImpl.class));
+    }
+    
+    @Test
+    public void assertGetCachedRegisteredServices() {
+        Collection<OrderedInterfaceFixture> types = Collections.singletonList(new OrderedInterfaceFixtureImpl());
+        Map<OrderedInterfaceFixture, OrderedSPIFixture> actual = OrderedSPIRegistry.getCachedRegisteredServices(types, OrderedSPIFixture.class);
+        assertThat(actual.size(), is(1));
+        assertThat(OrderedSPIRegistry.getCachedRegisteredServices(types, OrderedSPIFixture.class), sameInstance(actual));
+    }
+    
+    @Test
+    public void assertInvalidateCachedServices() {
+        Collection<OrderedInterfaceFixture> types = Collections.singletonList(new OrderedInterfaceFixtureImpl());
+        Map<OrderedInterfaceFixture, OrderedSPIFixture> actual = OrderedSPIRegistry.getCachedRegisteredServices(types, OrderedSPIFixture.class);
+        OrderedSPIRegistry.invalidateCachedServices(types);
+        assertThat(OrderedSPIRegistry.getCachedRegisteredServices(types, OrderedSPIFixture.class), not(sameInstance(actual)));
+    }
+}
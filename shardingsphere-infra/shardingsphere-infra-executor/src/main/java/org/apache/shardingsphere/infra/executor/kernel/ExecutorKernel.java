@@ -18,25 +18,40 @@
 package org.apache.shardingsphere.infra.executor.kernel;
 
 import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.exception.ShardingSphereException;
 import org.apache.shardingsphere.infra.executor.kernel.impl.ShardingSphereExecutorService;
+import org.apache.shardingsphere.infra.executor.kernel.impl.ShardingSphereThreadFactoryBuilder;
 
 import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 /**
  * Executor kernel.
  */
 public final class ExecutorKernel implements AutoCloseable {
     
+    private static final ScheduledExecutorService DEADLINE_EXECUTOR = Executors.newSingleThreadScheduledExecutor(ShardingSphereThreadFactoryBuilder.build("Executor-Kernel-Deadline"));
+    
     @Getter
     private final ShardingSphereExecutorService executorService;
     
@@ -78,6 +93,66 @@ public final class ExecutorKernel implements AutoCloseable {
         return serial ? serialExecute(inputGroups, firstCallback, callback) : parallelExecute(inputGroups, firstCallback, callback);
     }
     
+    /**
+     * Execute asynchronously.
+     *
+     * @param inputGroups input groups
+     * @param callback executor callback
+     * @param timeoutMilliseconds deadline of the whole execution in milliseconds, no deadline if not positive
+     * @param <I> type of input value
+     * @param <O> type of return value
+     * @return future of execute result, ordered by completion of input groups
+     */
+    public <I, O> CompletableFuture<List<O>> executeAsync(final Collection<InputGroup<I>> inputGroups, final ExecutorCallback<I, O> callback, final long timeoutMilliseconds) {
+        return executeAsync(inputGroups, callback, groupResults -> { }, timeoutMilliseconds);
+    }
+    
+    /**
+     * Execute asynchronously.
+     * 
+     * <p>
+     * Every input group is executed in executor service, the caller thread is never blocked.
+     * Group results are consumed as soon as their group finished, so early finished groups needn't wait for slow ones.
+     * Unfinished groups are cancelled when execution fails, timeouts or the returned future is cancelled.
+     * </p>
+     *
+     * @param inputGroups input groups
+     * @param callback executor callback
+     * @param groupResultConsumer consumer of results of each finished input group
+     * @param timeoutMilliseconds deadline of the whole execution in milliseconds, no deadline if not positive
+     * @param <I> type of input value
+     * @param <O> type of return value
+     * @return future of execute result, ordered by completion of input groups
+     */
+    public <I, O> CompletableFuture<List<O>> executeAsync(final Collection<InputGroup<I>> inputGroups, final ExecutorCallback<I, O> callback, 
+                                                          final Consumer<Collection<O>> groupResultConsumer, final long timeoutMilliseconds) {
+        CompletableFuture<List<O>> result = new CompletableFuture<>();
+        if (inputGroups.isEmpty()) {
+            result.complete(Collections.emptyList());
+            return result;
+        }
+        List<O> results = new ArrayList<>();
+        AtomicInteger unfinishedGroupCount = new AtomicInteger(inputGroups.size());
+        Collection<ListenableFuture<Collection<O>>> groupFutures = new LinkedList<>();
+        for (InputGroup<I> each : inputGroups) {
+            ListenableFuture<Collection<O>> groupFuture = asyncExecute(each, callback);
+            groupFutures.add(groupFuture);
+            Futures.addCallback(groupFuture, new GroupFutureCallback<>(result, results, unfinishedGroupCount, groupResultConsumer));
+        }
+        if (timeoutMilliseconds > 0) {
+            ScheduledFuture<?> deadline = DEADLINE_EXECUTOR.schedule(
+                () -> result.completeExceptionally(new SQLTimeoutException(String.format("Execution exceeds the deadline of %d milliseconds.", timeoutMilliseconds))), 
+                timeoutMilliseconds, TimeUnit.MILLISECONDS);
+            result.whenComplete((unused, ex) -> deadline.cancel(false));
+        }
+        result.whenComplete((unused, ex) -> {
+            if (null != ex) {
+                groupFutures.forEach(each -> each.cancel(true));
+            }
+        });
+        return result;
+    }
+    
     private <I, O> List<O> serialExecute(final Collection<InputGroup<I>> inputGroups, final ExecutorCallback<I, O> firstCallback, final ExecutorCallback<I, O> callback) throws SQLException {
         Iterator<InputGroup<I>> inputGroupsIterator = inputGroups.iterator();
         InputGroup<I> firstInputs = inputGroupsIterator.next();
@@ -135,4 +210,44 @@ public final class ExecutorKernel implements AutoCloseable {
     public void close() {
         executorService.close();
     }
+    
+    @RequiredArgsConstructor
+    private static final class GroupFutureCallback<O> implements FutureCallback<Collection<O>> {
+        
+        private final CompletableFuture<List<O>> result;
+        
+        private final List<O> results;
+        
+        private final AtomicInteger unfinishedGroupCount;
+        
+        private final Consumer<Collection<O>> groupResultConsumer;
+        
+        @Override
+        public void onSuccess(final Collection<O> groupResults) {
+            if (result.isDone()) {
+                return;
+            }
+            try {
+                groupResultConsumer.accept(groupResults);
+                // CHECKSTYLE:OFF
+            } catch (final RuntimeException ex) {
+                // CHECKSTYLE:ON
+                result.completeExceptionally(ex);
+                return;
+            }
+            synchronized (results) {
+                results.addAll(groupResults);
+            }
+            if (0 == unfinishedGroupCount.decrementAndGet()) {
+                synchronized (results) {
+                    result.complete(new ArrayList<>(results));
+                }
+            }
+        }
+        
+        @Override
+        public void onFailure(final Throwable throwable) {
+            result.completeExceptionally(throwable);
+        }
+    }
 }
@@ -15,7 +15,7 @@
  * limitations under the License.
  */
 
-package org.apache.shardingsphere.driver.jdbc.adapter.executor;
+package org.apache.shardingsphere.infra.executor.kernel;
 
 import java.sql.SQLException;
 
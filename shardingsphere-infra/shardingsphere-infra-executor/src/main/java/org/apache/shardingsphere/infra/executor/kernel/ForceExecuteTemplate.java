@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Force execute template.
+ *
+ * @param <T> type of targets to be executed
+ */
+public final class ForceExecuteTemplate<T> {
+    
+    /**
+     * Force execute.
+     * 
+     * @param targets targets to be executed
+     * @param callback force execute callback
+     * @throws SQLException throw SQL exception after all targets are executed
+     */
+    public void execute(final Collection<T> targets, final ForceExecuteCallback<T> callback) throws SQLException {
+        Collection<SQLException> exceptions = new LinkedList<>();
+        for (T each : targets) {
+            try {
+                callback.execute(each);
+            } catch (final SQLException ex) {
+                exceptions.add(ex);
+            }
+        }
+        throwSQLExceptionIfNecessary(exceptions);
+    }
+    
+    /**
+     * Force execute in parallel.
+     * 
+     * <p>
+     * The first target is executed by caller thread, others are executed by executor service concurrently.
+     * </p>
+     *
+     * @param targets targets to be executed
+     * @param callback force execute callback
+     * @param executorService executor service to execute targets except the first one
+     * @throws SQLException throw SQL exception after all targets are executed
+     */
+    public void execute(final Collection<T> targets, final ForceExecuteCallback<T> callback, final ExecutorService executorService) throws SQLException {
+        if (targets.size() < 2) {
+            execute(targets, callback);
+            return;
+        }
+        Iterator<T> iterator = targets.iterator();
+        T first = iterator.next();
+        Collection<Future<Void>> futures = new LinkedList<>();
+        while (iterator.hasNext()) {
+            T each = iterator.next();
+            futures.add(executorService.submit(() -> {
+                callback.execute(each);
+                return null;
+            }));
+        }
+        Collection<SQLException> exceptions = new LinkedList<>();
+        try {
+            callback.execute(first);
+        } catch (final SQLException ex) {
+            exceptions.add(ex);
+        }
+        for (Future<Void> each : futures) {
+            await(each).ifPresent(exceptions::add);
+        }
+        throwSQLExceptionIfNecessary(exceptions);
+    }
+    
+    private Optional<SQLException> await(final Future<Void> future) {
+        try {
+            future.get();
+            return Optional.empty();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return Optional.of(new SQLException(ex));
+        } catch (final ExecutionException ex) {
+            return Optional.of(ex.getCause() instanceof SQLException ? (SQLException) ex.getCause() : new SQLException(ex.getCause()));
+        }
+    }
+    
+    private void throwSQLExceptionIfNecessary(final Collection<SQLException> exceptions) throws SQLException {
+        if (exceptions.isEmpty()) {
+            return;
+        }
+        SQLException ex = new SQLException();
+        exceptions.forEach(ex::setNextException);
+        throw ex;
+    }
+}
@@ -58,7 +58,18 @@ public final class ExecutorExceptionHandler {
      * @throws SQLException SQL exception
      */
     public static void handleException(final Exception exception) throws SQLException {
-        if (isExceptionThrown()) {
+        handleException(exception, isExceptionThrown());
+    }
+    
+    /**
+     * Handle exception with throw exception flag captured from other thread.
+     * 
+     * @param exception to be handled exception
+     * @param isExceptionThrown throw exception if error occur or not
+     * @throws SQLException SQL exception
+     */
+    public static void handleException(final Exception exception, final boolean isExceptionThrown) throws SQLException {
+        if (isExceptionThrown) {
             if (exception instanceof SQLException) {
                 throw (SQLException) exception;
             }
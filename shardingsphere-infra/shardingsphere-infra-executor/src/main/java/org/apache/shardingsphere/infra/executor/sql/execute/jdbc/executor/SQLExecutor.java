@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.infra.executor.sql.execute.jdbc.executor;
 
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.executor.kernel.ExecutorDataMap;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorKernel;
 import org.apache.shardingsphere.infra.executor.kernel.InputGroup;
 import org.apache.shardingsphere.infra.executor.sql.execute.jdbc.StatementExecuteUnit;
@@ -25,7 +26,11 @@ import org.apache.shardingsphere.infra.executor.sql.execute.jdbc.StatementExecut
 import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
 
 /**
  * SQL executor.
@@ -69,4 +74,97 @@ public final class SQLExecutor {
             return Collections.emptyList();
         }
     }
+    
+    /**
+     * Execute asynchronously.
+     * 
+     * <p>
+     * Failures are handled by {@link ExecutorExceptionHandler} with the throw exception flag of the caller thread:
+     * the returned future completes exceptionally if exception should be thrown, otherwise the failure is logged and the future completes with empty result.
+     * Input groups are executed one by one on the caller thread in serial mode, and the returned future is already done then.
+     * </p>
+     *
+     * @param inputGroups input groups
+     * @param callback SQL execute callback
+     * @param timeoutMilliseconds deadline of the whole execution in milliseconds, no deadline if not positive
+     * @param <T> class type of return value
+     * @return future of execute result, ordered by completion of input groups
+     */
+    public <T> CompletableFuture<List<T>> executeAsync(final Collection<InputGroup<StatementExecuteUnit>> inputGroups, final SQLExecutorCallback<T> callback, final long timeoutMilliseconds) {
+        return executeAsync(inputGroups, callback, groupResults -> { }, timeoutMilliseconds);
+    }
+    
+    /**
+     * Execute asynchronously.
+     * 
+     * <p>
+     * Failures are handled by {@link ExecutorExceptionHandler} with the throw exception flag of the caller thread:
+     * the returned future completes exceptionally if exception should be thrown, otherwise the failure is logged and the future completes with empty result.
+     * Input groups are executed one by one on the caller thread in serial mode, and the returned future is already done then.
+     * </p>
+     *
+     * @param inputGroups input groups
+     * @param callback SQL execute callback
+     * @param groupResultConsumer consumer of results of each finished input group
+     * @param timeoutMilliseconds deadline of the whole execution in milliseconds, no deadline if not positive
+     * @param <T> class type of return value
+     * @return future of execute result, ordered by completion of input groups
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<List<T>> executeAsync(final Collection<InputGroup<StatementExecuteUnit>> inputGroups, final SQLExecutorCallback<T> callback, 
+                                                       final Consumer<Collection<T>> groupResultConsumer, final long timeoutMilliseconds) {
+        boolean isExceptionThrown = ExecutorExceptionHandler.isExceptionThrown();
+        if (serial) {
+            return executeSerially(inputGroups, callback, groupResultConsumer, isExceptionThrown);
+        }
+        CompletableFuture<List<T>> executeFuture = executorKernel.executeAsync((Collection) inputGroups, callback, groupResultConsumer, timeoutMilliseconds);
+        CompletableFuture<List<T>> result = new CompletableFuture<>();
+        executeFuture.whenComplete((executeResult, ex) -> {
+            if (null == ex) {
+                result.complete(executeResult);
+            } else {
+                completeWithFailure(result, ex instanceof CompletionException && null != ex.getCause() ? ex.getCause() : ex, isExceptionThrown);
+            }
+        });
+        result.whenComplete((unused, ex) -> {
+            if (result.isCancelled()) {
+                executeFuture.cancel(true);
+            }
+        });
+        return result;
+    }
+    
+    private <T> CompletableFuture<List<T>> executeSerially(final Collection<InputGroup<StatementExecuteUnit>> inputGroups, final SQLExecutorCallback<T> callback, 
+                                                           final Consumer<Collection<T>> groupResultConsumer, final boolean isExceptionThrown) {
+        CompletableFuture<List<T>> result = new CompletableFuture<>();
+        List<T> executeResult = new LinkedList<>();
+        try {
+            for (InputGroup<StatementExecuteUnit> each : inputGroups) {
+                Collection<T> groupResults = callback.execute(each.getInputs(), true, ExecutorDataMap.getValue());
+                groupResultConsumer.accept(groupResults);
+                executeResult.addAll(groupResults);
+            }
+            result.complete(executeResult);
+            // CHECKSTYLE:OFF
+        } catch (final SQLException | RuntimeException ex) {
+            // CHECKSTYLE:ON
+            completeWithFailure(result, ex, isExceptionThrown);
+        }
+        return result;
+    }
+    
+    private <T> void completeWithFailure(final CompletableFuture<List<T>> future, final Throwable throwable, final boolean isExceptionThrown) {
+        if (!(throwable instanceof Exception)) {
+            future.completeExceptionally(throwable);
+            return;
+        }
+        try {
+            ExecutorExceptionHandler.handleException((Exception) throwable, isExceptionThrown);
+            future.complete(Collections.emptyList());
+            // CHECKSTYLE:OFF
+        } catch (final SQLException | RuntimeException ex) {
+            // CHECKSTYLE:ON
+            future.completeExceptionally(ex);
+        }
+    }
 }
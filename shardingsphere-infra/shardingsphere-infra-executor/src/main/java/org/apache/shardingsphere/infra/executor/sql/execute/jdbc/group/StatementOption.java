@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.infra.executor.sql.execute.jdbc.group;
 
 import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.executor.sql.StorageResourceOption;
@@ -29,6 +30,7 @@ import java.sql.ResultSet;
  */
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 @Getter
+@EqualsAndHashCode
 public final class StatementOption implements StorageResourceOption {
     
     private final int resultSetType;
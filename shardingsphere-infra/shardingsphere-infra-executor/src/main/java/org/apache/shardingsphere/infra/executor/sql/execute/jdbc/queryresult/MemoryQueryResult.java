@@ -19,6 +19,7 @@ package org.apache.shardingsphere.infra.executor.sql.execute.jdbc.queryresult;
 
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.infra.executor.sql.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.queryresult.CompactRowBuffer;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
@@ -29,12 +30,7 @@ import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Types;
-import java.util.ArrayList;
 import java.util.Calendar;
-import java.util.Collection;
-import java.util.Iterator;
-import java.util.LinkedList;
-import java.util.List;
 
 /**
  * Query result for memory loading.
@@ -43,53 +39,101 @@ public final class MemoryQueryResult implements QueryResult {
     
     private final ResultSetMetaData resultSetMetaData;
     
-    private final Iterator<List<Object>> rows;
+    private final CompactRowBuffer rows;
     
-    private List<Object> currentRow;
+    private int currentRowIndex = -1;
     
     public MemoryQueryResult(final ResultSet resultSet) throws SQLException {
         resultSetMetaData = resultSet.getMetaData();
         rows = getRows(resultSet);
     }
     
-    private Iterator<List<Object>> getRows(final ResultSet resultSet) throws SQLException {
-        Collection<List<Object>> result = new LinkedList<>();
+    private CompactRowBuffer getRows(final ResultSet resultSet) throws SQLException {
+        int columnCount = resultSetMetaData.getColumnCount();
+        int[] columnTypes = new int[columnCount + 1];
+        boolean[] signed = new boolean[columnCount + 1];
+        for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
+            columnTypes[columnIndex] = resultSetMetaData.getColumnType(columnIndex);
+            signed[columnIndex] = isSignedType(columnTypes[columnIndex]) && resultSetMetaData.isSigned(columnIndex);
+        }
+        CompactRowBuffer result = new CompactRowBuffer(columnCount);
         while (resultSet.next()) {
-            List<Object> rowData = new ArrayList<>(resultSet.getMetaData().getColumnCount());
-            for (int columnIndex = 1; columnIndex <= resultSet.getMetaData().getColumnCount(); columnIndex++) {
-                Object rowValue = getRowValue(resultSet, columnIndex);
-                rowData.add(resultSet.wasNull() ? null : rowValue);
+            int rowIndex = result.addRow();
+            for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
+                setRowValue(resultSet, result, rowIndex, columnIndex, columnTypes[columnIndex], signed[columnIndex]);
             }
-            result.add(rowData);
         }
-        return result.iterator();
+        return result;
+    }
+    
+    private boolean isSignedType(final int columnType) {
+        return Types.INTEGER == columnType || Types.BIGINT == columnType;
     }
     
-    private Object getRowValue(final ResultSet resultSet, final int columnIndex) throws SQLException {
-        ResultSetMetaData metaData = resultSet.getMetaData();
-        switch (metaData.getColumnType(columnIndex)) {
+    private void setRowValue(final ResultSet resultSet, final CompactRowBuffer buffer, final int rowIndex, final int columnIndex, final int columnType, final boolean signed) throws SQLException {
+        switch (columnType) {
             case Types.BOOLEAN:
-                return resultSet.getBoolean(columnIndex);
+                boolean booleanValue = resultSet.getBoolean(columnIndex);
+                if (!resultSet.wasNull()) {
+                    buffer.setBoolean(rowIndex, columnIndex, booleanValue);
+                }
+                return;
             case Types.TINYINT:
             case Types.SMALLINT:
-                return resultSet.getInt(columnIndex);
+                setIntValue(resultSet, buffer, rowIndex, columnIndex);
+                return;
             case Types.INTEGER:
-                if (metaData.isSigned(columnIndex)) {
-                    return resultSet.getInt(columnIndex);
+                if (signed) {
+                    setIntValue(resultSet, buffer, rowIndex, columnIndex);
+                } else {
+                    setLongValue(resultSet, buffer, rowIndex, columnIndex);
                 }
-                return resultSet.getLong(columnIndex);
+                return;
             case Types.BIGINT:
-                if (metaData.isSigned(columnIndex)) {
-                    return resultSet.getLong(columnIndex);
+                if (signed) {
+                    setLongValue(resultSet, buffer, rowIndex, columnIndex);
+                    return;
                 }
                 BigDecimal bigDecimal = resultSet.getBigDecimal(columnIndex);
-                return bigDecimal == null ? null : bigDecimal.toBigInteger();
+                setObjectValue(resultSet, buffer, rowIndex, columnIndex, null == bigDecimal ? null : bigDecimal.toBigInteger());
+                return;
+            case Types.FLOAT:
+            case Types.DOUBLE:
+                double doubleValue = resultSet.getDouble(columnIndex);
+                if (!resultSet.wasNull()) {
+                    buffer.setDouble(rowIndex, columnIndex, doubleValue);
+                }
+                return;
+            default:
+                setObjectValue(resultSet, buffer, rowIndex, columnIndex, getRowValue(resultSet, columnIndex, columnType));
+        }
+    }
+    
+    private void setIntValue(final ResultSet resultSet, final CompactRowBuffer buffer, final int rowIndex, final int columnIndex) throws SQLException {
+        int value = resultSet.getInt(columnIndex);
+        if (!resultSet.wasNull()) {
+            buffer.setInt(rowIndex, columnIndex, value);
+        }
+    }
+    
+    private void setLongValue(final ResultSet resultSet, final CompactRowBuffer buffer, final int rowIndex, final int columnIndex) throws SQLException {
+        long value = resultSet.getLong(columnIndex);
+        if (!resultSet.wasNull()) {
+            buffer.setLong(rowIndex, columnIndex, value);
+        }
+    }
+    
+    private void setObjectValue(final ResultSet resultSet, final CompactRowBuffer buffer, final int rowIndex, final int columnIndex, final Object value) throws SQLException {
+        if (!resultSet.wasNull()) {
+            buffer.setValue(rowIndex, columnIndex, value);
+        }
+    }
+    
+    private Object getRowValue(final ResultSet resultSet, final int columnIndex, final int columnType) throws SQLException {
+        switch (columnType) {
             case Types.NUMERIC:
             case Types.DECIMAL:
                 return resultSet.getBigDecimal(columnIndex);
-            case Types.FLOAT:
-            case Types.DOUBLE:
-                return resultSet.getDouble(columnIndex);
             case Types.CHAR:
             case Types.VARCHAR:
             case Types.LONGVARCHAR:
@@ -114,27 +158,27 @@ public final class MemoryQueryResult implements QueryResult {
     
     @Override
     public boolean next() {
-        if (rows.hasNext()) {
-            currentRow = rows.next();
+        if (currentRowIndex + 1 < rows.getRowCount()) {
+            currentRowIndex++;
             return true;
         }
-        currentRow = null;
+        currentRowIndex = rows.getRowCount();
         return false;
     }
     
     @Override
     public Object getValue(final int columnIndex, final Class<?> type) {
-        return currentRow.get(columnIndex - 1);
+        return rows.getValue(currentRowIndex, columnIndex);
     }
     
     @Override
     public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
-        return currentRow.get(columnIndex - 1);
+        return rows.getValue(currentRowIndex, columnIndex);
     }
     
     @Override
     public InputStream getInputStream(final int columnIndex, final String type) {
-        return getInputStream(currentRow.get(columnIndex - 1));
+        return getInputStream(rows.getValue(currentRowIndex, columnIndex));
     }
     
     @SneakyThrows
@@ -149,7 +193,7 @@ public final class MemoryQueryResult implements QueryResult {
     
     @Override
     public boolean wasNull() {
-        return null == currentRow;
+        return currentRowIndex < 0 || currentRowIndex >= rows.getRowCount();
     }
     
     @Override
@@ -57,7 +57,7 @@ public abstract class ExecuteGroupEngine<U extends StorageResourceExecuteUnit, E
     
     public ExecuteGroupEngine(final int maxConnectionsSizePerQuery, final Collection<ShardingSphereRule> rules) {
         this.maxConnectionsSizePerQuery = maxConnectionsSizePerQuery;
-        decorators = OrderedSPIRegistry.getRegisteredServices(rules, ExecuteGroupDecorator.class);
+        decorators = OrderedSPIRegistry.getCachedRegisteredServices(rules, ExecuteGroupDecorator.class);
     }
     
     /**
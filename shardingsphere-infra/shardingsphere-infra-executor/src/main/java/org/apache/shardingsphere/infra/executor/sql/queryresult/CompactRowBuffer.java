@@ -0,0 +1,434 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.queryresult;
+
+import lombok.Getter;
+
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Compact row buffer, which stores rows column by column.
+ * 
+ * <p>
+ * Integer, long, double, boolean, date, time and timestamp values are stored in primitive arrays,
+ * and repeated strings are shared by a dictionary of the whole buffer.
+ * Storage of a column is decided by its first non null value,
+ * and falls back to object array if a value of another type is set to the column later.
+ * </p>
+ */
+public final class CompactRowBuffer {
+    
+    private static final int MAX_DICTIONARY_SIZE = 1 << 16;
+    
+    private final Column[] columns;
+    
+    private final Map<String, String> dictionary = new HashMap<>();
+    
+    @Getter
+    private int rowCount;
+    
+    public CompactRowBuffer(final int columnCount) {
+        columns = new Column[columnCount];
+    }
+    
+    /**
+     * Get column count.
+     * 
+     * @return column count
+     */
+    public int getColumnCount() {
+        return columns.length;
+    }
+    
+    /**
+     * Add an empty row whose values are all null.
+     * 
+     * @return row index, start from 0
+     */
+    public int addRow() {
+        return rowCount++;
+    }
+    
+    /**
+     * Get value.
+     * 
+     * @param rowIndex row index, start from 0
+     * @param columnIndex column index, start from 1
+     * @return value
+     */
+    public Object getValue(final int rowIndex, final int columnIndex) {
+        Column column = columns[columnIndex - 1];
+        return null == column || !column.presents.get(rowIndex) ? null : column.read(rowIndex);
+    }
+    
+    /**
+     * Set value.
+     * 
+     * @param rowIndex row index, start from 0
+     * @param columnIndex column index, start from 1
+     * @param value value
+     */
+    public void setValue(final int rowIndex, final int columnIndex, final Object value) {
+        Column column = columns[columnIndex - 1];
+        if (null == value) {
+            if (null != column) {
+                column.presents.clear(rowIndex);
+            }
+            return;
+        }
+        if (null == column) {
+            column = createColumn(value.getClass());
+            columns[columnIndex - 1] = column;
+        } else if (!column.accept(value)) {
+            column = promote(column);
+            columns[columnIndex - 1] = column;
+        }
+        column.write(rowIndex, value);
+        column.presents.set(rowIndex);
+    }
+    
+    /**
+     * Set int value without boxing.
+     * 
+     * @param rowIndex row index, start from 0
+     * @param columnIndex column index, start from 1
+     * @param value value
+     */
+    public void setInt(final int rowIndex, final int columnIndex, final int value) {
+        Column column = getOrCreateColumn(columnIndex, Integer.class);
+        if (column instanceof IntColumn) {
+            ((IntColumn) column).writeInt(rowIndex, value);
+            column.presents.set(rowIndex);
+        } else {
+            setValue(rowIndex, columnIndex, value);
+        }
+    }
+    
+    /**
+     * Set long value without boxing.
+     * 
+     * @param rowIndex row index, start from 0
+     * @param columnIndex column index, start from 1
+     * @param value value
+     */
+    public void setLong(final int rowIndex, final int columnIndex, final long value) {
+        Column column = getOrCreateColumn(columnIndex, Long.class);
+        if (column instanceof LongColumn) {
+            ((LongColumn) column).writeLong(rowIndex, value);
+            column.presents.set(rowIndex);
+        } else {
+            setValue(rowIndex, columnIndex, value);
+        }
+    }
+    
+    /**
+     * Set double value without boxing.
+     * 
+     * @param rowIndex row index, start from 0
+     * @param columnIndex column index, start from 1
+     * @param value value
+     */
+    public void setDouble(final int rowIndex, final int columnIndex, final double value) {
+        Column column = getOrCreateColumn(columnIndex, Double.class);
+        if (column instanceof DoubleColumn) {
+            ((DoubleColumn) column).writeDouble(rowIndex, value);
+            column.presents.set(rowIndex);
+        } else {
+            setValue(rowIndex, columnIndex, value);
+        }
+    }
+    
+    /**
+     * Set boolean value without boxing.
+     * 
+     * @param rowIndex row index, start from 0
+     * @param columnIndex column index, start from 1
+     * @param value value
+     */
+    public void setBoolean(final int rowIndex, final int columnIndex, final boolean value) {
+        Column column = getOrCreateColumn(columnIndex, Boolean.class);
+        if (column instanceof BooleanColumn) {
+            ((BooleanColumn) column).values.set(rowIndex, value);
+            column.presents.set(rowIndex);
+        } else {
+            setValue(rowIndex, columnIndex, value);
+        }
+    }
+    
+    private Column getOrCreateColumn(final int columnIndex, final Class<?> valueClass) {
+        if (null == columns[columnIndex - 1]) {
+            columns[columnIndex - 1] = createColumn(valueClass);
+        }
+        return columns[columnIndex - 1];
+    }
+    
+    private Column createColumn(final Class<?> valueClass) {
+        if (Integer.class == valueClass) {
+            return new IntColumn();
+        }
+        if (Long.class == valueClass) {
+            return new LongColumn();
+        }
+        if (Double.class == valueClass) {
+            return new DoubleColumn();
+        }
+        if (Boolean.class == valueClass) {
+            return new BooleanColumn();
+        }
+        if (String.class == valueClass) {
+            return new StringColumn(dictionary);
+        }
+        if (Date.class == valueClass || Time.class == valueClass || Timestamp.class == valueClass) {
+            return new TemporalColumn(valueClass);
+        }
+        return new ObjectColumn();
+    }
+    
+    private Column promote(final Column column) {
+        Column result = new ObjectColumn();
+        for (int i = column.presents.nextSetBit(0); i >= 0; i = column.presents.nextSetBit(i + 1)) {
+            result.write(i, column.read(i));
+        }
+        result.presents.or(column.presents);
+        return result;
+    }
+    
+    private static int grow(final int currentCapacity, final int rowIndex) {
+        return Math.max(rowIndex + 1, currentCapacity << 1);
+    }
+    
+    private abstract static class Column {
+        
+        private final BitSet presents = new BitSet();
+        
+        abstract boolean accept(Object value);
+        
+        abstract void write(int rowIndex, Object value);
+        
+        abstract Object read(int rowIndex);
+    }
+    
+    private static final class IntColumn extends Column {
+        
+        private int[] values = new int[0];
+        
+        @Override
+        boolean accept(final Object value) {
+            return Integer.class == value.getClass();
+        }
+        
+        @Override
+        void write(final int rowIndex, final Object value) {
+            writeInt(rowIndex, (Integer) value);
+        }
+        
+        void writeInt(final int rowIndex, final int value) {
+            if (rowIndex >= values.length) {
+                values = Arrays.copyOf(values, grow(values.length, rowIndex));
+            }
+            values[rowIndex] = value;
+        }
+        
+        @Override
+        Object read(final int rowIndex) {
+            return values[rowIndex];
+        }
+    }
+    
+    private static final class LongColumn extends Column {
+        
+        private long[] values = new long[0];
+        
+        @Override
+        boolean accept(final Object value) {
+            return Long.class == value.getClass();
+        }
+        
+        @Override
+        void write(final int rowIndex, final Object value) {
+            writeLong(rowIndex, (Long) value);
+        }
+        
+        void writeLong(final int rowIndex, final long value) {
+            if (rowIndex >= values.length) {
+                values = Arrays.copyOf(values, grow(values.length, rowIndex));
+            }
+            values[rowIndex] = value;
+        }
+        
+        @Override
+        Object read(final int rowIndex) {
+            return values[rowIndex];
+        }
+    }
+    
+    private static final class DoubleColumn extends Column {
+        
+        private double[] values = new double[0];
+        
+        @Override
+        boolean accept(final Object value) {
+            return Double.class == value.getClass();
+        }
+        
+        @Override
+        void write(final int rowIndex, final Object value) {
+            writeDouble(rowIndex, (Double) value);
+        }
+        
+        void writeDouble(final int rowIndex, final double value) {
+            if (rowIndex >= values.length) {
+                values = Arrays.copyOf(values, grow(values.length, rowIndex));
+            }
+            values[rowIndex] = value;
+        }
+        
+        @Override
+        Object read(final int rowIndex) {
+            return values[rowIndex];
+        }
+    }
+    
+    private static final class BooleanColumn extends Column {
+        
+        private final BitSet values = new BitSet();
+        
+        @Override
+        boolean accept(final Object value) {
+            return Boolean.class == value.getClass();
+        }
+        
+        @Override
+        void write(final int rowIndex, final Object value) {
+            values.set(rowIndex, (Boolean) value);
+        }
+        
+        @Override
+        Object read(final int rowIndex) {
+            return values.get(rowIndex);
+        }
+    }
+    
+    private static final class TemporalColumn extends Column {
+        
+        private final Class<?> valueClass;
+        
+        private long[] millis = new long[0];
+        
+        private int[] nanos;
+        
+        TemporalColumn(final Class<?> valueClass) {
+            this.valueClass = valueClass;
+            nanos = Timestamp.class == valueClass ? new int[0] : null;
+        }
+        
+        @Override
+        boolean accept(final Object value) {
+            return valueClass == value.getClass();
+        }
+        
+        @Override
+        void write(final int rowIndex, final Object value) {
+            if (rowIndex >= millis.length) {
+                millis = Arrays.copyOf(millis, grow(millis.length, rowIndex));
+                if (null != nanos) {
+                    nanos = Arrays.copyOf(nanos, millis.length);
+                }
+            }
+            millis[rowIndex] = ((java.util.Date) value).getTime();
+            if (null != nanos) {
+                nanos[rowIndex] = ((Timestamp) value).getNanos();
+            }
+        }
+        
+        @Override
+        Object read(final int rowIndex) {
+            if (Date.class == valueClass) {
+                return new Date(millis[rowIndex]);
+            }
+            if (Time.class == valueClass) {
+                return new Time(millis[rowIndex]);
+            }
+            Timestamp result = new Timestamp(millis[rowIndex]);
+            result.setNanos(nanos[rowIndex]);
+            return result;
+        }
+    }
+    
+    private static final class StringColumn extends Column {
+        
+        private final Map<String, String> dictionary;
+        
+        private String[] values = new String[0];
+        
+        StringColumn(final Map<String, String> dictionary) {
+            this.dictionary = dictionary;
+        }
+        
+        @Override
+        boolean accept(final Object value) {
+            return String.class == value.getClass();
+        }
+        
+        @Override
+        void write(final int rowIndex, final Object value) {
+            if (rowIndex >= values.length) {
+                values = Arrays.copyOf(values, grow(values.length, rowIndex));
+            }
+            String shared = dictionary.get(value);
+            if (null == shared && dictionary.size() < MAX_DICTIONARY_SIZE) {
+                dictionary.put((String) value, (String) value);
+            }
+            values[rowIndex] = null == shared ? (String) value : shared;
+        }
+        
+        @Override
+        Object read(final int rowIndex) {
+            return values[rowIndex];
+        }
+    }
+    
+    private static final class ObjectColumn extends Column {
+        
+        private Object[] values = new Object[0];
+        
+        @Override
+        boolean accept(final Object value) {
+            return true;
+        }
+        
+        @Override
+        void write(final int rowIndex, final Object value) {
+            if (rowIndex >= values.length) {
+                values = Arrays.copyOf(values, grow(values.length, rowIndex));
+            }
+            values[rowIndex] = value;
+        }
+        
+        @Override
+        Object read(final int rowIndex) {
+            return values[rowIndex];
+        }
+    }
+}
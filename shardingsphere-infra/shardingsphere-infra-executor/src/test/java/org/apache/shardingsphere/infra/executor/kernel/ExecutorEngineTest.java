@@ -23,13 +23,19 @@ import org.junit.Before;
 import org.junit.Test;
 
 import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
 import static org.mockito.Mockito.mock;
 
 public final class ExecutorEngineTest {
@@ -100,4 +106,53 @@ public final class ExecutorEngineTest {
         latch.countDown();
         assertThat(actual.size(), is(0));
     }
+    
+    @Test
+    public void assertExecuteAsync() throws InterruptedException, ExecutionException {
+        AtomicInteger finishedGroupCount = new AtomicInteger();
+        List<String> actual = executorEngine.executeAsync(inputGroups, callback, groupResults -> finishedGroupCount.incrementAndGet(), 0L).get();
+        latch.await();
+        assertThat(actual.size(), is(4));
+        assertThat(finishedGroupCount.get(), is(2));
+    }
+    
+    @Test
+    public void assertExecuteAsyncWhenInputGroupIsEmpty() throws InterruptedException, ExecutionException {
+        assertThat(executorEngine.executeAsync(new LinkedList<InputGroup<Object>>(), callback, 1000L).get().size(), is(0));
+    }
+    
+    @Test
+    public void assertExecuteAsyncFailure() throws InterruptedException {
+        SQLException expected = new SQLException("test");
+        ExecutorCallback<Object, String> failedCallback = (inputs, isTrunkThread, dataMap) -> {
+            throw expected;
+        };
+        try {
+            executorEngine.executeAsync(inputGroups, failedCallback, 0L).get();
+            fail("Expected ExecutionException.");
+        } catch (final ExecutionException ex) {
+            assertThat(ex.getCause(), is((Throwable) expected));
+        }
+    }
+    
+    @Test
+    public void assertExecuteAsyncExceedsDeadline() throws InterruptedException {
+        CountDownLatch blockLatch = new CountDownLatch(1);
+        ExecutorCallback<Object, String> blockedCallback = (inputs, isTrunkThread, dataMap) -> {
+            try {
+                blockLatch.await();
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            return Collections.emptyList();
+        };
+        try {
+            executorEngine.executeAsync(inputGroups, blockedCallback, 10L).get();
+            fail("Expected ExecutionException.");
+        } catch (final ExecutionException ex) {
+            assertThat(ex.getCause(), instanceOf(SQLTimeoutException.class));
+        } finally {
+            blockLatch.countDown();
+        }
+    }
 }
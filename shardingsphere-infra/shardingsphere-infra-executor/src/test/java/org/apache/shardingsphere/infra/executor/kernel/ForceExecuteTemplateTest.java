@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public final class ForceExecuteTemplateTest {
+    
+    private final ForceExecuteTemplate<Connection> forceExecuteTemplate = new ForceExecuteTemplate<>();
+    
+    private final ExecutorService executorService = Executors.newFixedThreadPool(2);
+    
+    @After
+    public void tearDown() {
+        executorService.shutdownNow();
+    }
+    
+    @Test
+    public void assertParallelExecute() throws SQLException {
+        Connection connection1 = mock(Connection.class);
+        Connection connection2 = mock(Connection.class);
+        Connection connection3 = mock(Connection.class);
+        forceExecuteTemplate.execute(Arrays.asList(connection1, connection2, connection3), Connection::commit, executorService);
+        verify(connection1).commit();
+        verify(connection2).commit();
+        verify(connection3).commit();
+    }
+    
+    @Test
+    public void assertParallelExecuteWithSingleTarget() throws SQLException {
+        Connection connection = mock(Connection.class);
+        forceExecuteTemplate.execute(Collections.singletonList(connection), Connection::rollback, executorService);
+        verify(connection).rollback();
+    }
+    
+    @Test
+    public void assertParallelExecuteCollectsAllFailures() throws SQLException {
+        Connection connection1 = mock(Connection.class);
+        Connection connection2 = mock(Connection.class);
+        Connection connection3 = mock(Connection.class);
+        SQLException firstException = new SQLException("first");
+        SQLException thirdException = new SQLException("third");
+        doThrow(firstException).when(connection1).rollback();
+        doThrow(thirdException).when(connection3).rollback();
+        try {
+            forceExecuteTemplate.execute(Arrays.asList(connection1, connection2, connection3), Connection::rollback, executorService);
+            fail("Expected SQLException.");
+        } catch (final SQLException ex) {
+            assertThat(ex.getNextException(), is(firstException));
+            assertThat(ex.getNextException().getNextException(), is(thirdException));
+        }
+        verify(connection2).rollback();
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.jdbc.executor;
+
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.exception.ShardingSphereException;
+import org.apache.shardingsphere.infra.executor.kernel.ExecutorKernel;
+import org.apache.shardingsphere.infra.executor.kernel.InputGroup;
+import org.apache.shardingsphere.infra.executor.sql.execute.jdbc.StatementExecuteUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.jdbc.executor.ExecutorExceptionHandler;
+import org.apache.shardingsphere.infra.executor.sql.execute.jdbc.executor.SQLExecutor;
+import org.apache.shardingsphere.infra.executor.sql.execute.jdbc.executor.SQLExecutorCallback;
+import org.junit.After;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+
+public final class SQLExecutorTest {
+    
+    private final ExecutorKernel executorKernel = new ExecutorKernel(10);
+    
+    @After
+    @SneakyThrows
+    public void tearDown() {
+        executorKernel.close();
+        Field field = ExecutorExceptionHandler.class.getDeclaredField("IS_EXCEPTION_THROWN");
+        field.setAccessible(true);
+        ((ThreadLocal) field.get(ExecutorExceptionHandler.class)).remove();
+    }
+    
+    @Test
+    public void assertExecuteAsync() throws InterruptedException, ExecutionException {
+        SQLExecutorCallback<Integer> callback = (inputs, isTrunkThread, dataMap) -> Collections.singletonList(inputs.size());
+        assertThat(new SQLExecutor(executorKernel, false).executeAsync(createInputGroups(), callback, 0L).get(), is(Arrays.asList(1, 1)));
+    }
+    
+    @Test
+    public void assertExecuteAsyncWithSerial() throws InterruptedException, ExecutionException {
+        SQLExecutorCallback<Boolean> callback = (inputs, isTrunkThread, dataMap) -> Collections.singletonList(isTrunkThread);
+        CompletableFuture<List<Boolean>> actual = new SQLExecutor(executorKernel, true).executeAsync(createInputGroups(), callback, 0L);
+        assertTrue(actual.isDone());
+        assertThat(actual.get(), is(Arrays.asList(true, true)));
+    }
+    
+    @Test
+    public void assertExecuteAsyncFailureWhenExceptionThrownIsTrue() throws InterruptedException {
+        SQLException expected = new SQLException("test");
+        SQLExecutorCallback<Integer> callback = (inputs, isTrunkThread, dataMap) -> {
+            throw expected;
+        };
+        try {
+            new SQLExecutor(executorKernel, false).executeAsync(createInputGroups(), callback, 0L).get();
+            fail("Expected ExecutionException.");
+        } catch (final ExecutionException ex) {
+            assertThat(ex.getCause(), is((Throwable) expected));
+        }
+    }
+    
+    @Test
+    public void assertExecuteAsyncRuntimeFailureWhenExceptionThrownIsTrue() throws InterruptedException {
+        SQLExecutorCallback<Integer> callback = (inputs, isTrunkThread, dataMap) -> {
+            throw new IllegalStateException("test");
+        };
+        try {
+            new SQLExecutor(executorKernel, false).executeAsync(createInputGroups(), callback, 0L).get();
+            fail("Expected ExecutionException.");
+        } catch (final ExecutionException ex) {
+            assertThat(ex.getCause(), instanceOf(ShardingSphereException.class));
+        }
+    }
+    
+    @Test
+    public void assertExecuteAsyncFailureWhenExceptionThrownIsFalse() throws InterruptedException, ExecutionException {
+        ExecutorExceptionHandler.setExceptionThrown(false);
+        SQLExecutorCallback<Integer> callback = (inputs, isTrunkThread, dataMap) -> {
+            throw new SQLException("test");
+        };
+        assertTrue(new SQLExecutor(executorKernel, false).executeAsync(createInputGroups(), callback, 0L).get().isEmpty());
+        assertTrue(new SQLExecutor(executorKernel, true).executeAsync(createInputGroups(), callback, 0L).get().isEmpty());
+    }
+    
+    @Test
+    public void assertExecuteAsyncExceedsDeadline() throws InterruptedException {
+        CountDownLatch blockLatch = new CountDownLatch(1);
+        SQLExecutorCallback<Integer> callback = (inputs, isTrunkThread, dataMap) -> {
+            try {
+                blockLatch.await();
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            return Collections.emptyList();
+        };
+        try {
+            new SQLExecutor(executorKernel, false).executeAsync(createInputGroups(), callback, 10L).get();
+            fail("Expected ExecutionException.");
+        } catch (final ExecutionException ex) {
+            assertThat(ex.getCause(), instanceOf(SQLTimeoutException.class));
+        } finally {
+            blockLatch.countDown();
+        }
+    }
+    
+    private Collection<InputGroup<StatementExecuteUnit>> createInputGroups() {
+        return Arrays.asList(new InputGroup<>(Collections.singletonList(mock(StatementExecuteUnit.class))), new InputGroup<>(Collections.singletonList(mock(StatementExecuteUnit.class))));
+    }
+}
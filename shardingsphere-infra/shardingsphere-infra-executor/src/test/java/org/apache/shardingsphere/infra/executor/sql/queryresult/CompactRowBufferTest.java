@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.queryresult;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+
+public final class CompactRowBufferTest {
+    
+    @Test
+    public void assertSetAndGetPrimitiveValues() {
+        CompactRowBuffer actual = new CompactRowBuffer(4);
+        for (int i = 0; i < 100; i++) {
+            int rowIndex = actual.addRow();
+            actual.setInt(rowIndex, 1, i);
+            actual.setLong(rowIndex, 2, i * 10L);
+            actual.setDouble(rowIndex, 3, i / 2D);
+            actual.setBoolean(rowIndex, 4, 0 == i % 2);
+        }
+        assertThat(actual.getRowCount(), is(100));
+        assertThat(actual.getColumnCount(), is(4));
+        assertThat(actual.getValue(99, 1), is((Object) 99));
+        assertThat(actual.getValue(99, 2), is((Object) 990L));
+        assertThat(actual.getValue(99, 3), is((Object) 49.5D));
+        assertThat(actual.getValue(99, 4), is((Object) false));
+        assertThat(actual.getValue(98, 4), is((Object) true));
+    }
+    
+    @Test
+    public void assertNullValues() {
+        CompactRowBuffer actual = new CompactRowBuffer(2);
+        actual.addRow();
+        actual.setInt(actual.addRow(), 2, 1);
+        actual.setValue(1, 2, null);
+        assertNull(actual.getValue(0, 1));
+        assertNull(actual.getValue(1, 1));
+        assertNull(actual.getValue(0, 2));
+        assertNull(actual.getValue(1, 2));
+    }
+    
+    @Test
+    public void assertTemporalValues() {
+        Timestamp timestamp = new Timestamp(1500000000123L);
+        timestamp.setNanos(123456789);
+        CompactRowBuffer actual = new CompactRowBuffer(3);
+        int rowIndex = actual.addRow();
+        actual.setValue(rowIndex, 1, new Date(1500000000000L));
+        actual.setValue(rowIndex, 2, new Time(1500000000000L));
+        actual.setValue(rowIndex, 3, timestamp);
+        assertThat(actual.getValue(rowIndex, 1), is((Object) new Date(1500000000000L)));
+        assertThat(actual.getValue(rowIndex, 2), is((Object) new Time(1500000000000L)));
+        assertThat(actual.getValue(rowIndex, 3), is((Object) timestamp));
+    }
+    
+    @Test
+    public void assertStringsShareDictionary() {
+        CompactRowBuffer actual = new CompactRowBuffer(2);
+        actual.setValue(actual.addRow(), 1, new String("value"));
+        actual.setValue(actual.addRow(), 2, new String("value"));
+        assertThat(actual.getValue(1, 2), sameInstance(actual.getValue(0, 1)));
+    }
+    
+    @Test
+    public void assertPromoteToObjectColumn() {
+        CompactRowBuffer actual = new CompactRowBuffer(1);
+        actual.setInt(actual.addRow(), 1, 1);
+        actual.setLong(actual.addRow(), 1, 2L);
+        actual.setValue(actual.addRow(), 1, new BigDecimal("3.5"));
+        assertThat(actual.getValue(0, 1), instanceOf(Integer.class));
+        assertThat(actual.getValue(0, 1), is((Object) 1));
+        assertThat(actual.getValue(1, 1), is((Object) 2L));
+        assertThat(actual.getValue(2, 1), is((Object) new BigDecimal("3.5")));
+    }
+}
@@ -61,7 +61,7 @@ public final class MergeEngine {
         this.databaseType = databaseType;
         this.schemaMetaData = schemaMetaData;
         this.properties = properties;
-        engines = OrderedSPIRegistry.getRegisteredServices(rules, ResultProcessEngine.class);
+        engines = OrderedSPIRegistry.getCachedRegisteredServices(rules, ResultProcessEngine.class);
     }
     
     /**
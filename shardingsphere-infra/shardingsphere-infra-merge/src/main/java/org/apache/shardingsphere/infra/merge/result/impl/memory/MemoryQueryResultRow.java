@@ -19,18 +19,34 @@ package org.apache.shardingsphere.infra.merge.result.impl.memory;
 
 import com.google.common.base.Preconditions;
 import org.apache.shardingsphere.infra.executor.sql.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.queryresult.CompactRowBuffer;
 
 import java.sql.SQLException;
 
 /**
  * Memory query result row.
+ * 
+ * <p>Data of a row loaded alone are stored in a plain object array,
+ * and data of rows loaded together are stored in a compact row buffer which may be shared by other rows.</p>
  */
 public final class MemoryQueryResultRow {
     
     private final Object[] data;
     
+    private final CompactRowBuffer buffer;
+    
+    private final int rowIndex;
+    
     public MemoryQueryResultRow(final QueryResult queryResult) throws SQLException {
         data = load(queryResult);
+        buffer = null;
+        rowIndex = -1;
+    }
+    
+    public MemoryQueryResultRow(final CompactRowBuffer buffer, final QueryResult queryResult) throws SQLException {
+        data = null;
+        this.buffer = buffer;
+        rowIndex = load(buffer, queryResult);
     }
     
     private Object[] load(final QueryResult queryResult) throws SQLException {
@@ -42,6 +58,15 @@ public final class MemoryQueryResultRow {
         return result;
     }
     
+    private int load(final CompactRowBuffer buffer, final QueryResult queryResult) throws SQLException {
+        int result = buffer.addRow();
+        int columnCount = buffer.getColumnCount();
+        for (int i = 1; i <= columnCount; i++) {
+            buffer.setValue(result, i, queryResult.getValue(i, Object.class));
+        }
+        return result;
+    }
+    
     /**
      * Get data from cell.
      * 
@@ -49,8 +74,8 @@ public final class MemoryQueryResultRow {
      * @return data from cell
      */
     public Object getCell(final int columnIndex) {
-        Preconditions.checkArgument(columnIndex > 0 && columnIndex < data.length + 1);
-        return data[columnIndex - 1];
+        Preconditions.checkArgument(columnIndex > 0 && columnIndex < getColumnCount() + 1);
+        return null == buffer ? data[columnIndex - 1] : buffer.getValue(rowIndex, columnIndex);
     }
     
     /**
@@ -60,7 +85,15 @@ public final class MemoryQueryResultRow {
      * @param value data for cell
      */
     public void setCell(final int columnIndex, final Object value) {
-        Preconditions.checkArgument(columnIndex > 0 && columnIndex < data.length + 1);
-        data[columnIndex - 1] = value;
+        Preconditions.checkArgument(columnIndex > 0 && columnIndex < getColumnCount() + 1);
+        if (null == buffer) {
+            data[columnIndex - 1] = value;
+        } else {
+            buffer.setValue(rowIndex, columnIndex, value);
+        }
+    }
+    
+    private int getColumnCount() {
+        return null == buffer ? data.length : buffer.getColumnCount();
     }
 }
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.result.util;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Calendar;
+import java.util.Date;
+
+/**
+ * Calendar value utility for merged results which keep values in memory.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class CalendarValueUtil {
+    
+    /**
+     * Convert date value read in local time zone to time zone of calendar.
+     * 
+     * @param value value read in local time zone
+     * @param calendar calendar to construct date with
+     * @return converted value, or the original value if it is not a date or calendar is null
+     */
+    public static Object convert(final Object value, final Calendar calendar) {
+        return null == calendar || !(value instanceof Date) ? value : convertTimeZone((Date) value, calendar);
+    }
+    
+    private static Date convertTimeZone(final Date value, final Calendar calendar) {
+        Calendar localCalendar = Calendar.getInstance();
+        localCalendar.setTime(value);
+        Calendar targetCalendar = (Calendar) calendar.clone();
+        targetCalendar.clear();
+        targetCalendar.set(localCalendar.get(Calendar.YEAR), localCalendar.get(Calendar.MONTH), localCalendar.get(Calendar.DAY_OF_MONTH),
+                localCalendar.get(Calendar.HOUR_OF_DAY), localCalendar.get(Calendar.MINUTE), localCalendar.get(Calendar.SECOND));
+        targetCalendar.set(Calendar.MILLISECOND, localCalendar.get(Calendar.MILLISECOND));
+        long millis = targetCalendar.getTimeInMillis();
+        if (value instanceof Timestamp) {
+            Timestamp result = new Timestamp(millis);
+            result.setNanos(((Timestamp) value).getNanos());
+            return result;
+        }
+        if (value instanceof Time) {
+            return new Time(millis);
+        }
+        if (value instanceof java.sql.Date) {
+            return new java.sql.Date(millis);
+        }
+        return new Date(millis);
+    }
+}
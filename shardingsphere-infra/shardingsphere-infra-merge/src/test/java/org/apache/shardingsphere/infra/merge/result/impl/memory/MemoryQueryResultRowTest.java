@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.infra.merge.result.impl.memory;
 
 import org.apache.shardingsphere.infra.executor.sql.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.queryresult.CompactRowBuffer;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -61,6 +62,20 @@ public final class MemoryQueryResultRowTest {
         assertThat(memoryResultSetRow.getCell(1).toString(), is("new"));
     }
     
+    @Test
+    public void assertRowsWithSharedBuffer() throws SQLException {
+        QueryResult queryResult = mock(QueryResult.class);
+        when(queryResult.getColumnCount()).thenReturn(1);
+        when(queryResult.getValue(1, Object.class)).thenReturn(1, 2);
+        CompactRowBuffer buffer = new CompactRowBuffer(1);
+        MemoryQueryResultRow first = new MemoryQueryResultRow(buffer, queryResult);
+        MemoryQueryResultRow second = new MemoryQueryResultRow(buffer, queryResult);
+        second.setCell(1, 3L);
+        assertThat(first.getCell(1), is((Object) 1));
+        assertThat(second.getCell(1), is((Object) 3L));
+        assertThat(buffer.getRowCount(), is(2));
+    }
+    
     @Test(expected = IllegalArgumentException.class)
     public void assertSetCellWithNegativeColumnIndex() {
         memoryResultSetRow.setCell(-1, "new");
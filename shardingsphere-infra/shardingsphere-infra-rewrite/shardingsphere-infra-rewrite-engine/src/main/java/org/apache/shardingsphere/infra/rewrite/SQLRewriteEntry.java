@@ -18,21 +18,30 @@
 package org.apache.shardingsphere.infra.rewrite;
 
 import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.rewrite.cache.SQLRewritePlanCache;
 import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContext;
 import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContextDecorator;
 import org.apache.shardingsphere.infra.rewrite.engine.GenericSQLRewriteEngine;
 import org.apache.shardingsphere.infra.rewrite.engine.RouteSQLRewriteEngine;
+import org.apache.shardingsphere.infra.rewrite.engine.result.GenericSQLRewriteResult;
+import org.apache.shardingsphere.infra.rewrite.engine.result.RouteSQLRewriteResult;
 import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteResult;
+import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteUnit;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteResult;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.spi.ShardingSphereServiceLoader;
 import org.apache.shardingsphere.infra.spi.order.OrderedSPIRegistry;
 import org.apache.shardingsphere.sql.parser.binder.metadata.schema.SchemaMetaData;
 import org.apache.shardingsphere.sql.parser.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.sql.parser.sql.statement.ddl.DDLStatement;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * SQL rewrite entry.
@@ -49,10 +58,17 @@ public final class SQLRewriteEntry {
     
     private final Map<ShardingSphereRule, SQLRewriteContextDecorator> decorators;
     
+    private final SQLRewritePlanCache planCache;
+    
     public SQLRewriteEntry(final SchemaMetaData schemaMetaData, final ConfigurationProperties properties, final Collection<ShardingSphereRule> rules) {
+        this(schemaMetaData, properties, rules, null);
+    }
+    
+    public SQLRewriteEntry(final SchemaMetaData schemaMetaData, final ConfigurationProperties properties, final Collection<ShardingSphereRule> rules, final SQLRewritePlanCache planCache) {
         this.schemaMetaData = schemaMetaData;
         this.properties = properties;
-        decorators = OrderedSPIRegistry.getRegisteredServices(rules, SQLRewriteContextDecorator.class);
+        decorators = OrderedSPIRegistry.getCachedRegisteredServices(rules, SQLRewriteContextDecorator.class);
+        this.planCache = planCache;
     }
     
     /**
@@ -65,14 +81,19 @@ public final class SQLRewriteEntry {
      */
     public SQLRewriteResult rewrite(final String sql, final List<Object> parameters, final RouteContext routeContext) {
         SQLRewriteContext sqlRewriteContext = createSQLRewriteContext(sql, parameters, routeContext.getSqlStatementContext(), routeContext);
-        return routeContext.getRouteResult().getRouteUnits().isEmpty()
-                ? new GenericSQLRewriteEngine().rewrite(sqlRewriteContext) : new RouteSQLRewriteEngine().rewrite(sqlRewriteContext, routeContext.getRouteResult());
+        if (null == planCache) {
+            return rewriteWithoutPlanCache(sqlRewriteContext, routeContext.getRouteResult());
+        }
+        if (routeContext.getSqlStatementContext().getSqlStatement() instanceof DDLStatement) {
+            planCache.clear();
+        }
+        return sqlRewriteContext.isParametersIndependent()
+                ? rewriteWithPlanCache(sql, sqlRewriteContext, routeContext.getRouteResult()) : rewriteWithoutPlanCache(sqlRewriteContext, routeContext.getRouteResult());
     }
     
     private SQLRewriteContext createSQLRewriteContext(final String sql, final List<Object> parameters, final SQLStatementContext sqlStatementContext, final RouteContext routeContext) {
         SQLRewriteContext result = new SQLRewriteContext(schemaMetaData, sqlStatementContext, sql, parameters);
         decorate(decorators, result, routeContext);
-        result.generateSQLTokens();
         return result;
     }
     
@@ -80,4 +101,27 @@ public final class SQLRewriteEntry {
     private void decorate(final Map<ShardingSphereRule, SQLRewriteContextDecorator> decorators, final SQLRewriteContext sqlRewriteContext, final RouteContext routeContext) {
         decorators.forEach((key, value) -> value.decorate(key, properties, sqlRewriteContext, routeContext));
     }
+    
+    private SQLRewriteResult rewriteWithPlanCache(final String sql, final SQLRewriteContext sqlRewriteContext, final RouteResult routeResult) {
+        Optional<List<String>> rewrittenSQLs = planCache.getRewrittenSQLs(sql, routeResult.getRouteUnits());
+        if (rewrittenSQLs.isPresent()) {
+            return routeResult.getRouteUnits().isEmpty()
+                    ? new GenericSQLRewriteEngine().rewrite(sqlRewriteContext, rewrittenSQLs.get().get(0)) : new RouteSQLRewriteEngine().rewrite(sqlRewriteContext, routeResult, rewrittenSQLs.get());
+        }
+        SQLRewriteResult result = rewriteWithoutPlanCache(sqlRewriteContext, routeResult);
+        planCache.put(sql, routeResult.getRouteUnits(), getRewrittenSQLs(result));
+        return result;
+    }
+    
+    private SQLRewriteResult rewriteWithoutPlanCache(final SQLRewriteContext sqlRewriteContext, final RouteResult routeResult) {
+        sqlRewriteContext.generateSQLTokens();
+        return routeResult.getRouteUnits().isEmpty() ? new GenericSQLRewriteEngine().rewrite(sqlRewriteContext) : new RouteSQLRewriteEngine().rewrite(sqlRewriteContext, routeResult);
+    }
+    
+    private List<String> getRewrittenSQLs(final SQLRewriteResult sqlRewriteResult) {
+        if (sqlRewriteResult instanceof GenericSQLRewriteResult) {
+            return Collections.singletonList(((GenericSQLRewriteResult) sqlRewriteResult).getSqlRewriteUnit().getSql());
+        }
+        return ((RouteSQLRewriteResult) sqlRewriteResult).getSqlRewriteUnits().values().stream().map(SQLRewriteUnit::getSql).collect(Collectors.toList());
+    }
 }
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.rewrite.cache;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.EqualsAndHashCode;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * SQL rewrite plan cache.
+ * 
+ * <p>
+ * Cache rewritten SQL of each route unit by logic SQL and route units, 
+ * only parameter dependent rewrite need to be executed when plan is cached.
+ * </p>
+ */
+public final class SQLRewritePlanCache {
+    
+    private final Cache<PlanKey, List<String>> cache = CacheBuilder.newBuilder().softValues().initialCapacity(2000).maximumSize(65535).recordStats().build();
+    
+    /**
+     * Put rewritten SQLs into cache.
+     * 
+     * @param sql logic SQL
+     * @param routeUnits route units
+     * @param rewrittenSQLs rewritten SQLs, ordered as route units
+     */
+    public void put(final String sql, final Collection<RouteUnit> routeUnits, final List<String> rewrittenSQLs) {
+        cache.put(new PlanKey(sql, routeUnits), rewrittenSQLs);
+    }
+    
+    /**
+     * Get rewritten SQLs.
+     * 
+     * @param sql logic SQL
+     * @param routeUnits route units
+     * @return rewritten SQLs, ordered as route units
+     */
+    public Optional<List<String>> getRewrittenSQLs(final String sql, final Collection<RouteUnit> routeUnits) {
+        return Optional.ofNullable(cache.getIfPresent(new PlanKey(sql, routeUnits)));
+    }
+    
+    /**
+     * Get hit count.
+     * 
+     * @return hit count
+     */
+    public long getHitCount() {
+        return cache.stats().hitCount();
+    }
+    
+    /**
+     * Get miss count.
+     * 
+     * @return miss count
+     */
+    public long getMissCount() {
+        return cache.stats().missCount();
+    }
+    
+    /**
+     * Clear cache.
+     */
+    public synchronized void clear() {
+        cache.invalidateAll();
+    }
+    
+    @EqualsAndHashCode
+    private static final class PlanKey {
+        
+        private final String sql;
+        
+        private final List<RouteUnit> routeUnits;
+        
+        PlanKey(final String sql, final Collection<RouteUnit> routeUnits) {
+            this.sql = sql;
+            this.routeUnits = new ArrayList<>(routeUnits);
+        }
+    }
+}
@@ -28,11 +28,16 @@ import org.apache.shardingsphere.infra.rewrite.sql.token.generator.builder.Defau
 import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.SQLToken;
 import org.apache.shardingsphere.sql.parser.binder.metadata.schema.SchemaMetaData;
 import org.apache.shardingsphere.sql.parser.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.sql.parser.binder.segment.select.pagination.PaginationContext;
 import org.apache.shardingsphere.sql.parser.binder.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.sql.parser.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.pagination.PaginationValueSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.pagination.ParameterMarkerPaginationValueSegment;
 
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * SQL rewrite context.
@@ -81,4 +86,31 @@ public final class SQLRewriteContext {
     public void generateSQLTokens() {
         sqlTokens.addAll(sqlTokenGenerators.generateSQLTokens(sqlStatementContext, parameters, schemaMetaData));
     }
+    
+    /**
+     * Judge whether rewritten SQL is parameters independent.
+     * 
+     * <p>
+     * Rewritten SQL of insert statement, statement with parameters aware SQL tokens, 
+     * or pagination mixed literal and parameter marker depends on parameters, which should not be reused for other parameters.
+     * </p>
+     *
+     * @return rewritten SQL is parameters independent or not
+     */
+    public boolean isParametersIndependent() {
+        if (sqlStatementContext instanceof InsertStatementContext) {
+            return false;
+        }
+        if (sqlStatementContext instanceof SelectStatementContext && isMixedPagination(((SelectStatementContext) sqlStatementContext).getPaginationContext())) {
+            return false;
+        }
+        return !sqlTokenGenerators.containsParametersAwareSQLTokenGenerator(sqlStatementContext);
+    }
+    
+    private boolean isMixedPagination(final PaginationContext paginationContext) {
+        Optional<PaginationValueSegment> offsetSegment = paginationContext.getOffsetSegment();
+        Optional<PaginationValueSegment> rowCountSegment = paginationContext.getRowCountSegment();
+        return offsetSegment.isPresent() && rowCountSegment.isPresent()
+                && offsetSegment.get() instanceof ParameterMarkerPaginationValueSegment != rowCountSegment.get() instanceof ParameterMarkerPaginationValueSegment;
+    }
 }
@@ -43,6 +43,17 @@ public final class GenericSQLRewriteEngine {
         return new GenericSQLRewriteResult(new SQLRewriteUnit(new DefaultSQLBuilder(sqlRewriteContext).toSQL(), getParameters(sqlRewriteContext.getParameterBuilder())));
     }
     
+    /**
+     * Rewrite parameters with cached rewritten SQL.
+     *
+     * @param sqlRewriteContext SQL rewrite context
+     * @param rewrittenSQL rewritten SQL
+     * @return SQL rewrite result
+     */
+    public GenericSQLRewriteResult rewrite(final SQLRewriteContext sqlRewriteContext, final String rewrittenSQL) {
+        return new GenericSQLRewriteResult(new SQLRewriteUnit(rewrittenSQL, getParameters(sqlRewriteContext.getParameterBuilder())));
+    }
+    
     private List<Object> getParameters(final ParameterBuilder parameterBuilder) {
         if (parameterBuilder instanceof StandardParameterBuilder) {
             return parameterBuilder.getParameters();
@@ -29,6 +29,7 @@ import org.apache.shardingsphere.infra.route.context.RouteResult;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
 
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -54,9 +55,26 @@ public final class RouteSQLRewriteEngine {
         return new RouteSQLRewriteResult(result);
     }
     
+    /**
+     * Rewrite parameters with cached rewritten SQLs.
+     *
+     * @param sqlRewriteContext SQL rewrite context
+     * @param routeResult route result
+     * @param rewrittenSQLs rewritten SQLs, ordered as route units
+     * @return SQL rewrite result
+     */
+    public RouteSQLRewriteResult rewrite(final SQLRewriteContext sqlRewriteContext, final RouteResult routeResult, final List<String> rewrittenSQLs) {
+        Map<RouteUnit, SQLRewriteUnit> result = new LinkedHashMap<>(routeResult.getRouteUnits().size(), 1);
+        Iterator<String> rewrittenSQLIterator = rewrittenSQLs.iterator();
+        for (RouteUnit each : routeResult.getRouteUnits()) {
+            result.put(each, new SQLRewriteUnit(rewrittenSQLIterator.next(), getParameters(sqlRewriteContext.getParameterBuilder(), routeResult, each)));
+        }
+        return new RouteSQLRewriteResult(result);
+    }
+    
     private List<Object> getParameters(final ParameterBuilder parameterBuilder, final RouteResult routeResult, final RouteUnit routeUnit) {
         if (parameterBuilder instanceof StandardParameterBuilder) {
-            return parameterBuilder.getParameters();
+            return ((StandardParameterBuilder) parameterBuilder).getParameters(routeUnit);
         }
         
         if (routeResult.getOriginalDataNodes().isEmpty()) {
@@ -20,9 +20,12 @@ package org.apache.shardingsphere.infra.rewrite.parameter.builder.impl;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.rewrite.parameter.builder.ParameterBuilder;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -36,6 +39,8 @@ import java.util.TreeMap;
 @RequiredArgsConstructor
 public final class StandardParameterBuilder implements ParameterBuilder {
     
+    private static final Object REMOVED_PARAMETER = new Object();
+    
     private final List<Object> originalParameters;
     
     @Getter
@@ -45,6 +50,8 @@ public final class StandardParameterBuilder implements ParameterBuilder {
 
     private final List<Integer> removeIndexAndParameters = new ArrayList<>();
     
+    private final Map<RouteUnit, Collection<Integer>> routeUnitRemovedIndexes = new HashMap<>();
+    
     /**
      * Add added parameters.
      * 
@@ -74,12 +81,39 @@ public final class StandardParameterBuilder implements ParameterBuilder {
         removeIndexAndParameters.add(index);
     }
     
+    /**
+     * Add removed parameter for route unit.
+     *
+     * @param routeUnit route unit which parameter to be removed from
+     * @param index parameter index to be removed
+     */
+    public void addRemovedParameters(final RouteUnit routeUnit, final int index) {
+        routeUnitRemovedIndexes.computeIfAbsent(routeUnit, key -> new LinkedList<>()).add(index);
+    }
+    
     @Override
     public List<Object> getParameters() {
-        List<Object> result = new LinkedList<>(originalParameters);
+        return getParameters(Collections.emptyList());
+    }
+    
+    /**
+     * Get parameters for route unit.
+     *
+     * @param routeUnit route unit
+     * @return parameters for route unit
+     */
+    public List<Object> getParameters(final RouteUnit routeUnit) {
+        return getParameters(routeUnitRemovedIndexes.getOrDefault(routeUnit, Collections.emptyList()));
+    }
+    
+    private List<Object> getParameters(final Collection<Integer> routeUnitRemovedIndexes) {
+        List<Object> result = new ArrayList<>(originalParameters);
         for (Entry<Integer, Object> entry : replacedIndexAndParameters.entrySet()) {
             result.set(entry.getKey(), entry.getValue());
         }
+        for (int each : routeUnitRemovedIndexes) {
+            result.set(each, REMOVED_PARAMETER);
+        }
         for (Entry<Integer, Collection<Object>> entry : ((TreeMap<Integer, Collection<Object>>) addedIndexAndParameters).descendingMap().entrySet()) {
             if (entry.getKey() > result.size()) {
                 result.addAll(entry.getValue());
@@ -90,6 +124,9 @@ public final class StandardParameterBuilder implements ParameterBuilder {
         for (int index : removeIndexAndParameters) {
             result.remove(index);
         }
+        if (!routeUnitRemovedIndexes.isEmpty()) {
+            result.removeIf(each -> REMOVED_PARAMETER == each);
+        }
         return result;
     }
 }
@@ -25,6 +25,7 @@ import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.SQLToken;
 import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.Substitutable;
 
 import java.util.Collections;
+import java.util.Iterator;
 
 /**
  * Abstract SQL builder.
@@ -41,28 +42,24 @@ public abstract class AbstractSQLBuilder implements SQLBuilder {
             return context.getSql();
         }
         Collections.sort(context.getSqlTokens());
-        StringBuilder result = new StringBuilder();
-        result.append(context.getSql().substring(0, context.getSqlTokens().get(0).getStartIndex()));
-        for (SQLToken each : context.getSqlTokens()) {
-            result.append(getSQLTokenText(each));
-            result.append(getConjunctionText(each));
+        String sql = context.getSql();
+        StringBuilder result = new StringBuilder(sql.length() + (sql.length() >> 2));
+        Iterator<SQLToken> sqlTokens = context.getSqlTokens().iterator();
+        SQLToken current = sqlTokens.next();
+        result.append(sql, 0, current.getStartIndex());
+        while (null != current) {
+            SQLToken next = sqlTokens.hasNext() ? sqlTokens.next() : null;
+            result.append(getSQLTokenText(current));
+            result.append(sql, getStartIndex(current), null == next ? sql.length() : next.getStartIndex());
+            current = next;
         }
         return result.toString();
     }
     
     protected abstract String getSQLTokenText(SQLToken sqlToken);
     
-    private String getConjunctionText(final SQLToken sqlToken) {
-        return context.getSql().substring(getStartIndex(sqlToken), getStopIndex(sqlToken));
-    }
-    
     private int getStartIndex(final SQLToken sqlToken) {
         int startIndex = sqlToken instanceof Substitutable ? ((Substitutable) sqlToken).getStopIndex() + 1 : sqlToken.getStartIndex();
         return Math.min(startIndex, context.getSql().length());
     }
-    
-    private int getStopIndex(final SQLToken sqlToken) {
-        int currentSQLTokenIndex = context.getSqlTokens().indexOf(sqlToken);
-        return context.getSqlTokens().size() - 1 == currentSQLTokenIndex ? context.getSql().length() : context.getSqlTokens().get(currentSQLTokenIndex + 1).getStartIndex();
-    }
 }
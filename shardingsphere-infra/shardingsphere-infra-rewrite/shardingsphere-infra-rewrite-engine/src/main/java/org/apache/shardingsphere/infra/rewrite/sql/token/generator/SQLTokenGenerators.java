@@ -85,6 +85,21 @@ public final class SQLTokenGenerators {
         return result;
     }
     
+    /**
+     * Judge whether contains parameters aware SQL token generator which need to generate SQL token.
+     *
+     * @param sqlStatementContext SQL statement context
+     * @return contains parameters aware SQL token generator or not
+     */
+    public boolean containsParametersAwareSQLTokenGenerator(final SQLStatementContext sqlStatementContext) {
+        for (SQLTokenGenerator each : sqlTokenGenerators) {
+            if (each instanceof ParametersAware && each.isGenerateSQLToken(sqlStatementContext)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
     private void setUpSQLTokenGenerator(final SQLTokenGenerator sqlTokenGenerator, final List<Object> parameters, final SchemaMetaData schemaMetaData, final List<SQLToken> previousSQLTokens) {
         if (sqlTokenGenerator instanceof ParametersAware) {
             ((ParametersAware) sqlTokenGenerator).setParameters(parameters);
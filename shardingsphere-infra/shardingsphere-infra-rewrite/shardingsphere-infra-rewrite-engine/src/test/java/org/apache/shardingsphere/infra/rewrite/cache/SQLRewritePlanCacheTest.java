@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.rewrite.cache;
+
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SQLRewritePlanCacheTest {
+    
+    private static final String SQL = "SELECT * FROM t_order WHERE order_id = ?";
+    
+    @Test
+    public void assertGetRewrittenSQLs() {
+        SQLRewritePlanCache planCache = new SQLRewritePlanCache();
+        planCache.put(SQL, createRouteUnits("t_order_0", "t_order_1"), Arrays.asList("SELECT * FROM t_order_0 WHERE order_id = ?", "SELECT * FROM t_order_1 WHERE order_id = ?"));
+        Optional<List<String>> actual = planCache.getRewrittenSQLs(SQL, createRouteUnits("t_order_0", "t_order_1"));
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is(Arrays.asList("SELECT * FROM t_order_0 WHERE order_id = ?", "SELECT * FROM t_order_1 WHERE order_id = ?")));
+        assertThat(planCache.getHitCount(), is(1L));
+        assertThat(planCache.getMissCount(), is(0L));
+    }
+    
+    @Test
+    public void assertGetRewrittenSQLsWithDifferentRouteUnits() {
+        SQLRewritePlanCache planCache = new SQLRewritePlanCache();
+        planCache.put(SQL, createRouteUnits("t_order_0"), Collections.singletonList("SELECT * FROM t_order_0 WHERE order_id = ?"));
+        assertFalse(planCache.getRewrittenSQLs(SQL, createRouteUnits("t_order_1")).isPresent());
+        assertFalse(planCache.getRewrittenSQLs("SELECT * FROM t_order", createRouteUnits("t_order_0")).isPresent());
+        assertThat(planCache.getHitCount(), is(0L));
+        assertThat(planCache.getMissCount(), is(2L));
+    }
+    
+    @Test
+    public void assertClear() {
+        SQLRewritePlanCache planCache = new SQLRewritePlanCache();
+        planCache.put(SQL, createRouteUnits("t_order_0"), Collections.singletonList("SELECT * FROM t_order_0 WHERE order_id = ?"));
+        planCache.clear();
+        assertFalse(planCache.getRewrittenSQLs(SQL, createRouteUnits("t_order_0")).isPresent());
+    }
+    
+    private Collection<RouteUnit> createRouteUnits(final String... actualTableNames) {
+        RouteUnit[] result = new RouteUnit[actualTableNames.length];
+        for (int i = 0; i < actualTableNames.length; i++) {
+            result[i] = new RouteUnit(new RouteMapper("ds", "ds_0"), Collections.singletonList(new RouteMapper("t_order", actualTableNames[i])));
+        }
+        return Arrays.asList(result);
+    }
+}
@@ -20,6 +20,8 @@ package org.apache.shardingsphere.infra.rewrite.impl;
 import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContext;
 import org.apache.shardingsphere.infra.rewrite.sql.SQLBuilder;
 import org.apache.shardingsphere.infra.rewrite.sql.impl.DefaultSQLBuilder;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.generic.RemoveToken;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.generic.SubstitutableColumnNameToken;
 import org.apache.shardingsphere.sql.parser.binder.metadata.schema.SchemaMetaData;
 import org.apache.shardingsphere.sql.parser.binder.statement.SQLStatementContext;
 import org.junit.Test;
@@ -38,4 +40,13 @@ public final class DefaultSQLBuilderTest {
         SQLBuilder sqlBuilderWithoutTokens = new DefaultSQLBuilder(context);
         assertThat(sqlBuilderWithoutTokens.toSQL(), is("SELECT * FROM t_config"));
     }
+    
+    @Test
+    public void assertToSQLWithTokens() {
+        SQLRewriteContext context = new SQLRewriteContext(mock(SchemaMetaData.class), mock(SQLStatementContext.class), "SELECT a, b FROM t_config WHERE c = 1", Collections.emptyList());
+        context.getSqlTokens().add(new SubstitutableColumnNameToken(32, 32, "c_cipher"));
+        context.getSqlTokens().add(new RemoveToken(8, 10));
+        context.getSqlTokens().add(new SubstitutableColumnNameToken(7, 7, "a_cipher"));
+        assertThat(new DefaultSQLBuilder(context).toSQL(), is("SELECT a_cipher FROM t_config WHERE c_cipher = 1"));
+    }
 }
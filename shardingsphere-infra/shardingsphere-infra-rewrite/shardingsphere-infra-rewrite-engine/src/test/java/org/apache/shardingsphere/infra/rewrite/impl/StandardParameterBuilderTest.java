@@ -18,6 +18,8 @@
 package org.apache.shardingsphere.infra.rewrite.impl;
 
 import org.apache.shardingsphere.infra.rewrite.parameter.builder.impl.StandardParameterBuilder;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -32,6 +34,8 @@ public final class StandardParameterBuilderTest {
     
     private final List<Object> parameters = Arrays.asList(1, 2, 1, 5);
     
+    private final RouteUnit routeUnit = new RouteUnit(new RouteMapper("ds_0", "ds_0"), Collections.singletonList(new RouteMapper("t_order", "t_order_0")));
+    
     private StandardParameterBuilder parameterBuilder;
     
     @Before
@@ -39,10 +43,22 @@ public final class StandardParameterBuilderTest {
         parameterBuilder = new StandardParameterBuilder(parameters);
         parameterBuilder.addAddedParameters(4, Collections.singleton(7));
         parameterBuilder.addRemovedParameters(1);
+        parameterBuilder.addRemovedParameters(routeUnit, 2);
     }
     
     @Test
     public void assertGetParameters() {
         assertThat(parameterBuilder.getParameters(), is(Arrays.<Object>asList(1, 1, 5, 7)));
     }
+    
+    @Test
+    public void assertGetParametersForRouteUnit() {
+        assertThat(parameterBuilder.getParameters(routeUnit), is(Arrays.<Object>asList(1, 5, 7)));
+    }
+    
+    @Test
+    public void assertGetParametersForOtherRouteUnit() {
+        RouteUnit otherRouteUnit = new RouteUnit(new RouteMapper("ds_1", "ds_1"), Collections.singletonList(new RouteMapper("t_order", "t_order_0")));
+        assertThat(parameterBuilder.getParameters(otherRouteUnit), is(Arrays.<Object>asList(1, 1, 5, 7)));
+    }
 }
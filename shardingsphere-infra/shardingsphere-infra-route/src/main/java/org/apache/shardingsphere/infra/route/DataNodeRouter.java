@@ -56,7 +56,7 @@ public final class DataNodeRouter {
     public DataNodeRouter(final ShardingSphereMetaData metaData, final ConfigurationProperties properties, final Collection<ShardingSphereRule> rules) {
         this.metaData = metaData;
         this.properties = properties;
-        decorators = OrderedSPIRegistry.getRegisteredServices(rules, RouteDecorator.class);
+        decorators = OrderedSPIRegistry.getCachedRegisteredServices(rules, RouteDecorator.class);
         routingHook = new SPIRoutingHook();
     }
     
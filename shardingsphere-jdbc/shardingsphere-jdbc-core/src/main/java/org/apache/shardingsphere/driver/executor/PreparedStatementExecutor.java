@@ -50,6 +50,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 /**
@@ -88,6 +89,19 @@ public final class PreparedStatementExecutor {
         return sqlExecutor.execute(inputGroups, sqlExecutorCallback);
     }
     
+    /**
+     * Execute query asynchronously.
+     *
+     * @param inputGroups input groups
+     * @param timeoutMilliseconds deadline of the whole execution in milliseconds, no deadline if not positive
+     * @return future of result set list, ordered by completion of input groups
+     */
+    public CompletableFuture<List<QueryResult>> executeQueryAsync(final Collection<InputGroup<StatementExecuteUnit>> inputGroups, final long timeoutMilliseconds) {
+        boolean isExceptionThrown = ExecutorExceptionHandler.isExceptionThrown();
+        SQLExecutorCallback<QueryResult> sqlExecutorCallback = getExecuteQueryExecutorCallback(createDefaultSQLExecutorCallbackWithQueryResult(isExceptionThrown));
+        return sqlExecutor.executeAsync(inputGroups, sqlExecutorCallback, timeoutMilliseconds);
+    }
+    
     private DefaultSQLExecutorCallback<QueryResult> createDefaultSQLExecutorCallbackWithQueryResult(final boolean isExceptionThrown) {
         return new DefaultSQLExecutorCallback<QueryResult>(schemaContexts.getDefaultSchemaContext().getSchema().getDatabaseType(), isExceptionThrown) {
             
@@ -100,7 +114,7 @@ public final class PreparedStatementExecutor {
     
     private SQLExecutorCallback<QueryResult> getExecuteQueryExecutorCallback(final DefaultSQLExecutorCallback callback) {
         Map<ShardingSphereRule, RuleExecuteQueryExecutorCallback> callbackMap = 
-                OrderedSPIRegistry.getRegisteredServices(schemaContexts.getDefaultSchemaContext().getSchema().getRules(), RuleExecuteQueryExecutorCallback.class);
+                OrderedSPIRegistry.getCachedRegisteredServices(schemaContexts.getDefaultSchemaContext().getSchema().getRules(), RuleExecuteQueryExecutorCallback.class);
         return callbackMap.isEmpty() ? callback : callbackMap.values().iterator().next();
     }
     
@@ -140,7 +154,7 @@ public final class PreparedStatementExecutor {
     
     private SQLExecutorCallback<Integer> getExecuteUpdateExecutorCallback(final DefaultSQLExecutorCallback callback) {
         Map<ShardingSphereRule, RuleExecuteUpdateExecutorCallback> callbackMap = 
-                OrderedSPIRegistry.getRegisteredServices(schemaContexts.getDefaultSchemaContext().getSchema().getRules(), RuleExecuteUpdateExecutorCallback.class);
+                OrderedSPIRegistry.getCachedRegisteredServices(schemaContexts.getDefaultSchemaContext().getSchema().getRules(), RuleExecuteUpdateExecutorCallback.class);
         return callbackMap.isEmpty() ? callback : callbackMap.values().iterator().next();
     }
     
@@ -187,7 +201,7 @@ public final class PreparedStatementExecutor {
     
     private SQLExecutorCallback<Boolean> getExecuteExecutorCallback(final DefaultSQLExecutorCallback callback) {
         Map<ShardingSphereRule, RuleExecuteExecutorCallback> callbackMap = 
-                OrderedSPIRegistry.getRegisteredServices(schemaContexts.getDefaultSchemaContext().getSchema().getRules(), RuleExecuteExecutorCallback.class);
+                OrderedSPIRegistry.getCachedRegisteredServices(schemaContexts.getDefaultSchemaContext().getSchema().getRules(), RuleExecuteExecutorCallback.class);
         return callbackMap.isEmpty() ? callback : callbackMap.values().iterator().next();
     }
     
@@ -202,6 +216,7 @@ public final class PreparedStatementExecutor {
             refreshStrategy.get().refreshMetaData(schemaContext.getSchema().getMetaData(), schemaContext.getSchema().getDatabaseType(), 
                     dataSourceMap, sqlStatementContext, tableName -> metaDataLoader.load(schemaContext.getSchema().getDatabaseType(), 
                             dataSourceMap, tableName, schemaContexts.getProperties()));
+            schemaContext.getRuntimeContext().getSqlRewritePlanCache().clear();
         }
     }
 }
@@ -98,7 +98,7 @@ public final class StatementExecutor {
     
     private SQLExecutorCallback<QueryResult> getExecuteQueryExecutorCallback(final DefaultSQLExecutorCallback callback) {
         Map<ShardingSphereRule, RuleExecuteQueryExecutorCallback> callbackMap = 
-                OrderedSPIRegistry.getRegisteredServices(schemaContexts.getDefaultSchemaContext().getSchema().getRules(), RuleExecuteQueryExecutorCallback.class);
+                OrderedSPIRegistry.getCachedRegisteredServices(schemaContexts.getDefaultSchemaContext().getSchema().getRules(), RuleExecuteQueryExecutorCallback.class);
         return callbackMap.isEmpty() ? callback : callbackMap.values().iterator().next();
     }
     
@@ -180,7 +180,7 @@ public final class StatementExecutor {
     
     private SQLExecutorCallback<Integer> getExecuteUpdateExecutorCallback(final DefaultSQLExecutorCallback callback) {
         Map<ShardingSphereRule, RuleExecuteUpdateExecutorCallback> callbackMap = 
-                OrderedSPIRegistry.getRegisteredServices(schemaContexts.getDefaultSchemaContext().getSchema().getRules(), RuleExecuteUpdateExecutorCallback.class);
+                OrderedSPIRegistry.getCachedRegisteredServices(schemaContexts.getDefaultSchemaContext().getSchema().getRules(), RuleExecuteUpdateExecutorCallback.class);
         return callbackMap.isEmpty() ? callback : callbackMap.values().iterator().next();
     }
     
@@ -268,7 +268,7 @@ public final class StatementExecutor {
     
     private SQLExecutorCallback<Boolean> getExecuteExecutorCallback(final DefaultSQLExecutorCallback callback) {
         Map<ShardingSphereRule, RuleExecuteExecutorCallback> callbackMap = 
-                OrderedSPIRegistry.getRegisteredServices(schemaContexts.getDefaultSchemaContext().getSchema().getRules(), RuleExecuteExecutorCallback.class);
+                OrderedSPIRegistry.getCachedRegisteredServices(schemaContexts.getDefaultSchemaContext().getSchema().getRules(), RuleExecuteExecutorCallback.class);
         return callbackMap.isEmpty() ? callback : callbackMap.values().iterator().next();
     }
     
@@ -282,6 +282,7 @@ public final class StatementExecutor {
             RuleSchemaMetaDataLoader metaDataLoader = new RuleSchemaMetaDataLoader(schemaContext.getSchema().getRules());
             refreshStrategy.get().refreshMetaData(schemaContext.getSchema().getMetaData(), schemaContext.getSchema().getDatabaseType(), dataSourceMap, sqlStatementContext,
                 tableName -> metaDataLoader.load(schemaContext.getSchema().getDatabaseType(), dataSourceMap, tableName, schemaContexts.getProperties()));
+            schemaContext.getRuntimeContext().getSqlRewritePlanCache().clear();
         }
     }
     
@@ -143,7 +143,7 @@ public final class BatchPreparedStatementExecutor {
     
     private SQLExecutorCallback<int[]> getExecuteBatchExecutorCallback(final DefaultSQLExecutorCallback callback) {
         Map<ShardingSphereRule, RuleExecuteBatchExecutorCallback> callbackMap = 
-                OrderedSPIRegistry.getRegisteredServices(schemaContexts.getDefaultSchemaContext().getSchema().getRules(), RuleExecuteBatchExecutorCallback.class);
+                OrderedSPIRegistry.getCachedRegisteredServices(schemaContexts.getDefaultSchemaContext().getSchema().getRules(), RuleExecuteBatchExecutorCallback.class);
         return callbackMap.isEmpty() ? callback : callbackMap.values().iterator().next();
     }
     
@@ -220,9 +220,7 @@ public final class BatchPreparedStatementExecutor {
     public void clear() throws SQLException {
         closeStatements();
         getStatements().clear();
-        inputGroups.clear();
-        batchCount = 0;
-        batchExecutionUnits.clear();
+        clearWithoutClosingStatements();
     }
     
     private void closeStatements() throws SQLException {
@@ -230,6 +228,17 @@ public final class BatchPreparedStatementExecutor {
             each.close();
         }
     }
+    
+    /**
+     * Clear without closing statements.
+     * 
+     * <p>
+     * Statements should be released to prepared statement cache of the connection which created them before clearing.
+     * </p>
+     */
+    public void clearWithoutClosingStatements() {
+        inputGroups.clear();
+        batchCount = 0;
+        batchExecutionUnits.clear();
+    }
 }
-
-
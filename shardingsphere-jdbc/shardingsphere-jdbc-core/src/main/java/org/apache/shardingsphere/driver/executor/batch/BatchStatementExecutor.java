@@ -0,0 +1,205 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.driver.executor.batch;
+
+import org.apache.shardingsphere.driver.executor.callback.RuleExecuteBatchExecutorCallback;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.kernel.InputGroup;
+import org.apache.shardingsphere.infra.executor.sql.ConnectionMode;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.jdbc.StatementExecuteUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.jdbc.connection.JDBCExecutionConnection;
+import org.apache.shardingsphere.infra.executor.sql.execute.jdbc.executor.ExecutorExceptionHandler;
+import org.apache.shardingsphere.infra.executor.sql.execute.jdbc.executor.SQLExecutor;
+import org.apache.shardingsphere.infra.executor.sql.execute.jdbc.executor.SQLExecutorCallback;
+import org.apache.shardingsphere.infra.executor.sql.execute.jdbc.executor.impl.DefaultSQLExecutorCallback;
+import org.apache.shardingsphere.infra.executor.sql.execute.jdbc.group.StatementOption;
+import org.apache.shardingsphere.infra.rule.DataNodeRoutedRule;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.infra.spi.ShardingSphereServiceLoader;
+import org.apache.shardingsphere.infra.spi.order.OrderedSPIRegistry;
+import org.apache.shardingsphere.kernal.context.SchemaContexts;
+import org.apache.shardingsphere.sql.parser.binder.statement.SQLStatementContext;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Statement executor to process add batch.
+ * 
+ * <p>
+ * SQL units routed to same data source are added to one physical statement in the order of add batch,
+ * and physical statements of different data sources are executed in parallel.
+ * </p>
+ */
+public final class BatchStatementExecutor {
+    
+    static {
+        ShardingSphereServiceLoader.register(RuleExecuteBatchExecutorCallback.class);
+    }
+    
+    private final SchemaContexts schemaContexts;
+    
+    private final SQLExecutor sqlExecutor;
+    
+    private final Map<String, List<String>> dataSourceSQLs = new LinkedHashMap<>();
+    
+    private final Map<String, List<Integer>> dataSourceAddBatchIndexes = new LinkedHashMap<>();
+    
+    private final List<Boolean> accumulateFlags = new ArrayList<>();
+    
+    private final Collection<InputGroup<StatementExecuteUnit>> inputGroups = new LinkedList<>();
+    
+    public BatchStatementExecutor(final SchemaContexts schemaContexts, final SQLExecutor sqlExecutor) {
+        this.schemaContexts = schemaContexts;
+        this.sqlExecutor = sqlExecutor;
+    }
+    
+    /**
+     * Add batch for execution context.
+     *
+     * @param executionContext execution context of added SQL
+     */
+    public void addBatch(final ExecutionContext executionContext) {
+        int addBatchIndex = accumulateFlags.size();
+        for (ExecutionUnit each : executionContext.getExecutionUnits()) {
+            dataSourceSQLs.computeIfAbsent(each.getDataSourceName(), unused -> new LinkedList<>()).add(each.getSqlUnit().getSql());
+            dataSourceAddBatchIndexes.computeIfAbsent(each.getDataSourceName(), unused -> new ArrayList<>()).add(addBatchIndex);
+        }
+        accumulateFlags.add(isNeedAccumulate(executionContext.getSqlStatementContext()));
+    }
+    
+    private boolean isNeedAccumulate(final SQLStatementContext sqlStatementContext) {
+        return schemaContexts.getDefaultSchemaContext().getSchema().getRules().stream().anyMatch(
+            each -> each instanceof DataNodeRoutedRule && ((DataNodeRoutedRule) each).isNeedAccumulate(sqlStatementContext.getTablesContext().getTableNames()));
+    }
+    
+    /**
+     * Initialize executor.
+     * 
+     * <p>
+     * One physical statement is created for each routed data source, and SQL units of the data source are added to it as batch.
+     * </p>
+     *
+     * @param executionConnection execution connection
+     * @param statementOption statement option
+     * @throws SQLException SQL exception
+     */
+    public void init(final JDBCExecutionConnection executionConnection, final StatementOption statementOption) throws SQLException {
+        for (Entry<String, List<String>> entry : dataSourceSQLs.entrySet()) {
+            Connection connection = executionConnection.getConnections(entry.getKey(), 1, ConnectionMode.CONNECTION_STRICTLY).get(0);
+            Statement statement = executionConnection.createStorageResource(connection, ConnectionMode.CONNECTION_STRICTLY, statementOption);
+            for (String each : entry.getValue()) {
+                statement.addBatch(each);
+            }
+            ExecutionUnit executionUnit = new ExecutionUnit(entry.getKey(), new SQLUnit(String.join("; ", entry.getValue()), Collections.emptyList()));
+            inputGroups.add(new InputGroup<>(Collections.singletonList(new StatementExecuteUnit(executionUnit, statement, ConnectionMode.CONNECTION_STRICTLY))));
+        }
+    }
+    
+    /**
+     * Execute batch.
+     *
+     * @return update counts in the order of add batch
+     * @throws SQLException SQL exception
+     */
+    public int[] executeBatch() throws SQLException {
+        if (inputGroups.isEmpty()) {
+            return new int[0];
+        }
+        boolean isExceptionThrown = ExecutorExceptionHandler.isExceptionThrown();
+        DatabaseType databaseType = schemaContexts.getDefaultSchemaContext().getSchema().getDatabaseType();
+        SQLExecutorCallback<int[]> callback = getExecuteBatchExecutorCallback(new DefaultSQLExecutorCallback<int[]>(databaseType, isExceptionThrown) {
+            
+            @Override
+            protected int[] executeSQL(final String sql, final Statement statement, final ConnectionMode connectionMode) throws SQLException {
+                return statement.executeBatch();
+            }
+        });
+        return accumulate(sqlExecutor.execute(inputGroups, callback));
+    }
+    
+    private SQLExecutorCallback<int[]> getExecuteBatchExecutorCallback(final DefaultSQLExecutorCallback callback) {
+        Map<ShardingSphereRule, RuleExecuteBatchExecutorCallback> callbackMap =
+                OrderedSPIRegistry.getCachedRegisteredServices(schemaContexts.getDefaultSchemaContext().getSchema().getRules(), RuleExecuteBatchExecutorCallback.class);
+        return callbackMap.isEmpty() ? callback : callbackMap.values().iterator().next();
+    }
+    
+    private int[] accumulate(final List<int[]> results) {
+        int[] result = new int[accumulateFlags.size()];
+        boolean[] assigned = new boolean[accumulateFlags.size()];
+        Iterator<int[]> resultIterator = results.iterator();
+        for (List<Integer> each : dataSourceAddBatchIndexes.values()) {
+            int[] updateCounts = resultIterator.next();
+            if (null == updateCounts) {
+                continue;
+            }
+            for (int i = 0; i < updateCounts.length && i < each.size(); i++) {
+                int addBatchIndex = each.get(i);
+                if (accumulateFlags.get(addBatchIndex)) {
+                    result[addBatchIndex] += updateCounts[i];
+                } else if (!assigned[addBatchIndex]) {
+                    result[addBatchIndex] = updateCounts[i];
+                }
+                assigned[addBatchIndex] = true;
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Get statements.
+     *
+     * @return statements
+     */
+    public List<Statement> getStatements() {
+        List<Statement> result = new LinkedList<>();
+        for (InputGroup<StatementExecuteUnit> each : inputGroups) {
+            for (StatementExecuteUnit eachUnit : each.getInputs()) {
+                result.add(eachUnit.getStorageResource());
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Clear.
+     * 
+     * <p>
+     * Statements are not closed here, they should be closed by the statement which executed them.
+     * </p>
+     */
+    public void clear() {
+        dataSourceSQLs.clear();
+        dataSourceAddBatchIndexes.clear();
+        accumulateFlags.clear();
+        inputGroups.clear();
+    }
+}
@@ -0,0 +1,246 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.driver.executor.pagination;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Throwables;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.driver.executor.PreparedStatementExecutor;
+import org.apache.shardingsphere.driver.jdbc.adapter.WrapperAdapter;
+import org.apache.shardingsphere.driver.jdbc.core.connection.ShardingSphereConnection;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.executor.kernel.InputGroup;
+import org.apache.shardingsphere.infra.executor.sql.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContextBuilder;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.jdbc.StatementExecuteUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.jdbc.group.PreparedStatementExecuteGroupEngine;
+import org.apache.shardingsphere.infra.executor.sql.execute.jdbc.group.StatementOption;
+import org.apache.shardingsphere.infra.executor.sql.log.SQLLogger;
+import org.apache.shardingsphere.infra.merge.MergeEngine;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.rewrite.SQLRewriteEntry;
+import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteResult;
+import org.apache.shardingsphere.infra.route.DataNodeRouter;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.kernal.context.SchemaContext;
+import org.apache.shardingsphere.kernal.context.SchemaContexts;
+import org.apache.shardingsphere.sharding.merge.dql.orderby.CompareUtil;
+import org.apache.shardingsphere.sql.parser.binder.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.sql.parser.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.util.SQLUtil;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Executor for seek pagination.
+ * 
+ * <p>
+ * Instead of fetching offset plus row count rows from every shard, it probes the order by value at offset divided by shard count of every shard,
+ * counts rows before the first probed value as boundary, and then fetches rows from the boundary with the narrowed offset.
+ * </p>
+ */
+@RequiredArgsConstructor
+public final class SeekPaginationExecutor {
+    
+    private final ShardingSphereConnection connection;
+    
+    private final SchemaContexts schemaContexts;
+    
+    private final PreparedStatementExecutor preparedStatementExecutor;
+    
+    private final StatementOption statementOption;
+    
+    private final WrapperAdapter logicStatement;
+    
+    /**
+     * Create execution context to fetch rows from boundary with narrowed offset.
+     * 
+     * @param sql logic SQL
+     * @param parameters parameters of logic SQL
+     * @param executionContext execution context of logic SQL
+     * @return execution context to fetch rows from boundary, empty if seek pagination is not applicable
+     * @throws SQLException SQL exception
+     */
+    public Optional<ExecutionContext> createFetchExecutionContext(final String sql, final List<Object> parameters, final ExecutionContext executionContext) throws SQLException {
+        if (executionContext.getExecutionUnits().size() < 2) {
+            return Optional.empty();
+        }
+        Optional<SeekPaginationSQLBuilder> sqlBuilder = SeekPaginationSQLBuilder.newInstance(
+                sql, executionContext.getSqlStatementContext(), parameters, schemaContexts.getProperties().<Integer>getValue(ConfigurationPropertyKey.SEEK_PAGINATION_MIN_OFFSET));
+        if (!sqlBuilder.isPresent()) {
+            return Optional.empty();
+        }
+        Optional<Object> boundary = probe(sqlBuilder.get());
+        if (!boundary.isPresent()) {
+            return Optional.empty();
+        }
+        Optional<Long> countBeforeBoundary = count(sqlBuilder.get(), boundary.get());
+        if (!countBeforeBoundary.isPresent() || countBeforeBoundary.get() > sqlBuilder.get().getOffset()) {
+            return Optional.empty();
+        }
+        return createExecutionContext(sqlBuilder.get().getFetchSQL(), sqlBuilder.get().getFetchParameters(boundary.get(), sqlBuilder.get().getOffset() - countBeforeBoundary.get()));
+    }
+    
+    private Optional<Object> probe(final SeekPaginationSQLBuilder sqlBuilder) throws SQLException {
+        Optional<ExecutionContext> probeExecutionContext = createExecutionContext(sqlBuilder.getProbeSQL(), sqlBuilder.getProbeParameters());
+        if (!probeExecutionContext.isPresent() || probeExecutionContext.get().getExecutionUnits().size() < 2) {
+            return Optional.empty();
+        }
+        Collection<ExecutionUnit> executionUnits = getProbeExecutionUnits(sqlBuilder, probeExecutionContext.get().getExecutionUnits());
+        Collection<PreparedStatement> statements = new LinkedList<>();
+        try {
+            List<QueryResult> queryResults = executeQuery(executionUnits, statements);
+            if (queryResults.isEmpty()) {
+                return Optional.empty();
+            }
+            SelectStatementContext selectStatementContext = (SelectStatementContext) probeExecutionContext.get().getSqlStatementContext();
+            selectStatementContext.setIndexes(getColumnLabelIndexMap(queryResults.get(0)));
+            return getBoundary(queryResults, selectStatementContext.getOrderByContext().getItems().iterator().next());
+        } finally {
+            connection.releasePreparedStatements(statements, true);
+        }
+    }
+    
+    private Collection<ExecutionUnit> getProbeExecutionUnits(final SeekPaginationSQLBuilder sqlBuilder, final Collection<ExecutionUnit> executionUnits) {
+        Collection<ExecutionUnit> result = new ArrayList<>(executionUnits.size());
+        long offset = sqlBuilder.getOffset() / executionUnits.size();
+        for (ExecutionUnit each : executionUnits) {
+            // Parameters may be pruned per route unit, so index row count and offset parameters from the end of parameters of each unit.
+            List<Object> parameters = new ArrayList<>(each.getSqlUnit().getParameters());
+            parameters.set(parameters.size() - 2, 1L);
+            parameters.set(parameters.size() - 1, offset);
+            result.add(new ExecutionUnit(each.getDataSourceName(), new SQLUnit(each.getSqlUnit().getSql(), parameters)));
+        }
+        return result;
+    }
+    
+    private Map<String, Integer> getColumnLabelIndexMap(final QueryResult queryResult) throws SQLException {
+        Map<String, Integer> result = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (int i = queryResult.getColumnCount(); i > 0; i--) {
+            result.put(SQLUtil.getExactlyValue(queryResult.getColumnLabel(i)), i);
+        }
+        return result;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private Optional<Object> getBoundary(final List<QueryResult> queryResults, final OrderByItem orderByItem) throws SQLException {
+        Comparable<Object> result = null;
+        for (QueryResult each : queryResults) {
+            if (!each.next()) {
+                continue;
+            }
+            Object value = each.getValue(orderByItem.getIndex(), Object.class);
+            if (null == value) {
+                return Optional.empty();
+            }
+            Preconditions.checkState(value instanceof Comparable, "Order by value must implements Comparable");
+            if (null == result || CompareUtil.compareTo((Comparable<Object>) value, result, orderByItem.getSegment().getOrderDirection(), orderByItem.getSegment().getNullOrderDirection(), true) < 0) {
+                result = (Comparable<Object>) value;
+            }
+        }
+        return Optional.ofNullable(result);
+    }
+    
+    private Optional<Long> count(final SeekPaginationSQLBuilder sqlBuilder, final Object boundary) throws SQLException {
+        Optional<ExecutionContext> countExecutionContext = createExecutionContext(sqlBuilder.getCountSQL(), sqlBuilder.getCountParameters(boundary));
+        if (!countExecutionContext.isPresent()) {
+            return Optional.empty();
+        }
+        Collection<PreparedStatement> statements = new LinkedList<>();
+        try {
+            List<QueryResult> queryResults = executeQuery(countExecutionContext.get().getExecutionUnits(), statements);
+            SchemaContext schemaContext = schemaContexts.getDefaultSchemaContext();
+            MergeEngine mergeEngine = new MergeEngine(schemaContext.getSchema().getDatabaseType(),
+                    schemaContext.getSchema().getMetaData().getSchema().getConfiguredSchemaMetaData(), schemaContexts.getProperties(), schemaContext.getSchema().getRules());
+            MergedResult mergedResult = mergeEngine.merge(queryResults, countExecutionContext.get().getSqlStatementContext());
+            return mergedResult.next() ? Optional.of(((Number) mergedResult.getValue(1, Object.class)).longValue()) : Optional.empty();
+        } finally {
+            connection.releasePreparedStatements(statements, true);
+        }
+    }
+    
+    private Optional<ExecutionContext> createExecutionContext(final String sql, final List<Object> parameters) {
+        SchemaContext schemaContext = schemaContexts.getDefaultSchemaContext();
+        SQLStatement sqlStatement = schemaContext.getRuntimeContext().getSqlParserEngine().parse(sql, true);
+        if (sqlStatement.getParameterCount() != parameters.size()) {
+            return Optional.empty();
+        }
+        RouteContext routeContext = new DataNodeRouter(
+                schemaContext.getSchema().getMetaData(), schemaContexts.getProperties(), schemaContext.getSchema().getRules()).route(sqlStatement, sql, parameters);
+        SQLRewriteResult sqlRewriteResult = new SQLRewriteEntry(schemaContext.getSchema().getMetaData().getSchema().getConfiguredSchemaMetaData(), schemaContexts.getProperties(),
+                schemaContext.getSchema().getRules(), schemaContext.getRuntimeContext().getSqlRewritePlanCache()).rewrite(sql, new ArrayList<>(parameters), routeContext);
+        ExecutionContext result = new ExecutionContext(routeContext.getSqlStatementContext(), ExecutionContextBuilder.build(schemaContext.getSchema().getMetaData(), sqlRewriteResult));
+        if (schemaContexts.getProperties().<Boolean>getValue(ConfigurationPropertyKey.SQL_SHOW)) {
+            SQLLogger.logSQL(sql, schemaContexts.getProperties().<Boolean>getValue(ConfigurationPropertyKey.SQL_SIMPLE), result);
+        }
+        return Optional.of(result);
+    }
+    
+    private List<QueryResult> executeQuery(final Collection<ExecutionUnit> executionUnits, final Collection<PreparedStatement> statements) throws SQLException {
+        PreparedStatementExecuteGroupEngine executeGroupEngine = new PreparedStatementExecuteGroupEngine(
+                schemaContexts.getProperties().<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY), schemaContexts.getDefaultSchemaContext().getSchema().getRules());
+        Collection<InputGroup<StatementExecuteUnit>> inputGroups = executeGroupEngine.generate(executionUnits, connection, statementOption);
+        int queryTimeoutSeconds = 0;
+        for (InputGroup<StatementExecuteUnit> each : inputGroups) {
+            for (StatementExecuteUnit input : each.getInputs()) {
+                PreparedStatement statement = (PreparedStatement) input.getStorageResource();
+                statements.add(statement);
+                logicStatement.replayMethodsInvocation(statement);
+                setParameters(statement, input.getExecutionUnit().getSqlUnit().getParameters());
+                queryTimeoutSeconds = Math.max(queryTimeoutSeconds, statement.getQueryTimeout());
+            }
+        }
+        // Probe and count results are independent of shard order, so shards are queried asynchronously and bounded by query timeout of logic statement as a whole.
+        return waitForQueryResults(preparedStatementExecutor.executeQueryAsync(inputGroups, TimeUnit.SECONDS.toMillis(queryTimeoutSeconds)));
+    }
+    
+    private List<QueryResult> waitForQueryResults(final CompletableFuture<List<QueryResult>> future) throws SQLException {
+        try {
+            return future.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new SQLException(ex);
+        } catch (final ExecutionException ex) {
+            Throwables.propagateIfPossible(ex.getCause(), SQLException.class);
+            throw new SQLException(ex.getCause());
+        }
+    }
+    
+    private void setParameters(final PreparedStatement statement, final List<Object> parameters) throws SQLException {
+        int index = 1;
+        for (Object each : parameters) {
+            statement.setObject(index++, each);
+        }
+    }
+}
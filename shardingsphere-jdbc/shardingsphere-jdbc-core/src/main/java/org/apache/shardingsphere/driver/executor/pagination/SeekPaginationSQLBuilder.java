@@ -0,0 +1,229 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.driver.executor.pagination;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.sql.parser.binder.segment.select.pagination.PaginationContext;
+import org.apache.shardingsphere.sql.parser.binder.segment.select.projection.Projection;
+import org.apache.shardingsphere.sql.parser.binder.segment.select.projection.impl.ColumnProjection;
+import org.apache.shardingsphere.sql.parser.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.sql.parser.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.sql.parser.sql.constant.OrderDirection;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.order.OrderBySegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.order.item.ColumnOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.order.item.OrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.pagination.limit.LimitSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.pagination.limit.LimitValueSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.WhereSegment;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.SelectStatement;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * SQL builder for seek pagination.
+ * 
+ * <p>
+ * It builds the probe, count and fetch SQL from a logic SQL which orders by a single column and paginates with limit.
+ * The limit clause of probe and fetch SQL is normalized to {@code LIMIT ? OFFSET ?}, whose parameters follow the other parameters.
+ * </p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SeekPaginationSQLBuilder {
+    
+    private static final String WHERE = "WHERE";
+    
+    private static final String LIMIT = "LIMIT ? OFFSET ?";
+    
+    private final String sql;
+    
+    private final SelectStatement selectStatement;
+    
+    private final List<Object> parameters;
+    
+    @Getter
+    private final OrderByItemSegment orderByItem;
+    
+    @Getter
+    private final long offset;
+    
+    @Getter
+    private final long rowCount;
+    
+    /**
+     * Create new instance of seek pagination SQL builder.
+     * 
+     * @param sql logic SQL
+     * @param sqlStatementContext SQL statement context
+     * @param parameters parameters of logic SQL
+     * @param minOffset min offset to apply seek pagination
+     * @return seek pagination SQL builder, empty if seek pagination is not applicable
+     */
+    public static Optional<SeekPaginationSQLBuilder> newInstance(final String sql, final SQLStatementContext sqlStatementContext, final List<Object> parameters, final long minOffset) {
+        if (!(sqlStatementContext instanceof SelectStatementContext) || 0 == minOffset) {
+            return Optional.empty();
+        }
+        SelectStatementContext selectStatementContext = (SelectStatementContext) sqlStatementContext;
+        if (!selectStatementContext.getGroupByContext().getItems().isEmpty() || !selectStatementContext.getProjectionsContext().getAggregationProjections().isEmpty()
+                || selectStatementContext.getProjectionsContext().isDistinctRow() || selectStatementContext.getPaginationContext().getActualOffset() < minOffset) {
+            return Optional.empty();
+        }
+        SelectStatement selectStatement = selectStatementContext.getSqlStatement();
+        Optional<OrderBySegment> orderBy = selectStatement.getOrderBy();
+        Optional<LimitSegment> limit = selectStatement.getLimit();
+        if (!orderBy.isPresent() || 1 != orderBy.get().getOrderByItems().size() || !limit.isPresent()
+                || !(limit.get().getOffset().orElse(null) instanceof LimitValueSegment) || !(limit.get().getRowCount().orElse(null) instanceof LimitValueSegment)) {
+            return Optional.empty();
+        }
+        OrderByItemSegment orderByItem = orderBy.get().getOrderByItems().iterator().next();
+        if (!(orderByItem instanceof ColumnOrderByItemSegment) || isOrderByAlias(selectStatementContext, (ColumnOrderByItemSegment) orderByItem)) {
+            return Optional.empty();
+        }
+        PaginationContext paginationContext = selectStatementContext.getPaginationContext();
+        Optional<List<Object>> baseParameters = getBaseParameters(paginationContext, parameters);
+        return baseParameters.map(optional -> new SeekPaginationSQLBuilder(sql, selectStatement, optional, orderByItem, paginationContext.getActualOffset(),
+                paginationContext.getActualRowCount().orElse(0L)));
+    }
+    
+    private static boolean isOrderByAlias(final SelectStatementContext selectStatementContext, final ColumnOrderByItemSegment orderByItem) {
+        String columnName = orderByItem.getColumn().getIdentifier().getValue();
+        for (Projection each : selectStatementContext.getProjectionsContext().getProjections()) {
+            if (columnName.equalsIgnoreCase(each.getAlias().orElse(null)) && !(each instanceof ColumnProjection && columnName.equalsIgnoreCase(((ColumnProjection) each).getName()))) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private static Optional<List<Object>> getBaseParameters(final PaginationContext paginationContext, final List<Object> parameters) {
+        Optional<Integer> offsetParameterIndex = paginationContext.getOffsetParameterIndex();
+        Optional<Integer> rowCountParameterIndex = paginationContext.getRowCountParameterIndex();
+        int paginationParameterCount = (offsetParameterIndex.isPresent() ? 1 : 0) + (rowCountParameterIndex.isPresent() ? 1 : 0);
+        int minPaginationParameterIndex = Math.min(offsetParameterIndex.orElse(parameters.size()), rowCountParameterIndex.orElse(parameters.size()));
+        return minPaginationParameterIndex == parameters.size() - paginationParameterCount ? Optional.of(new ArrayList<>(parameters.subList(0, minPaginationParameterIndex))) : Optional.empty();
+    }
+    
+    /**
+     * Get probe SQL, which fetches row at offset divided by shard count from every shard after parameters patched.
+     * 
+     * @return probe SQL
+     */
+    public String getProbeSQL() {
+        LimitSegment limit = selectStatement.getLimit().orElseThrow(IllegalStateException::new);
+        return sql.substring(0, limit.getStartIndex()) + LIMIT + sql.substring(limit.getStopIndex() + 1);
+    }
+    
+    /**
+     * Get probe parameters, row count and offset parameters are the last two.
+     * 
+     * @return probe parameters
+     */
+    public List<Object> getProbeParameters() {
+        List<Object> result = new ArrayList<>(parameters.size() + 2);
+        result.addAll(parameters);
+        result.add(rowCount);
+        result.add(offset);
+        return result;
+    }
+    
+    /**
+     * Get count SQL, which counts rows before boundary.
+     * 
+     * @return count SQL
+     */
+    public String getCountSQL() {
+        return ("SELECT COUNT(*)" + getSourceWithPredicate(getBeforeBoundaryPredicate())).trim();
+    }
+    
+    /**
+     * Get count parameters.
+     * 
+     * @param boundary boundary value of order by column
+     * @return count parameters
+     */
+    public List<Object> getCountParameters(final Object boundary) {
+        List<Object> result = new ArrayList<>(parameters.size() + 1);
+        result.addAll(parameters);
+        result.add(boundary);
+        return result;
+    }
+    
+    /**
+     * Get fetch SQL, which fetches rows from boundary.
+     * 
+     * @return fetch SQL
+     */
+    public String getFetchSQL() {
+        OrderBySegment orderBy = selectStatement.getOrderBy().orElseThrow(IllegalStateException::new);
+        LimitSegment limit = selectStatement.getLimit().orElseThrow(IllegalStateException::new);
+        return sql.substring(0, selectStatement.getProjections().getStopIndex() + 1) + getSourceWithPredicate(getFromBoundaryPredicate())
+                + sql.substring(orderBy.getStartIndex(), limit.getStartIndex()) + LIMIT + sql.substring(limit.getStopIndex() + 1);
+    }
+    
+    /**
+     * Get fetch parameters.
+     * 
+     * @param boundary boundary value of order by column
+     * @param narrowedOffset offset from boundary
+     * @return fetch parameters
+     */
+    public List<Object> getFetchParameters(final Object boundary, final long narrowedOffset) {
+        List<Object> result = new ArrayList<>(parameters.size() + 3);
+        result.addAll(parameters);
+        result.add(boundary);
+        result.add(rowCount);
+        result.add(narrowedOffset);
+        return result;
+    }
+    
+    private String getSourceWithPredicate(final String predicate) {
+        int startIndex = selectStatement.getProjections().getStopIndex() + 1;
+        int orderByStartIndex = selectStatement.getOrderBy().orElseThrow(IllegalStateException::new).getStartIndex();
+        Optional<WhereSegment> where = selectStatement.getWhere();
+        if (!where.isPresent()) {
+            return " " + sql.substring(startIndex, orderByStartIndex).trim() + " " + WHERE + " " + predicate + " ";
+        }
+        int conditionStartIndex = where.get().getStartIndex() + WHERE.length();
+        String result = sql.substring(startIndex, conditionStartIndex).trim() + " (" + sql.substring(conditionStartIndex, where.get().getStopIndex() + 1).trim() + ") AND " + predicate
+                + " " + sql.substring(where.get().getStopIndex() + 1, orderByStartIndex).trim();
+        return " " + result.trim() + " ";
+    }
+    
+    private String getBeforeBoundaryPredicate() {
+        String column = getOrderByColumn();
+        String result = column + (OrderDirection.ASC == orderByItem.getOrderDirection() ? " < ?" : " > ?");
+        return isNullsFirst() ? "(" + result + " OR " + column + " IS NULL)" : result;
+    }
+    
+    private String getFromBoundaryPredicate() {
+        String column = getOrderByColumn();
+        String result = column + (OrderDirection.ASC == orderByItem.getOrderDirection() ? " >= ?" : " <= ?");
+        return isNullsFirst() ? result : "(" + result + " OR " + column + " IS NULL)";
+    }
+    
+    private String getOrderByColumn() {
+        return sql.substring(orderByItem.getStartIndex(), orderByItem.getStopIndex() + 1);
+    }
+    
+    private boolean isNullsFirst() {
+        return orderByItem.getOrderDirection() == orderByItem.getNullOrderDirection();
+    }
+}
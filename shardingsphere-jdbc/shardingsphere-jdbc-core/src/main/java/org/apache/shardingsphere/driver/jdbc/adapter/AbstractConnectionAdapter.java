@@ -21,8 +21,10 @@ import com.google.common.base.Preconditions;
 import com.google.common.collect.LinkedHashMultimap;
 import com.google.common.collect.Multimap;
 import lombok.Getter;
-import org.apache.shardingsphere.driver.jdbc.adapter.executor.ForceExecuteTemplate;
+import org.apache.shardingsphere.driver.jdbc.core.connection.PreparedStatementCache;
 import org.apache.shardingsphere.driver.jdbc.unsupported.AbstractUnsupportedOperationConnection;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.executor.kernel.ForceExecuteTemplate;
 import org.apache.shardingsphere.infra.executor.sql.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.execute.jdbc.connection.JDBCExecutionConnection;
 import org.apache.shardingsphere.infra.executor.sql.execute.jdbc.group.StatementOption;
@@ -45,6 +47,8 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
 
 /**
  * Adapter for {@code Connection}.
@@ -65,6 +69,9 @@ public abstract class AbstractConnectionAdapter extends AbstractUnsupportedOpera
     
     private final ForceExecuteTemplate<Entry<String, Connection>> forceExecuteTemplateForClose = new ForceExecuteTemplate<>();
     
+    @Getter
+    private final PreparedStatementCache preparedStatementCache;
+    
     private final RootInvokeHook rootInvokeHook = new SPIRootInvokeHook();
     
     private boolean autoCommit = true;
@@ -78,6 +85,7 @@ public abstract class AbstractConnectionAdapter extends AbstractUnsupportedOpera
     protected AbstractConnectionAdapter(final Map<String, DataSource> dataSourceMap, final SchemaContexts schemaContexts) {
         this.dataSourceMap = dataSourceMap;
         this.schemaContexts = schemaContexts;
+        preparedStatementCache = new PreparedStatementCache(schemaContexts.getProperties().<Integer>getValue(ConfigurationPropertyKey.PREPARED_STATEMENT_CACHE_SIZE));
         rootInvokeHook.start();
     }
     
@@ -160,14 +168,42 @@ public abstract class AbstractConnectionAdapter extends AbstractUnsupportedOpera
         return connection.createStatement(option.getResultSetType(), option.getResultSetConcurrency(), option.getResultSetHoldability());
     }
     
-    @SuppressWarnings("MagicConstant")
     @Override
     public final PreparedStatement createStorageResource(final String sql, final List<Object> parameters, 
                                                          final Connection connection, final ConnectionMode connectionMode, final StatementOption option) throws SQLException {
+        if (!preparedStatementCache.isEnabled()) {
+            return createPreparedStatement(sql, connection, option);
+        }
+        Optional<PreparedStatement> cachedStatement = preparedStatementCache.borrow(connection, sql, option);
+        if (cachedStatement.isPresent()) {
+            return cachedStatement.get();
+        }
+        PreparedStatement result = createPreparedStatement(sql, connection, option);
+        preparedStatementCache.register(connection, sql, option, result);
+        return result;
+    }
+    
+    @SuppressWarnings("MagicConstant")
+    private PreparedStatement createPreparedStatement(final String sql, final Connection connection, final StatementOption option) throws SQLException {
         return option.isReturnGeneratedKeys() ? connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)
                 : connection.prepareStatement(sql, option.getResultSetType(), option.getResultSetConcurrency(), option.getResultSetHoldability());
     }
     
+    /**
+     * Release prepared statements created by this connection.
+     * 
+     * <p>
+     * Reusable statements are kept in prepared statement cache for next execution, others are closed.
+     * </p>
+     *
+     * @param statements prepared statements to be released
+     * @param reusable whether statements can be reused by other logical statements
+     * @throws SQLException SQL exception
+     */
+    public final void releasePreparedStatements(final Collection<PreparedStatement> statements, final boolean reusable) throws SQLException {
+        new ForceExecuteTemplate<PreparedStatement>().execute(statements, each -> preparedStatementCache.release(each, reusable));
+    }
+    
     @Override
     public final boolean getAutoCommit() {
         return autoCommit;
@@ -186,12 +222,28 @@ public abstract class AbstractConnectionAdapter extends AbstractUnsupportedOpera
     
     @Override
     public void commit() throws SQLException {
-        forceExecuteTemplate.execute(cachedConnections.values(), Connection::commit);
+        if (isParallelCommitEnabled()) {
+            forceExecuteTemplate.execute(cachedConnections.values(), Connection::commit, getExecutorService());
+        } else {
+            forceExecuteTemplate.execute(cachedConnections.values(), Connection::commit);
+        }
     }
     
     @Override
     public void rollback() throws SQLException {
-        forceExecuteTemplate.execute(cachedConnections.values(), Connection::rollback);
+        if (isParallelCommitEnabled()) {
+            forceExecuteTemplate.execute(cachedConnections.values(), Connection::rollback, getExecutorService());
+        } else {
+            forceExecuteTemplate.execute(cachedConnections.values(), Connection::rollback);
+        }
+    }
+    
+    private boolean isParallelCommitEnabled() {
+        return cachedConnections.size() > 1 && schemaContexts.getProperties().<Boolean>getValue(ConfigurationPropertyKey.PARALLEL_COMMIT_ENABLED);
+    }
+    
+    private ExecutorService getExecutorService() {
+        return schemaContexts.getDefaultSchemaContext().getRuntimeContext().getExecutorKernel().getExecutorService().getExecutorService();
     }
     
     @Override
@@ -201,6 +253,7 @@ public abstract class AbstractConnectionAdapter extends AbstractUnsupportedOpera
         TransactionTypeHolder.clear();
         int connectionSize = cachedConnections.size();
         try {
+            preparedStatementCache.clear();
             forceExecuteTemplateForClose.execute(cachedConnections.entries(), cachedConnections -> cachedConnections.getValue().close());
         } finally {
             cachedConnections.clear();
@@ -19,7 +19,7 @@ package org.apache.shardingsphere.driver.jdbc.adapter;
 
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.driver.jdbc.unsupported.AbstractUnsupportedOperationStatement;
-import org.apache.shardingsphere.driver.jdbc.adapter.executor.ForceExecuteTemplate;
+import org.apache.shardingsphere.infra.executor.kernel.ForceExecuteTemplate;
 
 import java.sql.SQLException;
 import java.sql.SQLWarning;
@@ -42,17 +42,26 @@ public abstract class AbstractStatementAdapter extends AbstractUnsupportedOperat
     
     private final ForceExecuteTemplate<Statement> forceExecuteTemplate = new ForceExecuteTemplate<>();
     
-    @SuppressWarnings("unchecked")
     @Override
     public final void close() throws SQLException {
         closed = true;
         try {
-            forceExecuteTemplate.execute((Collection) getRoutedStatements(), Statement::close);
+            closeRoutedStatements();
         } finally {
             getRoutedStatements().clear();
         }
     }
     
+    /**
+     * Close routed statements.
+     * 
+     * @throws SQLException SQL exception
+     */
+    @SuppressWarnings("unchecked")
+    protected void closeRoutedStatements() throws SQLException {
+        forceExecuteTemplate.execute((Collection) getRoutedStatements(), Statement::close);
+    }
+    
     @Override
     public final boolean isClosed() {
         return closed;
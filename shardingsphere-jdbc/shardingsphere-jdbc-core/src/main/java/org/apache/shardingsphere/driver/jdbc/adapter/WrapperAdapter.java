@@ -67,4 +67,13 @@ public abstract class WrapperAdapter implements Wrapper {
     public final void replayMethodsInvocation(final Object target) {
         jdbcMethodInvocations.forEach(each -> each.invoke(target));
     }
+    
+    /**
+     * Judge whether any method invocation is recorded.
+     * 
+     * @return method invocation is recorded or not
+     */
+    public final boolean isMethodInvocationRecorded() {
+        return !jdbcMethodInvocations.isEmpty();
+    }
 }
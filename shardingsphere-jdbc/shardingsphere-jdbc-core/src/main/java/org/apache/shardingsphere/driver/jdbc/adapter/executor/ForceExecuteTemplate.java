@@ -1,58 +0,0 @@
-/*
- * Licensed to the Apache Software Foundation (ASF) under one or more
- * contributor license agreements.  See the NOTICE file distributed with
- * this work for additional information regarding copyright ownership.
- * The ASF licenses this file to You under the Apache License, Version 2.0
- * (the "License"); you may not use this file except in compliance with
- * the License.  You may obtain a copy of the License at
- *
- *     http://www.apache.org/licenses/LICENSE-2.0
- *
- * Unless required by applicable law or agreed to in writing, software
- * distributed under the License is distributed on an "AS IS" BASIS,
- * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
- * See the License for the specific language governing permissions and
- * limitations under the License.
- */
-
-package org.apache.shardingsphere.driver.jdbc.adapter.executor;
-
-import java.sql.SQLException;
-import java.util.Collection;
-import java.util.LinkedList;
-
-/**
- * Force execute template.
- *
- * @param <T> type of targets to be executed
- */
-public final class ForceExecuteTemplate<T> {
-    
-    /**
-     * Force execute.
-     * 
-     * @param targets targets to be executed
-     * @param callback force execute callback
-     * @throws SQLException throw SQL exception after all targets are executed
-     */
-    public void execute(final Collection<T> targets, final ForceExecuteCallback<T> callback) throws SQLException {
-        Collection<SQLException> exceptions = new LinkedList<>();
-        for (T each : targets) {
-            try {
-                callback.execute(each);
-            } catch (final SQLException ex) {
-                exceptions.add(ex);
-            }
-        }
-        throwSQLExceptionIfNecessary(exceptions);
-    }
-    
-    private void throwSQLExceptionIfNecessary(final Collection<SQLException> exceptions) throws SQLException {
-        if (exceptions.isEmpty()) {
-            return;
-        }
-        SQLException ex = new SQLException();
-        exceptions.forEach(ex::setNextException);
-        throw ex;
-    }
-}
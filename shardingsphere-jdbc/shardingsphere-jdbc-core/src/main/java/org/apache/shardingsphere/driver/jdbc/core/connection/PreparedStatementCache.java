@@ -0,0 +1,186 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.driver.jdbc.core.connection;
+
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.executor.kernel.ForceExecuteTemplate;
+import org.apache.shardingsphere.infra.executor.sql.execute.jdbc.group.StatementOption;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+
+/**
+ * Cache of physical prepared statements held by one ShardingSphere connection.
+ * 
+ * <p>
+ * Statements are keyed by physical connection, rewritten SQL and statement option.
+ * A statement is exclusively owned by one logical statement between borrowing and releasing, 
+ * idle statements are evicted in least recently used order when the cache is full.
+ * </p>
+ */
+public final class PreparedStatementCache {
+    
+    private final int maxSize;
+    
+    private final Map<CacheKey, PreparedStatement> idleStatements = new LinkedHashMap<>(16, 0.75f, true);
+    
+    private final Map<PreparedStatement, CacheKey> borrowedStatements = new IdentityHashMap<>();
+    
+    private final ForceExecuteTemplate<PreparedStatement> forceExecuteTemplate = new ForceExecuteTemplate<>();
+    
+    public PreparedStatementCache(final int maxSize) {
+        this.maxSize = maxSize;
+    }
+    
+    /**
+     * Judge whether cache is enabled.
+     * 
+     * @return cache is enabled or not
+     */
+    public boolean isEnabled() {
+        return maxSize > 0;
+    }
+    
+    /**
+     * Borrow idle prepared statement.
+     * 
+     * @param connection physical connection
+     * @param sql rewritten SQL
+     * @param option statement option
+     * @return idle prepared statement
+     * @throws SQLException SQL exception
+     */
+    public synchronized Optional<PreparedStatement> borrow(final Connection connection, final String sql, final StatementOption option) throws SQLException {
+        CacheKey key = new CacheKey(connection, sql, option);
+        PreparedStatement result = idleStatements.remove(key);
+        if (null == result || result.isClosed()) {
+            return Optional.empty();
+        }
+        borrowedStatements.put(result, key);
+        return Optional.of(result);
+    }
+    
+    /**
+     * Register new created prepared statement as borrowed.
+     * 
+     * @param connection physical connection
+     * @param sql rewritten SQL
+     * @param option statement option
+     * @param statement prepared statement
+     */
+    public synchronized void register(final Connection connection, final String sql, final StatementOption option, final PreparedStatement statement) {
+        borrowedStatements.put(statement, new CacheKey(connection, sql, option));
+    }
+    
+    /**
+     * Release borrowed prepared statement.
+     * 
+     * <p>
+     * Statement will be closed if it is not borrowed from this cache, or not reusable, or the cache is full.
+     * </p>
+     * 
+     * @param statement prepared statement
+     * @param reusable whether statement can be reused by other logical statements
+     * @throws SQLException SQL exception
+     */
+    public synchronized void release(final PreparedStatement statement, final boolean reusable) throws SQLException {
+        CacheKey key = borrowedStatements.remove(statement);
+        if (null == key || !reusable || statement.isClosed() || idleStatements.containsKey(key)) {
+            statement.close();
+            return;
+        }
+        try {
+            reset(statement);
+        } catch (final SQLException ex) {
+            statement.close();
+            throw ex;
+        }
+        idleStatements.put(key, statement);
+        evictIfNecessary();
+    }
+    
+    private void reset(final PreparedStatement statement) throws SQLException {
+        ResultSet resultSet = statement.getResultSet();
+        if (null != resultSet) {
+            resultSet.close();
+        }
+        statement.clearParameters();
+        statement.clearBatch();
+    }
+    
+    private void evictIfNecessary() throws SQLException {
+        Collection<PreparedStatement> evictedStatements = new LinkedList<>();
+        Iterator<Entry<CacheKey, PreparedStatement>> iterator = idleStatements.entrySet().iterator();
+        while (idleStatements.size() > maxSize) {
+            evictedStatements.add(iterator.next().getValue());
+            iterator.remove();
+        }
+        forceExecuteTemplate.execute(evictedStatements, PreparedStatement::close);
+    }
+    
+    /**
+     * Get idle statements size.
+     * 
+     * @return idle statements size
+     */
+    public synchronized int getIdleSize() {
+        return idleStatements.size();
+    }
+    
+    /**
+     * Close all idle and borrowed statements.
+     * 
+     * <p>
+     * Physical connections may be returned to a pool which does not track statements, so statements should be closed before their connections.
+     * </p>
+     * 
+     * @throws SQLException SQL exception
+     */
+    public synchronized void clear() throws SQLException {
+        Collection<PreparedStatement> statements = new LinkedList<>(idleStatements.values());
+        statements.addAll(borrowedStatements.keySet());
+        try {
+            forceExecuteTemplate.execute(statements, PreparedStatement::close);
+        } finally {
+            idleStatements.clear();
+            borrowedStatements.clear();
+        }
+    }
+    
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    private static final class CacheKey {
+        
+        private final Connection connection;
+        
+        private final String sql;
+        
+        private final StatementOption option;
+    }
+}
@@ -138,6 +138,7 @@ public final class ShardingSphereConnection extends AbstractConnectionAdapter {
     }
     
     private void closeCachedConnections() throws SQLException {
+        getPreparedStatementCache().clear();
         getForceExecuteTemplate().execute(getCachedConnections().values(), Connection::close);
         getCachedConnections().clear();
     }
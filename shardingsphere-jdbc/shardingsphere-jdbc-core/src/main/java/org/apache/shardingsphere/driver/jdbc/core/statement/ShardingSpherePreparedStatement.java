@@ -22,6 +22,7 @@ import lombok.Getter;
 import org.apache.shardingsphere.driver.executor.PreparedStatementExecutor;
 import org.apache.shardingsphere.driver.executor.batch.BatchExecutionUnit;
 import org.apache.shardingsphere.driver.executor.batch.BatchPreparedStatementExecutor;
+import org.apache.shardingsphere.driver.executor.pagination.SeekPaginationExecutor;
 import org.apache.shardingsphere.driver.jdbc.adapter.AbstractPreparedStatementAdapter;
 import org.apache.shardingsphere.driver.jdbc.core.connection.ShardingSphereConnection;
 import org.apache.shardingsphere.driver.jdbc.core.constant.SQLExceptionConstant;
@@ -94,6 +95,8 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     
     private final BatchPreparedStatementExecutor batchPreparedStatementExecutor;
     
+    private final SeekPaginationExecutor seekPaginationExecutor;
+    
     private final Collection<Comparable<?>> generatedValues = new LinkedList<>();
     
     private ExecutionContext executionContext;
@@ -133,6 +136,7 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
         SQLExecutor sqlExecutor = new SQLExecutor(schemaContexts.getDefaultSchemaContext().getRuntimeContext().getExecutorKernel(), connection.isHoldTransaction());
         preparedStatementExecutor = new PreparedStatementExecutor(connection.getDataSourceMap(), schemaContexts, sqlExecutor);
         batchPreparedStatementExecutor = new BatchPreparedStatementExecutor(schemaContexts, sqlExecutor);
+        seekPaginationExecutor = new SeekPaginationExecutor(connection, schemaContexts, preparedStatementExecutor, statementOption, this);
     }
     
     @Override
@@ -141,6 +145,7 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
         try {
             clearPrevious();
             executionContext = createExecutionContext();
+            executionContext = seekPaginationExecutor.createFetchExecutionContext(sql, getParameters(), executionContext).orElse(executionContext);
             PreparedStatementExecuteGroupEngine executeGroupEngine = new PreparedStatementExecuteGroupEngine(
                     schemaContexts.getProperties().<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY), schemaContexts.getDefaultSchemaContext().getSchema().getRules());
             Collection<InputGroup<StatementExecuteUnit>> inputGroups = executeGroupEngine.generate(executionContext.getExecutionUnits(), connection, statementOption);
@@ -176,6 +181,7 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
         try {
             clearPrevious();
             executionContext = createExecutionContext();
+            executionContext = seekPaginationExecutor.createFetchExecutionContext(sql, getParameters(), executionContext).orElse(executionContext);
             PreparedStatementExecuteGroupEngine executeGroupEngine = new PreparedStatementExecuteGroupEngine(
                     schemaContexts.getProperties().<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY), schemaContexts.getDefaultSchemaContext().getSchema().getRules());
             Collection<InputGroup<StatementExecuteUnit>> inputGroups = executeGroupEngine.generate(executionContext.getExecutionUnits(), connection, statementOption);
@@ -230,8 +236,8 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
         SchemaContext schemaContext = schemaContexts.getDefaultSchemaContext();
         RouteContext routeContext = 
                 new DataNodeRouter(schemaContext.getSchema().getMetaData(), schemaContexts.getProperties(), schemaContext.getSchema().getRules()).route(sqlStatement, sql, getParameters());
-        SQLRewriteResult sqlRewriteResult = new SQLRewriteEntry(schemaContext.getSchema().getMetaData().getSchema().getConfiguredSchemaMetaData(), 
-                schemaContexts.getProperties(), schemaContext.getSchema().getRules()).rewrite(sql, new ArrayList<>(getParameters()), routeContext);
+        SQLRewriteResult sqlRewriteResult = new SQLRewriteEntry(schemaContext.getSchema().getMetaData().getSchema().getConfiguredSchemaMetaData(), schemaContexts.getProperties(), 
+                schemaContext.getSchema().getRules(), schemaContext.getRuntimeContext().getSqlRewritePlanCache()).rewrite(sql, new ArrayList<>(getParameters()), routeContext);
         ExecutionContext result = new ExecutionContext(routeContext.getSqlStatementContext(), ExecutionContextBuilder.build(schemaContext.getSchema().getMetaData(), sqlRewriteResult));
         findGeneratedKey(result).ifPresent(generatedKey -> generatedValues.add(generatedKey.getGeneratedValues().getLast()));
         logSQL(result);
@@ -337,8 +343,28 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     @Override
     public void clearBatch() throws SQLException {
         currentResultSet = null;
-        batchPreparedStatementExecutor.clear();
-        clearParameters();
+        try {
+            clearBatchStatements();
+        } finally {
+            clearParameters();
+        }
+    }
+    
+    private void clearBatchStatements() throws SQLException {
+        if (!connection.getPreparedStatementCache().isEnabled()) {
+            batchPreparedStatementExecutor.clear();
+            return;
+        }
+        try {
+            releaseBatchStatements();
+        } finally {
+            batchPreparedStatementExecutor.clearWithoutClosingStatements();
+        }
+    }
+    
+    private void releaseBatchStatements() throws SQLException {
+        connection.releasePreparedStatements(
+                batchPreparedStatementExecutor.getStatements().stream().map(each -> (PreparedStatement) each).collect(Collectors.toList()), !isMethodInvocationRecorded());
     }
     
     @SuppressWarnings("MagicConstant")
@@ -369,10 +395,20 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
         return statements;
     }
     
+    @Override
+    protected void closeRoutedStatements() throws SQLException {
+        try {
+            releaseBatchStatements();
+        } finally {
+            connection.releasePreparedStatements(statements, !isMethodInvocationRecorded());
+        }
+    }
+    
     private void clearStatements() throws SQLException {
-        statements.clear();
-        for (Statement each : statements) {
-            each.close();
+        try {
+            connection.releasePreparedStatements(statements, !isMethodInvocationRecorded());
+        } finally {
+            statements.clear();
         }
     }
 }
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.driver.jdbc.core.statement;
 import com.google.common.base.Strings;
 import lombok.Getter;
 import org.apache.shardingsphere.driver.executor.StatementExecutor;
+import org.apache.shardingsphere.driver.executor.batch.BatchStatementExecutor;
 import org.apache.shardingsphere.driver.jdbc.adapter.AbstractStatementAdapter;
 import org.apache.shardingsphere.driver.jdbc.core.connection.ShardingSphereConnection;
 import org.apache.shardingsphere.driver.jdbc.core.constant.SQLExceptionConstant;
@@ -80,6 +81,8 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
     
     private final StatementExecutor statementExecutor;
     
+    private final BatchStatementExecutor batchStatementExecutor;
+    
     private boolean returnGeneratedKeys;
     
     private ExecutionContext executionContext;
@@ -100,8 +103,9 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
         schemaContexts = connection.getSchemaContexts();
         statements = new LinkedList<>();
         statementOption = new StatementOption(resultSetType, resultSetConcurrency, resultSetHoldability);
-        statementExecutor = new StatementExecutor(connection.getDataSourceMap(), schemaContexts, 
-                new SQLExecutor(schemaContexts.getDefaultSchemaContext().getRuntimeContext().getExecutorKernel(), connection.isHoldTransaction()));
+        SQLExecutor sqlExecutor = new SQLExecutor(schemaContexts.getDefaultSchemaContext().getRuntimeContext().getExecutorKernel(), connection.isHoldTransaction());
+        statementExecutor = new StatementExecutor(connection.getDataSourceMap(), schemaContexts, sqlExecutor);
+        batchStatementExecutor = new BatchStatementExecutor(schemaContexts, sqlExecutor);
     }
     
     @Override
@@ -239,6 +243,39 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
         }
     }
     
+    @Override
+    public void addBatch(final String sql) throws SQLException {
+        if (Strings.isNullOrEmpty(sql)) {
+            throw new SQLException(SQLExceptionConstant.SQL_STRING_NULL_OR_EMPTY);
+        }
+        try {
+            executionContext = createExecutionContext(sql);
+            batchStatementExecutor.addBatch(executionContext);
+        } finally {
+            currentResultSet = null;
+        }
+    }
+    
+    @Override
+    public int[] executeBatch() throws SQLException {
+        try {
+            clearStatements();
+            batchStatementExecutor.init(connection, statementOption);
+            statements.addAll(batchStatementExecutor.getStatements());
+            statements.forEach(this::replayMethodsInvocation);
+            return batchStatementExecutor.executeBatch();
+        } finally {
+            currentResultSet = null;
+            batchStatementExecutor.clear();
+        }
+    }
+    
+    @Override
+    public void clearBatch() {
+        currentResultSet = null;
+        batchStatementExecutor.clear();
+    }
+    
     private ExecutionContext createExecutionContext(final String sql) throws SQLException {
         clearStatements();
         SchemaContext schemaContext = schemaContexts.getDefaultSchemaContext();
@@ -39,6 +39,11 @@ public abstract class AbstractUnsupportedOperationPreparedStatement extends Abst
         super(PreparedStatement.class);
     }
     
+    @Override
+    public final void addBatch(final String sql) throws SQLException {
+        throw new SQLFeatureNotSupportedException("addBatch sql");
+    }
+    
     @Override
     public final ResultSetMetaData getMetaData() throws SQLException {
         throw new SQLFeatureNotSupportedException("getMetaData");
@@ -38,21 +38,6 @@ public abstract class AbstractUnsupportedOperationStatement extends WrapperAdapt
         throw new SQLFeatureNotSupportedException("setFetchDirection");
     }
     
-    @Override
-    public final void addBatch(final String sql) throws SQLException {
-        throw new SQLFeatureNotSupportedException("addBatch sql");
-    }
-    
-    @Override
-    public void clearBatch() throws SQLException {
-        throw new SQLFeatureNotSupportedException("clearBatch");
-    }
-    
-    @Override
-    public int[] executeBatch() throws SQLException {
-        throw new SQLFeatureNotSupportedException("executeBatch");
-    }
-    
     @Override
     public final void closeOnCompletion() throws SQLException {
         throw new SQLFeatureNotSupportedException("closeOnCompletion");
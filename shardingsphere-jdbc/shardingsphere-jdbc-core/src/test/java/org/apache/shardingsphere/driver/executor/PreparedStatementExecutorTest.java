@@ -38,6 +38,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
@@ -86,6 +87,35 @@ public final class PreparedStatementExecutorTest extends AbstractBaseExecutorTes
         assertThat(actual.executeQuery(getExecuteGroups(Collections.singletonList(preparedStatement), true)).iterator().next().getValue(1, String.class), is("value"));
     }
     
+    @Test
+    public void assertExecuteQueryAsync() throws SQLException, InterruptedException, ExecutionException {
+        PreparedStatement preparedStatement1 = getPreparedStatement();
+        PreparedStatement preparedStatement2 = getPreparedStatement();
+        ResultSet resultSet = mock(ResultSet.class);
+        ResultSetMetaData resultSetMetaData = mock(ResultSetMetaData.class);
+        when(resultSetMetaData.getColumnName(1)).thenReturn("column");
+        when(resultSetMetaData.getColumnLabel(1)).thenReturn("column");
+        when(resultSetMetaData.getTableName(1)).thenReturn("table_x");
+        when(resultSetMetaData.getColumnCount()).thenReturn(1);
+        when(resultSetMetaData.getColumnType(1)).thenReturn(Types.VARCHAR);
+        when(resultSet.getMetaData()).thenReturn(resultSetMetaData);
+        when(preparedStatement1.executeQuery()).thenReturn(resultSet);
+        when(preparedStatement2.executeQuery()).thenReturn(resultSet);
+        List<QueryResult> actualResult = actual.executeQueryAsync(getExecuteGroups(Arrays.asList(preparedStatement1, preparedStatement2), true), 1000L).get();
+        assertThat(actualResult.size(), is(2));
+        verify(preparedStatement1).executeQuery();
+        verify(preparedStatement2).executeQuery();
+    }
+    
+    @Test
+    public void assertExecuteQueryAsyncFailure() throws SQLException, InterruptedException, ExecutionException {
+        PreparedStatement preparedStatement = getPreparedStatement();
+        SQLException exp = new SQLException();
+        when(preparedStatement.executeQuery()).thenThrow(exp);
+        assertThat(actual.executeQueryAsync(getExecuteGroups(Collections.singletonList(preparedStatement), true), 0L).get(), is(Collections.singletonList((QueryResult) null)));
+        verify(preparedStatement).executeQuery();
+    }
+    
     @Test
     public void assertExecuteQueryForMultiplePreparedStatementsSuccess() throws SQLException {
         PreparedStatement preparedStatement1 = getPreparedStatement();
@@ -0,0 +1,195 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.driver.executor.pagination;
+
+import org.apache.shardingsphere.driver.api.yaml.YamlShardingSphereDataSourceFactory;
+import org.apache.shardingsphere.driver.common.base.AbstractShardingSphereDataSourceForShardingTest;
+import org.apache.shardingsphere.driver.executor.PreparedStatementExecutor;
+import org.apache.shardingsphere.driver.jdbc.adapter.WrapperAdapter;
+import org.apache.shardingsphere.driver.jdbc.core.connection.ShardingSphereConnection;
+import org.apache.shardingsphere.driver.jdbc.core.datasource.ShardingSphereDataSource;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.jdbc.executor.SQLExecutor;
+import org.apache.shardingsphere.infra.executor.sql.execute.jdbc.group.StatementOption;
+import org.apache.shardingsphere.sql.parser.binder.SQLStatementContextFactory;
+import org.apache.shardingsphere.sql.parser.binder.statement.SQLStatementContext;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public final class SeekPaginationExecutorTest extends AbstractShardingSphereDataSourceForShardingTest {
+    
+    private static final String SELECT_SQL = "SELECT order_id, user_id, status FROM t_order WHERE status = ? ORDER BY order_id LIMIT ?, ?";
+    
+    private static final String SELECT_DESC_SQL = "SELECT order_id, user_id, status FROM t_order ORDER BY order_id DESC LIMIT ?, ?";
+    
+    private static final String SELECT_IN_SQL = "SELECT order_id, user_id, status FROM t_order WHERE user_id IN (?, ?) ORDER BY order_id LIMIT ?, ?";
+    
+    private ShardingSphereDataSource dataSource;
+    
+    private WrapperAdapter logicStatement;
+    
+    @Before
+    public void setUp() throws SQLException, IOException {
+        dataSource = (ShardingSphereDataSource) YamlShardingSphereDataSourceFactory.createDataSource(
+                getShardingSphereDataSource().getDataSourceMap(), new File(getClass().getClassLoader().getResource("config-seek-pagination.yaml").getFile()));
+        logicStatement = mock(WrapperAdapter.class);
+        try (
+                Connection connection = dataSource.getConnection();
+                PreparedStatement preparedStatement = connection.prepareStatement("INSERT INTO t_order (order_id, user_id, status) VALUES (?, ?, ?)")) {
+            for (int i = 0; i < 40; i++) {
+                preparedStatement.setInt(1, 2000 + i);
+                preparedStatement.setInt(2, 10 + i / 2 % 2);
+                preparedStatement.setString(3, "seek");
+                preparedStatement.executeUpdate();
+            }
+        }
+    }
+    
+    @After
+    public void tearDown() {
+        dataSource.close(Collections.emptyList());
+    }
+    
+    @Test
+    public void assertCreateFetchExecutionContext() throws SQLException {
+        List<Object> parameters = Arrays.asList("seek", 30, 5);
+        try (ShardingSphereConnection connection = dataSource.getConnection()) {
+            SeekPaginationExecutor executor = new SeekPaginationExecutor(connection, connection.getSchemaContexts(), new PreparedStatementExecutor(connection.getDataSourceMap(),
+                    connection.getSchemaContexts(), new SQLExecutor(connection.getSchemaContexts().getDefaultSchemaContext().getRuntimeContext().getExecutorKernel(), false)),
+                    new StatementOption(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY, ResultSet.HOLD_CURSORS_OVER_COMMIT), logicStatement);
+            SQLStatementContext sqlStatementContext = SQLStatementContextFactory.newInstance(connection.getSchemaContexts().getDefaultSchemaContext().getSchema().getMetaData().getSchema()
+                    .getConfiguredSchemaMetaData(), SELECT_SQL, parameters, connection.getSchemaContexts().getDefaultSchemaContext().getRuntimeContext().getSqlParserEngine().parse(SELECT_SQL, true));
+            ExecutionContext executionContext = new ExecutionContext(sqlStatementContext, Arrays.asList(
+                    new ExecutionUnit("jdbc_0", new SQLUnit("", parameters)), new ExecutionUnit("jdbc_1", new SQLUnit("", parameters))));
+            Optional<ExecutionContext> actual = executor.createFetchExecutionContext(SELECT_SQL, parameters, executionContext);
+            assertTrue(actual.isPresent());
+            assertThat(actual.get().getExecutionUnits().size(), is(4));
+            for (ExecutionUnit each : actual.get().getExecutionUnits()) {
+                assertTrue(each.getSqlUnit().getSql().endsWith("WHERE (status = ?) AND order_id >= ? ORDER BY order_id LIMIT ? OFFSET ?"));
+                assertThat(each.getSqlUnit().getParameters(), is(Arrays.<Object>asList("seek", 2028, 7L, 0L)));
+            }
+            verify(logicStatement, atLeast(4)).replayMethodsInvocation(any(PreparedStatement.class));
+        }
+    }
+    
+    @Test
+    public void assertCreateFetchExecutionContextWithQueryTimeout() throws SQLException {
+        List<Object> parameters = Arrays.asList("seek", 30, 5);
+        doAnswer(invocation -> {
+            ((PreparedStatement) invocation.getArgument(0)).setQueryTimeout(2);
+            return null;
+        }).when(logicStatement).replayMethodsInvocation(any(PreparedStatement.class));
+        try (ShardingSphereConnection connection = dataSource.getConnection()) {
+            PreparedStatementExecutor preparedStatementExecutor = spy(new PreparedStatementExecutor(connection.getDataSourceMap(),
+                    connection.getSchemaContexts(), new SQLExecutor(connection.getSchemaContexts().getDefaultSchemaContext().getRuntimeContext().getExecutorKernel(), false)));
+            SeekPaginationExecutor executor = new SeekPaginationExecutor(connection, connection.getSchemaContexts(), preparedStatementExecutor,
+                    new StatementOption(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY, ResultSet.HOLD_CURSORS_OVER_COMMIT), logicStatement);
+            SQLStatementContext sqlStatementContext = SQLStatementContextFactory.newInstance(connection.getSchemaContexts().getDefaultSchemaContext().getSchema().getMetaData().getSchema()
+                    .getConfiguredSchemaMetaData(), SELECT_SQL, parameters, connection.getSchemaContexts().getDefaultSchemaContext().getRuntimeContext().getSqlParserEngine().parse(SELECT_SQL, true));
+            ExecutionContext executionContext = new ExecutionContext(sqlStatementContext, Arrays.asList(
+                    new ExecutionUnit("jdbc_0", new SQLUnit("", parameters)), new ExecutionUnit("jdbc_1", new SQLUnit("", parameters))));
+            assertTrue(executor.createFetchExecutionContext(SELECT_SQL, parameters, executionContext).isPresent());
+            verify(preparedStatementExecutor, times(2)).executeQueryAsync(any(), eq(2000L));
+        }
+    }
+    
+    @Test
+    public void assertExecuteQuery() throws SQLException {
+        try (
+                Connection connection = dataSource.getConnection();
+                PreparedStatement preparedStatement = connection.prepareStatement(SELECT_SQL)) {
+            preparedStatement.setString(1, "seek");
+            preparedStatement.setInt(2, 30);
+            preparedStatement.setInt(3, 5);
+            assertOrderIds(preparedStatement, 2030, 2031, 2032, 2033, 2034);
+        }
+    }
+    
+    @Test
+    public void assertExecuteQueryWithDescendingOrder() throws SQLException {
+        try (
+                Connection connection = dataSource.getConnection();
+                PreparedStatement preparedStatement = connection.prepareStatement(SELECT_DESC_SQL)) {
+            preparedStatement.setInt(1, 38);
+            preparedStatement.setInt(2, 5);
+            assertOrderIds(preparedStatement, 2001, 2000, 1101, 1100, 1001);
+        }
+    }
+    
+    @Test
+    public void assertExecuteQueryWithPrunedInValues() throws SQLException {
+        try (
+                Connection connection = dataSource.getConnection();
+                PreparedStatement preparedStatement = connection.prepareStatement(SELECT_IN_SQL)) {
+            preparedStatement.setInt(1, 10);
+            preparedStatement.setInt(2, 11);
+            preparedStatement.setInt(3, 30);
+            preparedStatement.setInt(4, 5);
+            assertOrderIds(preparedStatement, 2026, 2027, 2028, 2029, 2030);
+        }
+    }
+    
+    @Test
+    public void assertExecuteQueryBeyondLastRow() throws SQLException {
+        try (
+                Connection connection = dataSource.getConnection();
+                PreparedStatement preparedStatement = connection.prepareStatement(SELECT_SQL)) {
+            preparedStatement.setString(1, "seek");
+            preparedStatement.setInt(2, 100);
+            preparedStatement.setInt(3, 5);
+            assertOrderIds(preparedStatement);
+        }
+    }
+    
+    private void assertOrderIds(final PreparedStatement preparedStatement, final int... expectedOrderIds) throws SQLException {
+        try (ResultSet resultSet = preparedStatement.executeQuery()) {
+            for (int each : expectedOrderIds) {
+                assertTrue(resultSet.next());
+                assertThat(resultSet.getInt(1), is(each));
+            }
+            assertFalse(resultSet.next());
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.driver.executor.pagination;
+
+import org.apache.shardingsphere.sql.parser.SQLParserEngineFactory;
+import org.apache.shardingsphere.sql.parser.binder.SQLStatementContextFactory;
+import org.apache.shardingsphere.sql.parser.binder.metadata.schema.SchemaMetaData;
+import org.apache.shardingsphere.sql.parser.binder.statement.SQLStatementContext;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SeekPaginationSQLBuilderTest {
+    
+    @Test
+    public void assertBuildWithWhereAndParameterMarkers() {
+        Optional<SeekPaginationSQLBuilder> actual = createSQLBuilder(
+                "SELECT order_id, status FROM t_order WHERE user_id = ? OR status = ? ORDER BY order_id LIMIT ?, ?", Arrays.asList(10, "init", 100, 20), 50);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getOffset(), is(100L));
+        assertThat(actual.get().getRowCount(), is(20L));
+        assertThat(actual.get().getProbeSQL(), is("SELECT order_id, status FROM t_order WHERE user_id = ? OR status = ? ORDER BY order_id LIMIT ? OFFSET ?"));
+        assertThat(actual.get().getProbeParameters(), is(Arrays.<Object>asList(10, "init", 20L, 100L)));
+        assertThat(actual.get().getCountSQL(), is("SELECT COUNT(*) FROM t_order WHERE (user_id = ? OR status = ?) AND (order_id < ? OR order_id IS NULL)"));
+        assertThat(actual.get().getCountParameters(1050), is(Arrays.<Object>asList(10, "init", 1050)));
+        assertThat(actual.get().getFetchSQL(), is("SELECT order_id, status FROM t_order WHERE (user_id = ? OR status = ?) AND order_id >= ? ORDER BY order_id LIMIT ? OFFSET ?"));
+        assertThat(actual.get().getFetchParameters(1050, 3L), is(Arrays.<Object>asList(10, "init", 1050, 20L, 3L)));
+    }
+    
+    @Test
+    public void assertBuildWithoutWhereAndWithNumberLiterals() {
+        Optional<SeekPaginationSQLBuilder> actual = createSQLBuilder("SELECT o.order_id FROM t_order o ORDER BY o.order_id DESC LIMIT 100, 20", Collections.emptyList(), 100);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getProbeSQL(), is("SELECT o.order_id FROM t_order o ORDER BY o.order_id DESC LIMIT ? OFFSET ?"));
+        assertThat(actual.get().getProbeParameters(), is(Arrays.<Object>asList(20L, 100L)));
+        assertThat(actual.get().getCountSQL(), is("SELECT COUNT(*) FROM t_order o WHERE o.order_id > ?"));
+        assertThat(actual.get().getFetchSQL(), is("SELECT o.order_id FROM t_order o WHERE (o.order_id <= ? OR o.order_id IS NULL) ORDER BY o.order_id DESC LIMIT ? OFFSET ?"));
+        assertThat(actual.get().getFetchParameters(1050, 0L), is(Arrays.<Object>asList(1050, 20L, 0L)));
+    }
+    
+    @Test
+    public void assertNewInstanceWhenDisabled() {
+        assertFalse(createSQLBuilder("SELECT order_id FROM t_order ORDER BY order_id LIMIT 100, 20", Collections.emptyList(), 0).isPresent());
+    }
+    
+    @Test
+    public void assertNewInstanceWithOffsetLessThanMinOffset() {
+        assertFalse(createSQLBuilder("SELECT order_id FROM t_order ORDER BY order_id LIMIT 10, 20", Collections.emptyList(), 100).isPresent());
+    }
+    
+    @Test
+    public void assertNewInstanceWithoutOffset() {
+        assertFalse(createSQLBuilder("SELECT order_id FROM t_order ORDER BY order_id LIMIT 20", Collections.emptyList(), 1).isPresent());
+    }
+    
+    @Test
+    public void assertNewInstanceWithMultipleOrderByItems() {
+        assertFalse(createSQLBuilder("SELECT order_id, user_id FROM t_order ORDER BY user_id, order_id LIMIT 100, 20", Collections.emptyList(), 1).isPresent());
+    }
+    
+    @Test
+    public void assertNewInstanceWithGroupBy() {
+        assertFalse(createSQLBuilder("SELECT user_id FROM t_order GROUP BY user_id ORDER BY user_id LIMIT 100, 20", Collections.emptyList(), 1).isPresent());
+    }
+    
+    @Test
+    public void assertNewInstanceWithOrderByAlias() {
+        assertFalse(createSQLBuilder("SELECT order_id + 1 AS id FROM t_order ORDER BY id LIMIT 100, 20", Collections.emptyList(), 1).isPresent());
+    }
+    
+    private Optional<SeekPaginationSQLBuilder> createSQLBuilder(final String sql, final List<Object> parameters, final long minOffset) {
+        SQLStatementContext sqlStatementContext = SQLStatementContextFactory.newInstance(
+                new SchemaMetaData(Collections.emptyMap()), sql, parameters, SQLParserEngineFactory.getSQLParserEngine("MySQL").parse(sql, false));
+        return SeekPaginationSQLBuilder.newInstance(sql, sqlStatementContext, parameters, minOffset);
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.driver.jdbc.core.connection;
+
+import org.apache.shardingsphere.infra.executor.sql.execute.jdbc.group.StatementOption;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class PreparedStatementCacheTest {
+    
+    private static final String SQL = "SELECT * FROM t_order_0 WHERE order_id = ?";
+    
+    private final Connection connection = mock(Connection.class);
+    
+    private final StatementOption option = new StatementOption(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY, ResultSet.HOLD_CURSORS_OVER_COMMIT);
+    
+    @Test
+    public void assertBorrowReleasedStatement() throws SQLException {
+        PreparedStatementCache cache = new PreparedStatementCache(2);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        cache.register(connection, SQL, option, statement);
+        cache.release(statement, true);
+        verify(statement, never()).close();
+        verify(statement).clearParameters();
+        assertThat(cache.getIdleSize(), is(1));
+        assertThat(cache.borrow(connection, SQL, new StatementOption(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY, ResultSet.HOLD_CURSORS_OVER_COMMIT)).get(), is(statement));
+        assertThat(cache.getIdleSize(), is(0));
+    }
+    
+    @Test
+    public void assertBorrowWithDifferentKey() throws SQLException {
+        PreparedStatementCache cache = new PreparedStatementCache(2);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        cache.register(connection, SQL, option, statement);
+        cache.release(statement, true);
+        assertFalse(cache.borrow(mock(Connection.class), SQL, option).isPresent());
+        assertFalse(cache.borrow(connection, SQL, new StatementOption(true)).isPresent());
+        assertFalse(cache.borrow(connection, "SELECT * FROM t_order_1 WHERE order_id = ?", option).isPresent());
+        assertTrue(cache.borrow(connection, SQL, option).isPresent());
+    }
+    
+    @Test
+    public void assertBorrowClosedStatement() throws SQLException {
+        PreparedStatementCache cache = new PreparedStatementCache(2);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        cache.register(connection, SQL, option, statement);
+        cache.release(statement, true);
+        when(statement.isClosed()).thenReturn(true);
+        assertFalse(cache.borrow(connection, SQL, option).isPresent());
+    }
+    
+    @Test
+    public void assertReleaseNotReusableStatement() throws SQLException {
+        PreparedStatementCache cache = new PreparedStatementCache(2);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        cache.register(connection, SQL, option, statement);
+        cache.release(statement, false);
+        verify(statement).close();
+        assertThat(cache.getIdleSize(), is(0));
+    }
+    
+    @Test
+    public void assertReleaseUnregisteredStatement() throws SQLException {
+        PreparedStatementCache cache = new PreparedStatementCache(2);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        cache.release(statement, true);
+        verify(statement).close();
+        assertThat(cache.getIdleSize(), is(0));
+    }
+    
+    @Test
+    public void assertReleaseDuplicatedStatement() throws SQLException {
+        PreparedStatementCache cache = new PreparedStatementCache(2);
+        PreparedStatement statement1 = mock(PreparedStatement.class);
+        PreparedStatement statement2 = mock(PreparedStatement.class);
+        cache.register(connection, SQL, option, statement1);
+        cache.register(connection, SQL, option, statement2);
+        cache.release(statement1, true);
+        cache.release(statement2, true);
+        verify(statement1, never()).close();
+        verify(statement2).close();
+        assertThat(cache.getIdleSize(), is(1));
+    }
+    
+    @Test
+    public void assertEvictEldestStatement() throws SQLException {
+        PreparedStatementCache cache = new PreparedStatementCache(1);
+        PreparedStatement statement1 = mock(PreparedStatement.class);
+        PreparedStatement statement2 = mock(PreparedStatement.class);
+        cache.register(connection, SQL, option, statement1);
+        cache.register(connection, "SELECT * FROM t_order_1 WHERE order_id = ?", option, statement2);
+        cache.release(statement1, true);
+        cache.release(statement2, true);
+        verify(statement1).close();
+        verify(statement2, never()).close();
+        assertThat(cache.getIdleSize(), is(1));
+    }
+    
+    @Test
+    public void assertClear() throws SQLException {
+        PreparedStatementCache cache = new PreparedStatementCache(2);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        cache.register(connection, SQL, option, statement);
+        cache.release(statement, true);
+        cache.clear();
+        verify(statement).close();
+        assertThat(cache.getIdleSize(), is(0));
+    }
+    
+    @Test
+    public void assertClearBorrowedStatement() throws SQLException {
+        PreparedStatementCache cache = new PreparedStatementCache(2);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        cache.register(connection, SQL, option, statement);
+        cache.clear();
+        verify(statement).close();
+    }
+}
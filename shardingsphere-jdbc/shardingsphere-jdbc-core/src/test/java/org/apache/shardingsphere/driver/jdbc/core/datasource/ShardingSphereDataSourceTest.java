@@ -36,6 +36,7 @@ import org.mockito.ArgumentMatchers;
 import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
@@ -121,6 +122,9 @@ public final class ShardingSphereDataSourceTest {
         when(statement.getConnection()).thenReturn(connection);
         when(connection.createStatement()).thenReturn(statement);
         when(statement.executeQuery(ArgumentMatchers.any())).thenReturn(resultSet);
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        when(preparedStatement.executeQuery()).thenReturn(resultSet);
+        when(connection.prepareStatement(ArgumentMatchers.any())).thenReturn(preparedStatement);
         when(statement.getConnection().getMetaData().getTables(ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any())).thenReturn(resultSet);
         if (databaseType instanceof MySQLDatabaseType) {
             when(result.getConnection().getMetaData().getURL()).thenReturn("jdbc:mysql://localhost:3306/test");
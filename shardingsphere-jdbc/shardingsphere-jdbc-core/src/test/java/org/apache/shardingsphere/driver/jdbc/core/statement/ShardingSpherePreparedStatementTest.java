@@ -19,6 +19,11 @@ package org.apache.shardingsphere.driver.jdbc.core.statement;
 
 import org.apache.shardingsphere.driver.common.base.AbstractShardingSphereDataSourceForShardingTest;
 import org.apache.shardingsphere.driver.fixture.ResetIncrementKeyGenerateAlgorithm;
+import org.apache.shardingsphere.driver.jdbc.core.connection.ShardingSphereConnection;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.kernal.context.SchemaContexts;
+import org.apache.shardingsphere.transaction.core.TransactionType;
 import org.junit.Ignore;
 import org.junit.Test;
 
@@ -27,6 +32,7 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
@@ -480,4 +486,54 @@ public final class ShardingSpherePreparedStatementTest extends AbstractShardingS
             assertThat(preparedStatement.getParameterMetaData().getParameterCount(), is(2));
         }
     }
+    
+    @Test
+    public void assertClosePhysicalStatementsWithoutCache() throws SQLException {
+        PreparedStatement physicalStatement;
+        try (
+                Connection connection = getShardingSphereDataSource().getConnection();
+                ShardingSpherePreparedStatement preparedStatement = (ShardingSpherePreparedStatement) connection.prepareStatement(SELECT_SQL_WITH_PARAMETER_MARKER)) {
+            preparedStatement.setInt(1, 11);
+            preparedStatement.setInt(2, 11);
+            preparedStatement.executeQuery().close();
+            physicalStatement = preparedStatement.getRoutedStatements().iterator().next();
+            preparedStatement.setInt(1, 11);
+            preparedStatement.setInt(2, 11);
+            preparedStatement.executeQuery().close();
+            assertTrue(physicalStatement.isClosed());
+        }
+    }
+    
+    @Test
+    public void assertReusePhysicalStatements() throws SQLException {
+        PreparedStatement physicalStatement;
+        try (Connection connection = createConnectionWithPreparedStatementCache()) {
+            try (ShardingSpherePreparedStatement preparedStatement = (ShardingSpherePreparedStatement) connection.prepareStatement(SELECT_SQL_WITH_PARAMETER_MARKER)) {
+                preparedStatement.setInt(1, 11);
+                preparedStatement.setInt(2, 11);
+                preparedStatement.executeQuery().close();
+                physicalStatement = preparedStatement.getRoutedStatements().iterator().next();
+                preparedStatement.setInt(1, 11);
+                preparedStatement.setInt(2, 11);
+                preparedStatement.executeQuery().close();
+                assertThat(preparedStatement.getRoutedStatements().iterator().next(), is(physicalStatement));
+            }
+            assertFalse(physicalStatement.isClosed());
+            try (ShardingSpherePreparedStatement preparedStatement = (ShardingSpherePreparedStatement) connection.prepareStatement(SELECT_SQL_WITH_PARAMETER_MARKER)) {
+                preparedStatement.setInt(1, 11);
+                preparedStatement.setInt(2, 11);
+                preparedStatement.executeQuery().close();
+                assertThat(preparedStatement.getRoutedStatements().iterator().next(), is(physicalStatement));
+            }
+        }
+        assertTrue(physicalStatement.isClosed());
+    }
+    
+    private Connection createConnectionWithPreparedStatementCache() {
+        SchemaContexts schemaContexts = getShardingSphereDataSource().getSchemaContexts();
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.PREPARED_STATEMENT_CACHE_SIZE.getKey(), "32");
+        SchemaContexts cacheEnabledSchemaContexts = new SchemaContexts(schemaContexts.getSchemaContexts(), new ConfigurationProperties(props), schemaContexts.getAuthentication());
+        return new ShardingSphereConnection(getShardingSphereDataSource().getDataSourceMap(), cacheEnabledSchemaContexts, TransactionType.LOCAL);
+    }
 }
@@ -35,6 +35,51 @@ public final class ShardingSphereStatementTest extends AbstractShardingSphereDat
     
     private final String sql = "INSERT INTO t_order_item(order_id, user_id, status) VALUES (%d, %d, '%s')";
     
+    @Test
+    public void assertAddBatch() throws SQLException {
+        try (Statement statement = getShardingSphereDataSource().getConnection().createStatement()) {
+            statement.addBatch("INSERT INTO t_order_item (item_id, order_id, user_id, status) VALUES (3201, 11, 11, 'BATCH')");
+            statement.addBatch("INSERT INTO t_order_item (item_id, order_id, user_id, status) VALUES (3202, 12, 12, 'BATCH')");
+            statement.addBatch("INSERT INTO t_order_item (item_id, order_id, user_id, status) VALUES (3211, 21, 21, 'BATCH')");
+            statement.addBatch("INSERT INTO t_order_item (item_id, order_id, user_id, status) VALUES (3212, 22, 22, 'BATCH')");
+            int[] result = statement.executeBatch();
+            assertThat(result.length, is(4));
+            for (int each : result) {
+                assertThat(each, is(1));
+            }
+        }
+    }
+    
+    @Test
+    public void assertUpdateBatch() throws SQLException {
+        try (Statement statement = getShardingSphereDataSource().getConnection().createStatement()) {
+            statement.addBatch("UPDATE t_order SET status = 'batch' WHERE status = 'init'");
+            statement.addBatch("UPDATE t_order SET status = 'batch' WHERE status = 'init'");
+            statement.addBatch("UPDATE t_order SET status = 'init' WHERE status = 'batch'");
+            int[] result = statement.executeBatch();
+            assertThat(result.length, is(3));
+            assertThat(result[0], is(4));
+            assertThat(result[1], is(0));
+            assertThat(result[2], is(4));
+        }
+    }
+    
+    @Test
+    public void assertClearBatch() throws SQLException {
+        try (Statement statement = getShardingSphereDataSource().getConnection().createStatement()) {
+            statement.addBatch("UPDATE t_order SET status = 'batch' WHERE status = 'init'");
+            statement.clearBatch();
+            assertThat(statement.executeBatch().length, is(0));
+        }
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertAddBatchWithEmptyString() throws SQLException {
+        try (Statement statement = getShardingSphereDataSource().getConnection().createStatement()) {
+            statement.addBatch("");
+        }
+    }
+    
     @Test
     public void assertGetGeneratedKeys() throws SQLException {
         try (
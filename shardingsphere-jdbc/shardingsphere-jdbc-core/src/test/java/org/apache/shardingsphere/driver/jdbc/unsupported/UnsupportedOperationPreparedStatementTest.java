@@ -57,6 +57,13 @@ public final class UnsupportedOperationPreparedStatementTest extends AbstractSha
         }
     }
     
+    @Test(expected = SQLFeatureNotSupportedException.class)
+    public void assertAddBatchWithSQL() throws SQLException {
+        for (PreparedStatement each : statements) {
+            each.addBatch("");
+        }
+    }
+    
     @Test(expected = SQLFeatureNotSupportedException.class)
     public void assertGetMetaData() throws SQLException {
         for (PreparedStatement each : statements) {
@@ -67,27 +67,6 @@ public final class UnsupportedOperationStatementTest extends AbstractShardingSph
         }
     }
     
-    @Test(expected = SQLFeatureNotSupportedException.class)
-    public void assertAddBatch() throws SQLException {
-        for (Statement each : statements) {
-            each.addBatch("");
-        }
-    }
-    
-    @Test(expected = SQLFeatureNotSupportedException.class)
-    public void assertClearBatch() throws SQLException {
-        for (Statement each : statements) {
-            each.clearBatch();
-        }
-    }
-    
-    @Test(expected = SQLFeatureNotSupportedException.class)
-    public void assertExecuteBatch() throws SQLException {
-        for (Statement each : statements) {
-            each.executeBatch();
-        }
-    }
-    
     @Test(expected = SQLFeatureNotSupportedException.class)
     public void assertCloseOnCompletion() throws SQLException {
         for (Statement each : statements) {
@@ -173,6 +173,19 @@ public final class CircuitBreakerStatement extends AbstractUnsupportedOperationS
         return false;
     }
     
+    @Override
+    public void addBatch(final String sql) {
+    }
+    
+    @Override
+    public void clearBatch() {
+    }
+    
+    @Override
+    public int[] executeBatch() {
+        return new int[]{-1};
+    }
+    
     @Override
     public int getResultSetHoldability() {
         return 0;
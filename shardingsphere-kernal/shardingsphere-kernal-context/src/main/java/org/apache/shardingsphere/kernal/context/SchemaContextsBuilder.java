@@ -31,6 +31,7 @@ import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.datasource.DataSourceMetas;
 import org.apache.shardingsphere.infra.metadata.schema.RuleSchemaMetaData;
 import org.apache.shardingsphere.infra.metadata.schema.RuleSchemaMetaDataLoader;
+import org.apache.shardingsphere.infra.metadata.schema.snapshot.RuleSchemaMetaDataSnapshot;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRulesBuilder;
 import org.apache.shardingsphere.kernal.context.runtime.CachedDatabaseMetaData;
@@ -38,6 +39,7 @@ import org.apache.shardingsphere.kernal.context.runtime.RuntimeContext;
 import org.apache.shardingsphere.kernal.context.schema.DataSourceParameter;
 import org.apache.shardingsphere.kernal.context.schema.ShardingSphereSchema;
 import org.apache.shardingsphere.sql.parser.SQLParserEngineFactory;
+import org.apache.shardingsphere.sql.parser.binder.metadata.schema.SchemaMetaData;
 import org.apache.shardingsphere.transaction.ShardingTransactionManagerEngine;
 
 import javax.sql.DataSource;
@@ -46,9 +48,12 @@ import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
 import java.util.Collection;
 import java.util.LinkedHashMap;
+import java.util.LinkedList;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Slf4j(topic = "ShardingSphere-schemaContexts")
 public final class SchemaContextsBuilder {
@@ -122,18 +127,70 @@ public final class SchemaContextsBuilder {
         Collection<RuleConfiguration> configurations = this.configurations.get(schemaName);
         Collection<ShardingSphereRule> rules = ShardingSphereRulesBuilder.build(configurations, dataSources.keySet());
         if (dataSourceParameters.isEmpty()) {
-            return new ShardingSphereSchema(databaseType, configurations, rules, dataSources, createMetaData(dataSources, rules));
+            return new ShardingSphereSchema(databaseType, configurations, rules, dataSources, createMetaData(schemaName, dataSources, configurations, rules));
         }
-        return new ShardingSphereSchema(databaseType, configurations, rules, dataSources, dataSourceParameters.get(schemaName), createMetaData(dataSources, rules));
+        return new ShardingSphereSchema(databaseType, configurations, rules, dataSources, dataSourceParameters.get(schemaName), createMetaData(schemaName, dataSources, configurations, rules));
     }
     
-    private ShardingSphereMetaData createMetaData(final Map<String, DataSource> dataSourceMap, final Collection<ShardingSphereRule> rules) throws SQLException {
+    private ShardingSphereMetaData createMetaData(final String schemaName, final Map<String, DataSource> dataSourceMap, 
+                                                  final Collection<RuleConfiguration> configurations, final Collection<ShardingSphereRule> rules) throws SQLException {
         long start = System.currentTimeMillis();
-        DataSourceMetas dataSourceMetas = new DataSourceMetas(databaseType, getDatabaseAccessConfigurationMap(dataSourceMap));
+        Map<String, DatabaseAccessConfiguration> databaseAccessConfigurationMap = getDatabaseAccessConfigurationMap(dataSourceMap);
+        DataSourceMetas dataSourceMetas = new DataSourceMetas(databaseType, databaseAccessConfigurationMap);
+        String snapshotPath = properties.getValue(ConfigurationPropertyKey.METADATA_SNAPSHOT_PATH);
+        if (snapshotPath.isEmpty()) {
+            RuleSchemaMetaData ruleSchemaMetaData = new RuleSchemaMetaDataLoader(rules).load(databaseType, dataSourceMap, properties, executorKernel.getExecutorService().getExecutorService());
+            log.info("Meta data load finished, cost {} milliseconds.", System.currentTimeMillis() - start);
+            return new ShardingSphereMetaData(dataSourceMetas, ruleSchemaMetaData);
+        }
+        RuleSchemaMetaDataSnapshot snapshot = new RuleSchemaMetaDataSnapshot(snapshotPath, schemaName, RuleSchemaMetaDataSnapshot.fingerprint(configurations, databaseAccessConfigurationMap));
+        Optional<RuleSchemaMetaData> snapshotRuleSchemaMetaData = snapshot.load();
+        if (snapshotRuleSchemaMetaData.isPresent()) {
+            RuleSchemaMetaData ruleSchemaMetaData = new RuleSchemaMetaData(
+                    snapshotRuleSchemaMetaData.get().getConfiguredSchemaMetaData(), new ConcurrentHashMap<>(snapshotRuleSchemaMetaData.get().getUnconfiguredSchemaMetaDataMap()));
+            log.info("Meta data load from snapshot finished, cost {} milliseconds.", System.currentTimeMillis() - start);
+            executorKernel.getExecutorService().getExecutorService().submit(() -> verifySnapshot(schemaName, dataSourceMap, rules, snapshot, ruleSchemaMetaData));
+            return new ShardingSphereMetaData(dataSourceMetas, ruleSchemaMetaData);
+        }
         RuleSchemaMetaData ruleSchemaMetaData = new RuleSchemaMetaDataLoader(rules).load(databaseType, dataSourceMap, properties, executorKernel.getExecutorService().getExecutorService());
-        ShardingSphereMetaData result = new ShardingSphereMetaData(dataSourceMetas, ruleSchemaMetaData);
         log.info("Meta data load finished, cost {} milliseconds.", System.currentTimeMillis() - start);
-        return result;
+        snapshot.persist(ruleSchemaMetaData);
+        return new ShardingSphereMetaData(dataSourceMetas, ruleSchemaMetaData);
+    }
+    
+    private void verifySnapshot(final String schemaName, final Map<String, DataSource> dataSourceMap, final Collection<ShardingSphereRule> rules, 
+                                final RuleSchemaMetaDataSnapshot snapshot, final RuleSchemaMetaData ruleSchemaMetaData) {
+        RuleSchemaMetaData actual;
+        try {
+            actual = new RuleSchemaMetaDataLoader(rules).load(databaseType, dataSourceMap, properties, null);
+        } catch (final SQLException ex) {
+            log.warn("Verify meta data snapshot of schema `{}` failed.", schemaName, ex);
+            return;
+        }
+        if (isSameRuleSchemaMetaData(ruleSchemaMetaData, actual)) {
+            return;
+        }
+        log.warn("Meta data snapshot of schema `{}` is outdated, refresh it.", schemaName);
+        refreshSchemaMetaData(ruleSchemaMetaData.getConfiguredSchemaMetaData(), actual.getConfiguredSchemaMetaData());
+        ruleSchemaMetaData.getUnconfiguredSchemaMetaDataMap().keySet().retainAll(actual.getUnconfiguredSchemaMetaDataMap().keySet());
+        ruleSchemaMetaData.getUnconfiguredSchemaMetaDataMap().putAll(actual.getUnconfiguredSchemaMetaDataMap());
+        snapshot.persist(actual);
+    }
+    
+    private boolean isSameRuleSchemaMetaData(final RuleSchemaMetaData expected, final RuleSchemaMetaData actual) {
+        Map<String, SchemaMetaData> expectedUnconfigured = expected.getUnconfiguredSchemaMetaDataMap();
+        return isSameSchemaMetaData(expected.getConfiguredSchemaMetaData(), actual.getConfiguredSchemaMetaData())
+                && expectedUnconfigured.keySet().equals(actual.getUnconfiguredSchemaMetaDataMap().keySet())
+                && actual.getUnconfiguredSchemaMetaDataMap().entrySet().stream().allMatch(entry -> isSameSchemaMetaData(expectedUnconfigured.get(entry.getKey()), entry.getValue()));
+    }
+    
+    private boolean isSameSchemaMetaData(final SchemaMetaData expected, final SchemaMetaData actual) {
+        return expected.getAllTableNames().equals(actual.getAllTableNames()) && actual.getAllTableNames().stream().allMatch(each -> actual.get(each).equals(expected.get(each)));
+    }
+    
+    private void refreshSchemaMetaData(final SchemaMetaData schemaMetaData, final SchemaMetaData actual) {
+        new LinkedList<>(schemaMetaData.getAllTableNames()).stream().filter(each -> !actual.containsTable(each)).forEach(schemaMetaData::remove);
+        schemaMetaData.merge(actual);
     }
     
     private Map<String, DatabaseAccessConfiguration> getDatabaseAccessConfigurationMap(final Map<String, DataSource> dataSourceMap) throws SQLException {
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.kernal.context.runtime;
 
 import lombok.Getter;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorKernel;
+import org.apache.shardingsphere.infra.rewrite.cache.SQLRewritePlanCache;
 import org.apache.shardingsphere.sql.parser.SQLParserEngine;
 import org.apache.shardingsphere.transaction.ShardingTransactionManagerEngine;
 
@@ -33,6 +34,8 @@ public final class RuntimeContext {
     
     private final ShardingTransactionManagerEngine shardingTransactionManagerEngine;
     
+    private final SQLRewritePlanCache sqlRewritePlanCache = new SQLRewritePlanCache();
+    
     public RuntimeContext(final CachedDatabaseMetaData cachedDatabaseMetaData, 
                           final ExecutorKernel executorKernel, final SQLParserEngine sqlParserEngine, final ShardingTransactionManagerEngine shardingTransactionManagerEngine) {
         this.cachedDatabaseMetaData = cachedDatabaseMetaData;
@@ -24,6 +24,7 @@ import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRulesBuilder;
+import org.apache.shardingsphere.infra.spi.order.OrderedSPIRegistry;
 
 import javax.sql.DataSource;
 import java.lang.reflect.Method;
@@ -74,6 +75,7 @@ public final class ShardingSphereSchema {
         Collection<ShardingSphereRule> rules = ShardingSphereRulesBuilder.build(configurations, dataSources.keySet());
         this.rules.clear();
         this.rules.addAll(rules);
+        OrderedSPIRegistry.invalidateCachedServices(this.rules);
     }
     
     /**
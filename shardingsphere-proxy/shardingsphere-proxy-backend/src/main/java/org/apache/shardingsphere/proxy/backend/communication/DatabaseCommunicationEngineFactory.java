@@ -19,12 +19,17 @@ package org.apache.shardingsphere.proxy.backend.communication;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.JDBCDatabaseCommunicationEngine;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.execute.JDBCExecuteEngine;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.wrapper.PreparedStatementExecutorWrapper;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.wrapper.StatementExecutorWrapper;
+import org.apache.shardingsphere.proxy.backend.communication.netty.NettyExecuteEngine;
 import org.apache.shardingsphere.proxy.backend.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.proxy.backend.schema.ShardingSphereSchemas;
+import org.apache.shardingsphere.proxy.context.ShardingSphereProxyContext;
 
 import java.util.List;
 
@@ -54,9 +59,17 @@ public final class DatabaseCommunicationEngineFactory {
      * @return instance of text protocol backend handler
      */
     public DatabaseCommunicationEngine newTextProtocolInstance(final ShardingSphereSchema schema, final String sql, final BackendConnection backendConnection) {
+        if (isNativeBackend()) {
+            return new JDBCDatabaseCommunicationEngine(schema, sql, new NettyExecuteEngine(backendConnection, new StatementExecutorWrapper(schema)));
+        }
         return new JDBCDatabaseCommunicationEngine(schema, sql, new JDBCExecuteEngine(backendConnection, new StatementExecutorWrapper(schema)));
     }
     
+    private boolean isNativeBackend() {
+        return "NATIVE".equalsIgnoreCase(ShardingSphereProxyContext.getInstance().getProperties().getValue(ConfigurationPropertyKey.PROXY_BACKEND_DRIVER_TYPE))
+                && ShardingSphereSchemas.getInstance().getDatabaseType() instanceof MySQLDatabaseType;
+    }
+    
     /**
      * Create new instance of text protocol backend handler.
      *
@@ -79,8 +79,12 @@ public final class BackendConnection implements JDBCExecutionConnection, AutoClo
     
     private final Collection<ResultSet> cachedResultSets = new CopyOnWriteArrayList<>();
     
+    private final Collection<AutoCloseable> cachedQueryResults = new CopyOnWriteArrayList<>();
+    
     private final Collection<MethodInvocation> methodInvocations = new ArrayList<>();
     
+    private final List<String> sessionVariableStatements = new CopyOnWriteArrayList<>();
+    
     @Getter
     private final ResourceSynchronizer resourceSynchronizer = new ResourceSynchronizer();
     
@@ -259,6 +263,25 @@ public final class BackendConnection implements JDBCExecutionConnection, AutoClo
         cachedResultSets.add(resultSet);
     }
     
+    /**
+     * Add query result which holds backend resources until it is closed.
+     *
+     * @param queryResult query result to be added
+     */
+    public void addQueryResult(final AutoCloseable queryResult) {
+        cachedQueryResults.add(queryResult);
+    }
+    
+    /**
+     * Record statement which sets session variables, statements are kept in order of their latest execution.
+     *
+     * @param sql SQL of the statement
+     */
+    public void recordSessionVariableStatement(final String sql) {
+        sessionVariableStatements.remove(sql);
+        sessionVariableStatements.add(sql);
+    }
+    
     @Override
     public void close() throws SQLException {
         close(false);
@@ -274,6 +297,7 @@ public final class BackendConnection implements JDBCExecutionConnection, AutoClo
         Collection<SQLException> exceptions = new LinkedList<>();
         MasterVisitedManager.clear();
         exceptions.addAll(closeResultSets());
+        exceptions.addAll(closeQueryResults());
         exceptions.addAll(closeStatements());
         if (!stateHandler.isInTransaction() || forceClose || TransactionType.BASE == transactionType) {
             exceptions.addAll(releaseConnections(forceClose));
@@ -295,6 +319,21 @@ public final class BackendConnection implements JDBCExecutionConnection, AutoClo
         return result;
     }
     
+    private Collection<SQLException> closeQueryResults() {
+        Collection<SQLException> result = new LinkedList<>();
+        for (AutoCloseable each : cachedQueryResults) {
+            try {
+                each.close();
+            // CHECKSTYLE:OFF
+            } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+                result.add(ex instanceof SQLException ? (SQLException) ex : new SQLException(ex));
+            }
+        }
+        cachedQueryResults.clear();
+        return result;
+    }
+    
     private Collection<SQLException> closeStatements() {
         Collection<SQLException> result = new LinkedList<>();
         for (Statement each : cachedStatements) {
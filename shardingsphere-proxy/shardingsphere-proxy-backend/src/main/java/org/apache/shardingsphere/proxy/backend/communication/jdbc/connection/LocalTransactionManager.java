@@ -19,11 +19,15 @@ package org.apache.shardingsphere.proxy.backend.communication.jdbc.connection;
 
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.executor.kernel.ForceExecuteCallback;
+import org.apache.shardingsphere.infra.executor.kernel.ForceExecuteTemplate;
+import org.apache.shardingsphere.proxy.backend.executor.BackendExecutorContext;
+import org.apache.shardingsphere.proxy.context.ShardingSphereProxyContext;
 
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.Collection;
-import java.util.LinkedList;
 
 /**
  * Local transaction manager.
@@ -33,6 +37,8 @@ public final class LocalTransactionManager implements TransactionManager {
     
     private final BackendConnection connection;
     
+    private final ForceExecuteTemplate<Connection> forceExecuteTemplate = new ForceExecuteTemplate<>();
+    
     @Override
     public void begin() {
         recordMethodInvocation(Connection.class, "setAutoCommit", new Class[]{boolean.class}, new Object[]{false});
@@ -41,54 +47,24 @@ public final class LocalTransactionManager implements TransactionManager {
     @Override
     public void commit() throws SQLException {
         if (connection.getStateHandler().isInTransaction()) {
-            Collection<SQLException> exceptions = new LinkedList<>();
-            exceptions.addAll(commitConnections());
-            throwSQLExceptionIfNecessary(exceptions);
+            execute(Connection::commit);
         }
     }
     
     @Override
     public void rollback() throws SQLException {
         if (connection.getStateHandler().isInTransaction()) {
-            Collection<SQLException> exceptions = new LinkedList<>();
-            exceptions.addAll(rollbackConnections());
-            throwSQLExceptionIfNecessary(exceptions);
-        }
-    }
-    
-    private Collection<SQLException> commitConnections() {
-        Collection<SQLException> result = new LinkedList<>();
-        for (Connection each : connection.getCachedConnections().values()) {
-            try {
-                each.commit();
-            } catch (final SQLException ex) {
-                result.add(ex);
-            }
+            execute(Connection::rollback);
         }
-        return result;
     }
     
-    private Collection<SQLException> rollbackConnections() {
-        Collection<SQLException> result = new LinkedList<>();
-        for (Connection each : connection.getCachedConnections().values()) {
-            try {
-                each.rollback();
-            } catch (final SQLException ex) {
-                result.add(ex);
-            }
-        }
-        return result;
-    }
-    
-    private void throwSQLExceptionIfNecessary(final Collection<SQLException> exceptions) throws SQLException {
-        if (exceptions.isEmpty()) {
-            return;
-        }
-        SQLException ex = new SQLException();
-        for (SQLException each : exceptions) {
-            ex.setNextException(each);
+    private void execute(final ForceExecuteCallback<Connection> callback) throws SQLException {
+        Collection<Connection> connections = connection.getCachedConnections().values();
+        if (ShardingSphereProxyContext.getInstance().getProperties().<Boolean>getValue(ConfigurationPropertyKey.PARALLEL_COMMIT_ENABLED)) {
+            forceExecuteTemplate.execute(connections, callback, BackendExecutorContext.getInstance().getExecutorKernel().getExecutorService().getExecutorService());
+        } else {
+            forceExecuteTemplate.execute(connections, callback);
         }
-        throw ex;
     }
     
     @SneakyThrows(ReflectiveOperationException.class)
@@ -18,6 +18,8 @@
 package org.apache.shardingsphere.proxy.backend.communication.jdbc.execute;
 
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.wrapper.JDBCExecutorWrapper;
 import org.apache.shardingsphere.proxy.backend.response.BackendResponse;
 
 import java.sql.SQLException;
@@ -27,6 +29,20 @@ import java.sql.SQLException;
  */
 public interface SQLExecuteEngine {
     
+    /**
+     * Get backend connection.
+     *
+     * @return backend connection
+     */
+    BackendConnection getBackendConnection();
+    
+    /**
+     * Get JDBC executor wrapper.
+     *
+     * @return JDBC executor wrapper
+     */
+    JDBCExecutorWrapper getJdbcExecutorWrapper();
+    
     /**
      * Execute SQL.
      *
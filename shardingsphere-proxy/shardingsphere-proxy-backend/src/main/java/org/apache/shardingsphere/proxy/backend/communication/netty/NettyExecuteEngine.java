@@ -0,0 +1,252 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.netty;
+
+import com.google.common.base.Strings;
+import io.netty.util.concurrent.Future;
+import lombok.Getter;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.MySQLColumnDefinition41Packet;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLOKPacket;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.executor.kernel.ExecutorDataMap;
+import org.apache.shardingsphere.infra.executor.sql.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.jdbc.executor.ExecutorExceptionHandler;
+import org.apache.shardingsphere.infra.executor.sql.hook.SPISQLExecutionHook;
+import org.apache.shardingsphere.infra.executor.sql.hook.SQLExecutionHook;
+import org.apache.shardingsphere.infra.rule.DataNodeRoutedRule;
+import org.apache.shardingsphere.kernal.context.schema.DataSourceParameter;
+import org.apache.shardingsphere.metrics.enums.MetricsLabelEnum;
+import org.apache.shardingsphere.metrics.facade.MetricsTrackerFacade;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.execute.JDBCExecuteEngine;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.execute.SQLExecuteEngine;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.execute.response.ExecuteResponse;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.execute.response.ExecuteUpdateResponse;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.wrapper.JDBCExecutorWrapper;
+import org.apache.shardingsphere.proxy.backend.communication.netty.datasource.NettyBackendDataSource;
+import org.apache.shardingsphere.proxy.backend.communication.netty.mysql.MySQLChannelPool;
+import org.apache.shardingsphere.proxy.backend.communication.netty.mysql.MySQLNativeQueryResult;
+import org.apache.shardingsphere.proxy.backend.response.BackendResponse;
+import org.apache.shardingsphere.proxy.backend.response.query.QueryHeader;
+import org.apache.shardingsphere.proxy.backend.response.query.QueryResponse;
+import org.apache.shardingsphere.proxy.backend.response.update.UpdateResponse;
+import org.apache.shardingsphere.proxy.backend.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.proxy.context.ShardingSphereProxyContext;
+import org.apache.shardingsphere.sql.parser.binder.metadata.column.ColumnMetaData;
+import org.apache.shardingsphere.sql.parser.binder.metadata.table.TableMetaData;
+import org.apache.shardingsphere.sql.parser.binder.segment.select.projection.Projection;
+import org.apache.shardingsphere.sql.parser.binder.segment.select.projection.impl.ColumnProjection;
+import org.apache.shardingsphere.sql.parser.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.sql.parser.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.statement.dal.SetStatement;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.DeleteStatement;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.InsertStatement;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.UpdateStatement;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SQL Execute engine for native protocol clients.
+ * 
+ * <p>
+ *     DML statements are sent to all data sources concurrently through asynchronous channels,
+ *     other statements and statements in transaction are executed by JDBC.
+ *     Session variables set by the client are replayed on pooled channels before execution,
+ *     statements are executed by JDBC if connection state is recorded by method invocations which cannot be replayed on channels.
+ * </p>
+ */
+public final class NettyExecuteEngine implements SQLExecuteEngine {
+    
+    @Getter
+    private final BackendConnection backendConnection;
+    
+    @Getter
+    private final JDBCExecutorWrapper jdbcExecutorWrapper;
+    
+    private final JDBCExecuteEngine jdbcExecuteEngine;
+    
+    public NettyExecuteEngine(final BackendConnection backendConnection, final JDBCExecutorWrapper jdbcExecutorWrapper) {
+        this.backendConnection = backendConnection;
+        this.jdbcExecutorWrapper = jdbcExecutorWrapper;
+        jdbcExecuteEngine = new JDBCExecuteEngine(backendConnection, jdbcExecutorWrapper);
+    }
+    
+    @Override
+    public BackendResponse execute(final ExecutionContext executionContext) throws SQLException {
+        SQLStatementContext sqlStatementContext = executionContext.getSqlStatementContext();
+        if (!isNativeSupported(sqlStatementContext.getSqlStatement())) {
+            BackendResponse result = jdbcExecuteEngine.execute(executionContext);
+            if (sqlStatementContext.getSqlStatement() instanceof SetStatement && !executionContext.getExecutionUnits().isEmpty()) {
+                backendConnection.recordSessionVariableStatement(executionContext.getExecutionUnits().iterator().next().getSqlUnit().getSql());
+            }
+            return result;
+        }
+        List<Object> responses = executeNatively(executionContext.getExecutionUnits());
+        if (!responses.isEmpty() && responses.get(0) instanceof MySQLNativeQueryResult) {
+            MetricsTrackerFacade.getInstance().counterInc(MetricsLabelEnum.SQL_STATEMENT_COUNT.getName(), "SELECT");
+            return getQueryResponse(sqlStatementContext, responses);
+        }
+        UpdateResponse result = new UpdateResponse(getExecuteUpdateResponses(responses));
+        if (sqlStatementContext.getSqlStatement() instanceof InsertStatement) {
+            result.setType("INSERT");
+        } else if (sqlStatementContext.getSqlStatement() instanceof DeleteStatement) {
+            result.setType("DELETE");
+        } else if (sqlStatementContext.getSqlStatement() instanceof UpdateStatement) {
+            result.setType("UPDATE");
+        }
+        if (!Strings.isNullOrEmpty(result.getType())) {
+            MetricsTrackerFacade.getInstance().counterInc(MetricsLabelEnum.SQL_STATEMENT_COUNT.getName(), result.getType());
+        }
+        return result;
+    }
+    
+    private boolean isNativeSupported(final SQLStatement sqlStatement) {
+        if (backendConnection.getStateHandler().isInTransaction() || !backendConnection.getMethodInvocations().isEmpty()) {
+            return false;
+        }
+        return sqlStatement instanceof SelectStatement || sqlStatement instanceof InsertStatement || sqlStatement instanceof UpdateStatement || sqlStatement instanceof DeleteStatement;
+    }
+    
+    private List<Object> executeNatively(final Collection<ExecutionUnit> executionUnits) throws SQLException {
+        ShardingSphereSchema schema = backendConnection.getSchema();
+        Map<String, DataSourceParameter> dataSources = schema.getDataSources();
+        long timeoutMilliseconds = TimeUnit.SECONDS.toMillis(
+                ShardingSphereProxyContext.getInstance().getProperties().<Integer>getValue(ConfigurationPropertyKey.PROXY_BACKEND_NATIVE_COMMAND_TIMEOUT_SECONDS));
+        List<SQLExecutionHook> sqlExecutionHooks = new ArrayList<>(executionUnits.size());
+        List<Future<Object>> futures = new ArrayList<>(executionUnits.size());
+        for (ExecutionUnit each : executionUnits) {
+            MySQLChannelPool channelPool = NettyBackendDataSource.getInstance().getMySQLChannelPool(schema.getName(), each.getDataSourceName(), dataSources.get(each.getDataSourceName()));
+            SQLExecutionHook sqlExecutionHook = new SPISQLExecutionHook();
+            sqlExecutionHook.start(each.getDataSourceName(), each.getSqlUnit().getSql(), each.getSqlUnit().getParameters(), channelPool.getDataSourceMetaData(), true, ExecutorDataMap.getValue());
+            sqlExecutionHooks.add(sqlExecutionHook);
+            futures.add(channelPool.execute(backendConnection.getSessionVariableStatements(), each.getSqlUnit().getSql(), timeoutMilliseconds));
+        }
+        List<Object> result = new ArrayList<>(futures.size());
+        Iterator<Future<Object>> futureIterator = futures.iterator();
+        Iterator<SQLExecutionHook> sqlExecutionHookIterator = sqlExecutionHooks.iterator();
+        try {
+            while (futureIterator.hasNext()) {
+                getResponse(futureIterator.next(), sqlExecutionHookIterator.next(), timeoutMilliseconds).ifPresent(result::add);
+            }
+        } finally {
+            futureIterator.forEachRemaining(this::cancel);
+        }
+        return result;
+    }
+    
+    private Optional<Object> getResponse(final Future<Object> future, final SQLExecutionHook sqlExecutionHook, final long timeoutMilliseconds) throws SQLException {
+        try {
+            Object result = awaitResponse(future, timeoutMilliseconds);
+            if (result instanceof MySQLNativeQueryResult) {
+                backendConnection.addQueryResult((MySQLNativeQueryResult) result);
+            }
+            sqlExecutionHook.finishSuccess();
+            return Optional.of(result);
+        } catch (final SQLException ex) {
+            sqlExecutionHook.finishFailure(ex);
+            ExecutorExceptionHandler.handleException(ex);
+            return Optional.empty();
+        }
+    }
+    
+    private Object awaitResponse(final Future<Object> future, final long timeoutMilliseconds) throws SQLException {
+        try {
+            if (!future.await(timeoutMilliseconds, TimeUnit.MILLISECONDS) && future.cancel(false)) {
+                throw new SQLException(String.format("Timeout after %d milliseconds while waiting for response from MySQL.", timeoutMilliseconds));
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            cancel(future);
+            throw new SQLException("Interrupted while waiting for response from MySQL.", ex);
+        }
+        if (future.isSuccess()) {
+            return future.getNow();
+        }
+        if (future.cause() instanceof SQLException) {
+            throw (SQLException) future.cause();
+        }
+        throw new SQLException(future.cause());
+    }
+    
+    private void cancel(final Future<Object> future) {
+        if (!future.cancel(false) && future.isSuccess() && future.getNow() instanceof MySQLNativeQueryResult) {
+            ((MySQLNativeQueryResult) future.getNow()).close();
+        }
+    }
+    
+    private BackendResponse getQueryResponse(final SQLStatementContext sqlStatementContext, final List<Object> responses) {
+        MySQLNativeQueryResult queryResult = (MySQLNativeQueryResult) responses.get(0);
+        int columnCount = sqlStatementContext instanceof SelectStatementContext
+                ? ((SelectStatementContext) sqlStatementContext).getProjectionsContext().getExpandProjections().size() : queryResult.getColumnCount();
+        List<QueryHeader> queryHeaders = new ArrayList<>(columnCount);
+        for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
+            queryHeaders.add(createQueryHeader(sqlStatementContext, queryResult, columnIndex));
+        }
+        QueryResponse result = new QueryResponse(queryHeaders);
+        for (Object each : responses) {
+            result.getQueryResults().add((QueryResult) each);
+        }
+        return result;
+    }
+    
+    private QueryHeader createQueryHeader(final SQLStatementContext sqlStatementContext, final MySQLNativeQueryResult queryResult, final int columnIndex) {
+        ShardingSphereSchema schema = backendConnection.getSchema();
+        MySQLColumnDefinition41Packet columnDefinition = queryResult.getColumnDefinition(columnIndex);
+        String table = columnDefinition.getOrgTable();
+        boolean primaryKey = false;
+        Optional<DataNodeRoutedRule> dataNodeRoutedRule = schema.getRules().stream().filter(each -> each instanceof DataNodeRoutedRule).findFirst().map(rule -> (DataNodeRoutedRule) rule);
+        if (!Strings.isNullOrEmpty(table) && dataNodeRoutedRule.isPresent()) {
+            table = dataNodeRoutedRule.get().findLogicTableByActualTable(table).orElse("");
+            TableMetaData tableMetaData = schema.getMetaData().getSchema().getConfiguredSchemaMetaData().get(table);
+            ColumnMetaData columnMetaData = null == tableMetaData ? null : tableMetaData.getColumns().get(columnDefinition.getOrgName().toLowerCase());
+            primaryKey = null != columnMetaData && columnMetaData.isPrimaryKey();
+        }
+        return new QueryHeader(schema.getName(), table, columnDefinition.getName(), getColumnName(sqlStatementContext, columnDefinition, columnIndex), columnDefinition.getColumnLength(),
+                queryResult.getColumnType(columnIndex), columnDefinition.getDecimals(), queryResult.isSigned(columnIndex), primaryKey, queryResult.isNotNull(columnIndex),
+                queryResult.isAutoIncrement(columnIndex));
+    }
+    
+    private String getColumnName(final SQLStatementContext sqlStatementContext, final MySQLColumnDefinition41Packet columnDefinition, final int columnIndex) {
+        if (sqlStatementContext instanceof SelectStatementContext) {
+            Projection projection = ((SelectStatementContext) sqlStatementContext).getProjectionsContext().getExpandProjections().get(columnIndex - 1);
+            if (projection instanceof ColumnProjection) {
+                return ((ColumnProjection) projection).getName();
+            }
+        }
+        return columnDefinition.getOrgName();
+    }
+    
+    private Collection<ExecuteResponse> getExecuteUpdateResponses(final List<Object> responses) {
+        Collection<ExecuteResponse> result = new ArrayList<>(responses.size());
+        for (Object each : responses) {
+            result.add(new ExecuteUpdateResponse((int) ((MySQLOKPacket) each).getAffectedRows(), ((MySQLOKPacket) each).getLastInsertId()));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.netty.datasource;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.kernal.context.schema.DataSourceParameter;
+import org.apache.shardingsphere.proxy.backend.communication.netty.mysql.MySQLChannelPool;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Backend data source for native protocol clients.
+ * 
+ * <p>
+ *     All channel pools share one event loop group, a pool is rebuilt when parameters of its data source changed,
+ *     and closed when its data source or schema is removed.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class NettyBackendDataSource {
+    
+    private static final NettyBackendDataSource INSTANCE = new NettyBackendDataSource();
+    
+    private final EventLoopGroup eventLoopGroup = new NioEventLoopGroup(0, new DefaultThreadFactory("ShardingSphere-Proxy-Backend-Native", true));
+    
+    private final Map<String, Map<String, MySQLChannelPool>> channelPools = new ConcurrentHashMap<>();
+    
+    /**
+     * Get backend data source instance.
+     *
+     * @return instance of backend data source
+     */
+    public static NettyBackendDataSource getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Get MySQL channel pool.
+     *
+     * @param schemaName schema name
+     * @param dataSourceName data source name
+     * @param dataSourceParameter data source parameter
+     * @return MySQL channel pool
+     */
+    public MySQLChannelPool getMySQLChannelPool(final String schemaName, final String dataSourceName, final DataSourceParameter dataSourceParameter) {
+        MySQLChannelPool result = channelPools.getOrDefault(schemaName, Collections.emptyMap()).get(dataSourceName);
+        if (null != result && result.getDataSourceParameter().equals(dataSourceParameter)) {
+            return result;
+        }
+        synchronized (channelPools) {
+            Map<String, MySQLChannelPool> schemaChannelPools = channelPools.computeIfAbsent(schemaName, key -> new ConcurrentHashMap<>());
+            result = schemaChannelPools.get(dataSourceName);
+            if (null != result && result.getDataSourceParameter().equals(dataSourceParameter)) {
+                return result;
+            }
+            if (null != result) {
+                result.close();
+            }
+            result = new MySQLChannelPool(eventLoopGroup, dataSourceParameter);
+            schemaChannelPools.put(dataSourceName, result);
+            return result;
+        }
+    }
+    
+    /**
+     * Renew data sources of schema, channel pools of removed or changed data sources are closed.
+     *
+     * @param schemaName schema name
+     * @param dataSourceParameters data source parameters after renewed
+     */
+    public void renew(final String schemaName, final Map<String, DataSourceParameter> dataSourceParameters) {
+        synchronized (channelPools) {
+            Map<String, MySQLChannelPool> schemaChannelPools = channelPools.get(schemaName);
+            if (null == schemaChannelPools) {
+                return;
+            }
+            Iterator<Entry<String, MySQLChannelPool>> iterator = schemaChannelPools.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Entry<String, MySQLChannelPool> entry = iterator.next();
+                if (!entry.getValue().getDataSourceParameter().equals(dataSourceParameters.get(entry.getKey()))) {
+                    entry.getValue().close();
+                    iterator.remove();
+                }
+            }
+        }
+    }
+    
+    /**
+     * Close channel pools of schema.
+     *
+     * @param schemaName schema name
+     */
+    public void close(final String schemaName) {
+        synchronized (channelPools) {
+            Map<String, MySQLChannelPool> schemaChannelPools = channelPools.remove(schemaName);
+            if (null != schemaChannelPools) {
+                schemaChannelPools.values().forEach(MySQLChannelPool::close);
+            }
+        }
+    }
+}
@@ -0,0 +1,313 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.netty.mysql;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.Promise;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLAuthenticationMethod;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLCapabilityFlag;
+import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.MySQLColumnDefinition41Packet;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.query.MySQLComQueryPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLEofPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLErrPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLOKPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.handshake.MySQLAuthSwitchResponsePacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.handshake.MySQLHandshakePacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.handshake.MySQLHandshakeResponse41Packet;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Backend handler for MySQL native protocol.
+ * 
+ * <p>
+ *     Authenticates with {@code mysql_native_password} and executes text protocol commands one by one,
+ *     responses are decoded on the event loop and completed as {@link MySQLOKPacket} or {@link MySQLNativeQueryResult}.
+ *     Query result is completed once its column definitions are received, rows are streamed into it afterwards.
+ * </p>
+ */
+@RequiredArgsConstructor
+public final class MySQLBackendHandler extends ChannelInboundHandlerAdapter {
+    
+    private static final int MAX_PACKET_SIZE = 1 << 24;
+    
+    private static final int CHARACTER_SET = 45;
+    
+    private static final int AUTH_SWITCH_HEADER = 0xfe;
+    
+    private static final int NULL = 0xfb;
+    
+    private static final int EOF_PACKET_MAX_LENGTH = 9;
+    
+    private final String username;
+    
+    private final String password;
+    
+    private final String database;
+    
+    private Channel channel;
+    
+    private Promise<Void> authPromise;
+    
+    private Promise<Object> responsePromise;
+    
+    private Promise<Void> completionPromise;
+    
+    private long timeoutMilliseconds;
+    
+    private State state = State.HANDSHAKE;
+    
+    private List<MySQLColumnDefinition41Packet> columnDefinitions;
+    
+    private MySQLNativeQueryResult queryResult;
+    
+    @Override
+    public void handlerAdded(final ChannelHandlerContext context) {
+        channel = context.channel();
+        authPromise = context.executor().newPromise();
+    }
+    
+    /**
+     * Execute SQL after connection authenticated.
+     *
+     * @param sql SQL to be executed
+     * @param timeoutMilliseconds max time to wait for each row of query result
+     * @param completionPromise promise to be completed when the channel is ready for next command
+     * @return future of {@link MySQLOKPacket} or {@link MySQLNativeQueryResult}
+     */
+    public Future<Object> execute(final String sql, final long timeoutMilliseconds, final Promise<Void> completionPromise) {
+        Promise<Object> result = channel.eventLoop().newPromise();
+        authPromise.addListener(future -> {
+            if (!future.isSuccess()) {
+                result.tryFailure(future.cause());
+                completionPromise.trySuccess(null);
+                return;
+            }
+            responsePromise = result;
+            this.completionPromise = completionPromise;
+            this.timeoutMilliseconds = timeoutMilliseconds;
+            state = State.RESPONSE;
+            channel.writeAndFlush(new MySQLComQueryPacket(sql)).addListener(ChannelFutureListener.FIRE_EXCEPTION_ON_FAILURE);
+        });
+        return result;
+    }
+    
+    @Override
+    public void channelRead(final ChannelHandlerContext context, final Object message) throws SQLException {
+        try (MySQLPacketPayload payload = new MySQLPacketPayload((ByteBuf) message)) {
+            switch (state) {
+                case HANDSHAKE:
+                    readHandshake(payload);
+                    break;
+                case AUTH:
+                    readAuthResult(payload);
+                    break;
+                case RESPONSE:
+                    readResponse(payload);
+                    break;
+                case COLUMN_DEFINITIONS:
+                    readColumnDefinition(payload);
+                    break;
+                case ROWS:
+                    readRow(payload);
+                    break;
+                default:
+                    throw new SQLException("Unexpected packet received from idle MySQL connection.");
+            }
+        }
+    }
+    
+    private void readHandshake(final MySQLPacketPayload payload) {
+        MySQLHandshakePacket handshakePacket = new MySQLHandshakePacket(payload);
+        MySQLHandshakeResponse41Packet result = new MySQLHandshakeResponse41Packet(1, MAX_PACKET_SIZE, CHARACTER_SET, username);
+        result.setAuthResponse(scramble(handshakePacket.getAuthPluginData().getAuthPluginData()));
+        result.setCapabilityFlags(MySQLCapabilityFlag.calculateCapabilityFlags(MySQLCapabilityFlag.CLIENT_LONG_PASSWORD, MySQLCapabilityFlag.CLIENT_FOUND_ROWS,
+                MySQLCapabilityFlag.CLIENT_LONG_FLAG, MySQLCapabilityFlag.CLIENT_PROTOCOL_41, MySQLCapabilityFlag.CLIENT_TRANSACTIONS, MySQLCapabilityFlag.CLIENT_SECURE_CONNECTION));
+        result.setDatabase(database);
+        result.setAuthPluginName(MySQLAuthenticationMethod.SECURE_PASSWORD_AUTHENTICATION);
+        state = State.AUTH;
+        channel.writeAndFlush(result).addListener(ChannelFutureListener.FIRE_EXCEPTION_ON_FAILURE);
+    }
+    
+    private void readAuthResult(final MySQLPacketPayload payload) throws SQLException {
+        switch (getHeader(payload)) {
+            case MySQLOKPacket.HEADER:
+                state = State.IDLE;
+                authPromise.trySuccess(null);
+                return;
+            case MySQLErrPacket.HEADER:
+                throw toSQLException(new MySQLErrPacket(payload));
+            case AUTH_SWITCH_HEADER:
+                switchAuthMethod(payload);
+                return;
+            default:
+                throw new SQLException("Unsupported authentication response from MySQL server.");
+        }
+    }
+    
+    private void switchAuthMethod(final MySQLPacketPayload payload) throws SQLException {
+        int sequenceId = payload.readInt1();
+        payload.readInt1();
+        String authPluginName = payload.readStringNul();
+        if (!MySQLAuthenticationMethod.SECURE_PASSWORD_AUTHENTICATION.getMethodName().equals(authPluginName)) {
+            throw new SQLException(String.format("Unsupported authentication method `%s`, only `%s` is supported.", 
+                    authPluginName, MySQLAuthenticationMethod.SECURE_PASSWORD_AUTHENTICATION.getMethodName()));
+        }
+        channel.writeAndFlush(new MySQLAuthSwitchResponsePacket(sequenceId + 1, scramble(payload.readStringNulByBytes()))).addListener(ChannelFutureListener.FIRE_EXCEPTION_ON_FAILURE);
+    }
+    
+    private void readResponse(final MySQLPacketPayload payload) {
+        switch (getHeader(payload)) {
+            case MySQLOKPacket.HEADER:
+                responsePromise.trySuccess(new MySQLOKPacket(payload));
+                complete();
+                return;
+            case MySQLErrPacket.HEADER:
+                fail(toSQLException(new MySQLErrPacket(payload)));
+                return;
+            default:
+                payload.readInt1();
+                columnDefinitions = new ArrayList<>((int) payload.readIntLenenc());
+                state = State.COLUMN_DEFINITIONS;
+        }
+    }
+    
+    private void readColumnDefinition(final MySQLPacketPayload payload) {
+        if (isEofPacket(payload)) {
+            queryResult = new MySQLNativeQueryResult(columnDefinitions, channel, timeoutMilliseconds);
+            state = State.ROWS;
+            responsePromise.trySuccess(queryResult);
+            return;
+        }
+        columnDefinitions.add(new MySQLColumnDefinition41Packet(payload));
+    }
+    
+    private void readRow(final MySQLPacketPayload payload) {
+        if (isEofPacket(payload)) {
+            queryResult.complete();
+            complete();
+            return;
+        }
+        if (MySQLErrPacket.HEADER == getHeader(payload)) {
+            fail(toSQLException(new MySQLErrPacket(payload)));
+            return;
+        }
+        payload.readInt1();
+        byte[][] row = new byte[columnDefinitions.size()][];
+        for (int i = 0; i < row.length; i++) {
+            if (NULL == payload.getByteBuf().getUnsignedByte(payload.getByteBuf().readerIndex())) {
+                payload.readInt1();
+            } else {
+                row[i] = payload.readStringLenencByBytes();
+            }
+        }
+        queryResult.addRow(row);
+    }
+    
+    private int getHeader(final MySQLPacketPayload payload) {
+        return payload.getByteBuf().getUnsignedByte(payload.getByteBuf().readerIndex() + MySQLPacket.SEQUENCE_LENGTH);
+    }
+    
+    private boolean isEofPacket(final MySQLPacketPayload payload) {
+        return MySQLEofPacket.HEADER == getHeader(payload) && payload.getByteBuf().readableBytes() - MySQLPacket.SEQUENCE_LENGTH < EOF_PACKET_MAX_LENGTH;
+    }
+    
+    private void complete() {
+        Promise<Void> promise = completionPromise;
+        reset();
+        if (null != promise) {
+            promise.trySuccess(null);
+        }
+    }
+    
+    private void fail(final Throwable cause) {
+        if (null != responsePromise) {
+            responsePromise.tryFailure(cause);
+        }
+        if (null != queryResult) {
+            queryResult.fail(cause instanceof SQLException ? (SQLException) cause : new SQLException(cause));
+        }
+        complete();
+    }
+    
+    private void reset() {
+        responsePromise = null;
+        completionPromise = null;
+        columnDefinitions = null;
+        queryResult = null;
+        state = State.IDLE;
+        channel.config().setAutoRead(true);
+    }
+    
+    private SQLException toSQLException(final MySQLErrPacket errPacket) {
+        return new SQLException(errPacket.getErrorMessage(), errPacket.getSqlState(), errPacket.getErrorCode());
+    }
+    
+    @SneakyThrows(NoSuchAlgorithmException.class)
+    private byte[] scramble(final byte[] seed) {
+        if (null == password || password.isEmpty()) {
+            return new byte[0];
+        }
+        MessageDigest messageDigest = MessageDigest.getInstance("SHA-1");
+        byte[] passwordSha1 = messageDigest.digest(password.getBytes());
+        byte[] passwordSha1Sha1 = messageDigest.digest(passwordSha1);
+        messageDigest.update(seed);
+        messageDigest.update(passwordSha1Sha1);
+        byte[] result = messageDigest.digest();
+        for (int i = 0; i < result.length; i++) {
+            result[i] ^= passwordSha1[i];
+        }
+        return result;
+    }
+    
+    @Override
+    public void channelInactive(final ChannelHandlerContext context) {
+        failAll(new SQLException("Connection to MySQL server is closed."));
+        context.fireChannelInactive();
+    }
+    
+    @Override
+    public void exceptionCaught(final ChannelHandlerContext context, final Throwable cause) {
+        failAll(cause);
+        context.close();
+    }
+    
+    private void failAll(final Throwable cause) {
+        authPromise.tryFailure(cause);
+        fail(cause);
+        state = State.CLOSED;
+    }
+    
+    private enum State {
+        
+        HANDSHAKE, AUTH, IDLE, RESPONSE, COLUMN_DEFINITIONS, ROWS, CLOSED
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.netty.mysql;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.pool.AbstractChannelPoolHandler;
+import io.netty.channel.pool.ChannelHealthChecker;
+import io.netty.channel.pool.FixedChannelPool;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.util.AttributeKey;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.Promise;
+import lombok.Getter;
+import org.apache.shardingsphere.db.protocol.codec.PacketCodec;
+import org.apache.shardingsphere.db.protocol.mysql.codec.MySQLPacketCodecEngine;
+import org.apache.shardingsphere.infra.database.metadata.dialect.MySQLDataSourceMetaData;
+import org.apache.shardingsphere.kernal.context.schema.DataSourceParameter;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Channel pool for MySQL native protocol.
+ */
+public final class MySQLChannelPool implements AutoCloseable {
+    
+    private static final AttributeKey<List<String>> SESSION_VARIABLE_STATEMENTS = AttributeKey.valueOf("SESSION_VARIABLE_STATEMENTS");
+    
+    private final EventLoopGroup eventLoopGroup;
+    
+    @Getter
+    private final DataSourceParameter dataSourceParameter;
+    
+    @Getter
+    private final MySQLDataSourceMetaData dataSourceMetaData;
+    
+    private final FixedChannelPool channelPool;
+    
+    public MySQLChannelPool(final EventLoopGroup eventLoopGroup, final DataSourceParameter dataSourceParameter) {
+        this.eventLoopGroup = eventLoopGroup;
+        this.dataSourceParameter = dataSourceParameter;
+        dataSourceMetaData = new MySQLDataSourceMetaData(dataSourceParameter.getUrl());
+        Bootstrap bootstrap = new Bootstrap().group(eventLoopGroup).channel(NioSocketChannel.class)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) dataSourceParameter.getConnectionTimeoutMilliseconds())
+                .option(ChannelOption.TCP_NODELAY, true)
+                .remoteAddress(dataSourceMetaData.getHostName(), dataSourceMetaData.getPort());
+        channelPool = new FixedChannelPool(bootstrap, new AbstractChannelPoolHandler() {
+            
+            @Override
+            public void channelCreated(final Channel channel) {
+                channel.pipeline().addLast(new PacketCodec(new MySQLPacketCodecEngine()));
+                channel.pipeline().addLast(new MySQLBackendHandler(dataSourceParameter.getUsername(), dataSourceParameter.getPassword(), dataSourceMetaData.getCatalog()));
+            }
+        }, ChannelHealthChecker.ACTIVE, FixedChannelPool.AcquireTimeoutAction.FAIL, dataSourceParameter.getConnectionTimeoutMilliseconds(), dataSourceParameter.getMaxPoolSize(), Integer.MAX_VALUE);
+    }
+    
+    /**
+     * Execute SQL by a pooled channel.
+     * 
+     * <p>
+     * Statements setting session variables are replayed on the channel before SQL, and the channel keeps them for later executions of the same session.
+     * A channel keeping session variables which are not set by the session is closed and another channel is acquired.
+     * Channel is released after the whole response is read, it is closed if the returned future is cancelled.
+     * </p>
+     *
+     * @param sessionVariableStatements statements setting session variables, in order of execution
+     * @param sql SQL to be executed
+     * @param timeoutMilliseconds max time to wait for each row of query result
+     * @return future of {@code MySQLOKPacket} or {@code MySQLNativeQueryResult}
+     */
+    public Future<Object> execute(final List<String> sessionVariableStatements, final String sql, final long timeoutMilliseconds) {
+        Promise<Object> result = eventLoopGroup.next().newPromise();
+        acquire(new ArrayList<>(sessionVariableStatements), sql, timeoutMilliseconds, result);
+        return result;
+    }
+    
+    private void acquire(final List<String> sessionVariableStatements, final String sql, final long timeoutMilliseconds, final Promise<Object> result) {
+        channelPool.acquire().addListener((Future<Channel> acquireFuture) -> {
+            if (!acquireFuture.isSuccess()) {
+                result.tryFailure(acquireFuture.cause());
+                return;
+            }
+            Channel channel = acquireFuture.getNow();
+            if (result.isDone()) {
+                channelPool.release(channel);
+                return;
+            }
+            List<String> appliedStatements = getAppliedSessionVariableStatements(channel);
+            if (appliedStatements.size() > sessionVariableStatements.size() || !appliedStatements.equals(sessionVariableStatements.subList(0, appliedStatements.size()))) {
+                channel.close().addListener(future -> channelPool.release(channel).addListener(releaseFuture -> acquire(sessionVariableStatements, sql, timeoutMilliseconds, result)));
+                return;
+            }
+            result.addListener(future -> {
+                if (future.isCancelled()) {
+                    channel.close();
+                }
+            });
+            replay(channel, sessionVariableStatements, appliedStatements.size(), sql, timeoutMilliseconds, result);
+        });
+    }
+    
+    private List<String> getAppliedSessionVariableStatements(final Channel channel) {
+        List<String> result = channel.attr(SESSION_VARIABLE_STATEMENTS).get();
+        return null == result ? Collections.emptyList() : result;
+    }
+    
+    private void replay(final Channel channel, final List<String> sessionVariableStatements, final int index, final String sql, final long timeoutMilliseconds, final Promise<Object> result) {
+        if (index >= sessionVariableStatements.size()) {
+            executeSQL(channel, sql, timeoutMilliseconds, result);
+            return;
+        }
+        Promise<Void> completionPromise = channel.eventLoop().newPromise();
+        Future<Object> replayFuture = channel.pipeline().get(MySQLBackendHandler.class).execute(sessionVariableStatements.get(index), timeoutMilliseconds, completionPromise);
+        completionPromise.addListener(future -> {
+            if (!replayFuture.isSuccess() || result.isDone()) {
+                result.tryFailure(replayFuture.isSuccess() ? new SQLException("Execution is cancelled.") : replayFuture.cause());
+                channel.close();
+                channelPool.release(channel);
+                return;
+            }
+            channel.attr(SESSION_VARIABLE_STATEMENTS).set(new ArrayList<>(sessionVariableStatements.subList(0, index + 1)));
+            replay(channel, sessionVariableStatements, index + 1, sql, timeoutMilliseconds, result);
+        });
+    }
+    
+    private void executeSQL(final Channel channel, final String sql, final long timeoutMilliseconds, final Promise<Object> result) {
+        Promise<Void> completionPromise = channel.eventLoop().newPromise();
+        completionPromise.addListener(future -> channelPool.release(channel));
+        channel.pipeline().get(MySQLBackendHandler.class).execute(sql, timeoutMilliseconds, completionPromise).addListener((Future<Object> executeFuture) -> {
+            if (executeFuture.isSuccess()) {
+                result.trySuccess(executeFuture.getNow());
+            } else {
+                result.tryFailure(executeFuture.cause());
+            }
+        });
+    }
+    
+    @Override
+    public void close() {
+        channelPool.close();
+    }
+}
@@ -0,0 +1,367 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.netty.mysql;
+
+import io.netty.channel.Channel;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLColumnType;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.MySQLColumnDefinition41Packet;
+import org.apache.shardingsphere.infra.executor.sql.QueryResult;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Calendar;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Query result for MySQL native protocol.
+ * 
+ * <p>
+ *     Rows are streamed from the event loop and kept as raw text protocol values, they are converted to java objects when read.
+ *     Reading from channel is paused while too many rows are waiting to be consumed.
+ *     Types and values follow default settings of MySQL JDBC driver, {@code TINYINT(1)} is read as boolean bit and {@code YEAR} is read as date.
+ * </p>
+ */
+public final class MySQLNativeQueryResult implements QueryResult, AutoCloseable {
+    
+    private static final int HIGH_WATER_MARK = 1024;
+    
+    private static final int LOW_WATER_MARK = 256;
+    
+    private static final byte[][] END_OF_ROWS = new byte[0][];
+    
+    private static final int BINARY_CHARACTER_SET = 63;
+    
+    private static final int NOT_NULL_FLAG = 0x01;
+    
+    private static final int UNSIGNED_FLAG = 0x20;
+    
+    private static final int AUTO_INCREMENT_FLAG = 0x200;
+    
+    private final List<MySQLColumnDefinition41Packet> columnDefinitions;
+    
+    private final int[] columnTypes;
+    
+    private final Channel channel;
+    
+    private final long timeoutMilliseconds;
+    
+    private final BlockingQueue<byte[][]> rows = new LinkedBlockingQueue<>();
+    
+    private volatile boolean allRowsReceived;
+    
+    private volatile SQLException cause;
+    
+    private boolean allRowsRead;
+    
+    private byte[][] currentRow;
+    
+    private boolean wasNull;
+    
+    public MySQLNativeQueryResult(final List<MySQLColumnDefinition41Packet> columnDefinitions, final Channel channel, final long timeoutMilliseconds) {
+        this.columnDefinitions = columnDefinitions;
+        this.channel = channel;
+        this.timeoutMilliseconds = timeoutMilliseconds;
+        columnTypes = new int[columnDefinitions.size()];
+        for (int i = 0; i < columnTypes.length; i++) {
+            columnTypes[i] = getJDBCType(columnDefinitions.get(i));
+        }
+    }
+    
+    private static int getJDBCType(final MySQLColumnDefinition41Packet columnDefinition) {
+        boolean binary = BINARY_CHARACTER_SET == columnDefinition.getCharacterSet();
+        switch (columnDefinition.getColumnType()) {
+            case MYSQL_TYPE_DECIMAL:
+            case MYSQL_TYPE_NEWDECIMAL:
+                return Types.DECIMAL;
+            case MYSQL_TYPE_TINY:
+                return 1 == columnDefinition.getColumnLength() ? Types.BIT : Types.TINYINT;
+            case MYSQL_TYPE_SHORT:
+                return Types.SMALLINT;
+            case MYSQL_TYPE_LONG:
+            case MYSQL_TYPE_INT24:
+                return Types.INTEGER;
+            case MYSQL_TYPE_LONGLONG:
+                return Types.BIGINT;
+            case MYSQL_TYPE_FLOAT:
+                return Types.REAL;
+            case MYSQL_TYPE_DOUBLE:
+                return Types.DOUBLE;
+            case MYSQL_TYPE_NULL:
+                return Types.NULL;
+            case MYSQL_TYPE_DATE:
+            case MYSQL_TYPE_NEWDATE:
+            case MYSQL_TYPE_YEAR:
+                return Types.DATE;
+            case MYSQL_TYPE_TIME:
+            case MYSQL_TYPE_TIME2:
+                return Types.TIME;
+            case MYSQL_TYPE_TIMESTAMP:
+            case MYSQL_TYPE_TIMESTAMP2:
+            case MYSQL_TYPE_DATETIME:
+            case MYSQL_TYPE_DATETIME2:
+                return Types.TIMESTAMP;
+            case MYSQL_TYPE_BIT:
+                return Types.BIT;
+            case MYSQL_TYPE_STRING:
+            case MYSQL_TYPE_ENUM:
+            case MYSQL_TYPE_SET:
+                return binary ? Types.BINARY : Types.CHAR;
+            case MYSQL_TYPE_TINY_BLOB:
+            case MYSQL_TYPE_MEDIUM_BLOB:
+            case MYSQL_TYPE_LONG_BLOB:
+            case MYSQL_TYPE_BLOB:
+                return binary ? Types.LONGVARBINARY : Types.LONGVARCHAR;
+            case MYSQL_TYPE_GEOMETRY:
+                return Types.BINARY;
+            default:
+                return binary ? Types.VARBINARY : Types.VARCHAR;
+        }
+    }
+    
+    /**
+     * Get column definition.
+     *
+     * @param columnIndex column index
+     * @return column definition
+     */
+    public MySQLColumnDefinition41Packet getColumnDefinition(final int columnIndex) {
+        return columnDefinitions.get(columnIndex - 1);
+    }
+    
+    /**
+     * Get JDBC type of column.
+     *
+     * @param columnIndex column index
+     * @return JDBC type
+     */
+    public int getColumnType(final int columnIndex) {
+        return columnTypes[columnIndex - 1];
+    }
+    
+    /**
+     * Judge whether column is signed.
+     *
+     * @param columnIndex column index
+     * @return column is signed or not
+     */
+    public boolean isSigned(final int columnIndex) {
+        return 0 == (getColumnDefinition(columnIndex).getFlags() & UNSIGNED_FLAG);
+    }
+    
+    /**
+     * Judge whether column is not null.
+     *
+     * @param columnIndex column index
+     * @return column is not null or not
+     */
+    public boolean isNotNull(final int columnIndex) {
+        return 0 != (getColumnDefinition(columnIndex).getFlags() & NOT_NULL_FLAG);
+    }
+    
+    /**
+     * Judge whether column is auto increment.
+     *
+     * @param columnIndex column index
+     * @return column is auto increment or not
+     */
+    public boolean isAutoIncrement(final int columnIndex) {
+        return 0 != (getColumnDefinition(columnIndex).getFlags() & AUTO_INCREMENT_FLAG);
+    }
+    
+    /**
+     * Add row received from MySQL.
+     *
+     * @param row row of raw text protocol values
+     */
+    public void addRow(final byte[][] row) {
+        rows.add(row);
+        if (rows.size() >= HIGH_WATER_MARK && channel.config().isAutoRead()) {
+            channel.config().setAutoRead(false);
+        }
+    }
+    
+    /**
+     * Complete after all rows received.
+     */
+    public void complete() {
+        allRowsReceived = true;
+        rows.add(END_OF_ROWS);
+    }
+    
+    /**
+     * Fail with cause.
+     *
+     * @param cause cause of failure
+     */
+    public void fail(final SQLException cause) {
+        if (allRowsReceived) {
+            return;
+        }
+        this.cause = cause;
+        complete();
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        if (allRowsRead) {
+            return false;
+        }
+        byte[][] row = pollRow();
+        if (END_OF_ROWS == row) {
+            allRowsRead = true;
+            currentRow = null;
+            if (null != cause) {
+                throw cause;
+            }
+            return false;
+        }
+        if (rows.size() <= LOW_WATER_MARK && !channel.config().isAutoRead()) {
+            channel.config().setAutoRead(true);
+        }
+        currentRow = row;
+        return true;
+    }
+    
+    private byte[][] pollRow() throws SQLException {
+        byte[][] result;
+        try {
+            result = rows.poll(timeoutMilliseconds, TimeUnit.MILLISECONDS);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            close();
+            throw new SQLException("Interrupted while waiting for rows from MySQL.", ex);
+        }
+        if (null == result) {
+            close();
+            throw new SQLException(String.format("Timeout after %d milliseconds while waiting for rows from MySQL.", timeoutMilliseconds));
+        }
+        return result;
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) {
+        byte[] value = currentRow[columnIndex - 1];
+        wasNull = null == value;
+        return wasNull ? null : convert(columnIndex, value);
+    }
+    
+    private Object convert(final int columnIndex, final byte[] value) {
+        switch (columnTypes[columnIndex - 1]) {
+            case Types.TINYINT:
+            case Types.SMALLINT:
+                return Integer.parseInt(toString(value));
+            case Types.INTEGER:
+                return isSigned(columnIndex) ? (Object) Integer.parseInt(toString(value)) : (Object) Long.parseLong(toString(value));
+            case Types.BIGINT:
+                return isSigned(columnIndex) ? (Object) Long.parseLong(toString(value)) : (Object) new BigInteger(toString(value));
+            case Types.DECIMAL:
+                return new BigDecimal(toString(value));
+            case Types.REAL:
+            case Types.DOUBLE:
+                return Double.parseDouble(toString(value));
+            case Types.DATE:
+                return convertDateTime(Types.DATE, MySQLColumnType.MYSQL_TYPE_YEAR == getColumnDefinition(columnIndex).getColumnType() ? toString(value) + "-01-01" : toString(value));
+            case Types.TIME:
+                return convertDateTime(Types.TIME, toString(value));
+            case Types.TIMESTAMP:
+                return convertDateTime(Types.TIMESTAMP, toString(value));
+            case Types.BIT:
+                return MySQLColumnType.MYSQL_TYPE_TINY == getColumnDefinition(columnIndex).getColumnType() ? (Object) !"0".equals(toString(value)) : (Object) value;
+            case Types.BINARY:
+            case Types.VARBINARY:
+            case Types.LONGVARBINARY:
+                return value;
+            default:
+                return toString(value);
+        }
+    }
+    
+    private Object convertDateTime(final int columnType, final String value) {
+        try {
+            switch (columnType) {
+                case Types.DATE:
+                    return Date.valueOf(value);
+                case Types.TIME:
+                    return Time.valueOf(value);
+                default:
+                    return Timestamp.valueOf(value);
+            }
+        } catch (final IllegalArgumentException ignored) {
+            return value;
+        }
+    }
+    
+    private String toString(final byte[] value) {
+        return new String(value, StandardCharsets.UTF_8);
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+        return getValue(columnIndex, type);
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) {
+        byte[] value = currentRow[columnIndex - 1];
+        wasNull = null == value;
+        return wasNull ? null : new ByteArrayInputStream(value);
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return wasNull;
+    }
+    
+    @Override
+    public int getColumnCount() {
+        return columnDefinitions.size();
+    }
+    
+    @Override
+    public String getColumnName(final int columnIndex) {
+        return getColumnDefinition(columnIndex).getOrgName();
+    }
+    
+    @Override
+    public String getColumnLabel(final int columnIndex) {
+        return getColumnDefinition(columnIndex).getName();
+    }
+    
+    /**
+     * Close query result, the channel is closed if rows are not all received because the rest rows cannot be skipped.
+     */
+    @Override
+    public void close() {
+        allRowsRead = true;
+        rows.clear();
+        if (!allRowsReceived) {
+            channel.close();
+        }
+    }
+}
@@ -31,12 +31,14 @@ import org.apache.shardingsphere.infra.metadata.refresh.MetaDataRefreshStrategy;
 import org.apache.shardingsphere.infra.metadata.refresh.MetaDataRefreshStrategyFactory;
 import org.apache.shardingsphere.infra.metadata.schema.RuleSchemaMetaData;
 import org.apache.shardingsphere.infra.metadata.schema.RuleSchemaMetaDataLoader;
+import org.apache.shardingsphere.infra.rewrite.cache.SQLRewritePlanCache;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRulesBuilder;
 import org.apache.shardingsphere.infra.rule.StatusContainedRule;
 import org.apache.shardingsphere.infra.rule.event.impl.DataSourceNameDisabledEvent;
 import org.apache.shardingsphere.kernal.context.schema.DataSourceParameter;
 import org.apache.shardingsphere.orchestration.core.common.event.DataSourceChangedEvent;
+import org.apache.shardingsphere.orchestration.core.common.event.PropertiesChangedEvent;
 import org.apache.shardingsphere.orchestration.core.common.event.RuleConfigurationsChangedEvent;
 import org.apache.shardingsphere.orchestration.core.common.eventbus.ShardingOrchestrationEventBus;
 import org.apache.shardingsphere.orchestration.core.facade.ShardingOrchestrationFacade;
@@ -44,6 +46,7 @@ import org.apache.shardingsphere.orchestration.core.metadatacenter.event.MetaDat
 import org.apache.shardingsphere.orchestration.core.registrycenter.event.DisabledStateChangedEvent;
 import org.apache.shardingsphere.orchestration.core.registrycenter.schema.OrchestrationSchema;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.datasource.JDBCBackendDataSource;
+import org.apache.shardingsphere.proxy.backend.communication.netty.datasource.NettyBackendDataSource;
 import org.apache.shardingsphere.proxy.backend.executor.BackendExecutorContext;
 import org.apache.shardingsphere.proxy.backend.util.DataSourceConverter;
 import org.apache.shardingsphere.proxy.context.ShardingSphereProxyContext;
@@ -69,6 +72,8 @@ public final class ShardingSphereSchema {
     
     private final SQLParserEngine sqlParserEngine;
     
+    private final SQLRewritePlanCache sqlRewritePlanCache = new SQLRewritePlanCache();
+    
     private Collection<RuleConfiguration> configurations;
     
     private Collection<ShardingSphereRule> rules;
@@ -123,6 +128,7 @@ public final class ShardingSphereSchema {
     public void setConfigurations(final Collection<RuleConfiguration> configurations) {
         this.configurations = configurations;
         rules = ShardingSphereRulesBuilder.build(configurations, backendDataSource.getDataSourceParameters().keySet());
+        sqlRewritePlanCache.clear();
     }
     
     /**
@@ -144,6 +150,7 @@ public final class ShardingSphereSchema {
         for (String each : event.getSchemaNames()) {
             if (name.equals(each)) {
                 metaData = new ShardingSphereMetaData(metaData.getDataSources(), event.getRuleSchemaMetaData());
+                sqlRewritePlanCache.clear();
             }
         }
     }
@@ -157,7 +164,9 @@ public final class ShardingSphereSchema {
     @Subscribe
     public synchronized void renew(final DataSourceChangedEvent dataSourceChangedEvent) throws Exception {
         if (name.equals(dataSourceChangedEvent.getShardingSchemaName())) {
-            backendDataSource.renew(DataSourceConverter.getDataSourceParameterMap(dataSourceChangedEvent.getDataSourceConfigurations()));
+            Map<String, DataSourceParameter> dataSourceParameters = DataSourceConverter.getDataSourceParameterMap(dataSourceChangedEvent.getDataSourceConfigurations());
+            backendDataSource.renew(dataSourceParameters);
+            NettyBackendDataSource.getInstance().renew(name, dataSourceParameters);
         }
     }
     
@@ -174,6 +183,16 @@ public final class ShardingSphereSchema {
         }
     }
     
+    /**
+     * Renew properties.
+     *
+     * @param event properties changed event
+     */
+    @Subscribe
+    public synchronized void renew(final PropertiesChangedEvent event) {
+        sqlRewritePlanCache.clear();
+    }
+    
     /**
      * Renew disabled data source names.
      *
@@ -206,6 +225,7 @@ public final class ShardingSphereSchema {
         if (refreshStrategy.isPresent()) {
             refreshStrategy.get().refreshMetaData(
                     getMetaData(), ShardingSphereSchemas.getInstance().getDatabaseType(), getBackendDataSource().getDataSources(), sqlStatementContext, this::loadTableMetaData);
+            sqlRewritePlanCache.clear();
             if (null != ShardingOrchestrationFacade.getInstance()) {
                 ShardingOrchestrationFacade.getInstance().getMetaDataCenter().persistMetaDataCenterNode(getName(), getMetaData().getSchema());
             }
@@ -28,6 +28,7 @@ import org.apache.shardingsphere.orchestration.core.common.event.SchemaAddedEven
 import org.apache.shardingsphere.orchestration.core.common.event.SchemaDeletedEvent;
 import org.apache.shardingsphere.orchestration.core.common.eventbus.ShardingOrchestrationEventBus;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.recognizer.JDBCDriverURLRecognizerEngine;
+import org.apache.shardingsphere.proxy.backend.communication.netty.datasource.NettyBackendDataSource;
 import org.apache.shardingsphere.proxy.backend.util.DataSourceConverter;
 
 import java.sql.SQLException;
@@ -141,5 +142,6 @@ public final class ShardingSphereSchemas {
     @Subscribe
     public synchronized void renew(final SchemaDeletedEvent schemaDeletedEvent) {
         schemas.remove(schemaDeletedEvent.getShardingSchemaName());
+        NettyBackendDataSource.getInstance().close(schemaDeletedEvent.getShardingSchemaName());
     }
 }
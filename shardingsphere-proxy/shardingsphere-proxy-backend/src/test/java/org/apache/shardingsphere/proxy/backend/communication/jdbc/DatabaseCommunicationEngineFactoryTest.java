@@ -17,13 +17,23 @@
 
 package org.apache.shardingsphere.proxy.backend.communication.jdbc;
 
+import org.apache.shardingsphere.infra.auth.Authentication;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
 import org.apache.shardingsphere.proxy.backend.communication.DatabaseCommunicationEngine;
 import org.apache.shardingsphere.proxy.backend.communication.DatabaseCommunicationEngineFactory;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.execute.JDBCExecuteEngine;
+import org.apache.shardingsphere.proxy.backend.communication.netty.NettyExecuteEngine;
 import org.apache.shardingsphere.proxy.backend.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.proxy.backend.schema.ShardingSphereSchemas;
+import org.apache.shardingsphere.proxy.context.ShardingSphereProxyContext;
 import org.junit.Test;
 
+import java.lang.reflect.Field;
 import java.util.Collections;
+import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.junit.Assert.assertNotNull;
@@ -46,4 +56,34 @@ public final class DatabaseCommunicationEngineFactoryTest {
         assertNotNull(engine);
         assertThat(engine, instanceOf(JDBCDatabaseCommunicationEngine.class));
     }
+    
+    @Test
+    public void assertNewTextProtocolInstanceWithNativeBackend() throws ReflectiveOperationException {
+        DatabaseType originalDatabaseType = ShardingSphereSchemas.getInstance().getDatabaseType();
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.PROXY_BACKEND_DRIVER_TYPE.getKey(), "NATIVE");
+        ShardingSphereProxyContext.getInstance().init(new Authentication(), props);
+        setDatabaseType(new MySQLDatabaseType());
+        try {
+            assertThat(getExecuteEngine(DatabaseCommunicationEngineFactory.getInstance().newTextProtocolInstance(mock(ShardingSphereSchema.class), "schemaName", mock(BackendConnection.class))),
+                    instanceOf(NettyExecuteEngine.class));
+            assertThat(getExecuteEngine(DatabaseCommunicationEngineFactory.getInstance().newBinaryProtocolInstance(
+                    mock(ShardingSphereSchema.class), "schemaName", Collections.emptyList(), mock(BackendConnection.class))), instanceOf(JDBCExecuteEngine.class));
+        } finally {
+            ShardingSphereProxyContext.getInstance().init(new Authentication(), new Properties());
+            setDatabaseType(originalDatabaseType);
+        }
+    }
+    
+    private void setDatabaseType(final DatabaseType databaseType) throws ReflectiveOperationException {
+        Field field = ShardingSphereSchemas.class.getDeclaredField("databaseType");
+        field.setAccessible(true);
+        field.set(ShardingSphereSchemas.getInstance(), databaseType);
+    }
+    
+    private Object getExecuteEngine(final DatabaseCommunicationEngine engine) throws ReflectiveOperationException {
+        Field field = JDBCDatabaseCommunicationEngine.class.getDeclaredField("executeEngine");
+        field.setAccessible(true);
+        return field.get(engine);
+    }
 }
@@ -202,6 +202,18 @@ public final class BackendConnectionTest {
         assertTrue(actual.getCachedStatements().isEmpty());
     }
     
+    @Test
+    public void assertCloseQueryResults() throws Exception {
+        AutoCloseable queryResult = mock(AutoCloseable.class);
+        BackendConnection actual;
+        try (BackendConnection backendConnection = new BackendConnection(TransactionType.LOCAL)) {
+            backendConnection.addQueryResult(queryResult);
+            actual = backendConnection;
+        }
+        verify(queryResult).close();
+        assertTrue(actual.getCachedQueryResults().isEmpty());
+    }
+    
     private void mockResultSetAndStatement(final BackendConnection backendConnection) {
         ResultSet resultSet = mock(ResultSet.class);
         Statement statement = mock(Statement.class);
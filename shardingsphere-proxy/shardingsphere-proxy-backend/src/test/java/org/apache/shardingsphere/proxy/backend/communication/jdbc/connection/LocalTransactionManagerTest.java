@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.jdbc.connection;
+
+import com.google.common.collect.LinkedHashMultimap;
+import com.google.common.collect.Multimap;
+import org.apache.shardingsphere.infra.auth.Authentication;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.proxy.context.ShardingSphereProxyContext;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class LocalTransactionManagerTest {
+    
+    @Mock
+    private BackendConnection backendConnection;
+    
+    @Mock
+    private ConnectionStateHandler stateHandler;
+    
+    private final Multimap<String, Connection> cachedConnections = LinkedHashMultimap.create();
+    
+    private LocalTransactionManager localTransactionManager;
+    
+    @Before
+    public void setUp() {
+        when(backendConnection.getStateHandler()).thenReturn(stateHandler);
+        when(stateHandler.isInTransaction()).thenReturn(true);
+        when(backendConnection.getCachedConnections()).thenReturn(cachedConnections);
+        cachedConnections.put("ds_0", mock(Connection.class));
+        cachedConnections.put("ds_1", mock(Connection.class));
+        cachedConnections.put("ds_2", mock(Connection.class));
+        localTransactionManager = new LocalTransactionManager(backendConnection);
+    }
+    
+    @After
+    public void tearDown() {
+        ShardingSphereProxyContext.getInstance().init(new Authentication(), new Properties());
+    }
+    
+    @Test
+    public void assertCommit() throws SQLException {
+        localTransactionManager.commit();
+        for (Connection each : cachedConnections.values()) {
+            verify(each).commit();
+        }
+    }
+    
+    @Test
+    public void assertParallelCommit() throws SQLException {
+        enableParallelCommit();
+        localTransactionManager.commit();
+        for (Connection each : cachedConnections.values()) {
+            verify(each).commit();
+        }
+    }
+    
+    @Test
+    public void assertParallelRollbackCollectsAllFailures() throws SQLException {
+        enableParallelCommit();
+        SQLException rollbackException = new SQLException("rollback failed");
+        doThrow(rollbackException).when(cachedConnections.get("ds_2").iterator().next()).rollback();
+        try {
+            localTransactionManager.rollback();
+            fail("Expected SQLException.");
+        } catch (final SQLException ex) {
+            assertThat(ex.getNextException(), is(rollbackException));
+        }
+        for (Connection each : cachedConnections.values()) {
+            verify(each).rollback();
+        }
+    }
+    
+    private void enableParallelCommit() {
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.PARALLEL_COMMIT_ENABLED.getKey(), Boolean.TRUE.toString());
+        ShardingSphereProxyContext.getInstance().init(new Authentication(), props);
+    }
+}
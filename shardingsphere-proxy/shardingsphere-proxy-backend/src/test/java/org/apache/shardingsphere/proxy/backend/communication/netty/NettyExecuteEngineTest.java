@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.netty;
+
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.ConnectionStateHandler;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.execute.JDBCExecuteEngine;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.wrapper.JDBCExecutorWrapper;
+import org.apache.shardingsphere.sql.parser.binder.statement.CommonSQLStatementContext;
+import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.statement.dal.SetStatement;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.SelectStatement;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class NettyExecuteEngineTest {
+    
+    private BackendConnection backendConnection;
+    
+    private ConnectionStateHandler stateHandler;
+    
+    private JDBCExecuteEngine jdbcExecuteEngine;
+    
+    private NettyExecuteEngine nettyExecuteEngine;
+    
+    @Before
+    public void setUp() throws ReflectiveOperationException {
+        backendConnection = mock(BackendConnection.class);
+        stateHandler = mock(ConnectionStateHandler.class);
+        when(backendConnection.getStateHandler()).thenReturn(stateHandler);
+        when(backendConnection.getMethodInvocations()).thenReturn(Collections.emptyList());
+        jdbcExecuteEngine = mock(JDBCExecuteEngine.class);
+        nettyExecuteEngine = new NettyExecuteEngine(backendConnection, mock(JDBCExecutorWrapper.class));
+        Field field = NettyExecuteEngine.class.getDeclaredField("jdbcExecuteEngine");
+        field.setAccessible(true);
+        field.set(nettyExecuteEngine, jdbcExecuteEngine);
+    }
+    
+    @Test
+    public void assertExecuteSetStatement() throws SQLException {
+        ExecutionContext executionContext = createExecutionContext(new SetStatement(), "SET @a = 1");
+        nettyExecuteEngine.execute(executionContext);
+        verify(jdbcExecuteEngine).execute(executionContext);
+        verify(backendConnection).recordSessionVariableStatement("SET @a = 1");
+    }
+    
+    @Test
+    public void assertExecuteInTransaction() throws SQLException {
+        when(stateHandler.isInTransaction()).thenReturn(true);
+        ExecutionContext executionContext = createExecutionContext(new SelectStatement(), "SELECT 1");
+        nettyExecuteEngine.execute(executionContext);
+        verify(jdbcExecuteEngine).execute(executionContext);
+        verify(backendConnection, never()).recordSessionVariableStatement(anyString());
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    public void assertExecuteWithMethodInvocationsRecorded() throws SQLException {
+        when(backendConnection.getMethodInvocations()).thenReturn((Collection) Collections.singletonList(new Object()));
+        ExecutionContext executionContext = createExecutionContext(new SelectStatement(), "SELECT 1");
+        nettyExecuteEngine.execute(executionContext);
+        verify(jdbcExecuteEngine).execute(executionContext);
+    }
+    
+    private ExecutionContext createExecutionContext(final SQLStatement sqlStatement, final String sql) {
+        return new ExecutionContext(new CommonSQLStatementContext<>(sqlStatement), new ExecutionUnit("ds_0", new SQLUnit(sql, Collections.emptyList())));
+    }
+}
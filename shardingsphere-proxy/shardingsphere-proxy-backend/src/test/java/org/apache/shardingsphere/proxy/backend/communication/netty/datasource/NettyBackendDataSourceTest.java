@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.netty.datasource;
+
+import io.netty.util.concurrent.Future;
+import org.apache.shardingsphere.kernal.context.schema.DataSourceParameter;
+import org.apache.shardingsphere.proxy.backend.communication.netty.mysql.MySQLChannelPool;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertThat;
+
+public final class NettyBackendDataSourceTest {
+    
+    @After
+    public void tearDown() {
+        NettyBackendDataSource.getInstance().close("test_schema");
+    }
+    
+    @Test
+    public void assertGetMySQLChannelPool() {
+        DataSourceParameter dataSourceParameter = createDataSourceParameter(3306);
+        MySQLChannelPool actual = NettyBackendDataSource.getInstance().getMySQLChannelPool("test_schema", "ds_0", dataSourceParameter);
+        assertThat(NettyBackendDataSource.getInstance().getMySQLChannelPool("test_schema", "ds_0", createDataSourceParameter(3306)), is(actual));
+        MySQLChannelPool changed = NettyBackendDataSource.getInstance().getMySQLChannelPool("test_schema", "ds_0", createDataSourceParameter(3307));
+        assertThat(changed, not(actual));
+        assertClosed(actual);
+    }
+    
+    @Test
+    public void assertRenew() {
+        final MySQLChannelPool unchanged = NettyBackendDataSource.getInstance().getMySQLChannelPool("test_schema", "ds_0", createDataSourceParameter(3306));
+        MySQLChannelPool changed = NettyBackendDataSource.getInstance().getMySQLChannelPool("test_schema", "ds_1", createDataSourceParameter(3306));
+        MySQLChannelPool removed = NettyBackendDataSource.getInstance().getMySQLChannelPool("test_schema", "ds_2", createDataSourceParameter(3306));
+        DataSourceParameter changedDataSourceParameter = createDataSourceParameter(3307);
+        NettyBackendDataSource.getInstance().renew("test_schema", createDataSourceParameters(createDataSourceParameter(3306), changedDataSourceParameter));
+        assertClosed(changed);
+        assertClosed(removed);
+        assertThat(NettyBackendDataSource.getInstance().getMySQLChannelPool("test_schema", "ds_0", createDataSourceParameter(3306)), is(unchanged));
+        assertThat(NettyBackendDataSource.getInstance().getMySQLChannelPool("test_schema", "ds_1", changedDataSourceParameter), not(changed));
+    }
+    
+    @Test
+    public void assertClose() {
+        MySQLChannelPool actual = NettyBackendDataSource.getInstance().getMySQLChannelPool("test_schema", "ds_0", createDataSourceParameter(3306));
+        NettyBackendDataSource.getInstance().close("test_schema");
+        assertClosed(actual);
+        assertThat(NettyBackendDataSource.getInstance().getMySQLChannelPool("test_schema", "ds_0", createDataSourceParameter(3306)), not(actual));
+    }
+    
+    private void assertClosed(final MySQLChannelPool channelPool) {
+        Future<Object> future = channelPool.execute(Collections.emptyList(), "SELECT 1", 1000L).awaitUninterruptibly();
+        assertThat(future.cause(), instanceOf(IllegalStateException.class));
+    }
+    
+    private Map<String, DataSourceParameter> createDataSourceParameters(final DataSourceParameter dataSourceParameter0, final DataSourceParameter dataSourceParameter1) {
+        Map<String, DataSourceParameter> result = new LinkedHashMap<>(2, 1);
+        result.put("ds_0", dataSourceParameter0);
+        result.put("ds_1", dataSourceParameter1);
+        return result;
+    }
+    
+    private DataSourceParameter createDataSourceParameter(final int port) {
+        DataSourceParameter result = new DataSourceParameter();
+        result.setUrl(String.format("jdbc:mysql://127.0.0.1:%d/demo_ds", port));
+        result.setUsername("root");
+        return result;
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.netty.mysql;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.Promise;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLColumnType;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLServerErrorCode;
+import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.MySQLColumnDefinition41Packet;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.MySQLFieldCountPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.MySQLTextResultSetRowPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.query.MySQLComQueryPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLEofPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLErrPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLOKPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.handshake.MySQLAuthPluginData;
+import org.apache.shardingsphere.db.protocol.mysql.packet.handshake.MySQLHandshakePacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.handshake.MySQLHandshakeResponse41Packet;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public final class MySQLBackendHandlerTest {
+    
+    private EmbeddedChannel channel;
+    
+    @Before
+    public void setUp() {
+        channel = new EmbeddedChannel(new MySQLBackendHandler("root", "root", "demo_ds"));
+        channel.writeInbound(createPacket(new MySQLHandshakePacket(1, new MySQLAuthPluginData())));
+    }
+    
+    @Test
+    public void assertHandshake() {
+        MySQLHandshakeResponse41Packet actual = channel.readOutbound();
+        assertThat(actual.getUsername(), is("root"));
+        assertThat(actual.getDatabase(), is("demo_ds"));
+        assertThat(actual.getAuthResponse().length, is(20));
+    }
+    
+    @Test
+    public void assertExecuteAfterAuthenticated() {
+        channel.readOutbound();
+        final Future<Object> actual = channel.pipeline().get(MySQLBackendHandler.class).execute("UPDATE t_order SET status = 'ok'", 1000L, channel.eventLoop().newPromise());
+        assertNull(channel.readOutbound());
+        channel.writeInbound(createPacket(new MySQLOKPacket(2)));
+        assertThat(((MySQLComQueryPacket) channel.readOutbound()).getSql(), is("UPDATE t_order SET status = 'ok'"));
+        channel.writeInbound(createPacket(new MySQLOKPacket(1, 3L, 0L)));
+        assertTrue(actual.isSuccess());
+        assertThat(((MySQLOKPacket) actual.getNow()).getAffectedRows(), is(3L));
+    }
+    
+    @Test
+    public void assertExecuteQuery() throws SQLException {
+        authenticate();
+        Promise<Void> completionPromise = channel.eventLoop().newPromise();
+        final Future<Object> actual = channel.pipeline().get(MySQLBackendHandler.class).execute("SELECT order_id, status FROM t_order", 1000L, completionPromise);
+        channel.writeInbound(createPacket(new MySQLFieldCountPacket(1, 2)));
+        channel.writeInbound(createPacket(new MySQLColumnDefinition41Packet(2, "demo_ds", "t_order", "t_order", "order_id", "order_id", 20, MySQLColumnType.MYSQL_TYPE_LONGLONG, 0)));
+        channel.writeInbound(createPacket(new MySQLColumnDefinition41Packet(3, "demo_ds", "t_order", "t_order", "status", "status", 50, MySQLColumnType.MYSQL_TYPE_VAR_STRING, 0)));
+        assertFalse(actual.isDone());
+        channel.writeInbound(createPacket(new MySQLEofPacket(4)));
+        assertTrue(actual.isSuccess());
+        channel.writeInbound(createPacket(new MySQLTextResultSetRowPacket(5, Arrays.asList(1L, "ok"))));
+        channel.writeInbound(createPacket(new MySQLTextResultSetRowPacket(6, Arrays.asList(2L, null))));
+        assertFalse(completionPromise.isDone());
+        channel.writeInbound(createPacket(new MySQLEofPacket(7)));
+        assertTrue(completionPromise.isSuccess());
+        MySQLNativeQueryResult queryResult = (MySQLNativeQueryResult) actual.getNow();
+        assertThat(queryResult.getColumnCount(), is(2));
+        assertThat(queryResult.getColumnDefinition(1).getOrgTable(), is("t_order"));
+        assertTrue(queryResult.next());
+        assertThat(queryResult.getValue(1, Object.class), is((Object) 1L));
+        assertThat(queryResult.getValue(2, Object.class), is((Object) "ok"));
+        assertTrue(queryResult.next());
+        assertThat(queryResult.getValue(1, Object.class), is((Object) 2L));
+        assertNull(queryResult.getValue(2, Object.class));
+        assertFalse(queryResult.next());
+    }
+    
+    @Test
+    public void assertExecuteWithErrorResponse() {
+        authenticate();
+        MySQLBackendHandler handler = channel.pipeline().get(MySQLBackendHandler.class);
+        Future<Object> actual = handler.execute("SELECT * FROM t_none", 1000L, channel.eventLoop().newPromise());
+        channel.writeInbound(createPacket(new MySQLErrPacket(1, MySQLServerErrorCode.ER_NO_DB_ERROR)));
+        assertFalse(actual.isSuccess());
+        assertThat(actual.cause(), instanceOf(SQLException.class));
+        assertThat(((SQLException) actual.cause()).getErrorCode(), is(1046));
+        Future<Object> next = handler.execute("UPDATE t_order SET status = 'ok'", 1000L, channel.eventLoop().newPromise());
+        channel.writeInbound(createPacket(new MySQLOKPacket(1, 1L, 0L)));
+        assertTrue(next.isSuccess());
+    }
+    
+    @Test
+    public void assertExecuteQueryWithErrorInRows() throws SQLException {
+        authenticate();
+        Future<Object> actual = channel.pipeline().get(MySQLBackendHandler.class).execute("SELECT order_id FROM t_order", 1000L, channel.eventLoop().newPromise());
+        channel.writeInbound(createPacket(new MySQLFieldCountPacket(1, 1)));
+        channel.writeInbound(createPacket(new MySQLColumnDefinition41Packet(2, "demo_ds", "t_order", "t_order", "order_id", "order_id", 20, MySQLColumnType.MYSQL_TYPE_LONGLONG, 0)));
+        channel.writeInbound(createPacket(new MySQLEofPacket(3)));
+        channel.writeInbound(createPacket(new MySQLErrPacket(4, MySQLServerErrorCode.ER_NO_DB_ERROR)));
+        MySQLNativeQueryResult queryResult = (MySQLNativeQueryResult) actual.getNow();
+        try {
+            queryResult.next();
+            fail("SQLException should be thrown.");
+        } catch (final SQLException ex) {
+            assertThat(ex.getErrorCode(), is(1046));
+        }
+    }
+    
+    @Test
+    public void assertCharacterSet() {
+        MySQLHandshakeResponse41Packet actual = channel.readOutbound();
+        assertThat(actual.getCharacterSet(), is(45));
+    }
+    
+    @Test
+    public void assertAuthenticateFailure() {
+        Future<Object> actual = channel.pipeline().get(MySQLBackendHandler.class).execute("SELECT 1", 1000L, channel.eventLoop().newPromise());
+        channel.writeInbound(createPacket(new MySQLErrPacket(2, MySQLServerErrorCode.ER_ACCESS_DENIED_ERROR, "root", "localhost", "YES")));
+        assertThat(actual.cause(), instanceOf(SQLException.class));
+        assertFalse(channel.isActive());
+    }
+    
+    @Test
+    public void assertChannelInactive() {
+        authenticate();
+        Promise<Void> completionPromise = channel.eventLoop().newPromise();
+        Future<Object> actual = channel.pipeline().get(MySQLBackendHandler.class).execute("SELECT 1", 1000L, completionPromise);
+        channel.close();
+        assertThat(actual.cause(), instanceOf(SQLException.class));
+        assertTrue(completionPromise.isDone());
+    }
+    
+    private void authenticate() {
+        channel.readOutbound();
+        channel.writeInbound(createPacket(new MySQLOKPacket(2)));
+    }
+    
+    private ByteBuf createPacket(final MySQLPacket packet) {
+        ByteBuf result = Unpooled.buffer();
+        result.writeByte(packet.getSequenceId());
+        packet.write(new MySQLPacketPayload(result));
+        return result;
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.netty.mysql;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.util.concurrent.Future;
+import org.apache.shardingsphere.db.protocol.codec.PacketCodec;
+import org.apache.shardingsphere.db.protocol.mysql.codec.MySQLPacketCodecEngine;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLOKPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.handshake.MySQLAuthPluginData;
+import org.apache.shardingsphere.db.protocol.mysql.packet.handshake.MySQLHandshakePacket;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.apache.shardingsphere.kernal.context.schema.DataSourceParameter;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.net.InetSocketAddress;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class MySQLChannelPoolTest {
+    
+    private final EventLoopGroup eventLoopGroup = new NioEventLoopGroup(1);
+    
+    private final List<List<String>> receivedSQLs = new CopyOnWriteArrayList<>();
+    
+    private Channel serverChannel;
+    
+    private MySQLChannelPool channelPool;
+    
+    @Before
+    public void setUp() throws InterruptedException {
+        serverChannel = new ServerBootstrap().group(eventLoopGroup).channel(NioServerSocketChannel.class).childHandler(new ChannelInitializer<Channel>() {
+            
+            @Override
+            protected void initChannel(final Channel channel) {
+                channel.pipeline().addLast(new PacketCodec(new MySQLPacketCodecEngine()));
+                channel.pipeline().addLast(new MySQLServerFixture());
+            }
+        }).bind("127.0.0.1", 0).sync().channel();
+        DataSourceParameter dataSourceParameter = new DataSourceParameter();
+        dataSourceParameter.setUrl(String.format("jdbc:mysql://127.0.0.1:%d/demo_ds", ((InetSocketAddress) serverChannel.localAddress()).getPort()));
+        dataSourceParameter.setUsername("root");
+        dataSourceParameter.setPassword("root");
+        dataSourceParameter.setConnectionTimeoutMilliseconds(5000L);
+        dataSourceParameter.setMaxPoolSize(1);
+        channelPool = new MySQLChannelPool(eventLoopGroup, dataSourceParameter);
+    }
+    
+    @After
+    public void tearDown() {
+        channelPool.close();
+        serverChannel.close();
+        eventLoopGroup.shutdownGracefully(0L, 0L, TimeUnit.MILLISECONDS);
+    }
+    
+    @Test
+    public void assertReplaySessionVariableStatements() throws Exception {
+        assertOK(channelPool.execute(Collections.singletonList("SET @a = 1"), "UPDATE t_order SET status = 1", 5000L));
+        assertOK(channelPool.execute(Arrays.asList("SET @a = 1", "SET @b = 2"), "UPDATE t_order SET status = 2", 5000L));
+        assertThat(receivedSQLs.size(), is(1));
+        assertThat(receivedSQLs.get(0), is(Arrays.asList("SET @a = 1", "UPDATE t_order SET status = 1", "SET @b = 2", "UPDATE t_order SET status = 2")));
+    }
+    
+    @Test
+    public void assertNotReuseChannelWithSessionVariablesOfOtherSession() throws Exception {
+        assertOK(channelPool.execute(Collections.singletonList("SET @a = 1"), "UPDATE t_order SET status = 1", 5000L));
+        assertOK(channelPool.execute(Collections.emptyList(), "UPDATE t_order SET status = 2", 5000L));
+        assertThat(receivedSQLs.size(), is(2));
+        assertThat(receivedSQLs.get(0), is(Arrays.asList("SET @a = 1", "UPDATE t_order SET status = 1")));
+        assertThat(receivedSQLs.get(1), is(Collections.singletonList("UPDATE t_order SET status = 2")));
+    }
+    
+    @Test
+    public void assertExecuteAfterClosed() {
+        channelPool.close();
+        Future<Object> actual = channelPool.execute(Collections.emptyList(), "UPDATE t_order SET status = 1", 5000L).awaitUninterruptibly();
+        assertThat(actual.cause(), instanceOf(IllegalStateException.class));
+    }
+    
+    private void assertOK(final Future<Object> future) throws Exception {
+        assertThat(future.get(5L, TimeUnit.SECONDS), instanceOf(MySQLOKPacket.class));
+    }
+    
+    private final class MySQLServerFixture extends ChannelInboundHandlerAdapter {
+        
+        private List<String> sqls;
+        
+        @Override
+        public void channelActive(final ChannelHandlerContext context) {
+            context.writeAndFlush(new MySQLHandshakePacket(1, new MySQLAuthPluginData()));
+        }
+        
+        @Override
+        public void channelRead(final ChannelHandlerContext context, final Object message) {
+            try (MySQLPacketPayload payload = new MySQLPacketPayload((ByteBuf) message)) {
+                if (null == sqls) {
+                    sqls = new CopyOnWriteArrayList<>();
+                    receivedSQLs.add(sqls);
+                    context.writeAndFlush(new MySQLOKPacket(2));
+                    return;
+                }
+                payload.readInt1();
+                payload.readInt1();
+                sqls.add(payload.readStringEOF());
+                context.writeAndFlush(new MySQLOKPacket(1));
+            }
+        }
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.netty.mysql;
+
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLColumnType;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.MySQLColumnDefinition41Packet;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class MySQLNativeQueryResultTest {
+    
+    @Test
+    public void assertGetValue() throws SQLException {
+        MySQLNativeQueryResult actual = createQueryResult(Arrays.asList(createColumnDefinition(MySQLColumnType.MYSQL_TYPE_LONG, 0, 33), 
+                createColumnDefinition(MySQLColumnType.MYSQL_TYPE_LONGLONG, 0x20, 33), createColumnDefinition(MySQLColumnType.MYSQL_TYPE_NEWDECIMAL, 0, 33),
+                createColumnDefinition(MySQLColumnType.MYSQL_TYPE_DATE, 0, 33), createColumnDefinition(MySQLColumnType.MYSQL_TYPE_DATETIME, 0, 33),
+                createColumnDefinition(MySQLColumnType.MYSQL_TYPE_VAR_STRING, 0, 33), createColumnDefinition(MySQLColumnType.MYSQL_TYPE_BLOB, 0, 63)),
+                new byte[][]{toBytes("1"), toBytes("18446744073709551615"), toBytes("1.50"), toBytes("2020-01-01"), toBytes("2020-01-01 10:00:00"), toBytes("foo"), new byte[]{1, 2}});
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is((Object) 1));
+        assertThat(actual.getValue(2, Object.class), is((Object) new BigInteger("18446744073709551615")));
+        assertThat(actual.getValue(3, Object.class), is((Object) new BigDecimal("1.50")));
+        assertThat(actual.getValue(4, Object.class), is((Object) Date.valueOf("2020-01-01")));
+        assertThat(actual.getValue(5, Object.class), is((Object) Timestamp.valueOf("2020-01-01 10:00:00")));
+        assertThat(actual.getValue(6, Object.class), is((Object) "foo"));
+        assertThat(actual.getValue(7, Object.class), is((Object) new byte[]{1, 2}));
+        assertFalse(actual.wasNull());
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertGetValueAsJDBCDriver() throws SQLException {
+        MySQLColumnDefinition41Packet tinyInt1ColumnDefinition = createColumnDefinition(MySQLColumnType.MYSQL_TYPE_TINY, 0, 33);
+        when(tinyInt1ColumnDefinition.getColumnLength()).thenReturn(1);
+        MySQLColumnDefinition41Packet tinyInt4ColumnDefinition = createColumnDefinition(MySQLColumnType.MYSQL_TYPE_TINY, 0, 33);
+        when(tinyInt4ColumnDefinition.getColumnLength()).thenReturn(4);
+        MySQLNativeQueryResult actual = createQueryResult(Arrays.asList(tinyInt1ColumnDefinition, tinyInt4ColumnDefinition, createColumnDefinition(MySQLColumnType.MYSQL_TYPE_YEAR, 0x20, 63),
+                createColumnDefinition(MySQLColumnType.MYSQL_TYPE_BIT, 0x20, 63)), new byte[][]{toBytes("1"), toBytes("1"), toBytes("2020"), new byte[]{1}}, 
+                new byte[][]{toBytes("0"), toBytes("0"), toBytes("2021"), new byte[]{0}});
+        assertThat(actual.getColumnType(1), is(Types.BIT));
+        assertThat(actual.getColumnType(2), is(Types.TINYINT));
+        assertThat(actual.getColumnType(3), is(Types.DATE));
+        assertThat(actual.getColumnType(4), is(Types.BIT));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is((Object) true));
+        assertThat(actual.getValue(2, Object.class), is((Object) 1));
+        assertThat(actual.getValue(3, Object.class), is((Object) Date.valueOf("2020-01-01")));
+        assertThat(actual.getValue(4, Object.class), is((Object) new byte[]{1}));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is((Object) false));
+        assertThat(actual.getValue(3, Object.class), is((Object) Date.valueOf("2021-01-01")));
+    }
+    
+    @Test
+    public void assertGetNullValue() throws SQLException {
+        MySQLNativeQueryResult actual = createQueryResult(Collections.singletonList(createColumnDefinition(MySQLColumnType.MYSQL_TYPE_LONG, 0, 33)), new byte[1][]);
+        assertTrue(actual.next());
+        assertNull(actual.getValue(1, Object.class));
+        assertTrue(actual.wasNull());
+    }
+    
+    @Test
+    public void assertGetZeroDateAsString() throws SQLException {
+        MySQLNativeQueryResult actual = createQueryResult(Collections.singletonList(createColumnDefinition(MySQLColumnType.MYSQL_TYPE_DATETIME, 0, 33)),
+                new byte[][]{toBytes("0000-00-00 00:00:00.000000")});
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is((Object) "0000-00-00 00:00:00.000000"));
+    }
+    
+    @Test
+    public void assertGetMetaData() {
+        MySQLNativeQueryResult actual = createQueryResult(Arrays.asList(createColumnDefinition(MySQLColumnType.MYSQL_TYPE_LONGLONG, 0x221, 33),
+                createColumnDefinition(MySQLColumnType.MYSQL_TYPE_STRING, 0, 63)));
+        assertThat(actual.getColumnCount(), is(2));
+        assertThat(actual.getColumnName(1), is("org_name"));
+        assertThat(actual.getColumnLabel(1), is("name"));
+        assertThat(actual.getColumnType(1), is(Types.BIGINT));
+        assertFalse(actual.isSigned(1));
+        assertTrue(actual.isNotNull(1));
+        assertTrue(actual.isAutoIncrement(1));
+        assertThat(actual.getColumnType(2), is(Types.BINARY));
+        assertTrue(actual.isSigned(2));
+        assertFalse(actual.isNotNull(2));
+    }
+    
+    @Test
+    public void assertPauseReadingWhenTooManyRowsWaiting() throws SQLException {
+        EmbeddedChannel channel = new EmbeddedChannel();
+        MySQLNativeQueryResult actual = new MySQLNativeQueryResult(Collections.singletonList(createColumnDefinition(MySQLColumnType.MYSQL_TYPE_LONG, 0, 33)), channel, 1000L);
+        for (int i = 0; i < 1024; i++) {
+            actual.addRow(new byte[][]{toBytes(String.valueOf(i))});
+        }
+        assertFalse(channel.config().isAutoRead());
+        for (int i = 0; i < 768; i++) {
+            assertTrue(actual.next());
+        }
+        assertTrue(channel.config().isAutoRead());
+        assertThat(actual.getValue(1, Object.class), is((Object) 767));
+    }
+    
+    @Test
+    public void assertFailAfterRowsRead() throws SQLException {
+        MySQLNativeQueryResult actual = new MySQLNativeQueryResult(Collections.singletonList(createColumnDefinition(MySQLColumnType.MYSQL_TYPE_LONG, 0, 33)), new EmbeddedChannel(), 1000L);
+        actual.addRow(new byte[][]{toBytes("1")});
+        actual.fail(new SQLException("Query execution was interrupted", "70100", 1317));
+        assertTrue(actual.next());
+        try {
+            actual.next();
+            fail("SQLException should be thrown.");
+        } catch (final SQLException ex) {
+            assertThat(ex.getErrorCode(), is(1317));
+        }
+        assertFalse(actual.next());
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertNextTimeout() throws SQLException {
+        EmbeddedChannel channel = new EmbeddedChannel();
+        MySQLNativeQueryResult actual = new MySQLNativeQueryResult(Collections.singletonList(createColumnDefinition(MySQLColumnType.MYSQL_TYPE_LONG, 0, 33)), channel, 10L);
+        try {
+            actual.next();
+        } finally {
+            assertFalse(channel.isOpen());
+        }
+    }
+    
+    @Test
+    public void assertCloseBeforeAllRowsReceived() {
+        EmbeddedChannel channel = new EmbeddedChannel();
+        MySQLNativeQueryResult actual = new MySQLNativeQueryResult(Collections.singletonList(createColumnDefinition(MySQLColumnType.MYSQL_TYPE_LONG, 0, 33)), channel, 1000L);
+        actual.addRow(new byte[][]{toBytes("1")});
+        actual.close();
+        assertFalse(channel.isOpen());
+    }
+    
+    @Test
+    public void assertCloseAfterAllRowsReceived() {
+        EmbeddedChannel channel = new EmbeddedChannel();
+        MySQLNativeQueryResult actual = new MySQLNativeQueryResult(Collections.singletonList(createColumnDefinition(MySQLColumnType.MYSQL_TYPE_LONG, 0, 33)), channel, 1000L);
+        actual.addRow(new byte[][]{toBytes("1")});
+        actual.complete();
+        actual.close();
+        assertTrue(channel.isOpen());
+    }
+    
+    private MySQLNativeQueryResult createQueryResult(final List<MySQLColumnDefinition41Packet> columnDefinitions, final byte[][]... rows) {
+        MySQLNativeQueryResult result = new MySQLNativeQueryResult(columnDefinitions, new EmbeddedChannel(), 1000L);
+        for (byte[][] each : rows) {
+            result.addRow(each);
+        }
+        result.complete();
+        return result;
+    }
+    
+    private MySQLColumnDefinition41Packet createColumnDefinition(final MySQLColumnType columnType, final int flags, final int characterSet) {
+        MySQLColumnDefinition41Packet result = mock(MySQLColumnDefinition41Packet.class);
+        when(result.getColumnType()).thenReturn(columnType);
+        when(result.getFlags()).thenReturn(flags);
+        when(result.getCharacterSet()).thenReturn(characterSet);
+        when(result.getName()).thenReturn("name");
+        when(result.getOrgName()).thenReturn("org_name");
+        return result;
+    }
+    
+    private byte[] toBytes(final String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -35,5 +35,11 @@ public final class ServerConfiguration implements YamlConfiguration {
     
     private int pushTimeout = 1000;
     
+    private int maxLinger = 50;
+    
+    private String importerMode = "SINGLE";
+    
     private int workerThread = 30;
+    
+    private String checkpointPath;
 }
@@ -44,7 +44,7 @@ public final class DistributionChannel implements Channel {
     /**
      * key = channel id, value = channel.
      */
-    private final Map<String, MemoryChannel> channels = new HashMap<>();
+    private final Map<String, Channel> channels = new HashMap<>();
     
     /**
      * key = thread id, value = channel id.
@@ -63,7 +63,7 @@ public final class DistributionChannel implements Channel {
         this.channelNumber = channelNumber;
         this.ackCallback = ackCallback;
         for (int i = 0; i < channelNumber; i++) {
-            channels.put(Integer.toString(i), new MemoryChannel(new SingleChannelAckCallback()));
+            channels.put(Integer.toString(i), new RingBufferChannel(new SingleChannelAckCallback()));
         }
         scheduleAckRecords();
     }
@@ -96,7 +96,7 @@ public final class DistributionChannel implements Channel {
     public void pushRecord(final Record record) throws InterruptedException {
         if (FinishedRecord.class.equals(record.getClass())) {
             // broadcast
-            for (Map.Entry<String, MemoryChannel> entry : channels.entrySet()) {
+            for (Map.Entry<String, Channel> entry : channels.entrySet()) {
                 entry.getValue().pushRecord(record);
             }
         } else if (DataRecord.class.equals(record.getClass())) {
@@ -125,7 +125,7 @@ public final class DistributionChannel implements Channel {
     
     @Override
     public void close() {
-        for (MemoryChannel each : channels.values()) {
+        for (Channel each : channels.values()) {
             each.close();
         }
         scheduleAckRecordsExecutor.shutdown();
@@ -149,7 +149,7 @@ public final class DistributionChannel implements Channel {
     }
     
     private void assignmentChannel(final String threadId) {
-        for (Map.Entry<String, MemoryChannel> entry : channels.entrySet()) {
+        for (Map.Entry<String, Channel> entry : channels.entrySet()) {
             if (!channelAssignment.containsValue(entry.getKey())) {
                 channelAssignment.put(threadId, entry.getKey());
             }
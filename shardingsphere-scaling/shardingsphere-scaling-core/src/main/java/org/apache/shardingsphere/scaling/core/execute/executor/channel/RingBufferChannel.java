@@ -0,0 +1,206 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.scaling.core.execute.executor.channel;
+
+import org.apache.shardingsphere.scaling.core.config.ScalingContext;
+import org.apache.shardingsphere.scaling.core.config.ServerConfiguration;
+import org.apache.shardingsphere.scaling.core.exception.SyncTaskExecuteException;
+import org.apache.shardingsphere.scaling.core.execute.executor.record.Record;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Ring buffer channel.
+ * 
+ * <p>
+ *     Lock-free channel for one producer and one consumer.
+ *     The consumer parks until the records it waits for are pushed, then lingers at most {@code maxLinger} milliseconds for a full batch.
+ *     Only the consumer moves head, so closing just flags the channel, records are discarded by the consumer and dropped by the producer afterwards.
+ * </p>
+ */
+public final class RingBufferChannel implements Channel {
+    
+    private static final int NO_THRESHOLD = Integer.MAX_VALUE;
+    
+    private static final long MAX_PRODUCER_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    
+    private final Record[] buffer;
+    
+    private final int mask;
+    
+    private final int pushTimeout;
+    
+    private final long pushTimeoutNanos;
+    
+    private final long maxLingerNanos;
+    
+    private final AckCallback ackCallback;
+    
+    private final AtomicLong head = new AtomicLong();
+    
+    private final AtomicLong tail = new AtomicLong();
+    
+    private final List<Record> toBeAcknowledgeRecords = new LinkedList<>();
+    
+    private volatile int wakeUpThreshold = NO_THRESHOLD;
+    
+    private volatile Thread consumer;
+    
+    private volatile Thread producer;
+    
+    private volatile boolean closed;
+    
+    public RingBufferChannel(final AckCallback ackCallback) {
+        this(ScalingContext.getInstance().getServerConfiguration(), ackCallback);
+    }
+    
+    private RingBufferChannel(final ServerConfiguration serverConfiguration, final AckCallback ackCallback) {
+        this(serverConfiguration.getBlockQueueSize(), serverConfiguration.getPushTimeout(), serverConfiguration.getMaxLinger(), ackCallback);
+    }
+    
+    RingBufferChannel(final int capacity, final int pushTimeout, final int maxLinger, final AckCallback ackCallback) {
+        int size = Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1;
+        buffer = new Record[size];
+        mask = size - 1;
+        this.pushTimeout = pushTimeout;
+        pushTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(pushTimeout);
+        maxLingerNanos = TimeUnit.MILLISECONDS.toNanos(maxLinger);
+        this.ackCallback = ackCallback;
+    }
+    
+    @Override
+    public void pushRecord(final Record dataRecord) throws InterruptedException {
+        long currentTail = tail.get();
+        if (currentTail - head.get() >= buffer.length) {
+            waitForSpace(currentTail);
+        }
+        if (closed) {
+            return;
+        }
+        buffer[(int) currentTail & mask] = dataRecord;
+        tail.set(currentTail + 1);
+        if (currentTail + 1 - head.get() >= wakeUpThreshold) {
+            LockSupport.unpark(consumer);
+        }
+    }
+    
+    private void waitForSpace(final long currentTail) throws InterruptedException {
+        long deadline = System.nanoTime() + pushTimeoutNanos;
+        producer = Thread.currentThread();
+        try {
+            while (!closed && currentTail - head.get() >= buffer.length) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    throw new SyncTaskExecuteException(String.format("Push record to channel timeout after %d milliseconds.", pushTimeout));
+                }
+                LockSupport.parkNanos(this, Math.min(remaining, MAX_PRODUCER_PARK_NANOS));
+                if (Thread.currentThread().isInterrupted()) {
+                    throw new InterruptedException();
+                }
+            }
+        } finally {
+            producer = null;
+        }
+    }
+    
+    @Override
+    public List<Record> fetchRecords(final int batchSize, final int timeout) {
+        waitForRecords(batchSize, System.nanoTime() + TimeUnit.SECONDS.toNanos(timeout));
+        if (closed) {
+            discardRecords();
+            return Collections.emptyList();
+        }
+        long currentHead = head.get();
+        int count = (int) Math.min(batchSize, tail.get() - currentHead);
+        List<Record> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int index = (int) (currentHead + i) & mask;
+            result.add(buffer[index]);
+            buffer[index] = null;
+        }
+        head.lazySet(currentHead + count);
+        if (0 < count) {
+            LockSupport.unpark(producer);
+        }
+        toBeAcknowledgeRecords.addAll(result);
+        return result;
+    }
+    
+    private void waitForRecords(final int batchSize, final long deadline) {
+        long lingerDeadline = Long.MAX_VALUE;
+        consumer = Thread.currentThread();
+        try {
+            while (!closed) {
+                long available = tail.get() - head.get();
+                if (available >= batchSize) {
+                    return;
+                }
+                long now = System.nanoTime();
+                if (0 < available && Long.MAX_VALUE == lingerDeadline) {
+                    lingerDeadline = now + maxLingerNanos;
+                }
+                long wakeUpTime = Math.min(deadline, lingerDeadline);
+                if (now - wakeUpTime >= 0) {
+                    return;
+                }
+                wakeUpThreshold = 0 == available ? 1 : batchSize;
+                if (tail.get() - head.get() >= wakeUpThreshold) {
+                    continue;
+                }
+                LockSupport.parkNanos(this, wakeUpTime - now);
+                if (Thread.currentThread().isInterrupted()) {
+                    return;
+                }
+            }
+        } finally {
+            wakeUpThreshold = NO_THRESHOLD;
+            consumer = null;
+        }
+    }
+    
+    private void discardRecords() {
+        long currentHead = head.get();
+        long currentTail = tail.get();
+        for (long i = currentHead; i < currentTail; i++) {
+            buffer[(int) i & mask] = null;
+        }
+        head.lazySet(currentTail);
+        LockSupport.unpark(producer);
+    }
+    
+    @Override
+    public void ack() {
+        if (toBeAcknowledgeRecords.size() > 0) {
+            ackCallback.onAck(toBeAcknowledgeRecords);
+            toBeAcknowledgeRecords.clear();
+        }
+    }
+    
+    @Override
+    public void close() {
+        closed = true;
+        LockSupport.unpark(consumer);
+        LockSupport.unpark(producer);
+    }
+}
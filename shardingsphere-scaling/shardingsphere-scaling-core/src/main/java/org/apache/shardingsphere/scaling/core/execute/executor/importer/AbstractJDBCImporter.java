@@ -20,6 +20,8 @@ package org.apache.shardingsphere.scaling.core.execute.executor.importer;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.scaling.core.config.RdbmsConfiguration;
+import org.apache.shardingsphere.scaling.core.config.ScalingContext;
+import org.apache.shardingsphere.scaling.core.config.ServerConfiguration;
 import org.apache.shardingsphere.scaling.core.exception.SyncTaskExecuteException;
 import org.apache.shardingsphere.scaling.core.execute.executor.AbstractShardingScalingExecutor;
 import org.apache.shardingsphere.scaling.core.execute.executor.channel.Channel;
@@ -36,7 +38,9 @@ import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.SQLIntegrityConstraintViolationException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Abstract JDBC importer implementation.
@@ -44,19 +48,32 @@ import java.util.List;
 @Slf4j
 public abstract class AbstractJDBCImporter extends AbstractShardingScalingExecutor implements Importer {
     
+    private static final String BATCH_IMPORTER_MODE = "BATCH";
+    
     private final RdbmsConfiguration rdbmsConfiguration;
     
     private final DataSourceManager dataSourceManager;
     
     private final AbstractSqlBuilder sqlBuilder;
     
+    private final boolean batchMode;
+    
+    private final Map<String, PreparedStatement> batchStatements = new HashMap<>();
+    
     @Setter
     private Channel channel;
     
+    private Connection batchConnection;
+    
     public AbstractJDBCImporter(final RdbmsConfiguration rdbmsConfiguration, final DataSourceManager dataSourceManager) {
         this.rdbmsConfiguration = rdbmsConfiguration;
         this.dataSourceManager = dataSourceManager;
         sqlBuilder = createSqlBuilder();
+        batchMode = isBatchMode(ScalingContext.getInstance().getServerConfiguration());
+    }
+    
+    private boolean isBatchMode(final ServerConfiguration serverConfiguration) {
+        return null != serverConfiguration && BATCH_IMPORTER_MODE.equalsIgnoreCase(serverConfiguration.getImporterMode());
     }
     
     /**
@@ -88,10 +105,16 @@ public abstract class AbstractJDBCImporter extends AbstractShardingScalingExecut
             }
         } catch (SQLException ex) {
             throw new SyncTaskExecuteException(ex);
+        } finally {
+            closeBatchConnection();
         }
     }
     
     private void flush(final DataSource dataSource, final List<Record> buffer) throws SQLException {
+        if (batchMode) {
+            flushInBatch(dataSource, buffer);
+            return;
+        }
         try (Connection connection = dataSource.getConnection()) {
             connection.setAutoCommit(false);
             for (Record record : buffer) {
@@ -151,4 +174,103 @@ public abstract class AbstractJDBCImporter extends AbstractShardingScalingExecut
         }
         ps.execute();
     }
+    
+    private void flushInBatch(final DataSource dataSource, final List<Record> buffer) throws SQLException {
+        if (null == batchConnection) {
+            batchConnection = dataSource.getConnection();
+            batchConnection.setAutoCommit(false);
+        }
+        try {
+            PreparedStatement currentStatement = null;
+            for (Record record : buffer) {
+                if (!DataRecord.class.equals(record.getClass())) {
+                    continue;
+                }
+                DataRecord dataRecord = (DataRecord) record;
+                String sql = buildBatchSQL(dataRecord);
+                if (null == sql) {
+                    continue;
+                }
+                PreparedStatement statement = getBatchStatement(sql);
+                if (statement != currentStatement && null != currentStatement) {
+                    currentStatement.executeBatch();
+                }
+                currentStatement = statement;
+                List<Column> values = extractBatchValues(dataRecord);
+                for (int i = 0; i < values.size(); i++) {
+                    statement.setObject(i + 1, values.get(i).getValue());
+                }
+                statement.addBatch();
+            }
+            if (null != currentStatement) {
+                currentStatement.executeBatch();
+            }
+            batchConnection.commit();
+        } catch (SQLException ex) {
+            batchConnection.rollback();
+            throw ex;
+        } finally {
+            closeBatchStatements();
+        }
+    }
+    
+    private String buildBatchSQL(final DataRecord record) {
+        switch (record.getType()) {
+            case "BOOTSTRAP-INSERT":
+            case "INSERT":
+                return sqlBuilder.buildUpsertSQL(record);
+            case "UPDATE":
+                return sqlBuilder.buildUpdateSQL(record);
+            case "DELETE":
+                return sqlBuilder.buildDeleteSQL(record);
+            default:
+                return null;
+        }
+    }
+    
+    private List<Column> extractBatchValues(final DataRecord record) {
+        switch (record.getType()) {
+            case "UPDATE":
+                List<Column> result = new ArrayList<>(RecordUtil.extractUpdatedColumns(record));
+                result.addAll(RecordUtil.extractPrimaryColumns(record));
+                return result;
+            case "DELETE":
+                return RecordUtil.extractPrimaryColumns(record);
+            default:
+                return record.getColumns();
+        }
+    }
+    
+    private PreparedStatement getBatchStatement(final String sql) throws SQLException {
+        PreparedStatement result = batchStatements.get(sql);
+        if (null == result) {
+            result = batchConnection.prepareStatement(sql);
+            result.setQueryTimeout(30);
+            batchStatements.put(sql, result);
+        }
+        return result;
+    }
+    
+    private void closeBatchStatements() {
+        for (PreparedStatement each : batchStatements.values()) {
+            try {
+                each.close();
+            } catch (SQLException ex) {
+                log.warn("Close batch import statement failed.", ex);
+            }
+        }
+        batchStatements.clear();
+    }
+    
+    private void closeBatchConnection() {
+        if (null == batchConnection) {
+            return;
+        }
+        try {
+            batchConnection.close();
+        } catch (SQLException ex) {
+            log.warn("Close batch import connection failed.", ex);
+        }
+        batchConnection = null;
+    }
 }
@@ -34,6 +34,8 @@ public abstract class AbstractSqlBuilder {
     
     private static final String INSERT_SQL_CACHE_KEY_PREFIX = "INSERT_";
     
+    private static final String UPSERT_SQL_CACHE_KEY_PREFIX = "UPSERT_";
+    
     private static final String UPDATE_SQL_CACHE_KEY_PREFIX = "UPDATE_";
     
     private static final String DELETE_SQL_CACHE_KEY_PREFIX = "DELETE_";
@@ -80,6 +82,40 @@ public abstract class AbstractSqlBuilder {
         return String.format("INSERT INTO %s%s%s(%s) VALUES(%s)", getLeftIdentifierQuoteString(), tableName, getRightIdentifierQuoteString(), columnsLiteral.toString(), holder.toString());
     }
     
+    /**
+     * Build upsert SQL, an insert SQL which overwrites the existing row on primary key conflict.
+     *
+     * @param dataRecord data record
+     * @return upsert SQL
+     */
+    public String buildUpsertSQL(final DataRecord dataRecord) {
+        String sqlCacheKey = UPSERT_SQL_CACHE_KEY_PREFIX + dataRecord.getTableName();
+        if (!sqlCacheMap.containsKey(sqlCacheKey)) {
+            sqlCacheMap.put(sqlCacheKey, buildInsertSQLInternal(dataRecord.getTableName(), dataRecord.getColumns()) + buildConflictUpdateSQL(dataRecord));
+        }
+        return sqlCacheMap.get(sqlCacheKey);
+    }
+    
+    /**
+     * Build the clause appended to insert SQL to resolve primary key conflict.
+     *
+     * @param dataRecord data record
+     * @return conflict clause, empty if database does not support upsert
+     */
+    protected String buildConflictUpdateSQL(final DataRecord dataRecord) {
+        return "";
+    }
+    
+    /**
+     * Quote identifier.
+     *
+     * @param identifier identifier
+     * @return quoted identifier
+     */
+    protected final String quote(final String identifier) {
+        return getLeftIdentifierQuoteString() + identifier + getRightIdentifierQuoteString();
+    }
+    
     /**
      * Build update SQL.
      *
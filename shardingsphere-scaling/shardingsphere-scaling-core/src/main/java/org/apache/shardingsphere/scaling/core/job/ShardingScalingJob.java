@@ -22,6 +22,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 
 import org.apache.shardingsphere.scaling.core.config.SyncConfiguration;
+import org.apache.shardingsphere.scaling.core.job.position.SyncCheckpointManager;
 import org.apache.shardingsphere.scaling.core.job.task.ScalingTask;
 
 import java.util.LinkedList;
@@ -42,6 +43,8 @@ public final class ShardingScalingJob {
     
     private final transient List<SyncConfiguration> syncConfigurations = new LinkedList<>();
     
+    private final transient List<SyncCheckpointManager> checkpointManagers = new LinkedList<>();
+    
     private final List<ScalingTask> inventoryDataTasks = new LinkedList<>();
     
     private final List<ScalingTask> incrementalDataTasks = new LinkedList<>();
@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.scaling.core.job.position;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Sync checkpoint, which records inventory chunks, finished tasks and incremental start position of a sync configuration.
+ */
+@RequiredArgsConstructor
+@Getter
+public final class SyncCheckpoint implements Serializable {
+    
+    private static final long serialVersionUID = 3472925604371436745L;
+    
+    private final String key;
+    
+    private final Map<String, List<Long>> chunkUpperBounds = new HashMap<>();
+    
+    private final Set<String> finishedTaskIds = new HashSet<>();
+    
+    @Setter
+    private LogPosition<?> incrementalPosition;
+}
@@ -0,0 +1,191 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.scaling.core.job.position;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.database.metadata.DataSourceMetaData;
+import org.apache.shardingsphere.scaling.core.config.ScalingContext;
+import org.apache.shardingsphere.scaling.core.config.ServerConfiguration;
+import org.apache.shardingsphere.scaling.core.config.SyncConfiguration;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeSet;
+
+/**
+ * Sync checkpoint manager.
+ * 
+ * <p>
+ * Checkpoint of a sync configuration is kept in a file under {@code checkpointPath} of server configuration,
+ * so a restarted job reuses chunk bounds and incremental start position, and skips finished inventory tasks.
+ * Checkpoint is only kept in memory if {@code checkpointPath} is not configured, and is deleted after the job completes.
+ * </p>
+ */
+@Slf4j
+public final class SyncCheckpointManager {
+    
+    private final Path checkpointFile;
+    
+    private final SyncCheckpoint checkpoint;
+    
+    public SyncCheckpointManager(final SyncConfiguration syncConfiguration) {
+        this(getCheckpointPath(), syncConfiguration);
+    }
+    
+    public SyncCheckpointManager(final String checkpointPath, final SyncConfiguration syncConfiguration) {
+        String key = generateKey(syncConfiguration);
+        checkpointFile = null == checkpointPath || checkpointPath.isEmpty() ? null : Paths.get(checkpointPath, String.format("%08x.checkpoint", key.hashCode()));
+        checkpoint = load(key).orElseGet(() -> new SyncCheckpoint(key));
+    }
+    
+    private static String getCheckpointPath() {
+        ServerConfiguration serverConfiguration = ScalingContext.getInstance().getServerConfiguration();
+        return null == serverConfiguration ? null : serverConfiguration.getCheckpointPath();
+    }
+    
+    private String generateKey(final SyncConfiguration syncConfiguration) {
+        DataSourceMetaData dataSourceMetaData = syncConfiguration.getDumperConfiguration().getDataSourceConfiguration().getDataSourceMetaData();
+        return String.format("%s:%d/%s/%s%s", dataSourceMetaData.getHostName(), dataSourceMetaData.getPort(),
+                Optional.ofNullable(dataSourceMetaData.getCatalog()).orElse(dataSourceMetaData.getSchema()), new TreeSet<>(syncConfiguration.getTableNameMap().keySet()),
+                new TreeSet<>(syncConfiguration.getTableNameMap().values()));
+    }
+    
+    private Optional<SyncCheckpoint> load(final String key) {
+        if (null == checkpointFile || !Files.exists(checkpointFile)) {
+            return Optional.empty();
+        }
+        try (ObjectInputStream inputStream = new ObjectInputStream(Files.newInputStream(checkpointFile))) {
+            SyncCheckpoint result = (SyncCheckpoint) inputStream.readObject();
+            if (!key.equals(result.getKey())) {
+                log.warn("Ignore checkpoint {} of another sync configuration {}", checkpointFile, result.getKey());
+                return Optional.empty();
+            }
+            log.info("Resume sync configuration {} from checkpoint {}", key, checkpointFile);
+            return Optional.of(result);
+        } catch (final IOException | ClassNotFoundException | ClassCastException ex) {
+            log.warn("Ignore unreadable checkpoint {}", checkpointFile, ex);
+            return Optional.empty();
+        }
+    }
+    
+    /**
+     * Get chunk upper bounds of table.
+     *
+     * @param tableName table name
+     * @return chunk upper bounds, empty if table is not split yet
+     */
+    public synchronized Optional<List<Long>> getChunkUpperBounds(final String tableName) {
+        return Optional.ofNullable(checkpoint.getChunkUpperBounds().get(tableName)).map(ArrayList::new);
+    }
+    
+    /**
+     * Save chunk upper bounds of table.
+     *
+     * @param tableName table name
+     * @param chunkUpperBounds chunk upper bounds
+     */
+    public synchronized void saveChunkUpperBounds(final String tableName, final List<Long> chunkUpperBounds) {
+        checkpoint.getChunkUpperBounds().put(tableName, new ArrayList<>(chunkUpperBounds));
+        persist();
+    }
+    
+    /**
+     * Judge whether inventory task is finished.
+     *
+     * @param taskId task id
+     * @return inventory task is finished or not
+     */
+    public synchronized boolean isFinished(final String taskId) {
+        return checkpoint.getFinishedTaskIds().contains(taskId);
+    }
+    
+    /**
+     * Mark inventory task finished.
+     *
+     * @param taskId task id
+     */
+    public synchronized void finish(final String taskId) {
+        checkpoint.getFinishedTaskIds().add(taskId);
+        persist();
+    }
+    
+    /**
+     * Get incremental start position.
+     *
+     * @return incremental start position, empty if not saved yet
+     */
+    public synchronized Optional<LogPosition<?>> getIncrementalPosition() {
+        return Optional.ofNullable(checkpoint.getIncrementalPosition());
+    }
+    
+    /**
+     * Save incremental start position.
+     *
+     * @param incrementalPosition incremental start position
+     */
+    public synchronized void saveIncrementalPosition(final LogPosition<?> incrementalPosition) {
+        checkpoint.setIncrementalPosition(incrementalPosition);
+        persist();
+    }
+    
+    /**
+     * Delete checkpoint, so that a new job of the same sync configuration starts from scratch.
+     */
+    public synchronized void delete() {
+        if (null == checkpointFile) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(checkpointFile);
+        } catch (final IOException ex) {
+            log.warn("Delete checkpoint {} failed", checkpointFile, ex);
+        }
+    }
+    
+    private void persist() {
+        if (null == checkpointFile) {
+            return;
+        }
+        try {
+            Files.createDirectories(checkpointFile.getParent());
+            Path tempFile = Files.createTempFile(checkpointFile.getParent(), checkpointFile.getFileName().toString(), ".tmp");
+            try {
+                write(tempFile);
+                Files.move(tempFile, checkpointFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tempFile);
+            }
+        } catch (final IOException ex) {
+            log.warn("Persist checkpoint {} failed, restarted job can not resume from it", checkpointFile, ex);
+        }
+    }
+    
+    private void write(final Path file) throws IOException {
+        try (ObjectOutputStream outputStream = new ObjectOutputStream(Files.newOutputStream(file))) {
+            outputStream.writeObject(checkpoint);
+        }
+    }
+}
@@ -19,18 +19,23 @@ package org.apache.shardingsphere.scaling.core.job.preparer;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.IdentityHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.scaling.core.job.ShardingScalingJob;
 import org.apache.shardingsphere.scaling.core.config.SyncConfiguration;
 import org.apache.shardingsphere.scaling.core.job.task.ScalingTask;
+import org.apache.shardingsphere.scaling.core.job.task.inventory.InventoryDataScalingTaskGroup;
 import org.apache.shardingsphere.scaling.core.schedule.SyncTaskControlStatus;
 import org.apache.shardingsphere.scaling.core.datasource.DataSourceManager;
 import org.apache.shardingsphere.scaling.core.exception.PrepareFailedException;
+import org.apache.shardingsphere.scaling.core.job.position.LogPosition;
 import org.apache.shardingsphere.scaling.core.job.position.LogPositionManager;
 import org.apache.shardingsphere.scaling.core.job.position.LogPositionManagerFactory;
+import org.apache.shardingsphere.scaling.core.job.position.SyncCheckpointManager;
 import org.apache.shardingsphere.scaling.core.job.preparer.checker.DataSourceChecker;
 import org.apache.shardingsphere.scaling.core.job.preparer.checker.DataSourceCheckerCheckerFactory;
 import org.apache.shardingsphere.scaling.core.job.preparer.splitter.InventoryDataTaskSplitter;
@@ -58,8 +63,10 @@ public final class ShardingScalingJobPreparer {
         String databaseType = shardingScalingJob.getSyncConfigurations().get(0).getDumperConfiguration().getDataSourceConfiguration().getDatabaseType().getName();
         try (DataSourceManager dataSourceManager = new DataSourceManager(shardingScalingJob.getSyncConfigurations())) {
             checkDatasources(databaseType, dataSourceManager);
-            splitInventoryDataTasks(shardingScalingJob, dataSourceManager);
-            initIncrementalDataTasks(databaseType, shardingScalingJob, dataSourceManager);
+            Map<SyncConfiguration, SyncCheckpointManager> checkpointManagers = createCheckpointManagers(shardingScalingJob);
+            shardingScalingJob.getCheckpointManagers().addAll(checkpointManagers.values());
+            splitInventoryDataTasks(shardingScalingJob, dataSourceManager, checkpointManagers);
+            initIncrementalDataTasks(databaseType, shardingScalingJob, dataSourceManager, checkpointManagers);
         } catch (PrepareFailedException ex) {
             log.warn("Preparing sharding scaling job {} : {} failed", shardingScalingJob.getJobId(), shardingScalingJob.getJobName(), ex);
             shardingScalingJob.setStatus(SyncTaskControlStatus.PREPARING_FAILURE.name());
@@ -73,14 +80,25 @@ public final class ShardingScalingJobPreparer {
         dataSourceChecker.checkVariable(dataSourceManager.getSourceDatasources().values());
     }
     
-    private void splitInventoryDataTasks(final ShardingScalingJob shardingScalingJob, final DataSourceManager dataSourceManager) {
+    private Map<SyncConfiguration, SyncCheckpointManager> createCheckpointManagers(final ShardingScalingJob shardingScalingJob) {
+        Map<SyncConfiguration, SyncCheckpointManager> result = new IdentityHashMap<>(shardingScalingJob.getSyncConfigurations().size());
+        for (SyncConfiguration each : shardingScalingJob.getSyncConfigurations()) {
+            result.put(each, new SyncCheckpointManager(each));
+        }
+        return result;
+    }
+    
+    private void splitInventoryDataTasks(final ShardingScalingJob shardingScalingJob, final DataSourceManager dataSourceManager,
+                                         final Map<SyncConfiguration, SyncCheckpointManager> checkpointManagers) {
         List<ScalingTask> allInventoryDataTasks = new LinkedList<>();
         for (SyncConfiguration each : shardingScalingJob.getSyncConfigurations()) {
-            allInventoryDataTasks.addAll(inventoryDataTaskSplitter.splitInventoryData(each, dataSourceManager));
+            allInventoryDataTasks.addAll(inventoryDataTaskSplitter.splitInventoryData(each, dataSourceManager, checkpointManagers.get(each)));
         }
+        List<InventoryDataScalingTaskGroup> inventoryDataTaskGroups = new ArrayList<>();
         for (Collection<ScalingTask> each : groupInventoryDataTasks(shardingScalingJob.getSyncConfigurations().get(0).getConcurrency(), allInventoryDataTasks)) {
-            shardingScalingJob.getInventoryDataTasks().add(syncTaskFactory.createInventoryDataSyncTaskGroup(each));
+            inventoryDataTaskGroups.add(syncTaskFactory.createInventoryDataSyncTaskGroup(each, inventoryDataTaskGroups));
         }
+        shardingScalingJob.getInventoryDataTasks().addAll(inventoryDataTaskGroups);
     }
     
     private List<Collection<ScalingTask>> groupInventoryDataTasks(final int taskNumber, final List<ScalingTask> allInventoryDataTasks) {
@@ -94,10 +112,16 @@ public final class ShardingScalingJobPreparer {
         return result;
     }
     
-    private void initIncrementalDataTasks(final String databaseType, final ShardingScalingJob shardingScalingJob, final DataSourceManager dataSourceManager) {
+    private void initIncrementalDataTasks(final String databaseType, final ShardingScalingJob shardingScalingJob, final DataSourceManager dataSourceManager,
+                                          final Map<SyncConfiguration, SyncCheckpointManager> checkpointManagers) {
         for (SyncConfiguration each : shardingScalingJob.getSyncConfigurations()) {
-            LogPositionManager logPositionManager = instanceLogPositionManager(databaseType, dataSourceManager.getDataSource(each.getDumperConfiguration().getDataSourceConfiguration()));
-            shardingScalingJob.getIncrementalDataTasks().add(syncTaskFactory.createIncrementalDataSyncTask(each, logPositionManager.getCurrentPosition()));
+            SyncCheckpointManager checkpointManager = checkpointManagers.get(each);
+            LogPosition<?> position = checkpointManager.getIncrementalPosition().orElse(null);
+            if (null == position) {
+                position = instanceLogPositionManager(databaseType, dataSourceManager.getDataSource(each.getDumperConfiguration().getDataSourceConfiguration())).getCurrentPosition();
+                checkpointManager.saveIncrementalPosition(position);
+            }
+            shardingScalingJob.getIncrementalDataTasks().add(syncTaskFactory.createIncrementalDataSyncTask(each, position));
         }
     }
     
@@ -22,6 +22,7 @@ import org.apache.shardingsphere.scaling.core.config.RdbmsConfiguration;
 import org.apache.shardingsphere.scaling.core.config.SyncConfiguration;
 import org.apache.shardingsphere.scaling.core.datasource.DataSourceManager;
 import org.apache.shardingsphere.scaling.core.exception.PrepareFailedException;
+import org.apache.shardingsphere.scaling.core.job.position.SyncCheckpointManager;
 import org.apache.shardingsphere.scaling.core.job.task.ScalingTask;
 import org.apache.shardingsphere.scaling.core.metadata.MetaDataManager;
 import org.apache.shardingsphere.scaling.core.job.task.inventory.InventoryDataScalingTask;
@@ -32,40 +33,60 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Types;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Optional;
 
 import javax.sql.DataSource;
 
 /**
  * Inventory data task splitter.
+ *
+ * <p>
+ * Tables with single integer primary key are split into chunks of about the same estimated row count.
+ * Row counts are estimated by sampling keys of equal width segments of the primary key range through index, so preparing never scans whole table.
+ * Chunk bounds are saved to checkpoint, a restarted job reuses them to match finished chunks.
+ * </p>
  */
 @Slf4j
 public final class InventoryDataTaskSplitter {
     
+    private static final int CHUNKS_PER_CONCURRENCY = 16;
+    
+    private static final long MIN_CHUNK_ROWS = 10000L;
+    
+    private static final long MAX_CHUNK_ROWS = 1000000L;
+    
+    private static final int SAMPLE_SEGMENTS = 64;
+    
+    private static final int SAMPLE_ROWS = 100;
+    
     /**
      * Split inventory data to multi-tasks.
      *
      * @param syncConfiguration synchronize configuration
      * @param dataSourceManager data source manager
+     * @param checkpointManager sync checkpoint manager
      * @return split inventory data task
      */
-    public Collection<ScalingTask> splitInventoryData(final SyncConfiguration syncConfiguration, final DataSourceManager dataSourceManager) {
+    public Collection<ScalingTask> splitInventoryData(final SyncConfiguration syncConfiguration, final DataSourceManager dataSourceManager, final SyncCheckpointManager checkpointManager) {
         Collection<ScalingTask> result = new LinkedList<>();
-        for (SyncConfiguration each : splitConfiguration(syncConfiguration, dataSourceManager)) {
-            result.add(new InventoryDataScalingTask(each));
+        for (SyncConfiguration each : splitConfiguration(syncConfiguration, dataSourceManager, checkpointManager)) {
+            result.add(new InventoryDataScalingTask(each, checkpointManager));
         }
         return result;
     }
     
-    private Collection<SyncConfiguration> splitConfiguration(final SyncConfiguration syncConfiguration, final DataSourceManager dataSourceManager) {
+    private Collection<SyncConfiguration> splitConfiguration(final SyncConfiguration syncConfiguration, final DataSourceManager dataSourceManager, final SyncCheckpointManager checkpointManager) {
         Collection<SyncConfiguration> result = new LinkedList<>();
         DataSource dataSource = dataSourceManager.getDataSource(syncConfiguration.getDumperConfiguration().getDataSourceConfiguration());
         MetaDataManager metaDataManager = new MetaDataManager(dataSource);
         for (SyncConfiguration each : splitByTable(syncConfiguration)) {
             if (isSpiltByPrimaryKeyRange(each.getDumperConfiguration(), metaDataManager)) {
-                result.addAll(splitByPrimaryKeyRange(each, metaDataManager, dataSource));
+                result.addAll(splitByPrimaryKeyRange(each, metaDataManager, dataSource, checkpointManager));
             } else {
                 result.add(each);
             }
@@ -111,33 +132,133 @@ public final class InventoryDataTaskSplitter {
         return Types.INTEGER != columnType && Types.BIGINT != columnType && Types.SMALLINT != columnType && Types.TINYINT != columnType;
     }
     
-    private Collection<SyncConfiguration> splitByPrimaryKeyRange(final SyncConfiguration syncConfiguration, final MetaDataManager metaDataManager, final DataSource dataSource) {
-        int concurrency = syncConfiguration.getConcurrency();
+    private Collection<SyncConfiguration> splitByPrimaryKeyRange(final SyncConfiguration syncConfiguration, final MetaDataManager metaDataManager,
+                                                                 final DataSource dataSource, final SyncCheckpointManager checkpointManager) {
         Collection<SyncConfiguration> result = new LinkedList<>();
         RdbmsConfiguration dumperConfiguration = syncConfiguration.getDumperConfiguration();
-        String primaryKey = metaDataManager.getTableMetaData(dumperConfiguration.getTableName()).getPrimaryKeyColumns().get(0);
+        String tableName = dumperConfiguration.getTableName();
+        String primaryKey = metaDataManager.getTableMetaData(tableName).getPrimaryKeyColumns().get(0);
+        Optional<List<Long>> savedUpperBounds = checkpointManager.getChunkUpperBounds(tableName);
+        List<Long> upperBounds;
+        if (savedUpperBounds.isPresent()) {
+            upperBounds = savedUpperBounds.get();
+        } else {
+            upperBounds = calculateChunkUpperBounds(dataSource, tableName, primaryKey, syncConfiguration.getConcurrency());
+            checkpointManager.saveChunkUpperBounds(tableName, upperBounds);
+        }
+        if (upperBounds.isEmpty()) {
+            result.add(syncConfiguration);
+            return result;
+        }
+        for (int i = 0; i <= upperBounds.size(); i++) {
+            RdbmsConfiguration splitDumperConfig = RdbmsConfiguration.clone(dumperConfiguration);
+            splitDumperConfig.setWhereCondition(buildChunkWhereCondition(primaryKey, 0 == i ? null : upperBounds.get(i - 1), i == upperBounds.size() ? null : upperBounds.get(i)));
+            splitDumperConfig.setSpiltNum(i);
+            result.add(new SyncConfiguration(syncConfiguration.getConcurrency(), syncConfiguration.getTableNameMap(),
+                splitDumperConfig, RdbmsConfiguration.clone(syncConfiguration.getImporterConfiguration())));
+        }
+        return result;
+    }
+    
+    private List<Long> calculateChunkUpperBounds(final DataSource dataSource, final String tableName, final String primaryKey, final int concurrency) {
         try (Connection connection = dataSource.getConnection()) {
-            PreparedStatement ps = connection.prepareStatement(String.format("SELECT MIN(%s),MAX(%s) FROM %s LIMIT 1", primaryKey, primaryKey, dumperConfiguration.getTableName()));
-            ResultSet rs = ps.executeQuery();
-            rs.next();
-            long min = rs.getLong(1);
-            long max = rs.getLong(2);
-            long step = (max - min) / concurrency;
-            for (int i = 0; i < concurrency; i++) {
-                RdbmsConfiguration splitDumperConfig = RdbmsConfiguration.clone(dumperConfiguration);
-                if (i < concurrency - 1) {
-                    splitDumperConfig.setWhereCondition(String.format("WHERE %s BETWEEN %d AND %d", primaryKey, min, min + step));
-                    min = min + step + 1;
-                } else {
-                    splitDumperConfig.setWhereCondition(String.format("WHERE %s BETWEEN %d AND %d", primaryKey, min, max));
+            long minimum;
+            long maximum;
+            try (PreparedStatement ps = connection.prepareStatement(String.format("SELECT MIN(%s),MAX(%s) FROM %s", primaryKey, primaryKey, tableName));
+                 ResultSet rs = ps.executeQuery()) {
+                rs.next();
+                minimum = rs.getLong(1);
+                if (rs.wasNull()) {
+                    return Collections.emptyList();
+                }
+                maximum = rs.getLong(2);
+            }
+            long[] segmentLowerBounds = getSegmentLowerBounds(minimum, maximum);
+            double[] segmentRows = sampleSegmentRows(connection, tableName, primaryKey, segmentLowerBounds, maximum);
+            double totalRows = 0;
+            for (double each : segmentRows) {
+                totalRows += each;
+            }
+            long chunkRows = Math.min(Math.max((long) totalRows / ((long) concurrency * CHUNKS_PER_CONCURRENCY), MIN_CHUNK_ROWS), MAX_CHUNK_ROWS);
+            int chunkCount = (int) Math.ceil(totalRows / chunkRows);
+            return chunkCount <= 1 ? Collections.emptyList() : locateChunkUpperBounds(segmentLowerBounds, maximum, segmentRows, totalRows / chunkCount);
+        } catch (final SQLException ex) {
+            throw new PrepareFailedException(String.format("Split task for table %s by primary key %s error", tableName, primaryKey), ex);
+        }
+    }
+    
+    private long[] getSegmentLowerBounds(final long minimum, final long maximum) {
+        double range = (double) maximum - minimum + 1;
+        int segmentCount = (int) Math.min(SAMPLE_SEGMENTS, range);
+        double segmentWidth = range / segmentCount;
+        long[] result = new long[segmentCount];
+        result[0] = minimum;
+        for (int i = 1; i < segmentCount; i++) {
+            result[i] = Math.max(result[i - 1] + 1, (long) (minimum + i * segmentWidth));
+        }
+        return result;
+    }
+    
+    private double[] sampleSegmentRows(final Connection connection, final String tableName, final String primaryKey, final long[] segmentLowerBounds, final long maximum) throws SQLException {
+        double[] result = new double[segmentLowerBounds.length];
+        String sql = String.format("SELECT %s FROM %s WHERE %s >= ? AND %s <= ? ORDER BY %s LIMIT ?", primaryKey, tableName, primaryKey, primaryKey, primaryKey);
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            for (int i = 0; i < segmentLowerBounds.length; i++) {
+                long segmentUpperBound = i == segmentLowerBounds.length - 1 ? maximum : segmentLowerBounds[i + 1] - 1;
+                ps.setLong(1, segmentLowerBounds[i]);
+                ps.setLong(2, segmentUpperBound);
+                ps.setInt(3, SAMPLE_ROWS);
+                result[i] = estimateSegmentRows(ps, segmentUpperBound);
+            }
+        }
+        return result;
+    }
+    
+    private double estimateSegmentRows(final PreparedStatement ps, final long segmentUpperBound) throws SQLException {
+        int sampledRows = 0;
+        long firstKey = 0;
+        long lastKey = 0;
+        try (ResultSet rs = ps.executeQuery()) {
+            while (rs.next()) {
+                lastKey = rs.getLong(1);
+                if (0 == sampledRows) {
+                    firstKey = lastKey;
                 }
-                splitDumperConfig.setSpiltNum(i);
-                result.add(new SyncConfiguration(concurrency, syncConfiguration.getTableNameMap(),
-                    splitDumperConfig, RdbmsConfiguration.clone(syncConfiguration.getImporterConfiguration())));
+                sampledRows++;
             }
-        } catch (SQLException e) {
-            throw new PrepareFailedException(String.format("Split task for table %s by primary key %s error", dumperConfiguration.getTableName(), primaryKey), e);
+        }
+        if (sampledRows < SAMPLE_ROWS) {
+            return sampledRows;
+        }
+        return (sampledRows - 1) * ((double) segmentUpperBound - firstKey + 1) / ((double) lastKey - firstKey);
+    }
+    
+    private List<Long> locateChunkUpperBounds(final long[] segmentLowerBounds, final long maximum, final double[] segmentRows, final double chunkRows) {
+        List<Long> result = new ArrayList<>();
+        double rowsBeforeSegment = 0;
+        double nextChunkRows = chunkRows;
+        for (int i = 0; i < segmentLowerBounds.length; i++) {
+            long segmentUpperBound = i == segmentLowerBounds.length - 1 ? maximum : segmentLowerBounds[i + 1] - 1;
+            while (segmentRows[i] > 0 && rowsBeforeSegment + segmentRows[i] >= nextChunkRows) {
+                double ratio = (nextChunkRows - rowsBeforeSegment) / segmentRows[i];
+                long upperBound = Math.min(segmentUpperBound, segmentLowerBounds[i] + (long) (ratio * ((double) segmentUpperBound - segmentLowerBounds[i] + 1)));
+                if (upperBound < maximum && (result.isEmpty() || upperBound > result.get(result.size() - 1))) {
+                    result.add(upperBound);
+                }
+                nextChunkRows += chunkRows;
+            }
+            rowsBeforeSegment += segmentRows[i];
         }
         return result;
     }
+    
+    private String buildChunkWhereCondition(final String primaryKey, final Long lowerBound, final Long upperBound) {
+        if (null == lowerBound) {
+            return String.format("WHERE %s <= %d", primaryKey, upperBound);
+        }
+        if (null == upperBound) {
+            return String.format("WHERE %s > %d", primaryKey, lowerBound);
+        }
+        return String.format("WHERE %s > %d AND %s <= %d", primaryKey, lowerBound, primaryKey, upperBound);
+    }
 }
@@ -35,6 +35,11 @@ public final class DefaultSyncTaskFactory implements SyncTaskFactory {
         return new InventoryDataScalingTaskGroup(inventoryDataScalingTasks);
     }
     
+    @Override
+    public InventoryDataScalingTaskGroup createInventoryDataSyncTaskGroup(final Collection<ScalingTask> inventoryDataScalingTasks, final Collection<InventoryDataScalingTaskGroup> stealableGroups) {
+        return new InventoryDataScalingTaskGroup(inventoryDataScalingTasks, stealableGroups);
+    }
+    
     @Override
     public InventoryDataScalingTask createInventoryDataSyncTask(final SyncConfiguration syncConfiguration) {
         return new InventoryDataScalingTask(syncConfiguration);
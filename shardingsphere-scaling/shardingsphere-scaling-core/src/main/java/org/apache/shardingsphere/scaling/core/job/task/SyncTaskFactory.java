@@ -38,6 +38,15 @@ public interface SyncTaskFactory {
      */
     InventoryDataScalingTaskGroup createInventoryDataSyncTaskGroup(Collection<ScalingTask> inventoryDataScalingTasks);
     
+    /**
+     * Create inventory data sync task group which can steal pending tasks from other groups.
+     *
+     * @param inventoryDataScalingTasks inventory data sync tasks
+     * @param stealableGroups groups to steal pending tasks from
+     * @return inventory data sync task group
+     */
+    InventoryDataScalingTaskGroup createInventoryDataSyncTaskGroup(Collection<ScalingTask> inventoryDataScalingTasks, Collection<InventoryDataScalingTaskGroup> stealableGroups);
+    
     /**
      * Create inventory data sync task.
      *
@@ -25,13 +25,15 @@ import org.apache.shardingsphere.scaling.core.job.SyncProgress;
 import org.apache.shardingsphere.scaling.core.datasource.DataSourceManager;
 import org.apache.shardingsphere.scaling.core.exception.SyncTaskExecuteException;
 import org.apache.shardingsphere.scaling.core.execute.engine.ExecuteCallback;
-import org.apache.shardingsphere.scaling.core.execute.executor.channel.MemoryChannel;
+import org.apache.shardingsphere.scaling.core.execute.executor.channel.RingBufferChannel;
 import org.apache.shardingsphere.scaling.core.execute.executor.dumper.Dumper;
 import org.apache.shardingsphere.scaling.core.execute.executor.dumper.DumperFactory;
 import org.apache.shardingsphere.scaling.core.execute.executor.record.DataRecord;
+import org.apache.shardingsphere.scaling.core.execute.executor.record.FinishedRecord;
 import org.apache.shardingsphere.scaling.core.execute.executor.record.Record;
 import org.apache.shardingsphere.scaling.core.execute.executor.importer.Importer;
 import org.apache.shardingsphere.scaling.core.execute.executor.importer.ImporterFactory;
+import org.apache.shardingsphere.scaling.core.job.position.SyncCheckpointManager;
 import org.apache.shardingsphere.scaling.core.job.task.ScalingTask;
 import org.apache.shardingsphere.infra.database.metadata.DataSourceMetaData;
 
@@ -54,21 +56,34 @@ public final class InventoryDataScalingTask implements ScalingTask {
     
     private final DataSourceManager dataSourceManager;
     
+    private final SyncCheckpointManager checkpointManager;
+    
     private final String syncTaskId;
     
     private long estimatedRows;
     
     private final AtomicLong syncedRows = new AtomicLong();
     
-    private Dumper dumper;
+    private volatile Dumper dumper;
+    
+    private volatile boolean stopped;
+    
+    private volatile boolean finishedRecordImported;
+    
+    private volatile boolean finished;
     
     public InventoryDataScalingTask(final SyncConfiguration syncConfiguration) {
-        this(syncConfiguration, new DataSourceManager());
+        this(syncConfiguration, new SyncCheckpointManager(syncConfiguration));
     }
     
-    public InventoryDataScalingTask(final SyncConfiguration syncConfiguration, final DataSourceManager dataSourceManager) {
+    public InventoryDataScalingTask(final SyncConfiguration syncConfiguration, final SyncCheckpointManager checkpointManager) {
+        this(syncConfiguration, new DataSourceManager(), checkpointManager);
+    }
+    
+    public InventoryDataScalingTask(final SyncConfiguration syncConfiguration, final DataSourceManager dataSourceManager, final SyncCheckpointManager checkpointManager) {
         this.syncConfiguration = syncConfiguration;
         this.dataSourceManager = dataSourceManager;
+        this.checkpointManager = checkpointManager;
         syncTaskId = generateSyncTaskId(syncConfiguration.getDumperConfiguration());
     }
     
@@ -80,6 +95,13 @@ public final class InventoryDataScalingTask implements ScalingTask {
     
     @Override
     public void start() {
+        if (finished || checkpointManager.isFinished(syncTaskId)) {
+            finished = true;
+            return;
+        }
+        if (stopped) {
+            return;
+        }
         getEstimatedRows();
         instanceDumper();
         Importer importer = ImporterFactory.newInstance(syncConfiguration.getImporterConfiguration(), dataSourceManager);
@@ -98,6 +120,10 @@ public final class InventoryDataScalingTask implements ScalingTask {
         dumper.start();
         waitForResult(future);
         dataSourceManager.close();
+        finished = !stopped && finishedRecordImported;
+        if (finished) {
+            checkpointManager.finish(syncTaskId);
+        }
     }
     
     private void getEstimatedRows() {
@@ -120,11 +146,13 @@ public final class InventoryDataScalingTask implements ScalingTask {
     }
     
     private void instanceChannel(final Importer importer) {
-        MemoryChannel channel = new MemoryChannel(records -> {
+        RingBufferChannel channel = new RingBufferChannel(records -> {
             int count = 0;
             for (Record record : records) {
                 if (DataRecord.class.equals(record.getClass())) {
                     count++;
+                } else if (FinishedRecord.class.equals(record.getClass())) {
+                    finishedRecordImported = true;
                 }
             }
             syncedRows.addAndGet(count);
@@ -136,7 +164,8 @@ public final class InventoryDataScalingTask implements ScalingTask {
     private void waitForResult(final Future future) {
         try {
             future.get();
-        } catch (InterruptedException ignored) {
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
         } catch (ExecutionException e) {
             throw new SyncTaskExecuteException(String.format("Task %s execute failed ", syncTaskId), e.getCause());
         }
@@ -144,15 +173,16 @@ public final class InventoryDataScalingTask implements ScalingTask {
     
     @Override
     public void stop() {
-        if (null != dumper) {
-            dumper.stop();
-            dumper = null;
+        stopped = true;
+        Dumper currentDumper = dumper;
+        if (null != currentDumper) {
+            currentDumper.stop();
         }
     }
     
     @Override
     public SyncProgress getProgress() {
-        return new InventoryDataSyncTaskProgress(syncTaskId, estimatedRows, syncedRows.get());
+        return new InventoryDataSyncTaskProgress(syncTaskId, estimatedRows, syncedRows.get(), finished);
     }
     
     @Override
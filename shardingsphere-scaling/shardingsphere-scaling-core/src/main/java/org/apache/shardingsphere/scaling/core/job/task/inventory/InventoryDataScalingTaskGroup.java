@@ -24,29 +24,67 @@ import org.apache.shardingsphere.scaling.core.job.task.ScalingTask;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
 
 /**
  * Inventory data sync task group.
+ *
+ * <p>
+ * Tasks are taken from the head of the group's own pending queue, once it is drained tasks are stolen from the tail of other groups.
+ * </p>
  */
 @Slf4j
 public final class InventoryDataScalingTaskGroup extends AbstractShardingScalingExecutor implements ScalingTask {
     
     private final Collection<ScalingTask> scalingTasks;
     
+    private final Deque<ScalingTask> pendingTasks;
+    
+    private final Collection<InventoryDataScalingTaskGroup> stealableGroups;
+    
     public InventoryDataScalingTaskGroup(final Collection<ScalingTask> inventoryDataScalingTasks) {
+        this(inventoryDataScalingTasks, Collections.emptyList());
+    }
+    
+    public InventoryDataScalingTaskGroup(final Collection<ScalingTask> inventoryDataScalingTasks, final Collection<InventoryDataScalingTaskGroup> stealableGroups) {
         scalingTasks = inventoryDataScalingTasks;
+        pendingTasks = new ConcurrentLinkedDeque<>(inventoryDataScalingTasks);
+        this.stealableGroups = stealableGroups;
     }
     
     @Override
     public void start() {
         super.start();
-        for (ScalingTask each : scalingTasks) {
-            each.start();
+        ScalingTask task = nextTask();
+        while (isRunning() && null != task) {
+            task.start();
+            task = nextTask();
+        }
+    }
+    
+    private ScalingTask nextTask() {
+        ScalingTask result = pendingTasks.pollFirst();
+        if (null != result) {
+            return result;
+        }
+        for (InventoryDataScalingTaskGroup each : stealableGroups) {
+            if (this == each) {
+                continue;
+            }
+            result = each.pendingTasks.pollLast();
+            if (null != result) {
+                log.debug("Steal inventory data task from other group, remaining {}", each.pendingTasks.size());
+                return result;
+            }
         }
+        return null;
     }
     
     @Override
     public void stop() {
+        super.stop();
         for (ScalingTask each : scalingTasks) {
             each.stop();
         }
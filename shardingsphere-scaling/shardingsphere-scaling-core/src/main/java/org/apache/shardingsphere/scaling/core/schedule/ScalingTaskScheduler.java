@@ -22,6 +22,7 @@ import org.apache.shardingsphere.scaling.core.config.ScalingContext;
 import org.apache.shardingsphere.scaling.core.execute.engine.ExecuteCallback;
 import org.apache.shardingsphere.scaling.core.job.ShardingScalingJob;
 import org.apache.shardingsphere.scaling.core.job.SyncProgress;
+import org.apache.shardingsphere.scaling.core.job.position.SyncCheckpointManager;
 import org.apache.shardingsphere.scaling.core.job.task.ScalingTask;
 
 import java.util.Collection;
@@ -102,8 +103,14 @@ public final class ScalingTaskScheduler implements Runnable {
     private ExecuteCallback createIncrementalDataTaskCallback() {
         return new ExecuteCallback() {
             
+            private final AtomicInteger finishedTaskNumber = new AtomicInteger(0);
+            
             @Override
             public void onSuccess() {
+                if (shardingScalingJob.getIncrementalDataTasks().size() == finishedTaskNumber.incrementAndGet()
+                        && !SyncTaskControlStatus.SYNCHRONIZE_INCREMENTAL_DATA_FAILURE.name().equals(shardingScalingJob.getStatus())) {
+                    deleteCheckpoints();
+                }
                 shardingScalingJob.setStatus(SyncTaskControlStatus.STOPPED.name());
             }
     
@@ -115,6 +122,12 @@ public final class ScalingTaskScheduler implements Runnable {
         };
     }
     
+    private void deleteCheckpoints() {
+        for (SyncCheckpointManager each : shardingScalingJob.getCheckpointManagers()) {
+            each.delete();
+        }
+    }
+    
     /**
      * Get inventory data task progress.
      *
@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.scaling.core.execute.executor.channel;
+
+import org.apache.shardingsphere.scaling.core.exception.SyncTaskExecuteException;
+import org.apache.shardingsphere.scaling.core.execute.executor.record.PlaceholderRecord;
+import org.apache.shardingsphere.scaling.core.execute.executor.record.Record;
+import org.apache.shardingsphere.scaling.core.job.position.NopLogPosition;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class RingBufferChannelTest {
+    
+    @Test
+    public void assertFetchFullBatch() throws InterruptedException {
+        RingBufferChannel channel = new RingBufferChannel(16, 1000, 10000, records -> { });
+        List<Record> expected = pushRecords(channel, 5);
+        long start = System.currentTimeMillis();
+        List<Record> actual = channel.fetchRecords(3, 10);
+        assertTrue(System.currentTimeMillis() - start < 1000);
+        assertRecords(actual, expected.subList(0, 3));
+        assertRecords(channel.fetchRecords(3, 0), expected.subList(3, 5));
+    }
+    
+    @Test
+    public void assertFetchPartialBatchAfterLinger() throws InterruptedException {
+        RingBufferChannel channel = new RingBufferChannel(16, 1000, 10, records -> { });
+        List<Record> expected = pushRecords(channel, 2);
+        long start = System.currentTimeMillis();
+        List<Record> actual = channel.fetchRecords(100, 10);
+        assertTrue(System.currentTimeMillis() - start < 1000);
+        assertRecords(actual, expected);
+    }
+    
+    @Test
+    public void assertFetchWakeUpByPush() throws InterruptedException {
+        RingBufferChannel channel = new RingBufferChannel(16, 1000, 10, records -> { });
+        Record expected = new PlaceholderRecord(new NopLogPosition());
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+        try {
+            executor.schedule(() -> {
+                channel.pushRecord(expected);
+                return null;
+            }, 100, TimeUnit.MILLISECONDS);
+            long start = System.currentTimeMillis();
+            List<Record> actual = channel.fetchRecords(100, 10);
+            assertTrue(System.currentTimeMillis() - start < 1000);
+            assertThat(actual.size(), is(1));
+            assertThat(actual.get(0), sameInstance(expected));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+    
+    @Test
+    public void assertFetchEmptyAfterTimeout() {
+        RingBufferChannel channel = new RingBufferChannel(16, 1000, 10, records -> { });
+        assertTrue(channel.fetchRecords(100, 0).isEmpty());
+    }
+    
+    @Test(expected = SyncTaskExecuteException.class)
+    public void assertPushTimeout() throws InterruptedException {
+        RingBufferChannel channel = new RingBufferChannel(2, 10, 10, records -> { });
+        pushRecords(channel, 3);
+    }
+    
+    @Test
+    public void assertPushAndFetchAcrossBufferBoundary() throws InterruptedException {
+        RingBufferChannel channel = new RingBufferChannel(4, 1000, 10, records -> { });
+        for (int i = 0; i < 10; i++) {
+            List<Record> expected = pushRecords(channel, 3);
+            assertRecords(channel.fetchRecords(3, 0), expected);
+        }
+    }
+    
+    @Test
+    public void assertAck() throws InterruptedException {
+        List<Record> acknowledged = new ArrayList<>();
+        RingBufferChannel channel = new RingBufferChannel(16, 1000, 10, acknowledged::addAll);
+        List<Record> expected = pushRecords(channel, 2);
+        channel.fetchRecords(2, 0);
+        channel.ack();
+        assertRecords(acknowledged, expected);
+    }
+    
+    @Test
+    public void assertClose() throws InterruptedException {
+        RingBufferChannel channel = new RingBufferChannel(16, 1000, 10, records -> { });
+        pushRecords(channel, 2);
+        channel.close();
+        assertTrue(channel.fetchRecords(100, 0).isEmpty());
+    }
+    
+    @Test
+    public void assertFetchKeepsInterruptStatus() {
+        RingBufferChannel channel = new RingBufferChannel(16, 1000, 10, records -> { });
+        Thread.currentThread().interrupt();
+        try {
+            assertTrue(channel.fetchRecords(100, 10).isEmpty());
+            assertTrue(Thread.currentThread().isInterrupted());
+        } finally {
+            Thread.interrupted();
+        }
+    }
+    
+    @Test
+    public void assertPushAfterCloseWhenFull() throws InterruptedException {
+        RingBufferChannel channel = new RingBufferChannel(2, 10000, 10, records -> { });
+        pushRecords(channel, 2);
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+        try {
+            executor.schedule(channel::close, 100, TimeUnit.MILLISECONDS);
+            long start = System.currentTimeMillis();
+            pushRecords(channel, 1);
+            assertTrue(System.currentTimeMillis() - start < 5000);
+            assertTrue(channel.fetchRecords(100, 0).isEmpty());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+    
+    private List<Record> pushRecords(final RingBufferChannel channel, final int count) throws InterruptedException {
+        List<Record> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Record record = new PlaceholderRecord(new NopLogPosition());
+            channel.pushRecord(record);
+            result.add(record);
+        }
+        return result;
+    }
+    
+    private void assertRecords(final List<Record> actual, final List<Record> expected) {
+        assertThat(actual.size(), is(expected.size()));
+        for (int i = 0; i < expected.size(); i++) {
+            assertThat(actual.get(i), sameInstance(expected.get(i)));
+        }
+    }
+}
@@ -20,6 +20,8 @@ package org.apache.shardingsphere.scaling.core.execute.executor.importer;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.scaling.core.config.DataSourceConfiguration;
 import org.apache.shardingsphere.scaling.core.config.RdbmsConfiguration;
+import org.apache.shardingsphere.scaling.core.config.ScalingContext;
+import org.apache.shardingsphere.scaling.core.config.ServerConfiguration;
 import org.apache.shardingsphere.scaling.core.datasource.DataSourceManager;
 import org.apache.shardingsphere.scaling.core.execute.executor.channel.Channel;
 import org.apache.shardingsphere.scaling.core.job.position.NopLogPosition;
@@ -32,13 +34,18 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
+
+import java.lang.reflect.Field;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
 import javax.sql.DataSource;
 
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -49,6 +56,8 @@ public final class AbstractJDBCImporterTest {
     
     private static final String INSERT_SQL = "INSERT INTO test_table (id,user,status) VALUES(?,?,?)";
     
+    private static final String UPSERT_SQL = "INSERT INTO test_table (id,user,status) VALUES(?,?,?) ON DUPLICATE KEY UPDATE user = VALUES(user),status = VALUES(status)";
+    
     private static final String DELETE_SQL = "DELETE FROM test_table WHERE id = ?";
     
     private static final String UPDATE_SQL = "UPDATE test_table SET user = ?,status = ? WHERE id = ?";
@@ -74,20 +83,28 @@ public final class AbstractJDBCImporterTest {
     @Mock
     private PreparedStatement preparedStatement;
     
+    @Mock
+    private PreparedStatement deleteStatement;
+    
     private AbstractJDBCImporter jdbcImporter;
     
     @Before
     public void setUp() throws Exception {
-        jdbcImporter = new AbstractJDBCImporter(getRdbmsConfiguration(), dataSourceManager) {
+        jdbcImporter = createJDBCImporter();
+        when(dataSourceManager.getDataSource(dataSourceConfiguration)).thenReturn(dataSource);
+        when(dataSource.getConnection()).thenReturn(connection);
+    }
+    
+    private AbstractJDBCImporter createJDBCImporter() {
+        AbstractJDBCImporter result = new AbstractJDBCImporter(getRdbmsConfiguration(), dataSourceManager) {
             
             @Override
             protected AbstractSqlBuilder createSqlBuilder() {
                 return sqlBuilder;
             }
         };
-        jdbcImporter.setChannel(channel);
-        when(dataSourceManager.getDataSource(dataSourceConfiguration)).thenReturn(dataSource);
-        when(dataSource.getConnection()).thenReturn(connection);
+        result.setChannel(channel);
+        return result;
     }
     
     @Test
@@ -128,6 +145,48 @@ public final class AbstractJDBCImporterTest {
         verify(preparedStatement).execute();
     }
     
+    @Test
+    public void assertWriteDataRecordsInBatch() throws SQLException {
+        ServerConfiguration originServerConfiguration = ScalingContext.getInstance().getServerConfiguration();
+        ServerConfiguration serverConfiguration = new ServerConfiguration();
+        serverConfiguration.setImporterMode("BATCH");
+        setServerConfiguration(serverConfiguration);
+        try {
+            jdbcImporter = createJDBCImporter();
+        } finally {
+            setServerConfiguration(originServerConfiguration);
+        }
+        DataRecord insertRecord = getDataRecord("INSERT");
+        DataRecord bootstrapInsertRecord = getDataRecord("BOOTSTRAP-INSERT");
+        DataRecord deleteRecord = getDataRecord("DELETE");
+        when(sqlBuilder.buildUpsertSQL(insertRecord)).thenReturn(UPSERT_SQL);
+        when(sqlBuilder.buildUpsertSQL(bootstrapInsertRecord)).thenReturn(UPSERT_SQL);
+        when(sqlBuilder.buildDeleteSQL(deleteRecord)).thenReturn(DELETE_SQL);
+        when(connection.prepareStatement(UPSERT_SQL)).thenReturn(preparedStatement);
+        when(connection.prepareStatement(DELETE_SQL)).thenReturn(deleteStatement);
+        when(channel.fetchRecords(100, 3)).thenReturn(Arrays.asList(insertRecord, bootstrapInsertRecord, deleteRecord, new FinishedRecord(new NopLogPosition())));
+        jdbcImporter.run();
+        verify(connection, times(1)).prepareStatement(UPSERT_SQL);
+        verify(preparedStatement).setQueryTimeout(30);
+        verify(preparedStatement, times(2)).addBatch();
+        verify(preparedStatement).executeBatch();
+        verify(preparedStatement, never()).execute();
+        verify(deleteStatement).setObject(1, 1);
+        verify(deleteStatement).addBatch();
+        verify(deleteStatement).executeBatch();
+        verify(connection).commit();
+        verify(preparedStatement).close();
+        verify(deleteStatement).close();
+        verify(connection).close();
+    }
+    
+    @SneakyThrows
+    private void setServerConfiguration(final ServerConfiguration serverConfiguration) {
+        Field field = ScalingContext.class.getDeclaredField("serverConfiguration");
+        field.setAccessible(true);
+        field.set(ScalingContext.getInstance(), serverConfiguration);
+    }
+    
     private List<Record> mockRecords(final DataRecord dataRecord) {
         List<Record> result = new LinkedList<>();
         result.add(dataRecord);
@@ -54,6 +54,12 @@ public class AbstractSqlBuilderTest {
         assertThat(actual, is("INSERT INTO `t1`(`id`,`c1`,`c2`,`c3`) VALUES(?,?,?,?)"));
     }
     
+    @Test
+    public void assertBuildUpsertSqlWithoutConflictClause() {
+        String actual = sqlBuilder.buildUpsertSQL(mockDataRecord("t1"));
+        assertThat(actual, is("INSERT INTO `t1`(`id`,`c1`,`c2`,`c3`) VALUES(?,?,?,?)"));
+    }
+    
     @Test
     public void assertBuildUpdateSql() {
         String actual = sqlBuilder.buildUpdateSQL(mockDataRecord("t2"));
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.scaling.core.job.position;
+
+import org.apache.shardingsphere.scaling.core.config.JDBCDataSourceConfiguration;
+import org.apache.shardingsphere.scaling.core.config.RdbmsConfiguration;
+import org.apache.shardingsphere.scaling.core.config.SyncConfiguration;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SyncCheckpointManagerTest {
+    
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+    
+    private SyncConfiguration syncConfiguration;
+    
+    @Before
+    public void setUp() {
+        syncConfiguration = createSyncConfiguration("t_order");
+    }
+    
+    @Test
+    public void assertResumeFromCheckpoint() {
+        String checkpointPath = temporaryFolder.getRoot().getPath();
+        SyncCheckpointManager checkpointManager = new SyncCheckpointManager(checkpointPath, syncConfiguration);
+        checkpointManager.saveChunkUpperBounds("t_order", Arrays.asList(100L, 200L));
+        checkpointManager.finish("inventory-test_db-t_order#0");
+        checkpointManager.saveIncrementalPosition(new NopLogPosition());
+        SyncCheckpointManager actual = new SyncCheckpointManager(checkpointPath, syncConfiguration);
+        assertThat(actual.getChunkUpperBounds("t_order").get(), is(Arrays.asList(100L, 200L)));
+        assertFalse(actual.getChunkUpperBounds("t_order_item").isPresent());
+        assertTrue(actual.isFinished("inventory-test_db-t_order#0"));
+        assertFalse(actual.isFinished("inventory-test_db-t_order#1"));
+        assertThat(actual.getIncrementalPosition().get(), instanceOf(NopLogPosition.class));
+    }
+    
+    @Test
+    public void assertNotResumeFromCheckpointOfOtherTables() {
+        String checkpointPath = temporaryFolder.getRoot().getPath();
+        new SyncCheckpointManager(checkpointPath, syncConfiguration).finish("inventory-test_db-t_order#0");
+        SyncCheckpointManager actual = new SyncCheckpointManager(checkpointPath, createSyncConfiguration("t_order_item"));
+        assertFalse(actual.isFinished("inventory-test_db-t_order#0"));
+    }
+    
+    @Test
+    public void assertNotResumeFromDeletedCheckpoint() {
+        String checkpointPath = temporaryFolder.getRoot().getPath();
+        SyncCheckpointManager checkpointManager = new SyncCheckpointManager(checkpointPath, syncConfiguration);
+        checkpointManager.finish("inventory-test_db-t_order#0");
+        checkpointManager.delete();
+        assertFalse(new SyncCheckpointManager(checkpointPath, syncConfiguration).isFinished("inventory-test_db-t_order#0"));
+        assertThat(temporaryFolder.getRoot().list().length, is(0));
+    }
+    
+    @Test
+    public void assertKeepCheckpointInMemoryWithoutCheckpointPath() {
+        new SyncCheckpointManager(null, syncConfiguration).finish("inventory-test_db-t_order#0");
+        assertFalse(new SyncCheckpointManager(null, syncConfiguration).isFinished("inventory-test_db-t_order#0"));
+        assertThat(temporaryFolder.getRoot().list().length, is(0));
+    }
+    
+    private SyncConfiguration createSyncConfiguration(final String tableName) {
+        RdbmsConfiguration dumperConfig = new RdbmsConfiguration();
+        dumperConfig.setDataSourceConfiguration(new JDBCDataSourceConfiguration("jdbc:mysql://127.0.0.1:3306/test_db", "root", "password"));
+        return new SyncConfiguration(3, Collections.singletonMap(tableName, tableName), dumperConfig, new RdbmsConfiguration());
+    }
+}
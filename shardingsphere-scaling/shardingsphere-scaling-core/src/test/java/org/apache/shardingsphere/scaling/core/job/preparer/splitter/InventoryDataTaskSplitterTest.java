@@ -22,6 +22,7 @@ import org.apache.shardingsphere.scaling.core.config.JDBCDataSourceConfiguration
 import org.apache.shardingsphere.scaling.core.config.RdbmsConfiguration;
 import org.apache.shardingsphere.scaling.core.config.SyncConfiguration;
 import org.apache.shardingsphere.scaling.core.datasource.DataSourceManager;
+import org.apache.shardingsphere.scaling.core.job.position.SyncCheckpointManager;
 import org.apache.shardingsphere.scaling.core.job.task.ScalingTask;
 import org.junit.After;
 import org.junit.Before;
@@ -73,15 +74,29 @@ public class InventoryDataTaskSplitterTest {
     @Test
     public void assertSplitInventoryDataWithIntPrimary() throws SQLException {
         initIntPrimaryEnvironment(syncConfiguration.getDumperConfiguration());
-        Collection<ScalingTask> actual = inventoryDataTaskSplitter.splitInventoryData(syncConfiguration, dataSourceManager);
+        Collection<ScalingTask> actual = inventoryDataTaskSplitter.splitInventoryData(syncConfiguration, dataSourceManager, new SyncCheckpointManager(syncConfiguration));
         assertNotNull(actual);
+        assertThat(actual.size(), is(1));
+    }
+    
+    @Test
+    public void assertSplitInventoryDataWithIntPrimaryIntoChunks() throws SQLException {
+        initIntPrimaryEnvironment(syncConfiguration.getDumperConfiguration(), "SELECT X, 'xxx' FROM SYSTEM_RANGE(1, 25000)");
+        Collection<ScalingTask> actual = inventoryDataTaskSplitter.splitInventoryData(syncConfiguration, dataSourceManager, new SyncCheckpointManager(syncConfiguration));
         assertThat(actual.size(), is(3));
     }
     
+    @Test
+    public void assertSplitInventoryDataWithSkewedIntPrimary() throws SQLException {
+        initIntPrimaryEnvironment(syncConfiguration.getDumperConfiguration(), "SELECT X * X, 'xxx' FROM SYSTEM_RANGE(1, 20001)");
+        Collection<ScalingTask> actual = inventoryDataTaskSplitter.splitInventoryData(syncConfiguration, dataSourceManager, new SyncCheckpointManager(syncConfiguration));
+        assertThat(actual.size(), is(8));
+    }
+    
     @Test
     public void assertSplitInventoryDataWithCharPrimary() throws SQLException {
         initCharPrimaryEnvironment(syncConfiguration.getDumperConfiguration());
-        Collection<ScalingTask> actual = inventoryDataTaskSplitter.splitInventoryData(syncConfiguration, dataSourceManager);
+        Collection<ScalingTask> actual = inventoryDataTaskSplitter.splitInventoryData(syncConfiguration, dataSourceManager, new SyncCheckpointManager(syncConfiguration));
         assertNotNull(actual);
         assertThat(actual.size(), is(1));
     }
@@ -89,7 +104,7 @@ public class InventoryDataTaskSplitterTest {
     @Test
     public void assertSplitInventoryDataWithUnionPrimary() throws SQLException {
         initUnionPrimaryEnvironment(syncConfiguration.getDumperConfiguration());
-        Collection<ScalingTask> actual = inventoryDataTaskSplitter.splitInventoryData(syncConfiguration, dataSourceManager);
+        Collection<ScalingTask> actual = inventoryDataTaskSplitter.splitInventoryData(syncConfiguration, dataSourceManager, new SyncCheckpointManager(syncConfiguration));
         assertNotNull(actual);
         assertThat(actual.size(), is(1));
     }
@@ -97,7 +112,7 @@ public class InventoryDataTaskSplitterTest {
     @Test
     public void assertSplitInventoryDataWithoutPrimary() throws SQLException {
         initNoPrimaryEnvironment(syncConfiguration.getDumperConfiguration());
-        Collection<ScalingTask> actual = inventoryDataTaskSplitter.splitInventoryData(syncConfiguration, dataSourceManager);
+        Collection<ScalingTask> actual = inventoryDataTaskSplitter.splitInventoryData(syncConfiguration, dataSourceManager, new SyncCheckpointManager(syncConfiguration));
         assertNotNull(actual);
         assertThat(actual.size(), is(1));
     }
@@ -112,6 +127,16 @@ public class InventoryDataTaskSplitterTest {
         }
     }
     
+    private void initIntPrimaryEnvironment(final RdbmsConfiguration dumperConfig, final String rowsSelectSQL) throws SQLException {
+        DataSource dataSource = dataSourceManager.getDataSource(dumperConfig.getDataSourceConfiguration());
+        try (Connection connection = dataSource.getConnection();
+            Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS t_order");
+            statement.execute("CREATE TABLE t_order (id BIGINT PRIMARY KEY, user_id VARCHAR(12))");
+            statement.execute("INSERT INTO t_order (id, user_id) " + rowsSelectSQL);
+        }
+    }
+    
     private void initCharPrimaryEnvironment(final RdbmsConfiguration dumperConfig) throws SQLException {
         DataSource dataSource = dataSourceManager.getDataSource(dumperConfig.getDataSourceConfiguration());
         try (Connection connection = dataSource.getConnection();
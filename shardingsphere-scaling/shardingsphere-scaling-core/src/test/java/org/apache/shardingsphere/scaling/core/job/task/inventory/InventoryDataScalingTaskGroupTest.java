@@ -24,7 +24,10 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.junit.Assert.assertThat;
@@ -53,6 +56,23 @@ public final class InventoryDataScalingTaskGroupTest {
         verify(scalingTask).start();
     }
     
+    @Test
+    public void assertStartWithStealingTasks() {
+        ScalingTask firstTask = mock(ScalingTask.class);
+        ScalingTask secondTask = mock(ScalingTask.class);
+        List<InventoryDataScalingTaskGroup> groups = new ArrayList<>();
+        InventoryDataScalingTaskGroup busyGroup = new InventoryDataScalingTaskGroup(Arrays.asList(firstTask, secondTask), groups);
+        InventoryDataScalingTaskGroup idleGroup = new InventoryDataScalingTaskGroup(Collections.emptyList(), groups);
+        groups.add(busyGroup);
+        groups.add(idleGroup);
+        idleGroup.start();
+        verify(firstTask).start();
+        verify(secondTask).start();
+        busyGroup.start();
+        verify(firstTask).start();
+        verify(secondTask).start();
+    }
+    
     @Test
     public void assertStop() {
         ScalingTask scalingTask = mock(ScalingTask.class);
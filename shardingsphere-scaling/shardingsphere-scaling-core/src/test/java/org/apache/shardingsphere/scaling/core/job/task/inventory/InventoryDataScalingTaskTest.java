@@ -25,9 +25,12 @@ import org.apache.shardingsphere.scaling.core.config.ServerConfiguration;
 import org.apache.shardingsphere.scaling.core.config.SyncConfiguration;
 import org.apache.shardingsphere.scaling.core.datasource.DataSourceManager;
 import org.apache.shardingsphere.scaling.core.exception.SyncTaskExecuteException;
+import org.apache.shardingsphere.scaling.core.job.position.SyncCheckpointManager;
 import org.junit.After;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
@@ -36,7 +39,9 @@ import java.sql.Statement;
 import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 public final class InventoryDataScalingTaskTest {
     
@@ -46,6 +51,9 @@ public final class InventoryDataScalingTaskTest {
     
     private static final String PASSWORD = "password";
     
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+    
     private SyncConfiguration syncConfiguration;
     
     private DataSourceManager dataSourceManager;
@@ -67,18 +75,54 @@ public final class InventoryDataScalingTaskTest {
     @Test(expected = SyncTaskExecuteException.class)
     public void assertStartWithGetEstimatedRowsFailure() {
         syncConfiguration.getDumperConfiguration().setTableName("t_non_exist");
-        InventoryDataScalingTask inventoryDataSyncTask = new InventoryDataScalingTask(syncConfiguration, dataSourceManager);
+        InventoryDataScalingTask inventoryDataSyncTask = new InventoryDataScalingTask(syncConfiguration, dataSourceManager, new SyncCheckpointManager(syncConfiguration));
         inventoryDataSyncTask.start();
     }
     
     @Test
     public void assertGetProgress() throws SQLException {
         initTableData(syncConfiguration.getDumperConfiguration());
-        InventoryDataScalingTask inventoryDataSyncTask = new InventoryDataScalingTask(syncConfiguration, dataSourceManager);
+        InventoryDataScalingTask inventoryDataSyncTask = new InventoryDataScalingTask(syncConfiguration, dataSourceManager, new SyncCheckpointManager(syncConfiguration));
+        inventoryDataSyncTask.start();
+        assertThat(((InventoryDataSyncTaskProgress) inventoryDataSyncTask.getProgress()).getEstimatedRows(), is(2L));
+        assertTrue(((InventoryDataSyncTaskProgress) inventoryDataSyncTask.getProgress()).isFinished());
+    }
+    
+    @Test
+    public void assertStartFinishedTaskAgain() throws SQLException {
+        initTableData(syncConfiguration.getDumperConfiguration());
+        InventoryDataScalingTask inventoryDataSyncTask = new InventoryDataScalingTask(syncConfiguration, dataSourceManager, new SyncCheckpointManager(syncConfiguration));
+        inventoryDataSyncTask.start();
+        try (Connection connection = dataSourceManager.getDataSource(syncConfiguration.getDumperConfiguration().getDataSourceConfiguration()).getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("INSERT INTO t_order (id, user_id) VALUES (1000, 'zzz')");
+        }
         inventoryDataSyncTask.start();
         assertThat(((InventoryDataSyncTaskProgress) inventoryDataSyncTask.getProgress()).getEstimatedRows(), is(2L));
     }
     
+    @Test
+    public void assertStartTaskFinishedInCheckpoint() throws SQLException {
+        initTableData(syncConfiguration.getDumperConfiguration());
+        String checkpointPath = temporaryFolder.getRoot().getPath();
+        new InventoryDataScalingTask(syncConfiguration, dataSourceManager, new SyncCheckpointManager(checkpointPath, syncConfiguration)).start();
+        InventoryDataScalingTask restartedTask = new InventoryDataScalingTask(syncConfiguration, dataSourceManager, new SyncCheckpointManager(checkpointPath, syncConfiguration));
+        restartedTask.start();
+        assertTrue(((InventoryDataSyncTaskProgress) restartedTask.getProgress()).isFinished());
+        assertThat(((InventoryDataSyncTaskProgress) restartedTask.getProgress()).getEstimatedRows(), is(0L));
+    }
+    
+    @Test
+    public void assertStartStoppedTask() throws SQLException {
+        initTableData(syncConfiguration.getDumperConfiguration());
+        SyncCheckpointManager checkpointManager = new SyncCheckpointManager(temporaryFolder.getRoot().getPath(), syncConfiguration);
+        InventoryDataScalingTask inventoryDataSyncTask = new InventoryDataScalingTask(syncConfiguration, dataSourceManager, checkpointManager);
+        inventoryDataSyncTask.stop();
+        inventoryDataSyncTask.start();
+        assertFalse(((InventoryDataSyncTaskProgress) inventoryDataSyncTask.getProgress()).isFinished());
+        assertFalse(checkpointManager.isFinished(((InventoryDataSyncTaskProgress) inventoryDataSyncTask.getProgress()).getId()));
+    }
+    
     private void initTableData(final RdbmsConfiguration dumperConfig) throws SQLException {
         DataSource dataSource = dataSourceManager.getDataSource(dumperConfig.getDataSourceConfiguration());
         try (Connection connection = dataSource.getConnection();
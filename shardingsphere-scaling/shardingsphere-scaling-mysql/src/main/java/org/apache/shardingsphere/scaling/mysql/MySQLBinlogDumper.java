@@ -32,7 +32,8 @@ import org.apache.shardingsphere.scaling.core.execute.executor.record.Placeholde
 import org.apache.shardingsphere.scaling.core.execute.executor.record.Record;
 import org.apache.shardingsphere.scaling.core.metadata.JdbcUri;
 import org.apache.shardingsphere.scaling.core.metadata.MetaDataManager;
-import org.apache.shardingsphere.scaling.mysql.client.MySQLClient;
+import org.apache.shardingsphere.scaling.mysql.binlog.BinlogMultiplexer;
+import org.apache.shardingsphere.scaling.mysql.binlog.BinlogSubscription;
 import org.apache.shardingsphere.scaling.mysql.binlog.event.AbstractBinlogEvent;
 import org.apache.shardingsphere.scaling.mysql.binlog.event.AbstractRowsEvent;
 import org.apache.shardingsphere.scaling.mysql.binlog.event.DeleteRowsEvent;
@@ -44,8 +45,8 @@ import org.apache.shardingsphere.sql.parser.binder.metadata.table.TableMetaData;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import java.io.Serializable;
+import java.util.HashSet;
 import java.util.Objects;
-import java.util.Random;
 
 /**
  * MySQL binlog dumper.
@@ -59,8 +60,6 @@ public final class MySQLBinlogDumper extends AbstractShardingScalingExecutor imp
     
     private final MetaDataManager metaDataManager;
     
-    private final Random random = new Random();
-    
     @Setter
     private Channel channel;
     
@@ -83,14 +82,17 @@ public final class MySQLBinlogDumper extends AbstractShardingScalingExecutor imp
     public void dump(final Channel channel) {
         JDBCDataSourceConfiguration jdbcDataSourceConfiguration = (JDBCDataSourceConfiguration) rdbmsConfiguration.getDataSourceConfiguration();
         final JdbcUri uri = new JdbcUri(jdbcDataSourceConfiguration.getJdbcUrl());
-        MySQLClient client = new MySQLClient(random.nextInt(), uri.getHostname(), uri.getPort(), jdbcDataSourceConfiguration.getUsername(), jdbcDataSourceConfiguration.getPassword());
-        client.connect();
-        client.subscribe(binlogPosition.getFilename(), binlogPosition.getPosition());
-        while (isRunning()) {
-            AbstractBinlogEvent event = client.poll();
-            if (null != event) {
-                handleEvent(channel, uri, event);
+        BinlogSubscription subscription = BinlogMultiplexer.subscribe(uri.getHostname(), uri.getPort(), jdbcDataSourceConfiguration.getUsername(), jdbcDataSourceConfiguration.getPassword(),
+                uri.getDatabase(), new HashSet<>(rdbmsConfiguration.getTableNameMap().keySet()), binlogPosition);
+        try {
+            while (isRunning()) {
+                AbstractBinlogEvent event = subscription.poll();
+                if (null != event) {
+                    handleEvent(channel, uri, event);
+                }
             }
+        } finally {
+            BinlogMultiplexer.unsubscribe(subscription);
         }
         pushRecord(channel, new FinishedRecord(new NopLogPosition()));
     }
@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.scaling.mysql;
+
+import org.apache.shardingsphere.scaling.core.execute.executor.importer.AbstractSqlBuilder;
+import org.apache.shardingsphere.scaling.core.execute.executor.record.Column;
+import org.apache.shardingsphere.scaling.core.execute.executor.record.DataRecord;
+import org.apache.shardingsphere.scaling.core.execute.executor.record.RecordUtil;
+
+/**
+ * MySQL SQL builder.
+ */
+public final class MySQLSqlBuilder extends AbstractSqlBuilder {
+    
+    @Override
+    public String getLeftIdentifierQuoteString() {
+        return "`";
+    }
+    
+    @Override
+    public String getRightIdentifierQuoteString() {
+        return "`";
+    }
+    
+    @Override
+    protected String buildConflictUpdateSQL(final DataRecord dataRecord) {
+        StringBuilder result = new StringBuilder();
+        for (Column each : dataRecord.getColumns()) {
+            if (!each.isPrimaryKey()) {
+                result.append(String.format("%s = VALUES(%s),", quote(each.getName()), quote(each.getName())));
+            }
+        }
+        if (0 == result.length()) {
+            String primaryColumnName = quote(RecordUtil.extractPrimaryColumns(dataRecord).get(0).getName());
+            result.append(String.format("%s = %s,", primaryColumnName, primaryColumnName));
+        }
+        result.setLength(result.length() - 1);
+        return " ON DUPLICATE KEY UPDATE " + result;
+    }
+}
@@ -0,0 +1,277 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.scaling.mysql.binlog;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.scaling.mysql.BinlogPosition;
+import org.apache.shardingsphere.scaling.mysql.binlog.event.AbstractBinlogEvent;
+import org.apache.shardingsphere.scaling.mysql.binlog.event.PlaceholderEvent;
+import org.apache.shardingsphere.scaling.mysql.client.MySQLClient;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Binlog multiplexer.
+ * 
+ * <p>
+ * Dumpers of same MySQL instance and user share one binlog stream, so that every binlog event is transferred and decoded only once.
+ * Rows events of subscribed tables are dispatched to each subscription as they are, other events are dispatched as placeholder events to keep positions moving.
+ * A new subscription is paused until the stream restarted from an earlier position when it needs it,
+ * and every subscription skips events which are already delivered to it.
+ * </p>
+ * 
+ * <p>
+ * Binlog client is only touched by the dispatching thread, and events are delivered without waiting.
+ * A subscription whose queue is full is paused, it is resumed from its last delivered position after its dumper drained the queue.
+ * Restarting rewinds the stream for every subscription, so the stream restarts at most once in {@code MIN_RESTART_INTERVAL_MILLIS}.
+ * </p>
+ */
+@Slf4j
+public final class BinlogMultiplexer {
+    
+    private static final Map<String, BinlogMultiplexer> MULTIPLEXERS = new HashMap<>();
+    
+    private static final long MIN_RESTART_INTERVAL_MILLIS = 1000L;
+    
+    private final Random random = new Random();
+    
+    private final String host;
+    
+    private final int port;
+    
+    private final String username;
+    
+    private final String password;
+    
+    private final Collection<BinlogSubscription> subscriptions = new CopyOnWriteArrayList<>();
+    
+    private final Collection<BinlogSubscription> resumingSubscriptions = new LinkedList<>();
+    
+    private BinlogPosition requestedPosition;
+    
+    private volatile boolean running;
+    
+    private BinlogPosition streamPosition;
+    
+    private long lastRestartMillis;
+    
+    BinlogMultiplexer(final String host, final int port, final String username, final String password) {
+        this.host = host;
+        this.port = port;
+        this.username = username;
+        this.password = password;
+    }
+    
+    /**
+     * Subscribe binlog of tables.
+     *
+     * @param host host of MySQL instance
+     * @param port port of MySQL instance
+     * @param username username
+     * @param password password
+     * @param schemaName schema name of subscribed tables
+     * @param tableNames subscribed table names
+     * @param position position to start from
+     * @return binlog subscription
+     */
+    public static BinlogSubscription subscribe(final String host, final int port, final String username, final String password,
+                                               final String schemaName, final Collection<String> tableNames, final BinlogPosition position) {
+        synchronized (MULTIPLEXERS) {
+            BinlogMultiplexer multiplexer = MULTIPLEXERS.computeIfAbsent(String.format("%s@%s:%d", username, host, port), unused -> new BinlogMultiplexer(host, port, username, password));
+            BinlogSubscription result = new BinlogSubscription(multiplexer, schemaName, tableNames, position);
+            multiplexer.register(result);
+            multiplexer.startIfNecessary();
+            return result;
+        }
+    }
+    
+    /**
+     * Unsubscribe binlog.
+     * 
+     * <p>
+     * Binlog stream is closed after its last subscription is unsubscribed.
+     * </p>
+     *
+     * @param subscription binlog subscription
+     */
+    public static void unsubscribe(final BinlogSubscription subscription) {
+        subscription.cancel();
+        synchronized (MULTIPLEXERS) {
+            MULTIPLEXERS.values().removeIf(each -> each.deregister(subscription) && each.subscriptions.isEmpty() && each.close());
+        }
+    }
+    
+    synchronized void register(final BinlogSubscription subscription) {
+        subscription.pause();
+        subscriptions.add(subscription);
+        requestResume(subscription);
+    }
+    
+    private boolean deregister(final BinlogSubscription subscription) {
+        return subscriptions.remove(subscription);
+    }
+    
+    synchronized void resume(final BinlogSubscription subscription) {
+        requestResume(subscription);
+        startIfNecessary();
+    }
+    
+    private void requestResume(final BinlogSubscription subscription) {
+        if (!resumingSubscriptions.contains(subscription)) {
+            resumingSubscriptions.add(subscription);
+        }
+        BinlogPosition position = subscription.getDeliveredPosition();
+        if (null == requestedPosition || position.compareTo(requestedPosition) < 0) {
+            requestedPosition = position;
+        }
+    }
+    
+    private synchronized void startIfNecessary() {
+        if (!running) {
+            running = true;
+            Thread thread = new Thread(this::dispatchEvents, String.format("binlog-multiplexer-%s-%d", host, port));
+            thread.setDaemon(true);
+            thread.start();
+        }
+    }
+    
+    private void dispatchEvents() {
+        MySQLClient client = null;
+        try {
+            while (running) {
+                client = restartIfNecessary(client);
+                AbstractBinlogEvent event = client.poll();
+                if (null != event) {
+                    dispatch(event);
+                }
+            }
+        // CHECKSTYLE:OFF
+        } catch (final RuntimeException ex) {
+        // CHECKSTYLE:ON
+            log.error("Binlog stream of {}:{} failed", host, port, ex);
+            fail(ex);
+        } finally {
+            if (null != client) {
+                client.close();
+            }
+        }
+    }
+    
+    MySQLClient restartIfNecessary(final MySQLClient client) {
+        Collection<BinlogSubscription> resumedSubscriptions;
+        BinlogPosition position;
+        boolean restart;
+        synchronized (this) {
+            if (null == requestedPosition) {
+                return client;
+            }
+            restart = null == client || requestedPosition.compareTo(streamPosition) < 0;
+            if (restart && null != client && System.currentTimeMillis() - lastRestartMillis < MIN_RESTART_INTERVAL_MILLIS) {
+                return client;
+            }
+            resumedSubscriptions = new ArrayList<>(resumingSubscriptions);
+            resumingSubscriptions.clear();
+            position = requestedPosition;
+            requestedPosition = null;
+        }
+        MySQLClient result = client;
+        if (restart) {
+            if (null != client) {
+                log.info("Restart binlog stream of {}:{} from {}:{}", host, port, position.getFilename(), position.getPosition());
+                client.close();
+            }
+            result = connect(position);
+            streamPosition = position;
+            lastRestartMillis = System.currentTimeMillis();
+        }
+        resumedSubscriptions.forEach(BinlogSubscription::resume);
+        return result;
+    }
+    
+    MySQLClient connect(final BinlogPosition position) {
+        MySQLClient result = new MySQLClient(random.nextInt(), host, port, username, password);
+        try {
+            result.connect();
+            result.subscribe(position.getFilename(), position.getPosition());
+        // CHECKSTYLE:OFF
+        } catch (final RuntimeException ex) {
+        // CHECKSTYLE:ON
+            result.close();
+            throw ex;
+        }
+        return result;
+    }
+    
+    void dispatch(final AbstractBinlogEvent event) {
+        if (null == event.getFileName()) {
+            return;
+        }
+        BinlogPosition position = new BinlogPosition(event.getFileName(), event.getPosition(), event.getServerId());
+        streamPosition = position;
+        AbstractBinlogEvent placeholderEvent = null;
+        for (BinlogSubscription each : subscriptions) {
+            if (!each.isActive() || each.isPaused() || position.compareTo(each.getDeliveredPosition()) <= 0) {
+                continue;
+            }
+            boolean delivered;
+            if (each.isSubscribed(event)) {
+                delivered = each.deliver(event, position);
+            } else {
+                placeholderEvent = null == placeholderEvent ? createPlaceholderEvent(event) : placeholderEvent;
+                delivered = each.deliver(placeholderEvent, position);
+            }
+            if (!delivered) {
+                log.warn("Binlog subscription of {} on {}:{} is too slow, it will be resumed from {}:{}",
+                        each.getSchemaName(), host, port, each.getDeliveredPosition().getFilename(), each.getDeliveredPosition().getPosition());
+                each.pause();
+            }
+        }
+    }
+    
+    private AbstractBinlogEvent createPlaceholderEvent(final AbstractBinlogEvent event) {
+        if (event instanceof PlaceholderEvent) {
+            return event;
+        }
+        PlaceholderEvent result = new PlaceholderEvent();
+        result.setServerId(event.getServerId());
+        result.setFileName(event.getFileName());
+        result.setPosition(event.getPosition());
+        result.setTimestamp(event.getTimestamp());
+        return result;
+    }
+    
+    private void fail(final RuntimeException cause) {
+        synchronized (this) {
+            running = false;
+            requestedPosition = null;
+            resumingSubscriptions.clear();
+        }
+        subscriptions.forEach(each -> each.fail(cause));
+    }
+    
+    private synchronized boolean close() {
+        running = false;
+        return true;
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.scaling.mysql.binlog;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.apache.shardingsphere.scaling.core.exception.SyncTaskExecuteException;
+import org.apache.shardingsphere.scaling.mysql.BinlogPosition;
+import org.apache.shardingsphere.scaling.mysql.binlog.event.AbstractBinlogEvent;
+import org.apache.shardingsphere.scaling.mysql.binlog.event.AbstractRowsEvent;
+
+import java.util.Collection;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Subscription of one dumper on shared binlog stream.
+ */
+public final class BinlogSubscription {
+    
+    private final BinlogMultiplexer multiplexer;
+    
+    @Getter(AccessLevel.PACKAGE)
+    private final String schemaName;
+    
+    private final Collection<String> tableNames;
+    
+    private final BlockingQueue<AbstractBinlogEvent> eventQueue = new ArrayBlockingQueue<>(10000);
+    
+    @Getter(AccessLevel.PACKAGE)
+    private volatile BinlogPosition deliveredPosition;
+    
+    @Getter(AccessLevel.PACKAGE)
+    private volatile boolean active = true;
+    
+    @Getter(AccessLevel.PACKAGE)
+    private volatile boolean paused;
+    
+    private volatile RuntimeException failure;
+    
+    BinlogSubscription(final BinlogMultiplexer multiplexer, final String schemaName, final Collection<String> tableNames, final BinlogPosition startPosition) {
+        this.multiplexer = multiplexer;
+        this.schemaName = schemaName;
+        this.tableNames = tableNames;
+        deliveredPosition = startPosition;
+    }
+    
+    /**
+     * Poll binlog event.
+     * 
+     * <p>
+     * Subscription is resumed from its last delivered position if it is paused, because it is new or its queue was full.
+     * </p>
+     *
+     * @return binlog event, rows events of unsubscribed tables are replaced by placeholder events
+     * @throws SyncTaskExecuteException if the shared binlog stream failed
+     */
+    public AbstractBinlogEvent poll() {
+        AbstractBinlogEvent result;
+        try {
+            result = eventQueue.poll(100, TimeUnit.MILLISECONDS);
+        } catch (final InterruptedException ignored) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+        if (null != result) {
+            return result;
+        }
+        if (null != failure) {
+            throw new SyncTaskExecuteException("Binlog stream failed.", failure);
+        }
+        if (paused) {
+            multiplexer.resume(this);
+        }
+        return null;
+    }
+    
+    boolean isSubscribed(final AbstractBinlogEvent event) {
+        return event instanceof AbstractRowsEvent
+                && schemaName.equals(((AbstractRowsEvent) event).getSchemaName()) && tableNames.contains(((AbstractRowsEvent) event).getTableName());
+    }
+    
+    boolean deliver(final AbstractBinlogEvent event, final BinlogPosition position) {
+        if (!eventQueue.offer(event)) {
+            return false;
+        }
+        deliveredPosition = position;
+        return true;
+    }
+    
+    void pause() {
+        paused = true;
+    }
+    
+    void resume() {
+        paused = false;
+    }
+    
+    void fail(final RuntimeException cause) {
+        failure = cause;
+        active = false;
+    }
+    
+    void cancel() {
+        active = false;
+    }
+}
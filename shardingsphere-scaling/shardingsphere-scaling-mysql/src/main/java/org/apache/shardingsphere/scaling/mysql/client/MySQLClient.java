@@ -188,6 +188,16 @@ public final class MySQLClient {
         channel.writeAndFlush(new MySQLComBinlogDumpCommandPacket((int) binlogPosition, serverId, binlogFileName));
     }
 
+    /**
+     * Close connection to MySQL.
+     */
+    public synchronized void close() {
+        if (null != channel) {
+            channel.close();
+        }
+        eventLoopGroup.shutdownGracefully();
+    }
+    
     /**
      * Poll binlog event.
      *
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.scaling.mysql;
+
+import org.apache.shardingsphere.scaling.core.execute.executor.record.Column;
+import org.apache.shardingsphere.scaling.core.execute.executor.record.DataRecord;
+import org.apache.shardingsphere.scaling.core.job.position.NopLogPosition;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class MySQLSqlBuilderTest {
+    
+    private final MySQLSqlBuilder sqlBuilder = new MySQLSqlBuilder();
+    
+    @Test
+    public void assertBuildInsertSQL() {
+        String actual = sqlBuilder.buildInsertSQL(mockDataRecord("t1"));
+        assertThat(actual, is("INSERT INTO `t1`(`id`,`c0`,`c1`) VALUES(?,?,?)"));
+    }
+    
+    @Test
+    public void assertBuildUpsertSQL() {
+        String actual = sqlBuilder.buildUpsertSQL(mockDataRecord("t2"));
+        assertThat(actual, is("INSERT INTO `t2`(`id`,`c0`,`c1`) VALUES(?,?,?) ON DUPLICATE KEY UPDATE `c0` = VALUES(`c0`),`c1` = VALUES(`c1`)"));
+    }
+    
+    @Test
+    public void assertBuildUpsertSQLWithPrimaryKeyColumnsOnly() {
+        DataRecord dataRecord = new DataRecord(new NopLogPosition(), 1);
+        dataRecord.setTableName("t3");
+        dataRecord.addColumn(new Column("id", 1, false, true));
+        String actual = sqlBuilder.buildUpsertSQL(dataRecord);
+        assertThat(actual, is("INSERT INTO `t3`(`id`) VALUES(?) ON DUPLICATE KEY UPDATE `id` = `id`"));
+    }
+    
+    private DataRecord mockDataRecord(final String tableName) {
+        DataRecord result = new DataRecord(new NopLogPosition(), 3);
+        result.setTableName(tableName);
+        result.addColumn(new Column("id", 1, false, true));
+        result.addColumn(new Column("c0", "", true, false));
+        result.addColumn(new Column("c1", "", true, false));
+        return result;
+    }
+}
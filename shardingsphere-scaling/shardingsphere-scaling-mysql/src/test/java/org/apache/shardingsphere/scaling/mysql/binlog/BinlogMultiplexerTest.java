@@ -0,0 +1,230 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.scaling.mysql.binlog;
+
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.scaling.core.exception.SyncTaskExecuteException;
+import org.apache.shardingsphere.scaling.mysql.BinlogPosition;
+import org.apache.shardingsphere.scaling.mysql.binlog.event.AbstractBinlogEvent;
+import org.apache.shardingsphere.scaling.mysql.binlog.event.PlaceholderEvent;
+import org.apache.shardingsphere.scaling.mysql.binlog.event.WriteRowsEvent;
+import org.apache.shardingsphere.scaling.mysql.client.MySQLClient;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+public final class BinlogMultiplexerTest {
+    
+    private final BinlogMultiplexer binlogMultiplexer = new BinlogMultiplexer("host", 3306, "username", "password");
+    
+    private BinlogSubscription orderSubscription;
+    
+    private BinlogSubscription orderItemSubscription;
+    
+    @Before
+    public void setUp() {
+        orderSubscription = new BinlogSubscription(binlogMultiplexer, "ds_0", Collections.singleton("t_order"), new BinlogPosition("mysql-bin.000001", 4L));
+        orderItemSubscription = new BinlogSubscription(binlogMultiplexer, "ds_0", Collections.singleton("t_order_item"), new BinlogPosition("mysql-bin.000001", 4L));
+        activate(binlogMultiplexer, orderSubscription);
+        activate(binlogMultiplexer, orderItemSubscription);
+    }
+    
+    private void activate(final BinlogMultiplexer multiplexer, final BinlogSubscription subscription) {
+        multiplexer.register(subscription);
+        subscription.resume();
+    }
+    
+    @Test
+    public void assertDispatchRowsEventOfSubscribedTable() {
+        WriteRowsEvent event = createWriteRowsEvent("t_order", 100L);
+        binlogMultiplexer.dispatch(event);
+        assertThat(orderSubscription.poll(), is((AbstractBinlogEvent) event));
+        AbstractBinlogEvent actual = orderItemSubscription.poll();
+        assertThat(actual, instanceOf(PlaceholderEvent.class));
+        assertThat(actual.getFileName(), is("mysql-bin.000001"));
+        assertThat(actual.getPosition(), is(100L));
+        assertThat(orderItemSubscription.getDeliveredPosition().getPosition(), is(100L));
+    }
+    
+    @Test
+    public void assertDispatchRowsEventOfOtherSchema() {
+        WriteRowsEvent event = createWriteRowsEvent("t_order", 100L);
+        event.setSchemaName("ds_1");
+        binlogMultiplexer.dispatch(event);
+        assertThat(orderSubscription.poll(), instanceOf(PlaceholderEvent.class));
+        assertThat(orderItemSubscription.poll(), instanceOf(PlaceholderEvent.class));
+    }
+    
+    @Test
+    public void assertSkipDeliveredEvents() {
+        binlogMultiplexer.dispatch(createWriteRowsEvent("t_order", 100L));
+        assertThat(orderSubscription.poll().getPosition(), is(100L));
+        binlogMultiplexer.dispatch(createWriteRowsEvent("t_order", 100L));
+        assertNull(orderSubscription.poll());
+        binlogMultiplexer.dispatch(createWriteRowsEvent("t_order", 200L));
+        assertThat(orderSubscription.poll().getPosition(), is(200L));
+    }
+    
+    @Test
+    public void assertSkipEventsBeforeStartPosition() {
+        BinlogSubscription laterSubscription = new BinlogSubscription(binlogMultiplexer, "ds_0", Collections.singleton("t_order"), new BinlogPosition("mysql-bin.000002", 4L));
+        activate(binlogMultiplexer, laterSubscription);
+        binlogMultiplexer.dispatch(createWriteRowsEvent("t_order", 100L));
+        assertNull(laterSubscription.poll());
+        WriteRowsEvent event = createWriteRowsEvent("t_order", 100L);
+        event.setFileName("mysql-bin.000002");
+        binlogMultiplexer.dispatch(event);
+        assertThat(laterSubscription.poll(), is((AbstractBinlogEvent) event));
+    }
+    
+    @Test
+    public void assertSkipCancelledSubscription() {
+        orderItemSubscription.cancel();
+        binlogMultiplexer.dispatch(createWriteRowsEvent("t_order", 100L));
+        assertNull(orderItemSubscription.poll());
+    }
+    
+    @Test
+    public void assertStopDeliveringWhenQueueIsFull() {
+        BinlogMultiplexer resumingMultiplexer = mock(BinlogMultiplexer.class);
+        BinlogSubscription slowSubscription = new BinlogSubscription(resumingMultiplexer, "ds_0", Collections.singleton("t_order"), new BinlogPosition("mysql-bin.000001", 4L));
+        activate(binlogMultiplexer, slowSubscription);
+        for (int i = 1; i <= 10001; i++) {
+            binlogMultiplexer.dispatch(createWriteRowsEvent("t_order", i * 100L));
+        }
+        assertTrue(slowSubscription.isPaused());
+        assertThat(slowSubscription.getDeliveredPosition().getPosition(), is(1000000L));
+        binlogMultiplexer.dispatch(createWriteRowsEvent("t_order", 1000200L));
+        assertThat(slowSubscription.getDeliveredPosition().getPosition(), is(1000000L));
+        for (int i = 1; i <= 10000; i++) {
+            assertThat(slowSubscription.poll().getPosition(), is(i * 100L));
+        }
+        verify(resumingMultiplexer, never()).resume(slowSubscription);
+        assertNull(slowSubscription.poll());
+        verify(resumingMultiplexer).resume(slowSubscription);
+        slowSubscription.resume();
+        binlogMultiplexer.dispatch(createWriteRowsEvent("t_order", 1000100L));
+        assertThat(slowSubscription.poll().getPosition(), is(1000100L));
+    }
+    
+    @Test
+    public void assertLateSubscriptionJoinsRunningStream() {
+        BinlogMultiplexer multiplexer = spy(new BinlogMultiplexer("host", 3306, "username", "password"));
+        MySQLClient firstClient = mock(MySQLClient.class);
+        MySQLClient secondClient = mock(MySQLClient.class);
+        doReturn(firstClient).when(multiplexer).connect(argThat(position -> 4L == position.getPosition()));
+        doReturn(secondClient).when(multiplexer).connect(argThat(position -> 150L == position.getPosition()));
+        BinlogSubscription firstSubscription = new BinlogSubscription(multiplexer, "ds_0", Collections.singleton("t_order"), new BinlogPosition("mysql-bin.000001", 4L));
+        multiplexer.register(firstSubscription);
+        assertThat(multiplexer.restartIfNecessary(null), is(firstClient));
+        multiplexer.dispatch(createWriteRowsEvent("t_order", 100L));
+        multiplexer.dispatch(createWriteRowsEvent("t_order", 200L));
+        BinlogSubscription lateSubscription = new BinlogSubscription(multiplexer, "ds_0", Collections.singleton("t_order"), new BinlogPosition("mysql-bin.000001", 150L));
+        multiplexer.register(lateSubscription);
+        multiplexer.dispatch(createWriteRowsEvent("t_order", 300L));
+        assertTrue(lateSubscription.isPaused());
+        assertThat(lateSubscription.getDeliveredPosition().getPosition(), is(150L));
+        setLastRestartMillis(multiplexer, 0L);
+        assertThat(multiplexer.restartIfNecessary(firstClient), is(secondClient));
+        verify(firstClient).close();
+        assertFalse(lateSubscription.isPaused());
+        multiplexer.dispatch(createWriteRowsEvent("t_order", 200L));
+        multiplexer.dispatch(createWriteRowsEvent("t_order", 300L));
+        multiplexer.dispatch(createWriteRowsEvent("t_order", 400L));
+        assertThat(lateSubscription.poll().getPosition(), is(200L));
+        assertThat(lateSubscription.poll().getPosition(), is(300L));
+        assertThat(lateSubscription.poll().getPosition(), is(400L));
+        assertNull(lateSubscription.poll());
+        for (long each : new long[]{100L, 200L, 300L, 400L}) {
+            assertThat(firstSubscription.poll().getPosition(), is(each));
+        }
+        assertNull(firstSubscription.poll());
+    }
+    
+    @Test
+    public void assertActivateLateSubscriptionAheadOfStreamWithoutRestart() {
+        BinlogMultiplexer multiplexer = spy(new BinlogMultiplexer("host", 3306, "username", "password"));
+        MySQLClient client = mock(MySQLClient.class);
+        doReturn(client).when(multiplexer).connect(any(BinlogPosition.class));
+        BinlogSubscription firstSubscription = new BinlogSubscription(multiplexer, "ds_0", Collections.singleton("t_order"), new BinlogPosition("mysql-bin.000001", 4L));
+        multiplexer.register(firstSubscription);
+        multiplexer.restartIfNecessary(null);
+        multiplexer.dispatch(createWriteRowsEvent("t_order", 100L));
+        BinlogSubscription lateSubscription = new BinlogSubscription(multiplexer, "ds_0", Collections.singleton("t_order"), new BinlogPosition("mysql-bin.000001", 100L));
+        multiplexer.register(lateSubscription);
+        assertThat(multiplexer.restartIfNecessary(client), is(client));
+        assertFalse(lateSubscription.isPaused());
+        verify(multiplexer).connect(any(BinlogPosition.class));
+    }
+    
+    @Test
+    public void assertDeferFrequentRestart() {
+        BinlogMultiplexer multiplexer = spy(new BinlogMultiplexer("host", 3306, "username", "password"));
+        MySQLClient client = mock(MySQLClient.class);
+        doReturn(client).when(multiplexer).connect(any(BinlogPosition.class));
+        BinlogSubscription firstSubscription = new BinlogSubscription(multiplexer, "ds_0", Collections.singleton("t_order"), new BinlogPosition("mysql-bin.000001", 4L));
+        multiplexer.register(firstSubscription);
+        multiplexer.restartIfNecessary(null);
+        multiplexer.dispatch(createWriteRowsEvent("t_order", 100L));
+        BinlogSubscription lateSubscription = new BinlogSubscription(multiplexer, "ds_0", Collections.singleton("t_order"), new BinlogPosition("mysql-bin.000001", 50L));
+        multiplexer.register(lateSubscription);
+        assertThat(multiplexer.restartIfNecessary(client), is(client));
+        assertTrue(lateSubscription.isPaused());
+        verify(multiplexer).connect(any(BinlogPosition.class));
+        verify(client, never()).close();
+    }
+    
+    @SneakyThrows(ReflectiveOperationException.class)
+    private void setLastRestartMillis(final BinlogMultiplexer multiplexer, final long lastRestartMillis) {
+        Field field = BinlogMultiplexer.class.getDeclaredField("lastRestartMillis");
+        field.setAccessible(true);
+        field.set(multiplexer, lastRestartMillis);
+    }
+    
+    @Test(expected = SyncTaskExecuteException.class)
+    public void assertPollFailedSubscription() {
+        orderSubscription.fail(new IllegalStateException("Binlog stream failed."));
+        binlogMultiplexer.dispatch(createWriteRowsEvent("t_order", 100L));
+        orderSubscription.poll();
+    }
+    
+    private WriteRowsEvent createWriteRowsEvent(final String tableName, final long position) {
+        WriteRowsEvent result = new WriteRowsEvent();
+        result.setSchemaName("ds_0");
+        result.setTableName(tableName);
+        result.setFileName("mysql-bin.000001");
+        result.setPosition(position);
+        return result;
+    }
+}
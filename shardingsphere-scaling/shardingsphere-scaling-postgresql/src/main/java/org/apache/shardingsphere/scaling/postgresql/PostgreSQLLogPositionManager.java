@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.scaling.postgresql;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.scaling.core.job.position.LogPositionManager;
 import org.postgresql.replication.LogSequenceNumber;
 import org.postgresql.util.PSQLException;
@@ -32,12 +33,17 @@ import java.sql.SQLException;
  * PostgreSQL log position manager.
  */
 @RequiredArgsConstructor
+@Slf4j
 public final class PostgreSQLLogPositionManager implements LogPositionManager<WalPosition> {
     
     public static final String SLOT_NAME = "sharding_scaling";
     
     public static final String DECODE_PLUGIN = "test_decoding";
     
+    public static final String PGOUTPUT_DECODE_PLUGIN = "pgoutput";
+    
+    public static final String PUBLICATION_NAME = "sharding_scaling";
+    
     public static final String DUPLICATE_OBJECT_ERROR_CODE = "42710";
     
     private final DataSource dataSource;
@@ -63,8 +69,9 @@ public final class PostgreSQLLogPositionManager implements LogPositionManager<Wa
     }
     
     private void createIfNotExists(final Connection connection) throws SQLException {
+        String decodePlugin = 10 <= connection.getMetaData().getDatabaseMajorVersion() && createPublicationIfNotExists(connection) ? PGOUTPUT_DECODE_PLUGIN : DECODE_PLUGIN;
         try {
-            PreparedStatement ps = connection.prepareStatement(String.format("SELECT * FROM pg_create_logical_replication_slot('%s', '%s')", SLOT_NAME, DECODE_PLUGIN));
+            PreparedStatement ps = connection.prepareStatement(String.format("SELECT * FROM pg_create_logical_replication_slot('%s', '%s')", SLOT_NAME, decodePlugin));
             ps.execute();
         } catch (PSQLException ex) {
             if (!DUPLICATE_OBJECT_ERROR_CODE.equals(ex.getSQLState())) {
@@ -73,6 +80,24 @@ public final class PostgreSQLLogPositionManager implements LogPositionManager<Wa
         }
     }
     
+    private boolean createPublicationIfNotExists(final Connection connection) {
+        try (PreparedStatement ps = connection.prepareStatement("SELECT 1 FROM pg_publication WHERE pubname = ?")) {
+            ps.setString(1, PUBLICATION_NAME);
+            try (ResultSet rs = ps.executeQuery()) {
+                if (rs.next()) {
+                    return true;
+                }
+            }
+            try (PreparedStatement createPs = connection.prepareStatement(String.format("CREATE PUBLICATION %s FOR ALL TABLES", PUBLICATION_NAME))) {
+                createPs.execute();
+            }
+            return true;
+        } catch (final SQLException ex) {
+            log.warn("Create publication `{}` failed, fall back to decoding plugin `{}`", PUBLICATION_NAME, DECODE_PLUGIN, ex);
+            return false;
+        }
+    }
+    
     private WalPosition getCurrentLsn(final Connection connection) throws SQLException {
         String sql;
         if (9 == connection.getMetaData().getDatabaseMajorVersion() && 6 <= connection.getMetaData().getDatabaseMinorVersion()) {
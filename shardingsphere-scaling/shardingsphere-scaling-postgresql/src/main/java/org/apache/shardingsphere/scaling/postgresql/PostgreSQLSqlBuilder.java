@@ -39,16 +39,32 @@ public final class PostgreSQLSqlBuilder extends AbstractSqlBuilder {
     
     @Override
     public String buildInsertSQL(final DataRecord dataRecord) {
-        return super.buildInsertSQL(dataRecord) + buildConflictSQL(dataRecord);
+        return super.buildInsertSQL(dataRecord) + buildConflictSQL(dataRecord, false);
     }
     
-    private String buildConflictSQL(final DataRecord dataRecord) {
+    @Override
+    protected String buildConflictUpdateSQL(final DataRecord dataRecord) {
+        return buildConflictSQL(dataRecord, true);
+    }
+    
+    private String buildConflictSQL(final DataRecord dataRecord, final boolean updateOnConflict) {
         StringBuilder result = new StringBuilder(" ON CONFLICT (");
         for (Column each : RecordUtil.extractPrimaryColumns(dataRecord)) {
-            result.append(each.getName()).append(",");
+            result.append(quote(each.getName())).append(",");
         }
         result.setLength(result.length() - 1);
-        result.append(") DO NOTHING");
-        return result.toString();
+        StringBuilder updatedColumns = new StringBuilder();
+        if (updateOnConflict) {
+            for (Column each : dataRecord.getColumns()) {
+                if (!each.isPrimaryKey()) {
+                    updatedColumns.append(String.format("%s = EXCLUDED.%s,", quote(each.getName()), quote(each.getName())));
+                }
+            }
+        }
+        if (0 == updatedColumns.length()) {
+            return result.append(") DO NOTHING").toString();
+        }
+        updatedColumns.setLength(updatedColumns.length() - 1);
+        return result.append(") DO UPDATE SET ").append(updatedColumns).toString();
     }
 }
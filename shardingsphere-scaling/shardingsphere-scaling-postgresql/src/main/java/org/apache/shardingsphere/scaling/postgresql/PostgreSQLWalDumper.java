@@ -30,10 +30,12 @@ import org.apache.shardingsphere.scaling.core.execute.executor.record.Record;
 import org.apache.shardingsphere.scaling.postgresql.wal.LogicalReplication;
 import org.apache.shardingsphere.scaling.postgresql.wal.WalEventConverter;
 import org.apache.shardingsphere.scaling.postgresql.wal.decode.DecodingPlugin;
+import org.apache.shardingsphere.scaling.postgresql.wal.decode.PgOutputDecodingPlugin;
 import org.apache.shardingsphere.scaling.postgresql.wal.decode.TestDecodingPlugin;
 import org.apache.shardingsphere.scaling.postgresql.wal.event.AbstractWalEvent;
 import org.postgresql.PGConnection;
 import org.postgresql.jdbc.PgConnection;
+import org.postgresql.jdbc.TimestampUtils;
 import org.postgresql.replication.PGReplicationStream;
 
 import java.nio.ByteBuffer;
@@ -58,6 +60,8 @@ public final class PostgreSQLWalDumper extends AbstractShardingScalingExecutor i
     @Setter
     private Channel channel;
     
+    private volatile PGConnection pgConnection;
+    
     public PostgreSQLWalDumper(final RdbmsConfiguration rdbmsConfiguration, final LogPosition logPosition) {
         walPosition = (WalPosition) logPosition;
         if (!JDBCDataSourceConfiguration.class.equals(rdbmsConfiguration.getDataSourceConfiguration().getClass())) {
@@ -73,29 +77,47 @@ public final class PostgreSQLWalDumper extends AbstractShardingScalingExecutor i
         dump(channel);
     }
     
+    @Override
+    public void stop() {
+        super.stop();
+        PGConnection connection = pgConnection;
+        if (null == connection) {
+            return;
+        }
+        try {
+            ((Connection) connection).close();
+        } catch (final SQLException ignored) {
+        
+        }
+    }
+    
     @Override
     public void dump(final Channel channel) {
         try {
-            PGConnection pgConnection = logicalReplication.createPgConnection((JDBCDataSourceConfiguration) rdbmsConfiguration.getDataSourceConfiguration());
-            decodingPlugin = new TestDecodingPlugin(((Connection) pgConnection).unwrap(PgConnection.class).getTimestampUtils());
-            PGReplicationStream stream = logicalReplication.createReplicationStream(pgConnection,
-                    PostgreSQLLogPositionManager.SLOT_NAME, walPosition.getLogSequenceNumber());
+            pgConnection = logicalReplication.createPgConnection((JDBCDataSourceConfiguration) rdbmsConfiguration.getDataSourceConfiguration());
+            PGReplicationStream stream = createReplicationStream();
+            // Blocks until a message arrives, stop closes the connection to interrupt reading.
             while (isRunning()) {
-                ByteBuffer msg = stream.readPending();
-                if (msg == null) {
-                    try {
-                        Thread.sleep(10L);
-                        continue;
-                    } catch (InterruptedException ignored) {
-                    
-                    }
-                }
+                ByteBuffer msg = stream.read();
                 AbstractWalEvent event = decodingPlugin.decode(msg, stream.getLastReceiveLSN());
                 pushRecord(channel, walEventConverter.convert(event));
             }
-        } catch (SQLException ex) {
-            throw new SyncTaskExecuteException(ex);
+        } catch (final SQLException ex) {
+            if (isRunning()) {
+                throw new SyncTaskExecuteException(ex);
+            }
+        }
+    }
+    
+    private PGReplicationStream createReplicationStream() throws SQLException {
+        TimestampUtils timestampUtils = ((Connection) pgConnection).unwrap(PgConnection.class).getTimestampUtils();
+        if (PostgreSQLLogPositionManager.PGOUTPUT_DECODE_PLUGIN.equals(logicalReplication.getSlotPlugin(pgConnection, PostgreSQLLogPositionManager.SLOT_NAME))) {
+            decodingPlugin = new PgOutputDecodingPlugin(timestampUtils);
+            return logicalReplication.createPgOutputReplicationStream(pgConnection,
+                    PostgreSQLLogPositionManager.SLOT_NAME, PostgreSQLLogPositionManager.PUBLICATION_NAME, walPosition.getLogSequenceNumber());
         }
+        decodingPlugin = new TestDecodingPlugin(timestampUtils);
+        return logicalReplication.createReplicationStream(pgConnection, PostgreSQLLogPositionManager.SLOT_NAME, walPosition.getLogSequenceNumber());
     }
     
     private void pushRecord(final Channel channel, final Record record) {
@@ -22,6 +22,8 @@ import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.scaling.core.job.position.LogPosition;
 import org.postgresql.replication.LogSequenceNumber;
 
+import java.io.Serializable;
+
 /**
  * PostgreSQL wal position.
  */
@@ -42,4 +44,23 @@ public class WalPosition implements LogPosition<WalPosition> {
         long o2 = walPosition.getLogSequenceNumber().asLong();
         return Long.compare(o1, o2);
     }
+    
+    private Object writeReplace() {
+        return new SerializedForm(logSequenceNumber.asLong());
+    }
+    
+    /**
+     * Serialized form of WAL position, as log sequence number is not serializable.
+     */
+    @RequiredArgsConstructor
+    private static final class SerializedForm implements Serializable {
+        
+        private static final long serialVersionUID = 2790386612938725306L;
+        
+        private final long logSequenceNumber;
+        
+        private Object readResolve() {
+            return new WalPosition(LogSequenceNumber.valueOf(logSequenceNumber));
+        }
+    }
 }
@@ -18,13 +18,17 @@
 package org.apache.shardingsphere.scaling.postgresql.wal;
 
 import org.apache.shardingsphere.scaling.core.config.JDBCDataSourceConfiguration;
+import org.apache.shardingsphere.scaling.postgresql.PostgreSQLLogPositionManager;
 import org.postgresql.PGConnection;
 import org.postgresql.PGProperty;
 import org.postgresql.replication.LogSequenceNumber;
 import org.postgresql.replication.PGReplicationStream;
 
+import java.sql.Connection;
 import java.sql.DriverManager;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.Properties;
 
 /**
@@ -63,6 +67,47 @@ public final class LogicalReplication {
                 .start();
     }
     
+    /**
+     * Create PostgreSQL replication stream of pgoutput protocol.
+     *
+     * @param pgConnection PostgreSQL connection
+     * @param slotName slot name
+     * @param publicationName publication name
+     * @param startPosition start position
+     * @return replication stream
+     * @throws SQLException sql exception
+     */
+    public PGReplicationStream createPgOutputReplicationStream(final PGConnection pgConnection, final String slotName,
+                                                               final String publicationName, final LogSequenceNumber startPosition) throws SQLException {
+        return pgConnection.getReplicationAPI()
+                .replicationStream()
+                .logical()
+                .withStartPosition(startPosition)
+                .withSlotName(slotName)
+                .withSlotOption("proto_version", "1")
+                .withSlotOption("publication_names", publicationName)
+                .start();
+    }
+    
+    /**
+     * Get output plugin of replication slot.
+     *
+     * @param pgConnection PostgreSQL connection
+     * @param slotName slot name
+     * @return output plugin name, null if slot not exists
+     * @throws SQLException sql exception
+     */
+    public String getSlotPlugin(final PGConnection pgConnection, final String slotName) throws SQLException {
+        Connection connection = (Connection) pgConnection;
+        if (connection.getMetaData().getDatabaseMajorVersion() < 10) {
+            return PostgreSQLLogPositionManager.DECODE_PLUGIN;
+        }
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(String.format("SELECT plugin FROM pg_replication_slots WHERE slot_name = '%s'", slotName))) {
+            return resultSet.next() ? resultSet.getString(1) : null;
+        }
+    }
+    
     private PGConnection createConnection(final JDBCDataSourceConfiguration jdbcDataSourceConfiguration) throws SQLException {
         Properties props = new Properties();
         PGProperty.USER.set(props, jdbcDataSourceConfiguration.getUsername());
@@ -31,10 +31,12 @@ import org.apache.shardingsphere.scaling.postgresql.wal.event.AbstractRowEvent;
 import org.apache.shardingsphere.scaling.postgresql.wal.event.AbstractWalEvent;
 import org.apache.shardingsphere.scaling.postgresql.wal.event.DeleteRowEvent;
 import org.apache.shardingsphere.scaling.postgresql.wal.event.PlaceholderEvent;
+import org.apache.shardingsphere.scaling.postgresql.wal.event.UnchangedToastedValue;
 import org.apache.shardingsphere.scaling.postgresql.wal.event.UpdateRowEvent;
 import org.apache.shardingsphere.scaling.postgresql.wal.event.WriteRowEvent;
 import org.apache.shardingsphere.sql.parser.binder.metadata.table.TableMetaData;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -107,15 +109,27 @@ public final class WalEventConverter {
     
     private DataRecord handleDeleteRowsEvent(final DeleteRowEvent event) {
         //TODO completion columns
-        DataRecord record = createDataRecord(event, event.getPrimaryKeys().size());
+        TableMetaData tableMetaData = metaDataManager.getTableMetaData(event.getTableName());
+        List<Object> primaryKeys = null == event.getBeforeRow() ? event.getPrimaryKeys() : extractPrimaryKeys(tableMetaData, event.getBeforeRow());
+        DataRecord record = createDataRecord(event, primaryKeys.size());
         record.setType("DELETE");
-        List<String> primaryKeyColumns = metaDataManager.getTableMetaData(event.getTableName()).getPrimaryKeyColumns();
-        for (int i = 0; i < event.getPrimaryKeys().size(); i++) {
-            record.addColumn(new Column(primaryKeyColumns.get(i), event.getPrimaryKeys().get(i), true, true));
+        List<String> primaryKeyColumns = tableMetaData.getPrimaryKeyColumns();
+        for (int i = 0; i < primaryKeys.size(); i++) {
+            record.addColumn(new Column(primaryKeyColumns.get(i), primaryKeys.get(i), true, true));
         }
         return record;
     }
     
+    private List<Object> extractPrimaryKeys(final TableMetaData tableMetaData, final List<Object> row) {
+        List<Object> result = new ArrayList<>(tableMetaData.getPrimaryKeyColumns().size());
+        for (int i = 0; i < row.size(); i++) {
+            if (tableMetaData.isPrimaryKey(i)) {
+                result.add(row.get(i));
+            }
+        }
+        return result;
+    }
+    
     private DataRecord createDataRecord(final AbstractRowEvent rowsEvent, final int columnCount) {
         DataRecord result = new DataRecord(new WalPosition(rowsEvent.getLogSequenceNumber()), columnCount);
         result.setTableName(rdbmsConfiguration.getTableNameMap().get(rowsEvent.getTableName()));
@@ -124,7 +138,8 @@ public final class WalEventConverter {
     
     private void putColumnsIntoDataRecord(final DataRecord dataRecord, final TableMetaData tableMetaData, final List<Object> values) {
         for (int i = 0; i < values.size(); i++) {
-            dataRecord.addColumn(new Column(tableMetaData.getColumnMetaData(i).getName(), values.get(i), true, tableMetaData.isPrimaryKey(i)));
+            boolean updated = !(values.get(i) instanceof UnchangedToastedValue);
+            dataRecord.addColumn(new Column(tableMetaData.getColumnMetaData(i).getName(), updated ? values.get(i) : null, updated, tableMetaData.isPrimaryKey(i)));
         }
     }
 }
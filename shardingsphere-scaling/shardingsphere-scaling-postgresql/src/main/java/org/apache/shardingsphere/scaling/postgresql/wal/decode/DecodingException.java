@@ -24,6 +24,10 @@ public final class DecodingException extends RuntimeException {
     
     private static final long serialVersionUID = -2864367374002473380L;
     
+    public DecodingException(final String message) {
+        super(message);
+    }
+    
     public DecodingException(final Throwable cause) {
         super(cause);
     }
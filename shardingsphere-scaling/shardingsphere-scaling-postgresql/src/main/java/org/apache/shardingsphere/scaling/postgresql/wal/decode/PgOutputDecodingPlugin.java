@@ -0,0 +1,274 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.scaling.postgresql.wal.decode;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.scaling.postgresql.wal.event.AbstractRowEvent;
+import org.apache.shardingsphere.scaling.postgresql.wal.event.AbstractWalEvent;
+import org.apache.shardingsphere.scaling.postgresql.wal.event.DeleteRowEvent;
+import org.apache.shardingsphere.scaling.postgresql.wal.event.PlaceholderEvent;
+import org.apache.shardingsphere.scaling.postgresql.wal.event.UnchangedToastedValue;
+import org.apache.shardingsphere.scaling.postgresql.wal.event.UpdateRowEvent;
+import org.apache.shardingsphere.scaling.postgresql.wal.event.WriteRowEvent;
+import org.postgresql.jdbc.TimestampUtils;
+import org.postgresql.replication.LogSequenceNumber;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Decoding plugin of binary pgoutput protocol.
+ * 
+ * <p>
+ * Relation messages are cached by relation id, column values of row messages are decoded by type oid of the cached relation columns.
+ * </p>
+ */
+@RequiredArgsConstructor
+public final class PgOutputDecodingPlugin implements DecodingPlugin {
+    
+    private static final int BOOL_OID = 16;
+    
+    private static final int BYTEA_OID = 17;
+    
+    private static final int INT8_OID = 20;
+    
+    private static final int INT2_OID = 21;
+    
+    private static final int INT4_OID = 23;
+    
+    private static final int FLOAT4_OID = 700;
+    
+    private static final int FLOAT8_OID = 701;
+    
+    private static final int DATE_OID = 1082;
+    
+    private static final int TIME_OID = 1083;
+    
+    private static final int TIMESTAMP_OID = 1114;
+    
+    private static final int NUMERIC_OID = 1700;
+    
+    private final TimestampUtils timestampUtils;
+    
+    private final Map<Integer, Relation> relations = new HashMap<>();
+    
+    @Override
+    public AbstractWalEvent decode(final ByteBuffer data, final LogSequenceNumber logSequenceNumber) {
+        AbstractWalEvent result;
+        char messageType = (char) data.get();
+        switch (messageType) {
+            case 'R':
+                readRelation(data);
+                result = new PlaceholderEvent();
+                break;
+            case 'I':
+                result = readWriteRowEvent(data);
+                break;
+            case 'U':
+                result = readUpdateRowEvent(data);
+                break;
+            case 'D':
+                result = readDeleteRowEvent(data);
+                break;
+            default:
+                result = new PlaceholderEvent();
+        }
+        result.setLogSequenceNumber(logSequenceNumber);
+        return result;
+    }
+    
+    private void readRelation(final ByteBuffer data) {
+        int relationId = data.getInt();
+        String schemaName = readString(data);
+        String tableName = readString(data);
+        data.get();
+        short columnCount = data.getShort();
+        List<RelationColumn> columns = new ArrayList<>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            data.get();
+            readString(data);
+            int typeOid = data.getInt();
+            data.getInt();
+            columns.add(new RelationColumn(typeOid));
+        }
+        relations.put(relationId, new Relation(schemaName, tableName, columns));
+    }
+    
+    private AbstractRowEvent readWriteRowEvent(final ByteBuffer data) {
+        WriteRowEvent result = new WriteRowEvent();
+        Relation relation = getRelation(data.getInt());
+        data.get();
+        result.setAfterRow(readTupleData(data, relation));
+        return setTable(result, relation);
+    }
+    
+    private AbstractRowEvent readUpdateRowEvent(final ByteBuffer data) {
+        UpdateRowEvent result = new UpdateRowEvent();
+        Relation relation = getRelation(data.getInt());
+        char tupleType = (char) data.get();
+        if ('K' == tupleType || 'O' == tupleType) {
+            skipTupleData(data);
+            data.get();
+        }
+        result.setAfterRow(readTupleData(data, relation));
+        return setTable(result, relation);
+    }
+    
+    private AbstractRowEvent readDeleteRowEvent(final ByteBuffer data) {
+        DeleteRowEvent result = new DeleteRowEvent();
+        Relation relation = getRelation(data.getInt());
+        data.get();
+        result.setBeforeRow(readTupleData(data, relation));
+        return setTable(result, relation);
+    }
+    
+    private Relation getRelation(final int relationId) {
+        Relation result = relations.get(relationId);
+        if (null == result) {
+            throw new DecodingException(String.format("Relation message of relation id %d is not received", relationId));
+        }
+        return result;
+    }
+    
+    private AbstractRowEvent setTable(final AbstractRowEvent rowEvent, final Relation relation) {
+        rowEvent.setSchemaName(relation.getSchemaName());
+        rowEvent.setTableName(relation.getTableName());
+        return rowEvent;
+    }
+    
+    private List<Object> readTupleData(final ByteBuffer data, final Relation relation) {
+        short columnCount = data.getShort();
+        List<Object> result = new ArrayList<>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            char columnType = (char) data.get();
+            switch (columnType) {
+                case 'n':
+                    result.add(null);
+                    break;
+                case 't':
+                    result.add(readColumnValue(readText(data), relation.getColumns().get(i).getTypeOid()));
+                    break;
+                case 'u':
+                    result.add(UnchangedToastedValue.INSTANCE);
+                    break;
+                default:
+                    throw new DecodingException(String.format("Unknown column data type `%s`", columnType));
+            }
+        }
+        return result;
+    }
+    
+    private void skipTupleData(final ByteBuffer data) {
+        short columnCount = data.getShort();
+        for (int i = 0; i < columnCount; i++) {
+            if ('t' == (char) data.get()) {
+                int length = data.getInt();
+                data.position(data.position() + length);
+            }
+        }
+    }
+    
+    private Object readColumnValue(final String value, final int typeOid) {
+        switch (typeOid) {
+            case BOOL_OID:
+                return "t".equals(value);
+            case INT2_OID:
+                return Short.parseShort(value);
+            case INT4_OID:
+                return Integer.parseInt(value);
+            case INT8_OID:
+                return Long.parseLong(value);
+            case FLOAT4_OID:
+                return Float.parseFloat(value);
+            case FLOAT8_OID:
+                return Double.parseDouble(value);
+            case NUMERIC_OID:
+                return new BigDecimal(value);
+            case DATE_OID:
+                return Date.valueOf(value);
+            case TIME_OID:
+                try {
+                    return timestampUtils.toTime(null, value);
+                } catch (final SQLException ex) {
+                    throw new DecodingException(ex);
+                }
+            case TIMESTAMP_OID:
+                return readTimestamp(value);
+            case BYTEA_OID:
+                return HexDecoder.decode(value.substring(2));
+            default:
+                return value;
+        }
+    }
+    
+    private Timestamp readTimestamp(final String value) {
+        try {
+            return Timestamp.valueOf(value);
+        } catch (final IllegalArgumentException ignored) {
+            try {
+                return timestampUtils.toTimestamp(null, value);
+            } catch (final SQLException ex) {
+                throw new DecodingException(ex);
+            }
+        }
+    }
+    
+    private String readText(final ByteBuffer data) {
+        byte[] result = new byte[data.getInt()];
+        data.get(result);
+        return new String(result, StandardCharsets.UTF_8);
+    }
+    
+    private String readString(final ByteBuffer data) {
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        byte each = data.get();
+        while (0 != each) {
+            result.write(each);
+            each = data.get();
+        }
+        return new String(result.toByteArray(), StandardCharsets.UTF_8);
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class Relation {
+        
+        private final String schemaName;
+        
+        private final String tableName;
+        
+        private final List<RelationColumn> columns;
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class RelationColumn {
+        
+        private final int typeOid;
+    }
+}
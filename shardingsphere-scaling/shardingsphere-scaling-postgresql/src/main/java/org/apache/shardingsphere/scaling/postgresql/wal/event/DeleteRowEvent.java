@@ -24,10 +24,16 @@ import java.util.List;
 
 /**
  * Delete row event.
+ * 
+ * <p>
+ * Either primary keys or before row in column order is set, primary keys of before row are located by table meta data.
+ * </p>
  */
 @Setter
 @Getter
 public final class DeleteRowEvent extends AbstractRowEvent {
     
     private List<Object> primaryKeys;
+    
+    private List<Object> beforeRow;
 }
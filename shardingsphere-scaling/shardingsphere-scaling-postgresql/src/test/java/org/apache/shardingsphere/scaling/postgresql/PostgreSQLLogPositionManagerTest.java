@@ -59,6 +59,10 @@ public final class PostgreSQLLogPositionManagerTest {
         PreparedStatement postgreSQL96LsnPs = mockPostgreSQL96Lsn();
         when(connection.prepareStatement("SELECT * FROM pg_create_logical_replication_slot('sharding_scaling', 'test_decoding')"))
                 .thenReturn(mock(PreparedStatement.class));
+        when(connection.prepareStatement("SELECT * FROM pg_create_logical_replication_slot('sharding_scaling', 'pgoutput')"))
+                .thenReturn(mock(PreparedStatement.class));
+        PreparedStatement publicationPs = mockPublication();
+        when(connection.prepareStatement("SELECT 1 FROM pg_publication WHERE pubname = ?")).thenReturn(publicationPs);
         when(connection.prepareStatement("SELECT PG_CURRENT_XLOG_LOCATION()")).thenReturn(postgreSQL96LsnPs);
         PreparedStatement postgreSQL10LsnPs = mockPostgreSQL10Lsn();
         when(connection.prepareStatement("SELECT PG_CURRENT_WAL_LSN()")).thenReturn(postgreSQL10LsnPs);
@@ -97,6 +101,14 @@ public final class PostgreSQLLogPositionManagerTest {
         assertThat(postgreSQLLogManager.getCurrentPosition(), is(expected));
     }
     
+    private PreparedStatement mockPublication() throws SQLException {
+        PreparedStatement result = mock(PreparedStatement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(result.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        return result;
+    }
+    
     private PreparedStatement mockPostgreSQL96Lsn() throws SQLException {
         PreparedStatement result = mock(PreparedStatement.class);
         ResultSet resultSet = mock(ResultSet.class);
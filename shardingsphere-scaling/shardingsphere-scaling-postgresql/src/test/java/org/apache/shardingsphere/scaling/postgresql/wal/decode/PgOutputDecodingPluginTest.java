@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.scaling.postgresql.wal.decode;
+
+import org.apache.shardingsphere.scaling.postgresql.wal.event.DeleteRowEvent;
+import org.apache.shardingsphere.scaling.postgresql.wal.event.PlaceholderEvent;
+import org.apache.shardingsphere.scaling.postgresql.wal.event.UnchangedToastedValue;
+import org.apache.shardingsphere.scaling.postgresql.wal.event.UpdateRowEvent;
+import org.apache.shardingsphere.scaling.postgresql.wal.event.WriteRowEvent;
+import org.junit.Before;
+import org.junit.Test;
+import org.postgresql.replication.LogSequenceNumber;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+public final class PgOutputDecodingPluginTest {
+    
+    private static final int RELATION_ID = 16385;
+    
+    private final LogSequenceNumber lsn = LogSequenceNumber.valueOf("0/14EFDB8");
+    
+    private PgOutputDecodingPlugin decodingPlugin;
+    
+    @Before
+    public void setUp() {
+        decodingPlugin = new PgOutputDecodingPlugin(null);
+        assertThat(decodingPlugin.decode(createRelationMessage(), lsn), instanceOf(PlaceholderEvent.class));
+    }
+    
+    @Test
+    public void assertDecodeWriteRowEvent() {
+        ByteBuffer data = ByteBuffer.allocate(128);
+        data.put((byte) 'I').putInt(RELATION_ID).put((byte) 'N');
+        putTupleData(data);
+        data.flip();
+        WriteRowEvent actual = (WriteRowEvent) decodingPlugin.decode(data, lsn);
+        assertThat(actual.getLogSequenceNumber(), is(lsn));
+        assertThat(actual.getSchemaName(), is("public"));
+        assertThat(actual.getTableName(), is("test"));
+        assertThat(actual.getAfterRow().get(0), is((Object) 1));
+        assertThat(actual.getAfterRow().get(1), is((Object) true));
+        assertThat(actual.getAfterRow().get(2), is((Object) new byte[] {(byte) 0xff, (byte) 0, (byte) 0xab}));
+        assertThat(actual.getAfterRow().get(3), nullValue());
+    }
+    
+    @Test
+    public void assertDecodeUpdateRowEvent() {
+        ByteBuffer data = ByteBuffer.allocate(256);
+        data.put((byte) 'U').putInt(RELATION_ID).put((byte) 'O');
+        putTupleData(data);
+        data.put((byte) 'N');
+        putTupleData(data);
+        data.flip();
+        UpdateRowEvent actual = (UpdateRowEvent) decodingPlugin.decode(data, lsn);
+        assertThat(actual.getLogSequenceNumber(), is(lsn));
+        assertThat(actual.getTableName(), is("test"));
+        assertThat(actual.getAfterRow().size(), is(4));
+        assertThat(actual.getAfterRow().get(0), is((Object) 1));
+    }
+    
+    @Test
+    public void assertDecodeDeleteRowEvent() {
+        ByteBuffer data = ByteBuffer.allocate(128);
+        data.put((byte) 'D').putInt(RELATION_ID).put((byte) 'K');
+        putTupleData(data);
+        data.flip();
+        DeleteRowEvent actual = (DeleteRowEvent) decodingPlugin.decode(data, lsn);
+        assertThat(actual.getLogSequenceNumber(), is(lsn));
+        assertThat(actual.getTableName(), is("test"));
+        assertThat(actual.getBeforeRow().size(), is(4));
+        assertThat(actual.getBeforeRow().get(0), is((Object) 1));
+    }
+    
+    @Test
+    public void assertDecodeUpdateRowEventWithUnchangedToastedValue() {
+        ByteBuffer data = ByteBuffer.allocate(128);
+        data.put((byte) 'U').putInt(RELATION_ID).put((byte) 'N');
+        data.putShort((short) 4);
+        putText(data, "1");
+        putText(data, "t");
+        data.put((byte) 'u');
+        data.put((byte) 'n');
+        data.flip();
+        UpdateRowEvent actual = (UpdateRowEvent) decodingPlugin.decode(data, lsn);
+        assertThat(actual.getAfterRow().size(), is(4));
+        assertThat(actual.getAfterRow().get(1), is((Object) true));
+        assertThat(actual.getAfterRow().get(2), is((Object) UnchangedToastedValue.INSTANCE));
+        assertThat(actual.getAfterRow().get(3), nullValue());
+    }
+    
+    @Test
+    public void assertDecodeUnknownMessage() {
+        ByteBuffer data = ByteBuffer.wrap(new byte[] {(byte) 'B'});
+        assertThat(decodingPlugin.decode(data, lsn), instanceOf(PlaceholderEvent.class));
+    }
+    
+    @Test(expected = DecodingException.class)
+    public void assertDecodeWithoutRelation() {
+        ByteBuffer data = ByteBuffer.allocate(128);
+        data.put((byte) 'I').putInt(RELATION_ID + 1).put((byte) 'N');
+        putTupleData(data);
+        data.flip();
+        decodingPlugin.decode(data, lsn);
+    }
+    
+    private ByteBuffer createRelationMessage() {
+        ByteBuffer result = ByteBuffer.allocate(128);
+        result.put((byte) 'R').putInt(RELATION_ID);
+        putString(result, "public");
+        putString(result, "test");
+        result.put((byte) 'd').putShort((short) 4);
+        putColumn(result, true, "id", 23);
+        putColumn(result, false, "enabled", 16);
+        putColumn(result, false, "content", 17);
+        putColumn(result, false, "remark", 1043);
+        result.flip();
+        return result;
+    }
+    
+    private void putColumn(final ByteBuffer data, final boolean key, final String name, final int typeOid) {
+        data.put((byte) (key ? 1 : 0));
+        putString(data, name);
+        data.putInt(typeOid).putInt(-1);
+    }
+    
+    private void putTupleData(final ByteBuffer data) {
+        data.putShort((short) 4);
+        putText(data, "1");
+        putText(data, "t");
+        putText(data, "\\xff00ab");
+        data.put((byte) 'n');
+    }
+    
+    private void putText(final ByteBuffer data, final String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        data.put((byte) 't').putInt(bytes.length).put(bytes);
+    }
+    
+    private void putString(final ByteBuffer data, final String value) {
+        data.put(value.getBytes(StandardCharsets.UTF_8)).put((byte) 0);
+    }
+}
@@ -25,6 +25,7 @@ import org.apache.shardingsphere.sql.parser.binder.metadata.MetaDataConnection;
 import org.apache.shardingsphere.sql.parser.binder.metadata.column.ColumnMetaDataLoader;
 import org.apache.shardingsphere.sql.parser.binder.metadata.index.IndexMetaDataLoader;
 import org.apache.shardingsphere.sql.parser.binder.metadata.table.TableMetaData;
+import org.apache.shardingsphere.sql.parser.binder.metadata.table.dialect.MySQLTableMetaDataLoader;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
@@ -94,6 +95,9 @@ public final class SchemaMetaDataLoader {
     
     private static Map<String, TableMetaData> load(final Connection con, final Collection<String> tables, final String databaseType) throws SQLException {
         try (MetaDataConnection connection = new MetaDataConnection(con)) {
+            if (MySQLTableMetaDataLoader.isSupported(databaseType)) {
+                return MySQLTableMetaDataLoader.load(connection, tables);
+            }
             Map<String, TableMetaData> result = new LinkedHashMap<>();
             for (String each : tables) {
                 result.put(each, new TableMetaData(ColumnMetaDataLoader.load(connection, each, databaseType), IndexMetaDataLoader.load(connection, each)));
@@ -24,10 +24,14 @@ import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.sql.parser.binder.metadata.MetaDataConnection;
 import org.apache.shardingsphere.sql.parser.binder.metadata.column.ColumnMetaDataLoader;
 import org.apache.shardingsphere.sql.parser.binder.metadata.index.IndexMetaDataLoader;
+import org.apache.shardingsphere.sql.parser.binder.metadata.table.dialect.MySQLTableMetaDataLoader;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * Table meta data loader.
@@ -53,6 +57,30 @@ public final class TableMetaDataLoader {
         }
     }
     
+    /**
+     * Load table meta data of tables in the same data source.
+     *
+     * @param dataSource data source
+     * @param tables table names
+     * @param databaseType database type
+     * @return table meta data map, tables which do not exist are absent
+     * @throws SQLException SQL exception
+     */
+    public static Map<String, TableMetaData> load(final DataSource dataSource, final Collection<String> tables, final String databaseType) throws SQLException {
+        try (MetaDataConnection connection = new MetaDataConnection(dataSource.getConnection())) {
+            if (MySQLTableMetaDataLoader.isSupported(databaseType)) {
+                return MySQLTableMetaDataLoader.load(connection, tables);
+            }
+            Map<String, TableMetaData> result = new LinkedHashMap<>(tables.size(), 1);
+            for (String each : tables) {
+                if (isTableExist(connection, each)) {
+                    result.put(each, new TableMetaData(ColumnMetaDataLoader.load(connection, each, databaseType), IndexMetaDataLoader.load(connection, each)));
+                }
+            }
+            return result;
+        }
+    }
+    
     private static boolean isTableExist(final Connection connection, final String table) throws SQLException {
         try (ResultSet resultSet = connection.getMetaData().getTables(connection.getCatalog(), connection.getSchema(), table, null)) {
             return resultSet.next();
@@ -0,0 +1,186 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.binder.metadata.table.dialect;
+
+import com.google.common.collect.Lists;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.sql.parser.binder.metadata.column.ColumnMetaData;
+import org.apache.shardingsphere.sql.parser.binder.metadata.index.IndexMetaData;
+import org.apache.shardingsphere.sql.parser.binder.metadata.table.TableMetaData;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Table meta data loader for MySQL, which loads meta data of many tables with bulk queries on information schema.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class MySQLTableMetaDataLoader {
+    
+    private static final int MAX_TABLES_PER_QUERY = 1000;
+    
+    private static final String COLUMN_META_DATA_SQL = "SELECT TABLE_NAME, COLUMN_NAME, DATA_TYPE, COLUMN_TYPE, COLUMN_KEY, COLLATION_NAME, "
+            + "EXTRA LIKE '%%auto_increment%%' AS IS_AUTO_INCREMENT FROM information_schema.COLUMNS "
+            + "WHERE TABLE_SCHEMA = ? AND TABLE_NAME IN (%s) ORDER BY TABLE_NAME, ORDINAL_POSITION";
+    
+    private static final String INDEX_META_DATA_SQL = "SELECT TABLE_NAME, INDEX_NAME FROM information_schema.STATISTICS WHERE TABLE_SCHEMA = ? AND TABLE_NAME IN (%s)";
+    
+    private static final String TINYINT_BIT_COLUMN_TYPE = "TINYINT(1)";
+    
+    private static final Map<String, Integer> DATA_TYPES = new HashMap<>();
+    
+    static {
+        DATA_TYPES.put("BIT", Types.BIT);
+        DATA_TYPES.put("TINYINT", Types.TINYINT);
+        DATA_TYPES.put("SMALLINT", Types.SMALLINT);
+        DATA_TYPES.put("MEDIUMINT", Types.INTEGER);
+        DATA_TYPES.put("INT", Types.INTEGER);
+        DATA_TYPES.put("BIGINT", Types.BIGINT);
+        DATA_TYPES.put("FLOAT", Types.REAL);
+        DATA_TYPES.put("DOUBLE", Types.DOUBLE);
+        DATA_TYPES.put("DECIMAL", Types.DECIMAL);
+        DATA_TYPES.put("DATE", Types.DATE);
+        DATA_TYPES.put("YEAR", Types.DATE);
+        DATA_TYPES.put("TIME", Types.TIME);
+        DATA_TYPES.put("DATETIME", Types.TIMESTAMP);
+        DATA_TYPES.put("TIMESTAMP", Types.TIMESTAMP);
+        DATA_TYPES.put("CHAR", Types.CHAR);
+        DATA_TYPES.put("VARCHAR", Types.VARCHAR);
+        DATA_TYPES.put("TINYTEXT", Types.VARCHAR);
+        DATA_TYPES.put("TEXT", Types.LONGVARCHAR);
+        DATA_TYPES.put("MEDIUMTEXT", Types.LONGVARCHAR);
+        DATA_TYPES.put("LONGTEXT", Types.LONGVARCHAR);
+        DATA_TYPES.put("JSON", Types.LONGVARCHAR);
+        DATA_TYPES.put("ENUM", Types.CHAR);
+        DATA_TYPES.put("SET", Types.CHAR);
+        DATA_TYPES.put("BINARY", Types.BINARY);
+        DATA_TYPES.put("VARBINARY", Types.VARBINARY);
+        DATA_TYPES.put("TINYBLOB", Types.VARBINARY);
+        DATA_TYPES.put("BLOB", Types.LONGVARBINARY);
+        DATA_TYPES.put("MEDIUMBLOB", Types.LONGVARBINARY);
+        DATA_TYPES.put("LONGBLOB", Types.LONGVARBINARY);
+        DATA_TYPES.put("GEOMETRY", Types.BINARY);
+    }
+    
+    /**
+     * Judge whether database type is supported.
+     *
+     * @param databaseType database type
+     * @return is supported or not
+     */
+    public static boolean isSupported(final String databaseType) {
+        return "MySQL".equals(databaseType) || "MariaDB".equals(databaseType);
+    }
+    
+    /**
+     * Load table meta data.
+     *
+     * @param connection connection
+     * @param tables table names
+     * @return table meta data map, tables which do not exist are absent
+     * @throws SQLException SQL exception
+     */
+    public static Map<String, TableMetaData> load(final Connection connection, final Collection<String> tables) throws SQLException {
+        Map<String, TableMetaData> result = new LinkedHashMap<>(tables.size(), 1);
+        for (List<String> each : Lists.partition(new LinkedList<>(tables), MAX_TABLES_PER_QUERY)) {
+            Map<String, Collection<ColumnMetaData>> columnMetaDataMap = loadColumnMetaDataMap(connection, each);
+            Map<String, Collection<IndexMetaData>> indexMetaDataMap = columnMetaDataMap.isEmpty() ? Collections.emptyMap() : loadIndexMetaDataMap(connection, each);
+            for (String table : each) {
+                Collection<ColumnMetaData> columnMetaDataList = columnMetaDataMap.get(table);
+                if (null != columnMetaDataList) {
+                    result.put(table, new TableMetaData(columnMetaDataList, indexMetaDataMap.getOrDefault(table, Collections.emptyList())));
+                }
+            }
+        }
+        return result;
+    }
+    
+    private static Map<String, Collection<ColumnMetaData>> loadColumnMetaDataMap(final Connection connection, final List<String> tables) throws SQLException {
+        Map<String, Collection<ColumnMetaData>> result = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        try (PreparedStatement preparedStatement = prepareStatement(connection, COLUMN_META_DATA_SQL, tables);
+             ResultSet resultSet = preparedStatement.executeQuery()) {
+            while (resultSet.next()) {
+                result.computeIfAbsent(resultSet.getString("TABLE_NAME"), key -> new LinkedList<>()).add(loadColumnMetaData(resultSet));
+            }
+        }
+        return result;
+    }
+    
+    private static ColumnMetaData loadColumnMetaData(final ResultSet resultSet) throws SQLException {
+        String dataTypeName = resultSet.getString("DATA_TYPE").toUpperCase();
+        String columnType = resultSet.getString("COLUMN_TYPE").toUpperCase();
+        if (columnType.startsWith(TINYINT_BIT_COLUMN_TYPE)) {
+            dataTypeName = "BIT";
+        }
+        int dataType = DATA_TYPES.getOrDefault(dataTypeName, Types.OTHER);
+        boolean unsigned = columnType.contains("UNSIGNED");
+        boolean primaryKey = "PRI".equals(resultSet.getString("COLUMN_KEY"));
+        return new ColumnMetaData(resultSet.getString("COLUMN_NAME"), dataType, unsigned ? dataTypeName + " UNSIGNED" : dataTypeName, primaryKey, resultSet.getBoolean("IS_AUTO_INCREMENT"),
+                isCaseSensitive(dataType, resultSet.getString("COLLATION_NAME")));
+    }
+    
+    private static boolean isCaseSensitive(final int dataType, final String collationName) {
+        switch (dataType) {
+            case Types.CHAR:
+            case Types.VARCHAR:
+            case Types.LONGVARCHAR:
+                return null != collationName && !collationName.endsWith("_ci");
+            case Types.BINARY:
+            case Types.VARBINARY:
+            case Types.LONGVARBINARY:
+            case Types.DECIMAL:
+            case Types.OTHER:
+                return true;
+            default:
+                return false;
+        }
+    }
+    
+    private static Map<String, Collection<IndexMetaData>> loadIndexMetaDataMap(final Connection connection, final List<String> tables) throws SQLException {
+        Map<String, Collection<IndexMetaData>> result = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        try (PreparedStatement preparedStatement = prepareStatement(connection, INDEX_META_DATA_SQL, tables);
+             ResultSet resultSet = preparedStatement.executeQuery()) {
+            while (resultSet.next()) {
+                result.computeIfAbsent(resultSet.getString("TABLE_NAME"), key -> new HashSet<>()).add(new IndexMetaData(resultSet.getString("INDEX_NAME")));
+            }
+        }
+        return result;
+    }
+    
+    private static PreparedStatement prepareStatement(final Connection connection, final String sql, final List<String> tables) throws SQLException {
+        PreparedStatement result = connection.prepareStatement(String.format(sql, String.join(",", Collections.nCopies(tables.size(), "?"))));
+        result.setString(1, connection.getCatalog());
+        for (int i = 0; i < tables.size(); i++) {
+            result.setString(i + 2, tables.get(i));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.binder.metadata.table.dialect;
+
+import org.apache.shardingsphere.sql.parser.binder.metadata.column.ColumnMetaData;
+import org.apache.shardingsphere.sql.parser.binder.metadata.table.TableMetaData;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class MySQLTableMetaDataLoaderTest {
+    
+    private static final String TEST_CATALOG = "catalog";
+    
+    @Mock
+    private Connection connection;
+    
+    @Mock
+    private PreparedStatement columnPreparedStatement;
+    
+    @Mock
+    private ResultSet columnResultSet;
+    
+    @Mock
+    private PreparedStatement indexPreparedStatement;
+    
+    @Mock
+    private ResultSet indexResultSet;
+    
+    @Before
+    public void setUp() throws SQLException {
+        when(connection.getCatalog()).thenReturn(TEST_CATALOG);
+        when(connection.prepareStatement(startsWith("SELECT TABLE_NAME, COLUMN_NAME"))).thenReturn(columnPreparedStatement);
+        when(columnPreparedStatement.executeQuery()).thenReturn(columnResultSet);
+        when(columnResultSet.next()).thenReturn(true, true, true, true, false);
+        when(columnResultSet.getString("TABLE_NAME")).thenReturn("t_order", "t_order", "t_order", "t_order_item");
+        when(columnResultSet.getString("COLUMN_NAME")).thenReturn("order_id", "status", "enabled", "item_id");
+        when(columnResultSet.getString("DATA_TYPE")).thenReturn("bigint", "varchar", "tinyint", "int");
+        when(columnResultSet.getString("COLUMN_TYPE")).thenReturn("bigint(20) unsigned", "varchar(45)", "tinyint(1)", "int(11)");
+        when(columnResultSet.getString("COLUMN_KEY")).thenReturn("PRI", "", "", "PRI");
+        when(columnResultSet.getString("COLLATION_NAME")).thenReturn(null, "utf8mb4_bin", null, null);
+        when(columnResultSet.getBoolean("IS_AUTO_INCREMENT")).thenReturn(true, false, false, false);
+        when(connection.prepareStatement(startsWith("SELECT TABLE_NAME, INDEX_NAME"))).thenReturn(indexPreparedStatement);
+        when(indexPreparedStatement.executeQuery()).thenReturn(indexResultSet);
+        when(indexResultSet.next()).thenReturn(true, true, false);
+        when(indexResultSet.getString("TABLE_NAME")).thenReturn("t_order", "t_order");
+        when(indexResultSet.getString("INDEX_NAME")).thenReturn("PRIMARY", "status_idx");
+    }
+    
+    @Test
+    public void assertLoad() throws SQLException {
+        Map<String, TableMetaData> actual = MySQLTableMetaDataLoader.load(connection, Arrays.asList("t_order", "t_order_item", "t_not_exist"));
+        assertThat(actual.size(), is(2));
+        TableMetaData order = actual.get("t_order");
+        assertThat(order.getColumns().size(), is(3));
+        assertColumnMetaData(order.getColumns().get("order_id"), Types.BIGINT, "BIGINT UNSIGNED", true, true, false);
+        assertColumnMetaData(order.getColumns().get("status"), Types.VARCHAR, "VARCHAR", false, false, true);
+        assertColumnMetaData(order.getColumns().get("enabled"), Types.BIT, "BIT", false, false, false);
+        assertThat(order.getIndexes().size(), is(2));
+        assertTrue(order.getIndexes().containsKey("status_idx"));
+        TableMetaData orderItem = actual.get("t_order_item");
+        assertColumnMetaData(orderItem.getColumns().get("item_id"), Types.INTEGER, "INT", true, false, false);
+        assertTrue(orderItem.getIndexes().isEmpty());
+        verify(columnPreparedStatement).setString(1, TEST_CATALOG);
+        verify(columnPreparedStatement).setString(2, "t_order");
+        verify(columnPreparedStatement).setString(4, "t_not_exist");
+    }
+    
+    private void assertColumnMetaData(final ColumnMetaData actual, final int dataType, final String dataTypeName, final boolean primaryKey, final boolean generated, final boolean caseSensitive) {
+        assertThat(actual.getDataType(), is(dataType));
+        assertThat(actual.getDataTypeName(), is(dataTypeName));
+        assertThat(actual.isPrimaryKey(), is(primaryKey));
+        assertThat(actual.isGenerated(), is(generated));
+        assertThat(actual.isCaseSensitive(), is(caseSensitive));
+    }
+}